@@ -0,0 +1,138 @@
+package com.vmware.pscoe.iac.artifact.benchmarks;
+
+/*
+ * #%L
+ * artifact-manager-benchmarks
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vmware.pscoe.iac.artifact.GenericPackageStore;
+import com.vmware.pscoe.iac.artifact.VrliPackageStoreV1;
+
+/**
+ * Matching of the server assets against the names of a package descriptor with
+ * {@link GenericPackageStore#isPackageAssetMatching(String, String)}, the way the vROps and vRLI stores select the
+ * assets to export: every asset is matched against every name until one matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetMatchingBenchmark {
+	/**
+	 * Number of assets on the server.
+	 */
+	@Param({ "1000" })
+	private int assets;
+
+	/**
+	 * Number of names in the package descriptor.
+	 */
+	@Param({ "10", "100" })
+	private int names;
+
+	/**
+	 * The kind of the names: exact names, prefixes (name*), suffixes (*name) or infixes (*name*).
+	 */
+	@Param({ "exact", "prefix", "suffix", "infix" })
+	private String kind;
+
+	/**
+	 * The names of the server assets.
+	 */
+	private List<String> assetNames;
+
+	/**
+	 * The names of the package descriptor.
+	 */
+	private List<String> descriptorNames;
+
+	/**
+	 * The store matching the names.
+	 */
+	private MatchingStore store;
+
+	/**
+	 * Creates the asset and descriptor names.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		assetNames = new ArrayList<>(assets);
+		for (int i = 0; i < assets; i++) {
+			assetNames.add("Benchmark Group " + (i % 20) + " - Alert Definition " + i);
+		}
+		descriptorNames = new ArrayList<>(names);
+		for (int i = 0; i < names; i++) {
+			switch (kind) {
+				case "prefix":
+					descriptorNames.add("Benchmark Group " + i + " - *");
+					break;
+				case "suffix":
+					descriptorNames.add("*Alert Definition " + i);
+					break;
+				case "infix":
+					descriptorNames.add("*Group " + i + " -*");
+					break;
+				default:
+					descriptorNames.add("Benchmark Group " + (i % 20) + " - Alert Definition " + i);
+					break;
+			}
+		}
+		store = new MatchingStore();
+	}
+
+	/**
+	 * @return the number of matching assets
+	 */
+	@Benchmark
+	public int matchAssets() {
+		int matching = 0;
+		for (String assetName : assetNames) {
+			if (descriptorNames.stream().anyMatch(name -> store.matches(name, assetName))) {
+				matching++;
+			}
+		}
+		return matching;
+	}
+
+	/**
+	 * A store exposing the matching of the package assets, it is never connected to a server.
+	 */
+	private static final class MatchingStore extends VrliPackageStoreV1 {
+		private MatchingStore() {
+			super(null);
+		}
+
+		private boolean matches(final String matchExpression, final String assetName) {
+			return isPackageAssetMatching(matchExpression, assetName);
+		}
+	}
+}
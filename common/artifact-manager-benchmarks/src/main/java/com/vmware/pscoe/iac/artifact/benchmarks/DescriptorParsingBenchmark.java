@@ -0,0 +1,147 @@
+package com.vmware.pscoe.iac.artifact.benchmarks;
+
+/*
+ * #%L
+ * artifact-manager-benchmarks
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vmware.pscoe.iac.artifact.PackageManager;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageDescriptor;
+import com.vmware.pscoe.iac.artifact.model.vrops.VropsPackageDescriptor;
+
+/**
+ * Parsing of the content.yaml descriptors of vRA NG and vROps projects listing {@link #entries} names per content
+ * type.
+ *
+ * {@link VraNgPackageDescriptor#getInstance(File)} dumps the parsed descriptor to the standard output, the dump is part
+ * of the measured time but it is discarded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DescriptorParsingBenchmark {
+	/**
+	 * The content types of the vRA NG descriptor.
+	 */
+	private static final String[] VRANG_TYPES = { "blueprint", "subscription", "custom-resource", "resource-action", "property-group",
+		"catalog-item", "flavor-mapping", "image-mapping", "storage-profile" };
+
+	/**
+	 * The content types of the vROps descriptor.
+	 */
+	private static final String[] VROPS_TYPES = { "view", "dashboard", "report", "alert-definition", "symptom-definition", "recommendation",
+		"supermetric", "metric-config", "custom-group", "policy" };
+
+	/**
+	 * Number of names per content type.
+	 */
+	@Param({ "10", "500" })
+	private int entries;
+
+	/**
+	 * The working directory of the benchmark.
+	 */
+	private File workDir;
+
+	/**
+	 * The vRA NG descriptor.
+	 */
+	private File vraNgDescriptor;
+
+	/**
+	 * The vROps descriptor.
+	 */
+	private File vropsDescriptor;
+
+	/**
+	 * The standard output, restored after the benchmark.
+	 */
+	private PrintStream out;
+
+	/**
+	 * Writes the descriptors.
+	 * @throws IOException when the descriptors cannot be written
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		workDir = Files.createTempDirectory("artifact-manager-benchmark").toFile();
+		vraNgDescriptor = writeDescriptor("vra-ng-content.yaml", VRANG_TYPES);
+		vropsDescriptor = writeDescriptor("vrops-content.yaml", VROPS_TYPES);
+		out = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+	}
+
+	/**
+	 * Restores the standard output and deletes the working directory.
+	 * @throws IOException when the directory cannot be deleted
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		System.setOut(out);
+		PackageManager.cleanup(workDir);
+	}
+
+	/**
+	 * @return the parsed descriptor
+	 */
+	@Benchmark
+	public VraNgPackageDescriptor parseVraNgDescriptor() {
+		return VraNgPackageDescriptor.getInstance(vraNgDescriptor);
+	}
+
+	/**
+	 * @return the parsed descriptor
+	 */
+	@Benchmark
+	public VropsPackageDescriptor parseVropsDescriptor() {
+		return VropsPackageDescriptor.getInstance(vropsDescriptor);
+	}
+
+	private File writeDescriptor(final String name, final String[] types) throws IOException {
+		StringBuilder yaml = new StringBuilder("---\n");
+		for (String type : types) {
+			yaml.append(type).append(":\n");
+			for (int i = 0; i < entries; i++) {
+				yaml.append("  - Benchmark ").append(type).append(' ').append(i).append('\n');
+			}
+		}
+		File file = new File(workDir, name);
+		Files.write(file.toPath(), yaml.toString().getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+}
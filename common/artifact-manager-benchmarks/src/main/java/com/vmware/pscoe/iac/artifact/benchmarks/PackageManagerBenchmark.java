@@ -0,0 +1,228 @@
+package com.vmware.pscoe.iac.artifact.benchmarks;
+
+/*
+ * #%L
+ * artifact-manager-benchmarks
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vmware.pscoe.iac.artifact.PackageManager;
+import com.vmware.pscoe.iac.artifact.model.Package;
+import com.vmware.pscoe.iac.artifact.model.PackageFactory;
+import com.vmware.pscoe.iac.artifact.model.PackageType;
+
+/**
+ * Packing, unpacking and extending of synthetic packages with {@link PackageManager}.
+ *
+ * The packages contain {@link #files} text files of {@link #fileSize} bytes, spread over nested directories like the
+ * exported content of a vRA NG project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackageManagerBenchmark {
+	/**
+	 * Number of files added to an existing package.
+	 */
+	private static final int ADDED_FILES = 20;
+
+	/**
+	 * Number of files per directory.
+	 */
+	private static final int FILES_PER_DIRECTORY = 25;
+
+	/**
+	 * Number of files of the package.
+	 */
+	@Param({ "100", "1000" })
+	private int files;
+
+	/**
+	 * Size of each file in bytes.
+	 */
+	@Param({ "4096" })
+	private int fileSize;
+
+	/**
+	 * The working directory of the benchmark.
+	 */
+	private File workDir;
+
+	/**
+	 * The expanded package.
+	 */
+	private File sourceDir;
+
+	/**
+	 * The package written by {@link #pack()}.
+	 */
+	private Package packedPackage;
+
+	/**
+	 * The package read by {@link #unpack()}.
+	 */
+	private Package unpackedPackage;
+
+	/**
+	 * The directory the package is unpacked to.
+	 */
+	private File unpackDir;
+
+	/**
+	 * Creates the synthetic package.
+	 * @throws IOException when the files cannot be written
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		workDir = Files.createTempDirectory("artifact-manager-benchmark").toFile();
+		sourceDir = new File(workDir, "source");
+		Random random = new Random(files);
+		for (int i = 0; i < files; i++) {
+			File directory = new File(sourceDir, "content/type-" + (i % 5) + "/item-" + (i / FILES_PER_DIRECTORY));
+			writeFile(new File(directory, "file-" + i + ".json"), random);
+		}
+
+		packedPackage = PackageFactory.getInstance(PackageType.VRANG, new File(workDir, "packed/com.vmware.pscoe.benchmark.packed-1.0.0.zip"));
+		new File(workDir, "packed").mkdirs();
+
+		unpackedPackage = PackageFactory.getInstance(PackageType.VRANG, new File(workDir, "com.vmware.pscoe.benchmark.unpacked-1.0.0.zip"));
+		new PackageManager(unpackedPackage).pack(sourceDir);
+		unpackDir = new File(workDir, "unpacked");
+	}
+
+	/**
+	 * Deletes the working directory.
+	 * @throws IOException when the directory cannot be deleted
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		PackageManager.cleanup(workDir);
+	}
+
+	/**
+	 * @return the size of the written package
+	 * @throws IOException when the package cannot be written
+	 */
+	@Benchmark
+	public long pack() throws IOException {
+		new PackageManager(packedPackage).pack(sourceDir);
+		return new File(packedPackage.getFilesystemPath()).length();
+	}
+
+	/**
+	 * @return the number of unpacked top level entries
+	 * @throws IOException when the package cannot be read
+	 */
+	@Benchmark
+	public int unpack() throws IOException {
+		new PackageManager(unpackedPackage).unpack(unpackDir);
+		return unpackDir.list().length;
+	}
+
+	/**
+	 * @param extended the package to extend
+	 * @return the size of the extended package
+	 * @throws IOException when the package cannot be written
+	 */
+	@Benchmark
+	public long addToExistingZip(final ExtendedPackage extended) throws IOException {
+		new PackageManager(extended.pkg).addToExistingZip(extended.addedFiles);
+		return new File(extended.pkg.getFilesystemPath()).length();
+	}
+
+	/**
+	 * A copy of the synthetic package, restored before each invocation of {@link #addToExistingZip(ExtendedPackage)}
+	 * since the benchmark modifies it.
+	 */
+	@State(Scope.Thread)
+	public static class ExtendedPackage {
+		/**
+		 * The extended package.
+		 */
+		private Package pkg;
+
+		/**
+		 * The files added to the package, next to it.
+		 */
+		private List<File> addedFiles;
+
+		/**
+		 * The synthetic package.
+		 */
+		private File source;
+
+		/**
+		 * Creates the added files.
+		 * @param benchmark the benchmark holding the synthetic package
+		 * @throws IOException when the files cannot be written
+		 */
+		@Setup(Level.Trial)
+		public void setUp(final PackageManagerBenchmark benchmark) throws IOException {
+			source = new File(benchmark.unpackedPackage.getFilesystemPath());
+			File directory = new File(benchmark.workDir, "extended-" + Thread.currentThread().getId());
+			pkg = PackageFactory.getInstance(PackageType.VRANG, new File(directory, "com.vmware.pscoe.benchmark.extended-1.0.0.zip"));
+			addedFiles = new ArrayList<>();
+			Random random = new Random(ADDED_FILES);
+			for (int i = 0; i < ADDED_FILES; i++) {
+				File file = new File(directory, "added/file-" + i + ".json");
+				benchmark.writeFile(file, random);
+				addedFiles.add(file);
+			}
+		}
+
+		/**
+		 * Restores the package.
+		 * @throws IOException when the package cannot be copied
+		 */
+		@Setup(Level.Invocation)
+		public void restore() throws IOException {
+			Files.copy(source.toPath(), new File(pkg.getFilesystemPath()).toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private void writeFile(final File file, final Random random) throws IOException {
+		file.getParentFile().mkdirs();
+		StringBuilder content = new StringBuilder(fileSize);
+		while (content.length() < fileSize) {
+			content.append("{\"name\":\"item-").append(random.nextInt(1_000_000)).append("\"}\n");
+		}
+		content.setLength(fileSize);
+		Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
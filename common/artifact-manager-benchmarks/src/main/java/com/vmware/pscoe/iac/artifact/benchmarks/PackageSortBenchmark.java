@@ -0,0 +1,141 @@
+package com.vmware.pscoe.iac.artifact.benchmarks;
+
+/*
+ * #%L
+ * artifact-manager-benchmarks
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vmware.pscoe.iac.artifact.model.Package;
+import com.vmware.pscoe.iac.artifact.model.PackageFactory;
+import com.vmware.pscoe.iac.artifact.model.PackageType;
+import com.vmware.pscoe.iac.artifact.model.Version;
+import com.vmware.pscoe.iac.artifact.strategy.StrategySkipOldVersions;
+
+/**
+ * Sorting of {@link Version}s and {@link Package}s and the version filter of {@link StrategySkipOldVersions}, on
+ * server package lists of {@link #packages} versions of {@link #names} packages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackageSortBenchmark {
+	/**
+	 * Number of package versions.
+	 */
+	@Param({ "1000", "10000" })
+	private int packages;
+
+	/**
+	 * Number of distinct package names.
+	 */
+	@Param({ "50" })
+	private int names;
+
+	/**
+	 * The versions of the packages.
+	 */
+	private List<Version> versions;
+
+	/**
+	 * The package versions on the server.
+	 */
+	private List<Package> serverPackages;
+
+	/**
+	 * The packages of the project, one per name.
+	 */
+	private List<Package> localPackages;
+
+	/**
+	 * The strategy filtering the project packages.
+	 */
+	private StrategySkipOldVersions strategy;
+
+	/**
+	 * Creates the shuffled package lists.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(packages);
+		versions = new ArrayList<>(packages);
+		serverPackages = new ArrayList<>(packages);
+		for (int i = 0; i < packages; i++) {
+			String version = random.nextInt(5) + "." + random.nextInt(20) + "." + random.nextInt(100) + (random.nextInt(10) == 0 ? "-SNAPSHOT" : "");
+			versions.add(new Version(version));
+			serverPackages.add(newPackage("com.vmware.pscoe.benchmark.package" + (i % names), version));
+		}
+		Collections.shuffle(serverPackages, random);
+
+		localPackages = new ArrayList<>(names);
+		for (int i = 0; i < names; i++) {
+			localPackages.add(newPackage("com.vmware.pscoe.benchmark.package" + i, random.nextInt(5) + "." + random.nextInt(20) + ".0"));
+		}
+		strategy = new StrategySkipOldVersions();
+	}
+
+	/**
+	 * @return the sorted versions
+	 */
+	@Benchmark
+	public List<Version> sortVersions() {
+		List<Version> sorted = new ArrayList<>(versions);
+		Collections.sort(sorted);
+		return sorted;
+	}
+
+	/**
+	 * @return the packages sorted by name and version, as listed by the stores
+	 */
+	@Benchmark
+	public List<Package> sortPackages() {
+		List<Package> sorted = new ArrayList<>(serverPackages);
+		sorted.sort(Comparator.comparing(Package::getName).thenComparing(Comparator.naturalOrder()));
+		return sorted;
+	}
+
+	/**
+	 * @return the project packages newer than their latest server version
+	 */
+	@Benchmark
+	public List<Package> filterHigherVersions() {
+		return strategy.filterHigherVersions(localPackages, serverPackages);
+	}
+
+	private static Package newPackage(final String name, final String version) {
+		return PackageFactory.getInstance(PackageType.VRANG, new File(name + "-" + version + ".zip"));
+	}
+}
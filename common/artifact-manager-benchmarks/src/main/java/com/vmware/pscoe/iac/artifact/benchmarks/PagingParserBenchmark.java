@@ -0,0 +1,138 @@
+package com.vmware.pscoe.iac.artifact.benchmarks;
+
+/*
+ * #%L
+ * artifact-manager-benchmarks
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.vmware.pscoe.iac.artifact.rest.helpers.JsonHelper;
+import com.vmware.pscoe.iac.artifact.rest.model.vrops.ResourcesDTO;
+
+/**
+ * Parsing of the pages returned by the list requests: the vRA NG pages are parsed with the page parser of the paged
+ * content retrievers of the vRA NG rest client, the vROps resource pages are bound with Jackson like the resource queries of
+ * the vROps rest client.
+ *
+ * The pages are built from recorded responses in the payloads resources, their items are repeated to fill pages of
+ * {@link #items} items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PagingParserBenchmark {
+	/**
+	 * Number of items per page.
+	 */
+	@Param({ "20", "500" })
+	private int items;
+
+	/**
+	 * The vRA NG blueprints page.
+	 */
+	private String vraNgPage;
+
+	/**
+	 * The vROps resources page.
+	 */
+	private String vropsPage;
+
+	/**
+	 * The mapper of the vROps pages, shared like in the vROps rest client.
+	 */
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	/**
+	 * Builds the pages from the recorded responses.
+	 * @throws IOException when the recorded responses cannot be read
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		JsonObject page = JsonParser.parseString(readPayload("vrang-blueprints-page.json")).getAsJsonObject();
+		page.add("content", repeat(page.getAsJsonArray("content"), "id", "name"));
+		page.addProperty("totalElements", items);
+		page.addProperty("numberOfElements", items);
+		page.addProperty("size", items);
+		vraNgPage = page.toString();
+
+		page = JsonParser.parseString(readPayload("vrops-resources-page.json")).getAsJsonObject();
+		page.add("resourceList", repeat(page.getAsJsonArray("resourceList"), "identifier", null));
+		page.getAsJsonObject("pageInfo").addProperty("totalCount", items);
+		page.getAsJsonObject("pageInfo").addProperty("pageSize", items);
+		vropsPage = page.toString();
+	}
+
+	/**
+	 * @return the items of the page
+	 */
+	@Benchmark
+	public List<JsonObject> parseVraNgPage() {
+		return JsonHelper.getPageContent(JsonParser.parseString(vraNgPage));
+	}
+
+	/**
+	 * @return the resources of the page
+	 * @throws IOException when the page cannot be parsed
+	 */
+	@Benchmark
+	public List<ResourcesDTO.ResourceList> parseVropsPage() throws IOException {
+		return mapper.readValue(vropsPage, ResourcesDTO.class).getResourceList();
+	}
+
+	private JsonArray repeat(final JsonArray recorded, final String idProperty, final String nameProperty) {
+		JsonArray result = new JsonArray();
+		for (int i = 0; i < items; i++) {
+			JsonObject item = recorded.get(i % recorded.size()).getAsJsonObject().deepCopy();
+			item.addProperty(idProperty, String.format("%08x-0000-4000-8000-%012x", i, i));
+			if (nameProperty != null) {
+				item.addProperty(nameProperty, item.get(nameProperty).getAsString() + " " + i);
+			}
+			result.add(item);
+		}
+		return result;
+	}
+
+	private static String readPayload(final String name) throws IOException {
+		try (InputStream stream = PagingParserBenchmark.class.getResourceAsStream("/payloads/" + name)) {
+			if (stream == null) {
+				throw new IOException("Missing recorded payload " + name);
+			}
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -113,7 +113,7 @@ public abstract class AbstractVrliPackageStore extends GenericPackageStore<VrliP
 		}
 		List<Package> importedPackages = new ArrayList<>();
 		for (Package pkg : sourceEndpointPackages) {
-			importedPackages.add(this.importPackage(pkg, dryrun, mergePackages));
+			importedPackages.add(this.importJournaled(pkg, dryrun, mergePackages));
 		}
 
 		return importedPackages;
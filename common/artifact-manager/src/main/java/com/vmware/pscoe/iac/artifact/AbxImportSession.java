@@ -0,0 +1,163 @@
+package com.vmware.pscoe.iac.artifact;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.vmware.pscoe.iac.artifact.model.abx.AbxAction;
+import com.vmware.pscoe.iac.artifact.model.abx.AbxActionVersion;
+import com.vmware.pscoe.iac.artifact.model.abx.AbxConstant;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgSecret;
+import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
+
+/**
+ * The ABX actions, action constants and secrets of the project on the server, shared by the imports and releases of
+ * one run.
+ *
+ * Each kind is listed once, the first time it is needed, and indexed by name, instead of listing all actions and
+ * looking up every constant and secret by name for each ABX package. The created actions are added to the snapshot,
+ * so the later packages of the run update them. The snapshot is safe to use from several threads.
+ */
+public class AbxImportSession {
+	/**
+	 * The vRA rest client.
+	 */
+	private final RestClientVraNg restClient;
+
+	/**
+	 * The actions by name, null until listed.
+	 */
+	private Map<String, AbxAction> actionsByName;
+
+	/**
+	 * The action constants by name, null until listed.
+	 */
+	private Map<String, AbxConstant> constantsByName;
+
+	/**
+	 * The secrets by name, null until listed.
+	 */
+	private Map<String, VraNgSecret> secretsByName;
+
+	/**
+	 * The last created versions by action id, the actions without versions are not recorded.
+	 */
+	private final Map<String, AbxActionVersion> lastVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * The locks serializing the create and update of each action, by action name.
+	 */
+	private final Map<String, Object> actionLocks = new ConcurrentHashMap<>();
+
+	/**
+	 * @param restClientVraNg the vRA rest client
+	 */
+	public AbxImportSession(final RestClientVraNg restClientVraNg) {
+		this.restClient = restClientVraNg;
+	}
+
+	/**
+	 * @param name the name of the action
+	 * @return the action, null if there is no such action on the server
+	 */
+	public synchronized AbxAction getAction(final String name) {
+		if (actionsByName == null) {
+			actionsByName = byName(restClient.getAllAbxActions(), AbxAction::getName);
+		}
+		return actionsByName.get(name);
+	}
+
+	/**
+	 * Adds a created action to the snapshot.
+	 * @param action the action, with its id
+	 */
+	public synchronized void addAction(final AbxAction action) {
+		if (actionsByName != null) {
+			actionsByName.put(action.getName(), action);
+		}
+	}
+
+	/**
+	 * @param name the name of the action constant
+	 * @return the action constant, null if there is no such constant on the server
+	 */
+	public synchronized AbxConstant getConstant(final String name) {
+		if (constantsByName == null) {
+			constantsByName = byName(restClient.getAllAbxConstants(), constant -> constant.name);
+		}
+		return constantsByName.get(name);
+	}
+
+	/**
+	 * @param name the name of the secret
+	 * @return the secret, null if there is no such secret in the project
+	 */
+	public synchronized VraNgSecret getSecret(final String name) {
+		if (secretsByName == null) {
+			secretsByName = byName(restClient.getAllSecrets(), secret -> secret.name);
+		}
+		return secretsByName.get(name);
+	}
+
+	/**
+	 * @param action the action on the server
+	 * @return the last created version of the action, null if the action has no versions
+	 */
+	public AbxActionVersion getLastVersion(final AbxAction action) {
+		AbxActionVersion lastVersion = lastVersions.get(action.id);
+		if (lastVersion != null) {
+			return lastVersion;
+		}
+		// retrieved outside of the map, so the lookups of other actions are not blocked by the request
+		lastVersion = restClient.getAbxLastUpdatedVersion(action);
+		if (lastVersion == null) {
+			return null;
+		}
+		AbxActionVersion recorded = lastVersions.putIfAbsent(action.id, lastVersion);
+		return recorded != null ? recorded : lastVersion;
+	}
+
+	/**
+	 * Records a created version as the last version of the action.
+	 * @param action the action on the server
+	 * @param version the created version
+	 */
+	public void setLastVersion(final AbxAction action, final AbxActionVersion version) {
+		if (version != null) {
+			lastVersions.put(action.id, version);
+		} else {
+			lastVersions.remove(action.id);
+		}
+	}
+
+	/**
+	 * @param name the name of the action
+	 * @return the monitor to hold while the action is created or updated
+	 */
+	public Object getActionLock(final String name) {
+		return actionLocks.computeIfAbsent(name, key -> new Object());
+	}
+
+	private static <T> Map<String, T> byName(final List<T> items, final Function<T, String> name) {
+		// the first item wins when the names are not unique, as with the lookups by name
+		return items.stream().collect(Collectors.toMap(name, item -> item, (first, second) -> first, HashMap::new));
+	}
+}
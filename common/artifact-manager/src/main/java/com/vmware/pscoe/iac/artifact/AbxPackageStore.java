@@ -34,10 +34,13 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 public class AbxPackageStore extends GenericPackageStore<AbxPackageDescriptor> {
+	/**
+	 * Number of ABX packages imported concurrently.
+	 */
+	private static final int IMPORT_THREADS = 4;
+
 	/**
 	 * Variable for logging.
 	 */
@@ -53,6 +56,11 @@ public class AbxPackageStore extends GenericPackageStore<AbxPackageDescriptor> {
 	 */
 	private final ConfigurationAbx config;
 
+	/**
+	 * The actions, constants and secrets on the server, shared by the imports of a run.
+	 */
+	private AbxImportSession session;
+
 	/**
 	 *
 	 * @param restClientVraNg vRA Rest Client
@@ -159,12 +167,11 @@ public class AbxPackageStore extends GenericPackageStore<AbxPackageDescriptor> {
 			return new ArrayList<>();
 		}
 
-		List<Package> importedPackages = new ArrayList<>();
-		for (Package pkg : sourceEndpointPackages) {
-			importedPackages.add(this.importPackage(pkg, dryrun, mergePackages));
+		synchronized (this) {
+			this.session = new AbxImportSession(this.restClient);
 		}
 
-		return importedPackages;
+		return this.importJournaledConcurrently(sourceEndpointPackages, IMPORT_THREADS, dryrun, mergePackages);
 	}
 
 	/**
@@ -243,7 +250,7 @@ public class AbxPackageStore extends GenericPackageStore<AbxPackageDescriptor> {
 		if (actionToImport.abx.inputConstants != null && actionToImport.abx.inputConstants.length > 0) {
 			logger.debug("Number of definied constants: " + actionToImport.abx.inputConstants.length);
 			for (String name : actionToImport.abx.inputConstants) {
-				AbxConstant abxConstant = this.restClient.getAbxConstant(name);
+				AbxConstant abxConstant = getSession().getConstant(name);
 				if (abxConstant == null) {
 					throw new RuntimeException("Unable to find action constant with name: " + name);
 				}
@@ -260,7 +267,7 @@ public class AbxPackageStore extends GenericPackageStore<AbxPackageDescriptor> {
 		if (actionToImport.abx.inputSecrets != null && actionToImport.abx.inputSecrets.length > 0) {
 			logger.debug("Number of definied secrets: " + actionToImport.abx.inputSecrets.length);
 			for (String name : actionToImport.abx.inputSecrets) {
-				VraNgSecret secret = this.restClient.getSecret(name);
+				VraNgSecret secret = getSession().getSecret(name);
 				if (secret == null) {
 					throw new RuntimeException("Unable to find secret with name: " + name);
 				}
@@ -275,11 +282,7 @@ public class AbxPackageStore extends GenericPackageStore<AbxPackageDescriptor> {
 	 * @param dryrun whether it should be dry run
 	 */
 	private void importAction(final AbxPackageDescriptor pkgDescriptor, final boolean dryrun) {
-
-		// Get existing actions from server
-		List<AbxAction> abxActionsOnServer = this.restClient.getAllAbxActions();
-		Map<String, AbxAction> abxActionsOnServerByName = abxActionsOnServer.stream()
-				.collect(Collectors.toMap(AbxAction::getName, item -> item));
+		AbxImportSession importSession = getSession();
 
 		// Build payload
 		AbxAction actionToImport = pkgDescriptor.getAction();
@@ -291,23 +294,38 @@ public class AbxPackageStore extends GenericPackageStore<AbxPackageDescriptor> {
 		addSecretsToPayload(actionToImport);
 		addActionConstantsToPayload(actionToImport);
 
-		// Issue REST request
-		if (abxActionsOnServerByName.containsKey(actionToImport.getName())) {
-			AbxAction actionToUpdate = abxActionsOnServerByName.get(actionToImport.getName());
-			logger.info("Updating action: {} ({})", actionToImport.getName(), actionToUpdate.id);
-			if (!dryrun) {
-				this.restClient.updateAbxAction(actionToUpdate.id, actionToImport);
-			} else {
-				logger.info("Dryrun has been set to 'true'. Skipping actual update...");
-			}
+		// Issue REST request, packages of the same action are created or updated one at a time
+		synchronized (importSession.getActionLock(actionToImport.getName())) {
+			AbxAction actionToUpdate = importSession.getAction(actionToImport.getName());
+			if (actionToUpdate != null) {
+				logger.info("Updating action: {} ({})", actionToImport.getName(), actionToUpdate.id);
+				if (!dryrun) {
+					this.restClient.updateAbxAction(actionToUpdate.id, actionToImport);
+				} else {
+					logger.info("Dryrun has been set to 'true'. Skipping actual update...");
+				}
 
-		} else {
-			logger.info("Creating action: " + actionToImport.getName());
-			if (!dryrun) {
-				this.restClient.createAbxAction(actionToImport);
 			} else {
-				logger.info("Dryrun has been set to 'true'. Skipping actual create...");
+				logger.info("Creating action: " + actionToImport.getName());
+				if (!dryrun) {
+					AbxAction createdAction = new AbxAction();
+					createdAction.id = this.restClient.createAbxAction(actionToImport);
+					createdAction.name = actionToImport.getName();
+					importSession.addAction(createdAction);
+				} else {
+					logger.info("Dryrun has been set to 'true'. Skipping actual create...");
+				}
 			}
 		}
 	}
+
+	/**
+	 * @return the actions, constants and secrets on the server, listed once per run
+	 */
+	private synchronized AbxImportSession getSession() {
+		if (this.session == null) {
+			this.session = new AbxImportSession(this.restClient);
+		}
+		return this.session;
+	}
 }
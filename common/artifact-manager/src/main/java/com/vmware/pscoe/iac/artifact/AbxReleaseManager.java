@@ -29,16 +29,21 @@ import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class AbxReleaseManager {
 
     RestClientVraNg restClient;
 
+    /**
+     * The actions on the server and their last versions.
+     */
+    private final AbxImportSession session;
+
     private final Logger logger = LoggerFactory.getLogger(AbxReleaseManager.class);
 
     public AbxReleaseManager(RestClientVraNg restClient) {
         this.restClient = restClient;
+        this.session = new AbxImportSession(restClient);
     }
 
     public void releaseContent(String version, File baseDir) {
@@ -46,12 +51,7 @@ public class AbxReleaseManager {
         logger.info("Creating package descriptor from: {}", baseDir.getAbsolutePath());
         AbxPackageDescriptor abxDescriptor = AbxPackageDescriptor.getInstance(baseDir);
 
-        // Get existing actions from server
-        List<AbxAction> abxActionsOnServer = this.restClient.getAllAbxActions();
-        Map<String, AbxAction> abxActionsOnServerByName = abxActionsOnServer.stream()
-                .collect(Collectors.toMap(AbxAction::getName, item -> item));
-
-        AbxAction existingAction = abxActionsOnServerByName.get(abxDescriptor.getAction().getName());
+        AbxAction existingAction = this.session.getAction(abxDescriptor.getAction().getName());
 
         if (existingAction == null) {
             logger.error("Action {} does not exist on server. Cannot release!", abxDescriptor.getAction().getName());
@@ -73,7 +73,7 @@ public class AbxReleaseManager {
      * @param actionOnServer ABX action
      */
     protected void releaseNextVersion(AbxAction actionOnServer) {
-        AbxActionVersion latestVersion = this.restClient.getAbxLastUpdatedVersion(actionOnServer);
+        AbxActionVersion latestVersion = this.session.getLastVersion(actionOnServer);
         String nextVersion;
         if (latestVersion != null) {
             logger.debug("Latest version: {}", latestVersion.name);
@@ -97,6 +97,7 @@ public class AbxReleaseManager {
 
         logger.info("Creating abx action version {}", version);
         AbxActionVersion newVersion = this.restClient.createAbxVersion(actionOnServer, version);
+        this.session.setLastVersion(actionOnServer, newVersion);
 
         logger.info("Releasing abx action version {}", newVersion.name);
         AbxActionVersion releasedVersion = this.restClient.releaseAbxVersion(actionOnServer, newVersion.id);
@@ -122,7 +122,7 @@ public class CsPackageStore extends GenericPackageStore<CsPackageDescriptor> {
 
 		List<Package> importedPackages = new ArrayList<>();
 		for (Package pkg : sourceEndpointPackages) {
-			importedPackages.add(this.importPackage(pkg, dryrun, mergePackages));
+			importedPackages.add(this.importJournaled(pkg, dryrun, mergePackages));
 		}
 
 		return importedPackages;
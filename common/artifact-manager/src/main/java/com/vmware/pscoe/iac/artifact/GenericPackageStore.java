@@ -18,8 +18,14 @@ package com.vmware.pscoe.iac.artifact;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -31,6 +37,9 @@ import com.vmware.pscoe.iac.artifact.model.PackageContent;
 import com.vmware.pscoe.iac.artifact.model.PackageContent.Content;
 import com.vmware.pscoe.iac.artifact.model.PackageDescriptor;
 import com.vmware.pscoe.iac.artifact.model.Version;
+import com.vmware.pscoe.iac.artifact.trace.Span;
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
 
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.http.HttpStatus;
@@ -39,8 +48,15 @@ public abstract class GenericPackageStore<T extends PackageDescriptor> implement
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     protected static final String WILDCARD_MATCH_SYMBOL = "*";
 
+    /**
+     * Number of package contents fetched and content elements deleted concurrently.
+     */
+    private static final int DELETE_THREADS = 4;
+
     private Version productVersion;
 
+    private ImportJournal importJournal;
+
     protected abstract Package deletePackage(Package pkg, boolean withContent, boolean dryrun);
 
     protected abstract PackageContent getPackageContent(Package pkg);
@@ -74,12 +90,7 @@ public abstract class GenericPackageStore<T extends PackageDescriptor> implement
             boolean dryrun) {
         this.validateFilesystem(packages);
 
-        List<Package> deleted = new ArrayList<>();
-        for (Package pkg : packages) {
-            deleted.addAll(this.deletePackage(pkg, lastVersion, oldVersions, dryrun));
-        }
-
-        return deleted;
+        return this.deletePackages(packages, lastVersion, oldVersions, dryrun);
     }
 
     @Override
@@ -91,11 +102,73 @@ public abstract class GenericPackageStore<T extends PackageDescriptor> implement
         this.productVersion = productVersion;
     }
 
+    /**
+     * @param journal the journal the completed imports are recorded in
+     */
+    public void setImportJournal(ImportJournal journal) {
+        this.importJournal = journal;
+    }
+
+    protected ImportJournal getImportJournal() {
+        return this.importJournal;
+    }
+
+    /**
+     * @param pkg the package
+     * @return whether the package has been imported already according to the import journal
+     */
+    protected boolean isImportCompleted(Package pkg) {
+        return importJournal != null && importJournal.isCompleted(pkg);
+    }
+
+    /**
+     * Imports a package unless the import journal records it as completed, and records it
+     * in the journal once imported.
+     *
+     * @param pkg           the package
+     * @param dryrun        whether it is a dry run
+     * @param mergePackages whether the packages are merged
+     * @return the package
+     */
+    protected Package importJournaled(Package pkg, boolean dryrun, boolean mergePackages) {
+        if (isImportCompleted(pkg)) {
+            logger.info("Skipping package '{}', already imported according to the import journal", pkg.getFQName());
+            return pkg;
+        }
+        Package imported;
+        try (Span span = Tracer.span("import " + pkg.getFQName())) {
+            imported = this.importPackage(pkg, dryrun, mergePackages);
+        }
+        if (importJournal != null && !dryrun) {
+            importJournal.recordCompleted(pkg);
+        }
+        return imported;
+    }
+
+    /**
+     * Imports the packages concurrently, as they are independent. The versions of a package are imported in order.
+     *
+     * @param pkgs          the packages
+     * @param threads       the maximum number of packages imported at the same time
+     * @param dryrun        whether it is a dry run
+     * @param mergePackages whether the packages are merged
+     * @return the imported packages
+     */
+    protected List<Package> importJournaledConcurrently(List<Package> pkgs, int threads, boolean dryrun, boolean mergePackages) {
+        Map<String, List<Package>> packagesByName = pkgs.stream()
+                .collect(Collectors.groupingBy(Package::getName, LinkedHashMap::new, Collectors.toList()));
+        List<List<Package>> imported = ConcurrencyUtil.map(packagesByName.values(), threads, versions -> versions.stream()
+                .map(pkg -> this.importJournaled(pkg, dryrun, mergePackages)).collect(Collectors.toList()));
+        return imported.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
     @Override
     public List<Package> deletePackage(Package vroPackage, boolean lastVersion, boolean oldVersions, boolean dryrun) {
-        logger.info("Cleaning up server package '{}' versions LATEST={}, OLDER={} DRYRUN={}", vroPackage.getName(),
-                lastVersion, oldVersions, dryrun);
+        return this.deletePackages(Collections.singletonList(vroPackage), lastVersion, oldVersions, dryrun);
+    }
 
+    @Override
+    public List<Package> deletePackages(List<Package> packages, boolean lastVersion, boolean oldVersions, boolean dryrun) {
         List<Package> deleted = new ArrayList<>();
 
         if (!lastVersion && !oldVersions) {
@@ -103,13 +176,108 @@ public abstract class GenericPackageStore<T extends PackageDescriptor> implement
             return deleted;
         }
 
-        // Get all package versions
-        List<Package> serverPackages = this.getPackages().stream().filter(p -> p.getName().equals(vroPackage.getName()))
-                .collect(Collectors.toList());
+        try (Span span = Tracer.span("delete packages")) {
+            // a single listing of the server for all packages
+            Map<String, List<Package>> serverPackages = this.getPackages().stream()
+                    .collect(Collectors.groupingBy(Package::getName));
+
+            // the versions deleted with their content, the versions whose content is compared against the kept versions
+            List<Package> withContent = new ArrayList<>();
+            Map<String, Package> cleanedUp = new LinkedHashMap<>();
+            Map<String, Package> kept = new LinkedHashMap<>();
+            Set<String> planned = new HashSet<>();
+            for (Package vroPackage : packages) {
+                if (planned.add(vroPackage.getFQName())) {
+                    planPackageDeletion(vroPackage, serverPackages.getOrDefault(vroPackage.getName(), Collections.emptyList()),
+                            lastVersion, oldVersions, withContent, cleanedUp, kept);
+                }
+            }
+
+            for (Package p : withContent) {
+                logger.info("Removing package version '{}' with its content.", p.getFQName());
+                deleted.add(this.deletePackage(p, true, dryrun));
+            }
+            deleted.addAll(cleanedUp.values());
+
+            int deletedContent = 0;
+            List<Content> failedContent = Collections.emptyList();
+            if (!cleanedUp.isEmpty()) {
+                // one content fetch per version, for all packages at once
+                List<Package> versions = new ArrayList<>(kept.values());
+                versions.addAll(cleanedUp.values());
+                List<PackageContent> contents = ConcurrencyUtil.map(versions, DELETE_THREADS, p -> getPackageContentIfExists(p, cleanedUp.containsKey(p.getFQName())));
+
+                Set<Content> keptContent = new HashSet<>();
+                Set<Content> contentToBeRemoved = new LinkedHashSet<>();
+                for (int i = 0; i < versions.size(); i++) {
+                    Package version = versions.get(i);
+                    PackageContent content = contents.get(i);
+                    if (content == null) {
+                        // already deleted
+                        cleanedUp.remove(version.getFQName());
+                    } else if (kept.containsKey(version.getFQName())) {
+                        keptContent.addAll(content.getContent());
+                    } else {
+                        contentToBeRemoved.addAll(content.getContent());
+                    }
+                }
+                // the content of the kept versions of any package of the graph stays on the server
+                contentToBeRemoved.removeAll(keptContent);
+
+                logger.info("Deleting {} content elements of {} package versions ...", contentToBeRemoved.size(), cleanedUp.size());
+                List<Content> failed = ConcurrencyUtil.map(new ArrayList<>(contentToBeRemoved), DELETE_THREADS, c -> {
+                    logger.info("Deleting content '{}'", c);
+                    try {
+                        this.deleteContent(c, dryrun);
+                        return null;
+                    } catch (Exception e) {
+                        logger.warn("Could not delete content '" + c.toString() + "'", e);
+                        return c;
+                    }
+                });
+                failedContent = failed.stream().filter(Objects::nonNull).collect(Collectors.toList());
+                deletedContent = contentToBeRemoved.size() - failedContent.size();
+
+                for (Package p : cleanedUp.values()) {
+                    logger.info("Deleting package '{}' ...", p.getFQName());
+                    try {
+                        this.deletePackage(p, false, dryrun);
+                    } catch (HttpClientErrorException e) {
+                        // already deleted - ignore cleanup, re-throw error otherwise
+                        if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
+                            throw e;
+                        }
+                    }
+                }
+            }
 
-        Collections.sort(serverPackages);
+            logger.info("Clean up summary: {} package versions deleted with their content, {} package versions and {} content elements deleted, {} content elements failed{}",
+                    withContent.size(), cleanedUp.size(), deletedContent, failedContent.size(), dryrun ? " (dry run)" : "");
+            for (Content c : failedContent) {
+                logger.warn("Content not deleted: {}", c);
+            }
+            span.setCount(deleted.size());
+        }
+        return deleted;
+    }
 
-        LinkedList<Package> all = new LinkedList(serverPackages);
+    /**
+     * Plans the deletion of the versions of a package.
+     *
+     * @param vroPackage     the package, the latest version on the server
+     * @param serverVersions the versions of the package on the server
+     * @param lastVersion    whether to delete the last version
+     * @param oldVersions    whether to delete the old versions
+     * @param withContent    the versions to delete with their content
+     * @param cleanedUp      the versions whose content is deleted unless kept, by FQ name
+     * @param kept           the versions whose content is kept, by FQ name
+     */
+    private void planPackageDeletion(Package vroPackage, List<Package> serverVersions, boolean lastVersion, boolean oldVersions,
+            List<Package> withContent, Map<String, Package> cleanedUp, Map<String, Package> kept) {
+        logger.info("Cleaning up server package '{}' versions LATEST={}, OLDER={}", vroPackage.getName(), lastVersion, oldVersions);
+
+        LinkedList<Package> all = new LinkedList<>(serverVersions);
+        Collections.sort(all);
 
         for (Package p : all) {
             logger.info("Found package '{}' on server.", p.getFQName());
@@ -117,7 +285,7 @@ public abstract class GenericPackageStore<T extends PackageDescriptor> implement
 
         if (all.size() == 0 || !all.contains(vroPackage)) {
             logger.info("Nothing to do. There is no package '{}' available on the server.", vroPackage.getFQName());
-            return deleted;
+            return;
         }
 
         Package latest = all.pollLast();
@@ -125,31 +293,43 @@ public abstract class GenericPackageStore<T extends PackageDescriptor> implement
         if (!latest.equals(vroPackage)) {
             logger.error("Not supported operation. Server contains higher version of package {} than the provided {}.",
                     latest, vroPackage);
-            return deleted;
+            return;
         }
 
         if (lastVersion && oldVersions) {
-            for (Package p : all) {
-                logger.info("Removing package version '{}' with its content.", p.getFQName());
-                deleted.add(this.deletePackage(p, true, dryrun));
-            }
+            withContent.addAll(all);
         } else if (lastVersion) {
             if (all.size() == 0) {
-                logger.info("Removing package version '{}' with its content.", vroPackage.getFQName());
-                deleted.add(this.deletePackage(latest, true, dryrun));
+                withContent.add(latest);
             } else {
                 Package previous = all.pollLast();
                 logger.warn("Package version '{}' and its content will be cleaned up against previous version '{}'",
                         latest, previous);
-                deleted.add(deletePackageVersion(previous, latest, dryrun));
+                kept.put(previous.getFQName(), previous);
+                cleanedUp.put(latest.getFQName(), latest);
             }
         } else if (oldVersions) {
+            kept.put(latest.getFQName(), latest);
             for (Package p : all) {
-                deletePackageVersion(latest, p, dryrun);
-                deleted.add(p);
+                cleanedUp.put(p.getFQName(), p);
             }
         }
-        return deleted;
+    }
+
+    /**
+     * @param pkg       the package version
+     * @param mayBeGone whether the version may have been deleted already
+     * @return the content of the version, null when it may have been deleted and is not on the server
+     */
+    private PackageContent getPackageContentIfExists(Package pkg, boolean mayBeGone) {
+        try {
+            return this.getPackageContent(pkg);
+        } catch (HttpClientErrorException e) {
+            if (mayBeGone && e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
     }
 
     protected boolean isPackageAssetMatching(String matchExpression, String assetName) {
@@ -172,36 +352,4 @@ public abstract class GenericPackageStore<T extends PackageDescriptor> implement
         return Pattern.compile(pattern).matcher(assetName).matches();
     }
 
-    private Package deletePackageVersion(Package lastPackage, Package toBeRemovedPackage, boolean dryrun) {
-        PackageContent latest = this.getPackageContent(lastPackage);
-
-        try {
-            PackageContent toBeRemoved = this.getPackageContent(toBeRemovedPackage);
-
-            List<Content> contentToBeRemoved = new ArrayList<Content>();
-            contentToBeRemoved.addAll(toBeRemoved.getContent());
-            contentToBeRemoved.removeAll(latest.getContent());
-
-            logger.info("Deleting content of package '{}' ...", toBeRemovedPackage.getFQName());
-            for (Content c : contentToBeRemoved) {
-                logger.info("Deleting content '{}'", c);
-                try {
-                    this.deleteContent(c, dryrun);
-                } catch (Exception e) {
-                    logger.warn("Could not delete content '" + c.toString() + "'", e);
-                }
-            }
-            logger.info("Deleting package '{}' ...", toBeRemovedPackage.getFQName());
-            this.deletePackage(toBeRemovedPackage, false, dryrun);
-        } catch (HttpClientErrorException e) {
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                // alaredy deleted - ignore cleanup, re-throw error otherwise
-            } else {
-                throw e;
-            }
-        }
-
-        return toBeRemovedPackage;
-    }
-
 }
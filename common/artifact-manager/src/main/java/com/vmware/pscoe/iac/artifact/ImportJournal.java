@@ -0,0 +1,234 @@
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+package com.vmware.pscoe.iac.artifact;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vmware.pscoe.iac.artifact.model.Package;
+
+/**
+ * Append-only journal of the packages and content items imported into a server from a bundle.
+ *
+ * There is one journal file per target host and bundle digest. Each completed package and content item is appended
+ * as one line as soon as it is imported, and the items present in the journal are skipped, so retrying after a failure
+ * only imports what remains. An item is identified together with the content hash of its package file, so a rebuilt
+ * package (e.g. a SNAPSHOT) is never skipped. The journals of a bundle are discarded once its import is completed.
+ */
+public final class ImportJournal {
+	/**
+	 * Journals opened by this process, by file. Stores of different products may share a host.
+	 */
+	private static final Map<Path, ImportJournal> JOURNALS = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of digest characters used in the journal file name.
+	 */
+	private static final int DIGEST_PREFIX_LENGTH = 16;
+
+	/**
+	 * Variable for logging.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(ImportJournal.class);
+
+	/**
+	 * The journal file.
+	 */
+	private final Path file;
+
+	/**
+	 * The recorded entries.
+	 */
+	private final Set<String> entries = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The content hashes of the package files, by path.
+	 */
+	private final Map<String, String> packageHashes = new ConcurrentHashMap<>();
+
+	private ImportJournal(final Path journalFile) throws IOException {
+		this.file = journalFile;
+		Files.createDirectories(journalFile.getParent());
+		if (Files.exists(journalFile)) {
+			entries.addAll(Files.readAllLines(journalFile, StandardCharsets.UTF_8));
+			logger.info("Resuming import, {} completed items recorded in {}", entries.size(), journalFile);
+		}
+	}
+
+	/**
+	 * Opens the journal of a host and bundle, with the items recorded by previous imports of the bundle.
+	 * @param directory the directory holding the journals
+	 * @param host the target host
+	 * @param bundleDigest the digest of the bundle, see {@link #digest(Collection)}
+	 * @return the journal
+	 */
+	public static ImportJournal open(final File directory, final String host, final String bundleDigest) {
+		Path journalFile = directory.toPath().resolve(host.replaceAll("[^A-Za-z0-9.-]", "_") + getFileSuffix(bundleDigest)).toAbsolutePath();
+		return JOURNALS.computeIfAbsent(journalFile, path -> {
+			try {
+				return new ImportJournal(path);
+			} catch (IOException e) {
+				throw new RuntimeException("Unable to open import journal " + path, e);
+			}
+		});
+	}
+
+	/**
+	 * Deletes the journals of a bundle opened by this process, once the import of the bundle is completed, so the
+	 * journals do not pile up with every new bundle.
+	 * @param directory the directory holding the journals
+	 * @param bundleDigest the digest of the bundle, see {@link #digest(Collection)}
+	 */
+	public static void discard(final File directory, final String bundleDigest) {
+		Path dir = directory.toPath().toAbsolutePath();
+		String suffix = getFileSuffix(bundleDigest);
+		JOURNALS.keySet().removeIf(path -> {
+			if (!path.getParent().equals(dir) || !path.getFileName().toString().endsWith(suffix)) {
+				return false;
+			}
+			try {
+				Files.deleteIfExists(path);
+			} catch (IOException e) {
+				LoggerFactory.getLogger(ImportJournal.class).warn("Unable to delete import journal {}: {}", path, e.getMessage());
+			}
+			return true;
+		});
+	}
+
+	private static String getFileSuffix(final String bundleDigest) {
+		String digest = bundleDigest.length() > DIGEST_PREFIX_LENGTH ? bundleDigest.substring(0, DIGEST_PREFIX_LENGTH) : bundleDigest;
+		return "-" + digest + ".journal";
+	}
+
+	/**
+	 * Computes the digest of a bundle from the names and content of its files.
+	 * @param files the files of the bundle
+	 * @return the hex encoded digest
+	 */
+	public static String digest(final Collection<File> files) {
+		Map<String, String> sorted = new TreeMap<>();
+		for (File f : files) {
+			sorted.put(f.getName(), hash(f));
+		}
+		MessageDigest digest = newDigest();
+		sorted.forEach((name, hash) -> digest.update((name + "=" + hash + "\n").getBytes(StandardCharsets.UTF_8)));
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * @param pkg the package
+	 * @return whether the import of the package has been completed
+	 */
+	public boolean isCompleted(final Package pkg) {
+		return entries.contains(packageEntry(pkg));
+	}
+
+	/**
+	 * Records the completed import of a package.
+	 * @param pkg the package
+	 */
+	public void recordCompleted(final Package pkg) {
+		record(packageEntry(pkg));
+	}
+
+	/**
+	 * @param pkg the package the item belongs to
+	 * @param item the content item, e.g. the content type
+	 * @return whether the import of the content item has been completed
+	 */
+	public boolean isCompleted(final Package pkg, final String item) {
+		return entries.contains(contentEntry(pkg, item));
+	}
+
+	/**
+	 * Records the completed import of a content item.
+	 * @param pkg the package the item belongs to
+	 * @param item the content item, e.g. the content type
+	 */
+	public void recordCompleted(final Package pkg, final String item) {
+		record(contentEntry(pkg, item));
+	}
+
+	private synchronized void record(final String entry) {
+		if (!entries.add(entry)) {
+			return;
+		}
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+			writer.write(entry);
+			writer.write('\n');
+		} catch (IOException e) {
+			logger.warn("Unable to write to import journal {}: {}", file, e.getMessage());
+		}
+	}
+
+	private String packageEntry(final Package pkg) {
+		return "package\t" + pkg.getType() + "\t" + pkg.getFQName() + "\t" + packageHash(pkg);
+	}
+
+	private String contentEntry(final Package pkg, final String item) {
+		return "content\t" + pkg.getType() + "\t" + pkg.getFQName() + "\t" + packageHash(pkg) + "\t" + item;
+	}
+
+	private String packageHash(final Package pkg) {
+		return packageHashes.computeIfAbsent(pkg.getFilesystemPath(), path -> hash(new File(path)));
+	}
+
+	private static String hash(final File f) {
+		MessageDigest digest = newDigest();
+		byte[] buffer = new byte[8192];
+		try (InputStream in = Files.newInputStream(f.toPath())) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to read " + f.getAbsolutePath(), e);
+		}
+		return toHex(digest.digest());
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(final byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
+}
@@ -21,6 +21,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
@@ -31,6 +33,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vmware.pscoe.iac.artifact.model.Package;
+import com.vmware.pscoe.iac.artifact.trace.Span;
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
 
 import static org.apache.commons.io.FilenameUtils.getPath;
 
@@ -44,6 +48,21 @@ public class PackageManager {
 	 * An abstraction that represents a package.
 	 */
 	private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+	/**
+	 * The logger of the static operations.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(PackageManager.class);
+
+	/**
+	 * The extensions of the files which are compressed already.
+	 */
+	private static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<>(Arrays.asList("zip", "jar", "gz", "tgz", "bz2", "xz", "7z", "png", "jpg", "jpeg", "gif"));
+
+	/**
+	 * The size of the copy buffer.
+	 */
+	private static final int BUFFER_SIZE = 8192;
 	
 	private Package pkg;
 
@@ -69,10 +88,13 @@ public class PackageManager {
 	 * @see #pack(File) 
 	 */
 	public void unpack(File outputLocation) throws IOException {
-		try (ZipInputStream zis = new ZipInputStream(new FileInputStream(pkg.getFilesystemPath()))) {
+		try (Span span = Tracer.span("unpack " + pkg.getFQName());
+				ZipInputStream zis = new ZipInputStream(new FileInputStream(pkg.getFilesystemPath()))) {
 			ZipEntry ze = null;
+			int entries = 0;
 
 			while ((ze = zis.getNextEntry()) != null) {
+				span.setCount(++entries);
 
 				String fileName = ze.getName();
 				File newFile = new File(outputLocation, fileName);
@@ -106,9 +128,47 @@ public class PackageManager {
 	 * @see #unpack(File)
 	 */
 	public void pack(File sourceDirectory) throws IOException {
-		List<File> fileList = new ArrayList<>();
-		getAllFiles(sourceDirectory, fileList);
-		writeZipFile(sourceDirectory, fileList);
+		try (Span span = Tracer.span("pack " + pkg.getFQName())) {
+			List<File> fileList = new ArrayList<>();
+			getAllFiles(sourceDirectory, fileList);
+			span.setCount(fileList.size());
+			writeZipFile(sourceDirectory, fileList);
+		}
+	}
+
+	/**
+	 * Pack a directory together with files placed at the root of the package, e.g. the package.json of an ABX action,
+	 * in a single pass. A root file replaces the file of the directory with the same name. The files which are
+	 * compressed already, e.g. the bundle.zip of an ABX action, are stored instead of being deflated again.
+	 * @param sourceDirectory The source directory that contains the expanded package.
+	 * @param rootFiles The files to place at the root of the package.
+	 * @throws IOException In case there is some Input/Output error.
+	 * @see #pack(File)
+	 */
+	public void pack(File sourceDirectory, List<File> rootFiles) throws IOException {
+		try (Span span = Tracer.span("pack " + pkg.getFQName())) {
+			List<File> fileList = new ArrayList<>();
+			getAllFiles(sourceDirectory, fileList);
+			Set<String> rootNames = rootFiles.stream().map(File::getName).collect(Collectors.toSet());
+
+			File zipFile = new File(pkg.getFilesystemPath());
+			zipFile.getParentFile().mkdirs();
+			int count = 0;
+			try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zipFile)))) {
+				for (File file : fileList) {
+					String entryName = getEntryName(sourceDirectory, file);
+					if (!file.isDirectory() && !rootNames.contains(entryName)) {
+						addToZip(entryName, file, zos);
+						count++;
+					}
+				}
+				for (File file : rootFiles) {
+					addToZip(file.getName(), file, zos);
+					count++;
+				}
+			}
+			span.setCount(count);
+		}
 	}
 
 	/**
@@ -185,6 +245,37 @@ public class PackageManager {
 		zos.closeEntry();
 	}
 
+	private static String getEntryName(File directoryToZip, File file) throws IOException {
+		return file.getCanonicalPath().substring(directoryToZip.getCanonicalPath().length() + 1).replaceAll("\\\\", "/");
+	}
+
+	private static void addToZip(String entryName, File file, ZipOutputStream zos) throws IOException {
+		ZipEntry zipEntry = new ZipEntry(entryName);
+		if (isCompressed(entryName)) {
+			// deflating compressed data costs time without saving space, so it is stored as is
+			CRC32 crc = new CRC32();
+			try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+				byte[] bytes = new byte[BUFFER_SIZE];
+				int length;
+				while ((length = in.read(bytes)) >= 0) {
+					crc.update(bytes, 0, length);
+				}
+			}
+			zipEntry.setMethod(ZipEntry.STORED);
+			zipEntry.setSize(file.length());
+			zipEntry.setCompressedSize(file.length());
+			zipEntry.setCrc(crc.getValue());
+		}
+		zos.putNextEntry(zipEntry);
+		Files.copy(file.toPath(), zos);
+		zos.closeEntry();
+	}
+
+	private static boolean isCompressed(String entryName) {
+		int extension = entryName.lastIndexOf('.');
+		return extension >= 0 && COMPRESSED_EXTENSIONS.contains(entryName.substring(extension + 1).toLowerCase(Locale.ROOT));
+	}
+
 	/**
 	 * Add a single file to existing ZIP
 	 * @param file the file to add
@@ -219,6 +310,13 @@ public class PackageManager {
 		if (fileList.isEmpty()) {
 			return;
 		}
+		try (Span span = Tracer.span("add to zip " + pkg.getFQName())) {
+			span.setCount(fileList.size());
+			rewriteZip(fileList);
+		}
+	}
+
+	private void rewriteZip(List<File> fileList) throws IOException {
 		File directoryToZip = new File(new File(pkg.getFilesystemPath()).getParent());
 		File zipFile = new File(pkg.getFilesystemPath());
 		File tempFile = File.createTempFile(zipFile.getName(), null);
@@ -262,7 +360,8 @@ public class PackageManager {
 	/**
 	 * Recursively copy the content of a source directory to a destination directory. Both directories should exist. 
 	 * If at least one of them does not exist, then nothing will be copied and this method will exit silently without 
-	 * any error.
+	 * any error. Only the files which are new or differ from the destination are written, see
+	 * {@link #syncContents(File, File, Collection)}.
 	 * @param srcDir The source directory whose content would be copied to the destination directory. Should exist. 
 	 *               If this directory does not exist, then no exception will be thrown, but nothing will be copied 
 	 *               as well.
@@ -273,15 +372,65 @@ public class PackageManager {
 	 * @see #cleanup(File)
 	 */
 	public static void copyContents(File srcDir, File destDir) throws IOException {
+		syncContents(srcDir, destDir, Collections.emptyList());
+	}
+
+	/**
+	 * Synchronize a destination directory with the content of a source directory, e.g. a project with a pulled package.
+	 * The files of the source directory which are new or whose content differs are written. The files with the same
+	 * content are not touched, so their modification times stay and IDEs, incremental builds and Git see no change.
+	 * The removable files of the destination which are not in the source directory are deleted.
+	 * @param srcDir The source directory. If this directory does not exist, then nothing is written.
+	 * @param destDir The destination directory, created if it does not exist.
+	 * @param removable The files of the destination directory which are deleted unless the source directory contains
+	 *               them, e.g. the files of the elements of a previous pull.
+	 * @throws IOException in case there is some Input/Output error during the synchronization.
+	 */
+	public static void syncContents(File srcDir, File destDir, Collection<File> removable) throws IOException {
 		if (!destDir.exists()) {
 			boolean success = destDir.mkdirs();
 			if (!success || !destDir.exists()) {
 				throw new IOException("Cannot create directory \"" + destDir + "\". Please check file system permissions.");
 			}
 		}
+		Set<Path> written = new HashSet<>();
+		int changed = 0;
+		int unchanged = 0;
 		if (srcDir.exists()) {
-			FileUtils.copyDirectory(srcDir, destDir);
+			Path src = srcDir.toPath();
+			Path dest = destDir.toPath();
+			List<Path> files;
+			try (Stream<Path> stream = Files.walk(src)) {
+				files = stream.collect(Collectors.toList());
+			}
+			for (Path file : files) {
+				Path target = dest.resolve(src.relativize(file).toString());
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(target);
+					continue;
+				}
+				written.add(target.toAbsolutePath().normalize());
+				if (Files.isRegularFile(target) && FileUtils.contentEquals(file.toFile(), target.toFile())) {
+					unchanged++;
+					continue;
+				}
+				Files.createDirectories(target.getParent());
+				Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+				changed++;
+			}
+		}
+		int deleted = 0;
+		for (File file : removable) {
+			if (!written.contains(file.toPath().toAbsolutePath().normalize()) && file.isFile()) {
+				LOGGER.info("Deleting file " + file.getAbsolutePath());
+				if (file.delete()) {
+					deleted++;
+				} else {
+					LOGGER.warn("Could not delete file " + file.getAbsolutePath());
+				}
+			}
 		}
+		LOGGER.info("Synchronized {}: {} files written, {} files unchanged, {} files deleted", destDir, changed, unchanged, deleted);
 	}
 
 	/**
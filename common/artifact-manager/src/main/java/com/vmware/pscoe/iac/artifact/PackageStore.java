@@ -108,6 +108,18 @@ public interface PackageStore<T extends PackageDescriptor> {
 	 */
     List<Package> deleteAllPackages(List<Package> vroPackages, boolean lastVersion, boolean oldVersions, boolean dryrun);
 
+	/**
+	 * Deletes the packages of a dependency graph at once, e.g. a project and its dependencies. The packages do not need
+	 * to be on the filesystem. The server is listed once, the content of each version is fetched once and the content
+	 * kept by any of the packages is not deleted.
+	 * @param packages the packages to delete
+	 * @param lastVersion whether it should delete the last version
+	 * @param oldVersions whether it should delete the old versions
+	 * @param dryrun whether it should be dry run
+	 * @return the deleted packages
+	 */
+    List<Package> deletePackages(List<Package> packages, boolean lastVersion, boolean oldVersions, boolean dryrun);
+
 	/**
 	 * Exports a package.
 	 * @param pkg the package to export
@@ -15,6 +15,7 @@ package com.vmware.pscoe.iac.artifact;
  * #L%
  */
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -69,6 +70,19 @@ public final class PackageStoreFactory {
 	 * @return The PackageStore instance.
 	 */
 	public static <T extends Configuration> PackageStore<?> getInstance(T configuration) {
+		PackageStore<?> store = createInstance(configuration);
+		File journalDirectory = configuration.getImportJournalDirectory();
+		if (journalDirectory != null && store instanceof GenericPackageStore
+				&& StringUtils.isNotEmpty(configuration.getImportJournalBundle())) {
+			LOGGER.info("Recording the imports in the journal directory '{}'", journalDirectory);
+			((GenericPackageStore<?>) store).setImportJournal(ImportJournal.open(journalDirectory, configuration.getHost(),
+					configuration.getImportJournalBundle()));
+		}
+
+		return store;
+	}
+
+	private static <T extends Configuration> PackageStore<?> createInstance(T configuration) {
 		List<Strategy> strategies = new ArrayList<>();
 		LOGGER.info("Searching for Package Store for type " + configuration.getPackageType());
 
@@ -87,31 +101,31 @@ public final class PackageStoreFactory {
 		if (configuration instanceof ConfigurationVroNg) {
 			LOGGER.info("Detected ConfigurationVroNg");
 			ConfigurationVroNg config = (ConfigurationVroNg) configuration;
-			RestClientVro restClient = RestClientFactory.getClientVroNg(config);
+			RestClientVro restClient = RestClientRegistry.getClient(config, RestClientVro.class, RestClientFactory::getClientVroNg);
 			version = restClient.getVersion();
 			LOGGER.info("Detecting vRO Server version '{}'.", version);
 			List<PackageStoreExtention<VroPackageDescriptor>> extentions = new ArrayList<>();
 			extentions.addAll(loadVroExtensions(version, config, restClient));
 
-			return new VroPackageStore(restClient, strategies, extentions, new Version(version));
+			return new VroPackageStore(restClient, strategies, extentions, new Version(version), config);
 		}
 
 		if (configuration instanceof ConfigurationVro) {
 			LOGGER.info("Detected ConfigurationVro");
 			ConfigurationVro config = (ConfigurationVro) configuration;
-			RestClientVro restClient = RestClientFactory.getClientVro(config);
+			RestClientVro restClient = RestClientRegistry.getClient(config, RestClientVro.class, RestClientFactory::getClientVro);
 			version = restClient.getVersion();
 			LOGGER.info("Detecting vRO Server version '{}'.", version);
 			List<PackageStoreExtention<VroPackageDescriptor>> extentions = new ArrayList<>();
 			extentions.addAll(loadVroExtensions(version, config, restClient));
 
-			return new VroPackageStore(restClient, strategies, extentions, new Version(version));
+			return new VroPackageStore(restClient, strategies, extentions, new Version(version), config);
 		}
 
 		if (configuration instanceof ConfigurationVra) {
 			LOGGER.info("Detected ConfigurationVra");
 			ConfigurationVra config = (ConfigurationVra) configuration;
-			RestClientVra restClient = RestClientFactory.getClientVra(config);
+			RestClientVra restClient = RestClientRegistry.getClient(config, RestClientVra.class, RestClientFactory::getClientVra);
 			version = restClient.getVersion();
 			LOGGER.info("Detecting vRA Server version '{}'.", version);
 			List<PackageStoreExtention<VraPackageDescriptor>> extentions = new ArrayList<>();
@@ -126,7 +140,7 @@ public final class PackageStoreFactory {
 			ConfigurationAbx config = (ConfigurationAbx) configuration;
 
 			// ABX service is part of vRA therefore the same REST client is used
-			RestClientVraNg restClient = RestClientFactory.getClientVraNg(config);
+			RestClientVraNg restClient = RestClientRegistry.getClient(config, RestClientVraNg.class, RestClientFactory::getClientVraNg);
 
 			// Specific ABX operations are handled by dedicated ABX package store
 			return new AbxPackageStore(restClient, config);
@@ -134,7 +148,7 @@ public final class PackageStoreFactory {
 		if (configuration instanceof ConfigurationCs) {
 			LOGGER.info("Detected ConfigurationCs");
 			ConfigurationCs config = (ConfigurationCs) configuration;
-			RestClientCs restClient = RestClientFactory.getClientCs(config);
+			RestClientCs restClient = RestClientRegistry.getClient(config, RestClientCs.class, RestClientFactory::getClientCs);
 			LOGGER.info("Creating configuration for Code Stream");
 			return new CsPackageStore(restClient, config);
 		}
@@ -142,7 +156,7 @@ public final class PackageStoreFactory {
 		if (configuration instanceof ConfigurationVraNg) {
 			LOGGER.info("Detected ConfigurationVraNg");
 			ConfigurationVraNg config = (ConfigurationVraNg) configuration;
-			RestClientVraNg restClient = RestClientFactory.getClientVraNg(config);
+			RestClientVraNg restClient = RestClientRegistry.getClient(config, RestClientVraNg.class, RestClientFactory::getClientVraNg);
 			LOGGER.info("Creating configuration for VRA NG");
 
 			return new VraNgPackageStore(restClient, config);
@@ -151,7 +165,7 @@ public final class PackageStoreFactory {
 		if (configuration instanceof ConfigurationVcd) {
 			LOGGER.info("Detected ConfigurationVcd");
 			ConfigurationVcd config = (ConfigurationVcd) configuration;
-			RestClientVcd restClient = RestClientFactory.getClientVcd(config);
+			RestClientVcd restClient = RestClientRegistry.getClient(config, RestClientVcd.class, RestClientFactory::getClientVcd);
 			version = restClient.getVersion();
 			LOGGER.info("Detecting vCD Server version '{}'.", version);
 
@@ -163,7 +177,7 @@ public final class PackageStoreFactory {
 			ConfigurationVrops config = (ConfigurationVrops) configuration;
 
 			CliManagerVrops cliManager = CliManagerFactory.getVropsCliManager(config);
-			RestClientVrops restClient = RestClientFactory.getClientVrops(config);
+			RestClientVrops restClient = RestClientRegistry.getClient(config, RestClientVrops.class, RestClientFactory::getClientVrops);
 			version = restClient.getVersion();
 			LOGGER.info("Detecting vROPs Server version '{}'.", version);
 
@@ -173,8 +187,8 @@ public final class PackageStoreFactory {
 		if (configuration instanceof ConfigurationVrli) {
 			LOGGER.info("Detected ConfigurationVrli");
 			ConfigurationVrli config = (ConfigurationVrli) configuration;
-			RestClientVrliV1 restClientV1 = RestClientFactory.getClientVrliV1(config);
-			RestClientVrliV2 restClientV2 = RestClientFactory.getClientVrliV2(config);
+			RestClientVrliV1 restClientV1 = RestClientRegistry.getClient(config, RestClientVrliV1.class, RestClientFactory::getClientVrliV1);
+			RestClientVrliV2 restClientV2 = RestClientRegistry.getClient(config, RestClientVrliV2.class, RestClientFactory::getClientVrliV2);
 
 			try {
 				version = restClientV1.getVersion();
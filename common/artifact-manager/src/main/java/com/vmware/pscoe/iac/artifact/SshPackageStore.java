@@ -85,7 +85,7 @@ public class SshPackageStore extends GenericPackageStore<BasicPackageDescriptor>
         }
         List<Package> importedPackages = new ArrayList<>();
         for (Package pkg : sourceEndpointPackages) {
-            importedPackages.add(this.importPackage(pkg, dryrun, mergePackages));
+            importedPackages.add(this.importJournaled(pkg, dryrun, mergePackages));
         }
 
         return importedPackages;
@@ -31,6 +31,11 @@ import com.vmware.pscoe.iac.artifact.rest.RestClientVcd;
 import com.vmware.pscoe.iac.artifact.strategy.Strategy;
 
 public class VcdNgPackageStore extends GenericPackageStore<VcdPackageDescriptor> {
+	/**
+	 * Number of UI plugins imported concurrently.
+	 */
+	private static final int IMPORT_THREADS = 4;
+
 	/**
 	 * Variable for logging.
 	 */
@@ -130,12 +135,7 @@ public class VcdNgPackageStore extends GenericPackageStore<VcdPackageDescriptor>
 			return new ArrayList<>();
 		}
 
-		List<Package> importedPackages = new ArrayList<>();
-		for (Package pkg : sourceEndpointPackages) {
-			importedPackages.add(this.importPackage(pkg, dryrun, mergePackages));
-		}
-
-		return importedPackages;
+		return this.importJournaledConcurrently(sourceEndpointPackages, IMPORT_THREADS, dryrun, mergePackages);
 	}
 
 	/**
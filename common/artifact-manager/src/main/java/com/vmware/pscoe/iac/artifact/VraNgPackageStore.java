@@ -31,7 +31,10 @@ import com.vmware.pscoe.iac.artifact.model.PackageContent.Content;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageContent;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageDescriptor;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
+import com.vmware.pscoe.iac.artifact.store.vrang.VraNgLocalContent;
 import com.vmware.pscoe.iac.artifact.store.vrang.VraNgTypeStoreFactory;
+import com.vmware.pscoe.iac.artifact.trace.Span;
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -135,7 +138,7 @@ public class VraNgPackageStore extends GenericPackageStore<VraNgPackageDescripto
 
 		List<Package> importedPackages = new ArrayList<>();
 		for (Package pkg : sourceEndpointPackages) {
-			importedPackages.add(this.importPackage(pkg, dryrun, mergePackages));
+			importedPackages.add(this.importJournaled(pkg, dryrun, mergePackages));
 		}
 
 		return importedPackages;
@@ -210,7 +213,10 @@ public class VraNgPackageStore extends GenericPackageStore<VraNgPackageDescripto
 		VraNgTypeStoreFactory storeFactory = VraNgTypeStoreFactory.withConfig(restClient, vraNgPackage, config,
 				vraNgPackageDescriptor);
 		for (VraNgPackageContent.ContentType type : VraNgTypeStoreFactory.getExportOrder()) {
-			storeFactory.getStoreForType(type).exportContent();
+			try (Span span = Tracer.span("vrang.export." + type.getTypeValue())) {
+				storeFactory.getStoreForType(type).exportContent();
+				setCount(span, type, vraNgPackageDescriptor, new File(vraNgPackage.getFilesystemPath()));
+			}
 		}
 
 		return vraNgPackage;
@@ -268,9 +274,20 @@ public class VraNgPackageStore extends GenericPackageStore<VraNgPackageDescripto
 				.getInstance(new File(tmp.toPath().toString() + "/content.yaml"));
 		VraNgTypeStoreFactory storeFactory = VraNgTypeStoreFactory.withConfig(restClient, vraNgPackage, config,
 				vraPackageDescriptor);
+		ImportJournal journal = this.getImportJournal();
 		for (VraNgPackageContent.ContentType type : VraNgTypeStoreFactory.getImportOrder()) {
+			if (journal != null && journal.isCompleted(vraNgPackage, type.getTypeValue())) {
+				logger.info("Skipping {}, already imported according to the import journal", type.getTypeValue());
+				continue;
+			}
 			logger.info("Currently importing: {}", type.getTypeValue());
-			storeFactory.getStoreForType(type).importContent(tmp);
+			try (Span span = Tracer.span("vrang.import." + type.getTypeValue())) {
+				storeFactory.getStoreForType(type).importContent(tmp);
+				setCount(span, type, vraPackageDescriptor, tmp);
+			}
+			if (journal != null && !dryrun) {
+				journal.recordCompleted(vraNgPackage, type.getTypeValue());
+			}
 		}
 		return vraNgPackage;
 	}
@@ -327,4 +344,20 @@ public class VraNgPackageStore extends GenericPackageStore<VraNgPackageDescripto
 		throw new UnsupportedOperationException(
 				"deleteContent: Cloud Automation Services does not provide native support for packages.");
 	}
+
+	/**
+	 * Sets the number of local items of the content type, selected by the descriptor, as the count of the span.
+	 *
+	 * @param span       the span of the type
+	 * @param type       the content type
+	 * @param descriptor the package descriptor
+	 * @param directory  the directory with the content of the package
+	 */
+	private static void setCount(final Span span, final VraNgPackageContent.ContentType type, final VraNgPackageDescriptor descriptor,
+			final File directory) {
+		int count = VraNgLocalContent.countSelectedItems(type, descriptor, directory);
+		if (count >= 0) {
+			span.setCount(count);
+		}
+	}
 }
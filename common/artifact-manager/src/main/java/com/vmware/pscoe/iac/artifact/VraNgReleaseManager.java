@@ -24,16 +24,26 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgBlueprint;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
+import com.vmware.pscoe.iac.artifact.trace.Span;
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
+import com.vmware.pscoe.iac.artifact.utils.VraNgContentHash;
 
 
 public class VraNgReleaseManager {
 
+    /**
+     * Number of blueprints checked and released concurrently.
+     */
+    private static final int RELEASE_THREADS = 8;
+
     RestClientVraNg restClient;
 
     private final Logger logger = LoggerFactory.getLogger(VraNgReleaseManager.class);
@@ -51,45 +61,72 @@ public class VraNgReleaseManager {
                     .filter(bp -> contentNames.contains(bp.getName()))
                     .collect(Collectors.toList());
             }
-            
-            List<String> invalidBlueprints = new ArrayList<>();
-            blueprints.forEach(bp -> {
-                if (this.restClient.isBlueprintVersionPresent(bp.getId(), version)) {
-                    invalidBlueprints.add(bp.getName());
-                }
-            });
-
-            if (invalidBlueprints.size() > 0) {
-                throw new RuntimeException("Blueprints [" + String.join(", ", invalidBlueprints) + "] already have a released version " + version);
-            }
 
-            blueprints.forEach(bp -> {
-                if (releaseIfNotUpdated == true) {
+            try (Span span = Tracer.span("vrang.release.blueprint")) {
+                List<VraNgBlueprint> changed = this.planRelease(blueprints, version, releaseIfNotUpdated);
+                span.setCount(changed.size());
+                ConcurrencyUtil.forEach(changed, RELEASE_THREADS, bp -> {
                     this.restClient.releaseBlueprintVersion(bp.getId(), version);
                     logger.info("Released blueprint " + bp.getName() + " version " + version);
-                } else {
-                    this.releaseVersion(bp, version);
-                }
-            });
+                });
+            }
         }
 
     }
 
+    /**
+     * Determine the blueprints to release. The versions of the blueprints and the content of their latest versions
+     * are fetched concurrently.
+     * @param blueprints blueprints, with their draft content
+     * @param version new version
+     * @param releaseIfNotUpdated whether to release the blueprints without changes since their latest version
+     * @return the blueprints to release
+     */
+    private List<VraNgBlueprint> planRelease(List<VraNgBlueprint> blueprints, String version, boolean releaseIfNotUpdated) {
+        List<List<String>> versions = ConcurrencyUtil.map(blueprints, RELEASE_THREADS, bp -> this.restClient.getBlueprintVersionList(bp.getId()));
+
+        List<String> invalidBlueprints = new ArrayList<>();
+        for (int i = 0; i < blueprints.size(); i++) {
+            if (versions.get(i).contains(version)) {
+                invalidBlueprints.add(blueprints.get(i).getName());
+            }
+        }
+        if (invalidBlueprints.size() > 0) {
+            throw new RuntimeException("Blueprints [" + String.join(", ", invalidBlueprints) + "] already have a released version " + version);
+        }
+        if (releaseIfNotUpdated) {
+            return blueprints;
+        }
+
+        List<Integer> indexes = IntStream.range(0, blueprints.size()).boxed().collect(Collectors.toList());
+        List<Boolean> updated = ConcurrencyUtil.map(indexes, RELEASE_THREADS, i -> versions.get(i).isEmpty() || this.isUpdated(blueprints.get(i), versions.get(i).get(0)));
+        List<VraNgBlueprint> changed = new ArrayList<>();
+        for (int i = 0; i < blueprints.size(); i++) {
+            if (updated.get(i)) {
+                changed.add(blueprints.get(i));
+            } else {
+                logger.info("Skipping release of blueprint " + blueprints.get(i).getName() + ". No changes since latest version.");
+            }
+        }
+        return changed;
+    }
+
     /**
      * Attempt to generate a next version and release it.
      * @param blueprint blueprint
+     * @return whether a version has been released
      */
-    public void releaseNextVersion(VraNgBlueprint blueprint) {
+    public boolean releaseNextVersion(VraNgBlueprint blueprint) {
         String latestVersion = this.restClient.getBlueprintLastUpdatedVersion(blueprint.getId());
         String nextVersion = this.getNextVersion(latestVersion);
         logger.debug("Next version of blueprint {}: {}", blueprint.getName(), nextVersion);
 
         try {
-            this.releaseVersion(blueprint, nextVersion);
+            return this.releaseVersion(blueprint, nextVersion, latestVersion);
         } catch (Exception e) {
             // Attempt to fix versions imported in reverse order, which produces an Error on imports
             logger.warn("Couldn't release version '{}'. Attempting to release date version", nextVersion);
-            this.releaseVersion(blueprint, this.getDateVersion());
+            return this.releaseVersion(blueprint, this.getDateVersion(), latestVersion);
         }
     }
 
@@ -100,29 +137,24 @@ public class VraNgReleaseManager {
      * @param version new version
      */
     public void releaseVersion(VraNgBlueprint blueprint, String version) {
-        String latestVersion = this.restClient.getBlueprintLastUpdatedVersion(blueprint.getId());
+        this.releaseVersion(blueprint, version, this.restClient.getBlueprintLastUpdatedVersion(blueprint.getId()));
+    }
+
+    private boolean releaseVersion(VraNgBlueprint blueprint, String version, String latestVersion) {
         if (latestVersion == null || this.isUpdated(blueprint, latestVersion)) {
             this.restClient.releaseBlueprintVersion(blueprint.getId(), version);
             logger.info("Released blueprint " + blueprint.getName() + " version " + version);
-        } else {
-            logger.info("Skipping release of blueprint " + blueprint.getName() + ". No changes since latest version.");
+            return true;
         }
+        logger.info("Skipping release of blueprint " + blueprint.getName() + ". No changes since latest version.");
+        return false;
     }
 
-    /**
-     * Perform a check whether the blueprint content has been updated since the latest released version.
-     * @param blueprint blueprint
-     * @param latestVersion latest version
-     * @return true if there are changes
-     */
     private boolean isUpdated(VraNgBlueprint blueprint, String latestVersion) {
         String draftContent = blueprint.getContent();
         String latestVersionContent = this.restClient.getBlueprintVersionContent(blueprint.getId(), latestVersion);
-        if (draftContent.equals(latestVersionContent)) {
-            return false;
-        }
-
-        return true;
+        return draftContent == null || latestVersionContent == null
+            || !VraNgContentHash.hash(draftContent).equals(VraNgContentHash.hash(latestVersionContent));
     }
 
     /**
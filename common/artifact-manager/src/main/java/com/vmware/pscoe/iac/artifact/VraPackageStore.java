@@ -26,6 +26,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vmware.pscoe.iac.artifact.extentions.PackageStoreExtention;
+import com.vmware.pscoe.iac.artifact.extentions.VraPackageContents;
+import com.vmware.pscoe.iac.artifact.extentions.VraPackageContentsExtention;
 import com.vmware.pscoe.iac.artifact.model.Package;
 import com.vmware.pscoe.iac.artifact.model.PackageContent.Content;
 import com.vmware.pscoe.iac.artifact.model.Version;
@@ -160,7 +162,7 @@ public class VraPackageStore extends GenericPackageStore<VraPackageDescriptor> {
 
 		List<Package> importedPackages = new ArrayList<>();
 		for (Package pkg : sourceEndpointPackages) {
-			importedPackages.add(this.importPackage(pkg, dryrun, mergePackages));
+			importedPackages.add(this.importJournaled(pkg, dryrun, mergePackages));
 		}
 
 		return importedPackages;
@@ -176,9 +178,7 @@ public class VraPackageStore extends GenericPackageStore<VraPackageDescriptor> {
 	public final Package exportPackage(final Package vraPackage, final boolean dryrun) {
 		logger.info(String.format(PackageStore.PACKAGE_EXPORT, vraPackage));
 		Package pkg = restClient.exportPackage(vraPackage, dryrun);
-		for (PackageStoreExtention<VraPackageDescriptor> e : extentions) {
-		    e.exportPackage(pkg, null, dryrun);
-		}
+		exportExtentions(pkg, null, dryrun);
 
 		return pkg;
 	}
@@ -199,13 +199,29 @@ public class VraPackageStore extends GenericPackageStore<VraPackageDescriptor> {
 			resultVraPackage = restClient.exportPackage(resultVraPackage, dryrun);
 		}
 
-		for (PackageStoreExtention<VraPackageDescriptor> e : extentions) {
-		    e.exportPackage(resultVraPackage, vraPackageDescriptor, dryrun);
-		}
+		exportExtentions(resultVraPackage, vraPackageDescriptor, dryrun);
 
 		return resultVraPackage;
 	}
 
+	/**
+	 * Exports the extension content of a package. The package contents are retrieved once and shared by the
+	 * extensions which need them.
+	 * @param pkg the exported package
+	 * @param vraPackageDescriptor the package descriptor, may be null
+	 * @param dryrun whether it should be dry run
+	 */
+	private void exportExtentions(final Package pkg, final VraPackageDescriptor vraPackageDescriptor, final boolean dryrun) {
+		VraPackageContents contents = new VraPackageContents(restClient, pkg.getId());
+		for (PackageStoreExtention<VraPackageDescriptor> e : extentions) {
+			if (e instanceof VraPackageContentsExtention) {
+				((VraPackageContentsExtention) e).exportPackage(pkg, vraPackageDescriptor, contents, dryrun);
+			} else {
+				e.exportPackage(pkg, vraPackageDescriptor, dryrun);
+			}
+		}
+	}
+
 	/**
 	 * Imports a package.
 	 * @param vraPackage the package to import
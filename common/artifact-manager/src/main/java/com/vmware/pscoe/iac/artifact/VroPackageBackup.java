@@ -0,0 +1,273 @@
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+package com.vmware.pscoe.iac.artifact;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.vmware.pscoe.iac.artifact.model.Package;
+import com.vmware.pscoe.iac.artifact.model.PackageFactory;
+import com.vmware.pscoe.iac.artifact.model.PackageType;
+import com.vmware.pscoe.iac.artifact.rest.RestClientVro;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
+
+/**
+ * Backs up the server versions of the vRO packages that are about to be imported.
+ *
+ * The exports are executed concurrently on a bounded pool and each package can be awaited on its own,
+ * so the import of a package can start as soon as its own backup is complete instead of waiting for the
+ * backup of all packages. When archiving is enabled, all exported files are packed together with a
+ * manifest into a single zip file once the backup is closed.
+ */
+public class VroPackageBackup implements AutoCloseable {
+	/**
+	 * Name of the manifest file stored in the backup archive.
+	 */
+	public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+	/**
+	 * Variable for logging.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(VroPackageBackup.class);
+
+	/**
+	 * The vRO rest client.
+	 */
+	private final RestClientVro restClient;
+
+	/**
+	 * The pool that executes the exports.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Whether the exported files should be packed into a single archive.
+	 */
+	private final boolean asArchive;
+
+	/**
+	 * Whether it is a dry run.
+	 */
+	private final boolean dryrun;
+
+	/**
+	 * The current date-time in human friendly format, used as suffix of the backup files.
+	 */
+	private final String currentDateTimeString;
+
+	/**
+	 * The directory where the backup files are stored.
+	 */
+	private final String backupFilesDirectory;
+
+	/**
+	 * The versions of each package currently present on the server, grouped by package name.
+	 */
+	private final Map<String, List<Package>> destinationPackagesByName;
+
+	/**
+	 * The pending backups, keyed by the name of the package to be imported.
+	 */
+	private final Map<String, CompletableFuture<List<Package>>> backups = new LinkedHashMap<>();
+
+	/**
+	 *
+	 * @param vroRestClient the vRO rest client
+	 * @param destinationEndpointPackages the packages currently present on the server
+	 * @param firstPackage the first package to import, its parent directory hosts the backup directory
+	 * @param timestamp the current date-time in human friendly format
+	 * @param threads the number of concurrent exports
+	 * @param archive whether the exported files should be packed into a single archive
+	 * @param isDryrun whether it is a dry run
+	 */
+	public VroPackageBackup(final RestClientVro vroRestClient, final List<Package> destinationEndpointPackages, final Package firstPackage,
+			final String timestamp, final int threads, final boolean archive, final boolean isDryrun) {
+		this.restClient = vroRestClient;
+		this.executor = Executors.newFixedThreadPool(Math.max(1, threads));
+		this.asArchive = archive;
+		this.dryrun = isDryrun;
+		this.currentDateTimeString = timestamp;
+		this.backupFilesDirectory = this.createBackupFileDirectory(firstPackage);
+		this.destinationPackagesByName = destinationEndpointPackages.stream().collect(Collectors.groupingBy(Package::getName));
+	}
+
+	/**
+	 * Schedules the export of all server versions of the given package.
+	 * @param pkg the package to be imported
+	 */
+	public void submit(final Package pkg) {
+		List<Package> samePackagesInDest = destinationPackagesByName.getOrDefault(pkg.getName(), Collections.emptyList());
+		backups.put(pkg.getName(), CompletableFuture.supplyAsync(() -> this.backup(pkg, samePackagesInDest), executor));
+	}
+
+	/**
+	 * Blocks until the backup of the given package is complete.
+	 * @param pkg the package to be imported
+	 * @return the backed up server versions of the package
+	 */
+	public List<Package> await(final Package pkg) {
+		CompletableFuture<List<Package>> backup = backups.get(pkg.getName());
+		if (backup == null) {
+			return Collections.emptyList();
+		}
+		return ConcurrencyUtil.join(backup);
+	}
+
+	/**
+	 * Waits for all pending backups, stops the pool and, when enabled, packs the backup directory into an archive.
+	 */
+	@Override
+	public void close() {
+		try {
+			CompletableFuture.allOf(backups.values().toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+		} finally {
+			executor.shutdown();
+		}
+		if (asArchive && !dryrun) {
+			this.archive();
+		}
+	}
+
+	/**
+	 * Exports all server versions of a package.
+	 * @param pkg the package to be imported
+	 * @param samePackagesInDest the server versions of the package
+	 * @return the backed up server versions of the package
+	 */
+	private List<Package> backup(final Package pkg, final List<Package> samePackagesInDest) {
+		boolean exportConfigAttributeValues = true;
+		boolean exportConfigSecureStringValues = true;
+		List<Package> exported = new ArrayList<>();
+
+		try {
+			logger.info("Package versions to backup: " + samePackagesInDest);
+			if (samePackagesInDest.isEmpty()) {
+				logger.info("The package does not exist in vRO and backup is skipped: " + pkg.getName());
+			}
+			for (Package eachPkgVersion : samePackagesInDest) {
+				String backupFilePath = this.createBackupFilePath(eachPkgVersion);
+				eachPkgVersion.setFilesystemPath(backupFilePath);
+				restClient.exportPackage(eachPkgVersion, dryrun, exportConfigAttributeValues, exportConfigSecureStringValues);
+				exported.add(eachPkgVersion);
+			}
+		} catch (RuntimeException ex) {
+			String exceptionMessage = ex.getMessage();
+			logger.info("ExceptionMessage: " + exceptionMessage);
+			logger.info("Package Name: " + pkg.getName());
+
+			if (exceptionMessage == null || !exceptionMessage.contains("404 Not Found") || !exceptionMessage.contains(pkg.getName())) { //Unexpected exception
+				throw ex;
+			}
+		}
+
+		return exported;
+	}
+
+	/**
+	 * Packs the backup directory together with a manifest into a single zip file and removes the directory.
+	 */
+	private void archive() {
+		File directory = new File(backupFilesDirectory);
+		File archiveFile = new File(directory.getParentFile(), directory.getName() + ".zip");
+		JsonArray entries = new JsonArray();
+		backups.values().stream().filter(backup -> !backup.isCompletedExceptionally()).map(CompletableFuture::join).flatMap(List::stream).forEach(pkg -> {
+			JsonObject entry = new JsonObject();
+			entry.addProperty("name", pkg.getName());
+			entry.addProperty("version", pkg.getVersion());
+			entry.addProperty("file", Paths.get(pkg.getFilesystemPath()).getFileName().toString());
+			entries.add(entry);
+		});
+		JsonObject manifest = new JsonObject();
+		manifest.addProperty("timestamp", currentDateTimeString);
+		manifest.add("packages", entries);
+
+		try {
+			Gson gson = new GsonBuilder().setPrettyPrinting().create();
+			Files.write(Paths.get(backupFilesDirectory, MANIFEST_FILE_NAME), gson.toJson(manifest).getBytes(StandardCharsets.UTF_8));
+
+			Package archivePkg = PackageFactory.getInstance(PackageType.VRO, archiveFile);
+			new PackageManager(archivePkg).pack(directory);
+			PackageManager.cleanup(directory);
+			logger.info("Backup archive created: " + archiveFile.getAbsolutePath());
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to create backup archive " + archiveFile.getAbsolutePath(), e);
+		}
+	}
+
+	/**
+	 * Creates backup file directory.
+	 * @param pkg the package to back up
+	 * @return the directory for backup
+	 */
+	private String createBackupFileDirectory(final Package pkg) {
+		Path pkgFullPath = Paths.get(pkg.getFilesystemPath());
+		logger.debug("pkgFullPath: " + pkgFullPath.toString());
+
+		Path parent = pkgFullPath.toAbsolutePath().getParent();
+		logger.debug("parent: " + parent.toString());
+
+		String platformSeparator = File.separator;
+		String newParentPath = parent.toString() + platformSeparator + "backup_" + currentDateTimeString + platformSeparator;
+		logger.debug("newParentPath: " + newParentPath);
+
+		File newParentPackage = new File(newParentPath);
+		boolean backupDirectoryCreated = newParentPackage.mkdir();
+		logger.debug("backupDirectoryCreated: " + backupDirectoryCreated);
+
+		return newParentPath;
+	}
+
+	/**
+	 * Creates the path of the backup file.
+	 * @param pkg the package to back up
+	 * @return the path of the file to be backed up
+	 */
+	private String createBackupFilePath(final Package pkg) {
+		Path pkgFullPath = Paths.get(pkg.getFilesystemPath());
+		logger.debug("pkgFullPath: " + pkgFullPath.toString());
+
+		Path fileName = pkgFullPath.getFileName();
+		logger.debug("fileName: " + fileName.toString());
+
+		String newFileName = fileName.toString() + ".backup_" + currentDateTimeString;
+		logger.debug("newFileName: " + newFileName);
+
+		String newFullPath = backupFilesDirectory + newFileName;
+		logger.debug("newFullPath: " + newFullPath);
+
+		return newFullPath;
+	}
+}
@@ -16,8 +16,6 @@
 package com.vmware.pscoe.iac.artifact;
 
 import java.io.File;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +25,7 @@ import java.sql.Timestamp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.vmware.pscoe.iac.artifact.configuration.ConfigurationNg;
 import com.vmware.pscoe.iac.artifact.extentions.PackageStoreExtention;
 import com.vmware.pscoe.iac.artifact.model.Package;
 import com.vmware.pscoe.iac.artifact.model.PackageContent;
@@ -58,6 +57,16 @@ public class VroPackageStore extends GenericPackageStore<VroPackageDescriptor> {
 	 */
     private final List<PackageStoreExtention<VroPackageDescriptor>> extentions;
 
+	/**
+	 * The number of concurrent package exports during backup.
+	 */
+    private int backupThreads = ConfigurationNg.DEFAULT_PACKAGE_BACKUP_THREADS;
+
+	/**
+	 * Whether the backup should be packed into a single archive.
+	 */
+    private boolean backupAsArchive;
+
 	/**
 	 *
 	 * @param vroRestClient the vRO rest client
@@ -84,6 +93,21 @@ public class VroPackageStore extends GenericPackageStore<VroPackageDescriptor> {
         super.setProductVersion(vroProductVersion);
     }
 
+	/**
+	 *
+	 * @param vroRestClient the vRO rest client
+	 * @param vroStrategies the vRO strategies
+	 * @param vroExtentions the vRO extensions
+	 * @param vroProductVersion the vRO product version
+	 * @param config the vRO configuration, holding the backup options
+	 */
+    protected VroPackageStore(final RestClientVro vroRestClient, final List<Strategy> vroStrategies, final List<PackageStoreExtention<VroPackageDescriptor>> vroExtentions, final Version vroProductVersion,
+			final ConfigurationNg config) {
+        this(vroRestClient, vroStrategies, vroExtentions, vroProductVersion);
+        this.backupThreads = config.getPackageBackupThreads();
+        this.backupAsArchive = config.isPackageBackupAsArchive();
+    }
+
 	/**
 	 * Gets the vRO packages.
 	 * @return the extracted packages
@@ -161,69 +185,33 @@ public class VroPackageStore extends GenericPackageStore<VroPackageDescriptor> {
 		if (packagesToImport.isEmpty()) {
 			return new ArrayList<>();
 		}
-		if (vroEnableBackup && !packagesToImport.isEmpty()) {
-			//TO change the packages to backup to ALL the packages currently present in vRO -> in this if statements replace packagesToImport with destinationEndpointPackages
-			logger.info("Number of packages to backup: " + packagesToImport.size());
-			logger.info("Packages to backup: " + packagesToImport);
-
-			boolean exportConfigAttributeValues = true;
-			boolean exportConfigSecureStringValues = true;
-
-			Timestamp timestamp = new Timestamp(System.currentTimeMillis());
-			SimpleDateFormat timeStampFormat = new SimpleDateFormat("yyyy.MM.dd_HH-mm-ss");
-			String currentDateTimeString = timeStampFormat.format(timestamp);
-			Package firstPackage = packagesToImport.get(0);
-			String backupFilesDirectory = this.createBackupFileDirectory(firstPackage, currentDateTimeString);
-
-			packagesToImport.forEach(pkg -> {
-				String originalPkgFilePath = pkg.getFilesystemPath();
-
-				try {
-					List<Package> samePackagesInDest = new ArrayList<Package>();
-					for (int i = 0; i < destinationEndpointPackages.size(); i++) {
-						String currentVroPackageName = destinationEndpointPackages.get(i).getName();
-
-						if (currentVroPackageName.equals(pkg.getName())) {
-							samePackagesInDest.add(destinationEndpointPackages.get(i));
-						}
-					}
-					logger.info("Package versions to backup: " + samePackagesInDest);
-					if (!samePackagesInDest.isEmpty()) {
-						for (Package eachPkgVersion: samePackagesInDest) {
-							String backupFilePath = this.createBackupFilePath(eachPkgVersion, currentDateTimeString, backupFilesDirectory);
-							eachPkgVersion.setFilesystemPath(backupFilePath);
-							restClient.exportPackage(eachPkgVersion, dryrun, exportConfigAttributeValues, exportConfigSecureStringValues);
-						}
-
-					} else {
-						logger.info("The package does not exist in vRO and backup is skipped: " + pkg.getName());
-					}
-				} catch (Exception ex) {
-					String exceptionMessage = ex.getMessage();
-					logger.info("ExceptionMessage: " + exceptionMessage);
-					logger.info("Package Name: " + pkg.getName());
-
-					if (!exceptionMessage.contains("404 Not Found")
-						||
-						!exceptionMessage.contains(pkg.getName())) { //Unexpected exception
-						throw ex;
-					} else { //The package to be imported has been deleted from the server
-						logger.info("ExceptionMessage: " + ex.getMessage());
-					}
-				}
-
-				logger.info("Restoring original file path... ");
-
-				pkg.setFilesystemPath(originalPkgFilePath);
-				logger.info("File path after restoration: " + pkg.getFilesystemPath());
-
-			});
+		List<Package> importedPackages = new ArrayList<>();
+		if (!vroEnableBackup) {
+			for (Package pkg : packagesToImport) {
+				importedPackages.add(this.importJournaled(pkg, dryrun, mergePackages));
+			}
+
+			return importedPackages;
 		}
 
-        List<Package> importedPackages = new ArrayList<>();
-        for (Package pkg : packagesToImport) {
-            importedPackages.add(this.importPackage(pkg, dryrun, mergePackages));
-        }
+		//TO change the packages to backup to ALL the packages currently present in vRO -> in this if statements replace packagesToImport with destinationEndpointPackages
+		logger.info("Number of packages to backup: " + packagesToImport.size());
+		logger.info("Packages to backup: " + packagesToImport);
+
+		Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+		SimpleDateFormat timeStampFormat = new SimpleDateFormat("yyyy.MM.dd_HH-mm-ss");
+		String currentDateTimeString = timeStampFormat.format(timestamp);
+
+		// the backups are exported concurrently and each package is imported as soon as its own backup is complete
+		try (VroPackageBackup backup = new VroPackageBackup(restClient, destinationEndpointPackages, packagesToImport.get(0), currentDateTimeString,
+				backupThreads, backupAsArchive, dryrun)) {
+			// packages already imported according to the import journal are neither backed up nor imported again
+			packagesToImport.stream().filter(pkg -> !this.isImportCompleted(pkg)).forEach(backup::submit);
+			for (Package pkg : packagesToImport) {
+				backup.await(pkg);
+				importedPackages.add(this.importJournaled(pkg, dryrun, mergePackages));
+			}
+		}
 
         return importedPackages;
     }
@@ -349,51 +337,4 @@ public class VroPackageStore extends GenericPackageStore<VroPackageDescriptor> {
     protected final void deleteContent(final Content content, final boolean dryrun) {
         restClient.deleteContent(content, dryrun);
     }
-
-	/**
-	 * Creates backup file directory.
-	 * @param pkg the package to back up
-	 * @param currentDateTimeString the current date-time in human friendly format
-	 * @return the directory for backup
-	 */
-	private String createBackupFileDirectory(final Package pkg, final String currentDateTimeString) {
-		Path pkgFullPath = Paths.get(pkg.getFilesystemPath());
-		logger.debug("pkgFullPath: " + pkgFullPath.toString());
-
-		Path parent = pkgFullPath.getParent();
-		logger.debug("parent: " + parent.toString());
-
-		String platformSeparator = File.separator;
-		String newParentPath = parent.toString() + platformSeparator + "backup_" + currentDateTimeString + platformSeparator;
-		logger.debug("newParentPath: " + newParentPath);
-
-		File newParentPackage = new File(newParentPath);
-		boolean backupDirectoryCreated = newParentPackage.mkdir();
-		logger.debug("backupDirectoryCreated: " + backupDirectoryCreated);
-
-		return newParentPath;
-	}
-
-	/**
-	 * Creates the path of the backup file.
-	 * @param pkg the package to back up
-	 * @param currentDateTimeString the current date-time in human friendly format
-	 * @param backupDirectoryPath the directory for backup
-	 * @return the path of the file to be backed up
-	 */
-	private String createBackupFilePath(final Package pkg, final String currentDateTimeString, final String backupDirectoryPath) {
-		Path pkgFullPath = Paths.get(pkg.getFilesystemPath());
-		logger.debug("pkgFullPath: " + pkgFullPath.toString());
-
-		Path fileName = pkgFullPath.getFileName();
-        logger.debug("fileName: " + fileName.toString());
-
-		String newFileName = fileName.toString() + ".backup_" + currentDateTimeString;
-		logger.debug("newFileName: " + newFileName);
-
-		String newFullPath = backupDirectoryPath + newFileName;
-        logger.debug("newFullPath: " + newFullPath);
-
-		return newFullPath;
-	}
 }
@@ -22,6 +22,8 @@ import java.util.*;
 
 import com.vmware.pscoe.iac.artifact.model.vro.WorkflowExecution;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVro;
+import com.vmware.pscoe.iac.artifact.trace.Span;
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
 
 public class VroWorkflowExecutor {
 
@@ -57,6 +59,12 @@ public class VroWorkflowExecutor {
      * @throws WorkflowExecutionException exception
      */
     public WorkflowExecution executeWorkflow(String workflowId, Properties params, int timeout) throws WorkflowExecutionException {
+        try (Span span = Tracer.span("vro.workflow " + workflowId)) {
+            return executeWorkflow(workflowId, params, timeout, span);
+        }
+    }
+
+    private WorkflowExecution executeWorkflow(String workflowId, Properties params, int timeout, Span span) throws WorkflowExecutionException {
         // check whether workflow exists prior execution
         if (!restClient.isWorkflowExisting(workflowId)) {
             throw new WorkflowExecutionException(String.format("The workflow '%s' cannot be found on the target VRO '%s'", workflowId, restClient.getHost()));
@@ -69,7 +77,9 @@ public class VroWorkflowExecutor {
         timeoutAt.add(Calendar.SECOND, timeout);
 
         long lastLogTimestamp = 0;
+        int polls = 0;
         while (!workflowFinished(restClient, workflowId, executionId)) {
+            span.setAttribute("polls", ++polls);
             if (Calendar.getInstance().compareTo(timeoutAt) > 0) {
                 throw new WorkflowExecutionException("Timeout while waiting for workflow to finish.");
             }
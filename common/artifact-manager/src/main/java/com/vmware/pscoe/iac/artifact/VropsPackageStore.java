@@ -81,6 +81,8 @@ import com.vmware.pscoe.iac.artifact.rest.model.vrops.SupermetricDTO;
 import com.vmware.pscoe.iac.artifact.rest.model.vrops.SymptomDefinitionDTO;
 import com.vmware.pscoe.iac.artifact.rest.model.vrops.ViewDefinitionDTO;
 import com.vmware.pscoe.iac.artifact.rest.model.vrops.AuthUserDTO;
+import com.vmware.pscoe.iac.artifact.trace.Span;
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
 
 /**
  * This is the class that abstracts the operations for working with vROps
@@ -286,7 +288,7 @@ public final class VropsPackageStore extends GenericPackageStore<VropsPackageDes
 
         List<Package> importedPackages = new ArrayList<>();
         for (Package pkg : sourceEndpointPackages) {
-            importedPackages.add(importPackage(pkg, dryrun, mergePackages));
+            importedPackages.add(importJournaled(pkg, dryrun, mergePackages));
         }
 
         return importedPackages;
@@ -309,70 +311,100 @@ public final class VropsPackageStore extends GenericPackageStore<VropsPackageDes
 
         final List<String> viewNames = vropsPackageDescriptor.getView();
         if (viewNames != null) {
-            exportViews(vropsPackage, viewNames);
+            try (Span span = Tracer.span("vrops.export.views")) {
+                span.setCount(viewNames.size());
+                exportViews(vropsPackage, viewNames);
+            }
         } else {
             logger.info("No views found in content.yaml");
         }
 
         final List<String> dashboardNames = vropsPackageDescriptor.getDashboard();
         if (dashboardNames != null) {
-            exportDashboards(vropsPackage, dashboardNames);
+            try (Span span = Tracer.span("vrops.export.dashboards")) {
+                span.setCount(dashboardNames.size());
+                exportDashboards(vropsPackage, dashboardNames);
+            }
         } else {
             logger.info("No dashboards found in content.yaml");
         }
 
         final List<String> reportNames = vropsPackageDescriptor.getReport();
         if (reportNames != null) {
-            this.exportReports(vropsPackage, reportNames);
+            try (Span span = Tracer.span("vrops.export.reports")) {
+                span.setCount(reportNames.size());
+                this.exportReports(vropsPackage, reportNames);
+            }
         } else {
             logger.info("No reports found in content.yaml");
         }
 
         final List<String> alertDefinitions = vropsPackageDescriptor.getAlertDefinition();
         if (alertDefinitions != null) {
-            exportDefinitions(VropsPackageMemberType.ALERT_DEFINITION, alertDefinitions);
+            try (Span span = Tracer.span("vrops.export.alertDefinitions")) {
+                span.setCount(alertDefinitions.size());
+                exportDefinitions(VropsPackageMemberType.ALERT_DEFINITION, alertDefinitions);
+            }
         } else {
             logger.info("No alert definitions found in content.yaml");
         }
 
         final List<String> symptomDefinitions = vropsPackageDescriptor.getSymptomDefinition();
         if (symptomDefinitions != null) {
-            exportDefinitions(VropsPackageMemberType.SYMPTOM_DEFINITION, symptomDefinitions);
+            try (Span span = Tracer.span("vrops.export.symptomDefinitions")) {
+                span.setCount(symptomDefinitions.size());
+                exportDefinitions(VropsPackageMemberType.SYMPTOM_DEFINITION, symptomDefinitions);
+            }
         } else {
             logger.info("No symptom definitions found in content.yaml");
         }
 
         final List<String> recommendations = vropsPackageDescriptor.getRecommendation();
         if (recommendations != null) {
-            exportDefinitions(VropsPackageMemberType.RECOMMENDATION, recommendations);
+            try (Span span = Tracer.span("vrops.export.recommendations")) {
+                span.setCount(recommendations.size());
+                exportDefinitions(VropsPackageMemberType.RECOMMENDATION, recommendations);
+            }
         } else {
             logger.info("No recommendations found in content.yaml");
         }
 
         final List<String> policies = vropsPackageDescriptor.getPolicy();
         if (policies != null) {
-            exportPolicies(vropsPackage, policies);
+            try (Span span = Tracer.span("vrops.export.policies")) {
+                span.setCount(policies.size());
+                exportPolicies(vropsPackage, policies);
+            }
         } else {
             logger.info("No policies found in content.yaml");
         }
 
         final List<String> customGroupNames = vropsPackageDescriptor.getCustomGroup();
         if (customGroupNames != null) {
-            exportCustomGroups(vropsPackage, customGroupNames);
+            try (Span span = Tracer.span("vrops.export.customGroups")) {
+                span.setCount(customGroupNames.size());
+                exportCustomGroups(vropsPackage, customGroupNames);
+            }
         } else {
             logger.info("No custom group configurations found in content.yaml");
         }
 
         final List<String> superMetricNames = vropsPackageDescriptor.getSuperMetric();
         if (superMetricNames != null) {
-            exportSuperMetrics(vropsPackage, superMetricNames);
+            try (Span span = Tracer.span("vrops.export.superMetrics")) {
+                span.setCount(superMetricNames.size());
+                exportSuperMetrics(vropsPackage, superMetricNames);
+            }
         } else {
             logger.info("No super metrics found in content.yaml");
         }
 
         final List<String> metricConfigNames = vropsPackageDescriptor.getMetricConfig();
         if (metricConfigNames != null) {
-            exportMetricConfigs(vropsPackage, metricConfigNames);
+            try (Span span = Tracer.span("vrops.export.metricConfigs")) {
+                span.setCount(metricConfigNames.size());
+                exportMetricConfigs(vropsPackage, metricConfigNames);
+            }
         } else {
             logger.info("No metric configurations found in content.yaml");
         }
@@ -1485,13 +1517,22 @@ public final class VropsPackageStore extends GenericPackageStore<VropsPackageDes
             addMetricConfigToImportList(pkg, tmpDir);
             
             if (cliManager.hasAnyCommands()) {
-                cliManager.connect();
-                cliManager.importFilesToVrops();
+                // views, dashboards, reports, super metrics and metric configurations
+                try (Span span = Tracer.span("vrops.import.files")) {
+                    cliManager.connect();
+                    cliManager.importFilesToVrops();
+                }
             }
             
-            importDefinitions(pkg, tmpDir);
-            importPolicies(pkg, tmpDir);
-            importCustomGroups(pkg, tmpDir);
+            try (Span span = Tracer.span("vrops.import.definitions")) {
+                importDefinitions(pkg, tmpDir);
+            }
+            try (Span span = Tracer.span("vrops.import.policies")) {
+                importPolicies(pkg, tmpDir);
+            }
+            try (Span span = Tracer.span("vrops.import.customGroups")) {
+                importCustomGroups(pkg, tmpDir);
+            }
             // manage dashboard sharing per groups
             manageDashboardSharing(tmpDir);            
             // manage dashboard activation per groups
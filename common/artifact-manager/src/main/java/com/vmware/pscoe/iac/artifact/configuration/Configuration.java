@@ -15,8 +15,14 @@ package com.vmware.pscoe.iac.artifact.configuration;
  * #L%
  */
 
+import java.io.File;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.apache.http.client.utils.URIBuilder;
 import org.slf4j.Logger;
@@ -95,6 +101,32 @@ public abstract class Configuration {
 	 */
 	public static final String FORCE_IMPORT_LATEST_VERSIONS = "forceImportLatestVersions";
 
+	/**
+	 * Directory of the import journals. When set, each completed package and content item
+	 * is recorded in a journal per target host and bundle digest, and the items recorded
+	 * by a previous import of the bundle are not imported again.
+	 *
+	 * NOTE: This is only used during pushing
+	 */
+	public static final String IMPORT_JOURNAL_DIRECTORY = "importJournalDirectory";
+
+	/**
+	 * Digest of the imported bundle, identifying its import journal.
+	 */
+	public static final String IMPORT_JOURNAL_BUNDLE = "importJournalBundle";
+
+	/**
+	 * Whether the imports are recorded in the import journal, and those recorded by a previous import of the bundle
+	 * skipped.
+	 */
+	public static final String IMPORT_JOURNAL_RESUME = "importJournalResume";
+
+	/**
+	 * The properties of the import of a package, not of the connection to the server.
+	 */
+	private static final Set<String> PACKAGE_PROPERTIES = new HashSet<>(Arrays.asList(IMPORT_OLD_VERSIONS, FORCE_IMPORT_LATEST_VERSIONS,
+			IMPORT_JOURNAL_DIRECTORY, IMPORT_JOURNAL_BUNDLE, IMPORT_JOURNAL_RESUME));
+
 	/**
 	 * Contains all the properties passed by the user.
 	 */
@@ -185,6 +217,77 @@ public abstract class Configuration {
 		}
 	}
 
+	/**
+	 * @return the directory of the import journals, null if the imports are not journaled
+	 */
+	public File getImportJournalDirectory() {
+		String directory = this.properties.getProperty(IMPORT_JOURNAL_DIRECTORY);
+		return this.isImportJournalResume() && StringUtils.hasLength(directory) ? new File(directory) : null;
+	}
+
+	/**
+	 * @return whether the imports are recorded in the import journal
+	 */
+	public boolean isImportJournalResume() {
+		return Boolean.parseBoolean(this.properties.getProperty(IMPORT_JOURNAL_RESUME));
+	}
+
+	/**
+	 * @return the digest of the imported bundle
+	 */
+	public String getImportJournalBundle() {
+		return this.properties.getProperty(IMPORT_JOURNAL_BUNDLE);
+	}
+
+	/**
+	 * The properties of the configuration without the import strategy and journal properties, which differ between
+	 * the packages pushed to the same server.
+	 *
+	 * @return the sorted properties of the connection to the server
+	 */
+	public Map<String, String> getConnectionProperties() {
+		Map<String, String> connectionProperties = new TreeMap<>();
+		for (String name : this.properties.stringPropertyNames()) {
+			if (!PACKAGE_PROPERTIES.contains(name)) {
+				connectionProperties.put(name, this.properties.getProperty(name));
+			}
+		}
+		return connectionProperties;
+	}
+
+	/**
+	 * @param property     the name of the property
+	 * @param defaultValue the value when the property is not set
+	 * @return the value of the property, a whole number of at least 1
+	 * @throws ConfigurationException when the value is not a whole number of at least 1
+	 */
+	protected int getPositiveIntProperty(String property, int defaultValue) throws ConfigurationException {
+		return getPositiveIntProperty(this.properties, property, defaultValue);
+	}
+
+	/**
+	 * @param properties   the properties
+	 * @param property     the name of the property
+	 * @param defaultValue the value when the property is not set
+	 * @return the value of the property, a whole number of at least 1
+	 * @throws ConfigurationException when the value is not a whole number of at least 1
+	 */
+	public static int getPositiveIntProperty(Properties properties, String property, int defaultValue) throws ConfigurationException {
+		String value = properties.getProperty(property);
+		if (!StringUtils.hasText(value)) {
+			return defaultValue;
+		}
+		try {
+			int result = Integer.parseInt(value.trim());
+			if (result >= 1) {
+				return result;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new ConfigurationException(String.format("Invalid value '%s' of property '%s', expected a whole number of at least 1", value, property));
+	}
+
 	/**
 	 * Perform validation on the configuration.
 	 *
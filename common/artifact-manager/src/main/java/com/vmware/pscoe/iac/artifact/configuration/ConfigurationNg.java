@@ -37,6 +37,13 @@ public  interface ConfigurationNg {
 
     public static final String PACKAGE_EXPORT_AS_ZIP = "packgeExportAsZip";
 
+    /**
+     * These all are vRO package backup options
+     */
+    public static final String PACKAGE_BACKUP_THREADS = "packageBackupThreads";
+    public static final String PACKAGE_BACKUP_AS_ARCHIVE = "packageBackupAsArchive";
+    public static final int DEFAULT_PACKAGE_BACKUP_THREADS = 4;
+
 
     public boolean isPackageImportConfigurationAttributeValues();
 
@@ -53,4 +60,8 @@ public  interface ConfigurationNg {
     public boolean isPackageExportGlobalTags();
 
     public boolean isPackgeExportAsZip();
+
+    public int getPackageBackupThreads();
+
+    public boolean isPackageBackupAsArchive();
 }
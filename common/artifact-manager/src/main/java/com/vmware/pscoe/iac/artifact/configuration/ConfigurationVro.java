@@ -93,6 +93,20 @@ public class ConfigurationVro extends ConfigurationWithRefreshToken implements C
         return Boolean.parseBoolean(this.properties.getProperty(PACKAGE_EXPORT_AS_ZIP));
     }
 
+    @Override
+    public int getPackageBackupThreads() {
+        try {
+            return this.getPositiveIntProperty(PACKAGE_BACKUP_THREADS, DEFAULT_PACKAGE_BACKUP_THREADS);
+        } catch (ConfigurationException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isPackageBackupAsArchive() {
+        return Boolean.parseBoolean(this.properties.getProperty(PACKAGE_BACKUP_AS_ARCHIVE));
+    }
+
     public String getTenant() {
         return this.properties.getProperty(TENANT);
     }
@@ -154,6 +168,7 @@ public class ConfigurationVro extends ConfigurationWithRefreshToken implements C
 		else
 			logger.info("Refresh token not detected using BASIC Authentication");
 		super.validate(domainOptional, useRefreshTokenForAuth);
+		this.getPositiveIntProperty(PACKAGE_BACKUP_THREADS, DEFAULT_PACKAGE_BACKUP_THREADS);
 	}
 
 	public static ConfigurationVro fromProperties(Properties props) throws ConfigurationException {
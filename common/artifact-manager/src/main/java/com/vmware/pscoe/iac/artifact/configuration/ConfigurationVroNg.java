@@ -65,6 +65,7 @@ public final class ConfigurationVroNg extends ConfigurationVraNg implements Conf
         if (message.length() != 0) {
             throw new ConfigurationException("Configuration validation failed: Empty " + message);
         }
+        this.getPositiveIntProperty(PACKAGE_BACKUP_THREADS, DEFAULT_PACKAGE_BACKUP_THREADS);
     }
 
     @Override
@@ -106,4 +107,18 @@ public final class ConfigurationVroNg extends ConfigurationVraNg implements Conf
     public boolean isPackgeExportAsZip() {
         return Boolean.parseBoolean(this.properties.getProperty(PACKAGE_EXPORT_AS_ZIP));
     }
+
+    @Override
+    public int getPackageBackupThreads() {
+        try {
+            return this.getPositiveIntProperty(PACKAGE_BACKUP_THREADS, DEFAULT_PACKAGE_BACKUP_THREADS);
+        } catch (ConfigurationException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isPackageBackupAsArchive() {
+        return Boolean.parseBoolean(this.properties.getProperty(PACKAGE_BACKUP_AS_ARCHIVE));
+    }
 }
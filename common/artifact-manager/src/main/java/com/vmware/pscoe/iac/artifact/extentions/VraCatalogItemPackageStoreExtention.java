@@ -36,7 +36,7 @@ import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class VraCatalogItemPackageStoreExtention implements PackageStoreExtention<VraPackageDescriptor> {
+public class VraCatalogItemPackageStoreExtention implements VraPackageContentsExtention {
 
     private final Logger logger = LoggerFactory.getLogger(VraCatalogItemPackageStoreExtention.class);
     private final RestClientVra restClient;
@@ -47,6 +47,11 @@ public class VraCatalogItemPackageStoreExtention implements PackageStoreExtentio
 
     @Override
     public Package exportPackage(Package serverPackage, VraPackageDescriptor vraPackageDescriptor, boolean dryrun) {
+        return exportPackage(serverPackage, vraPackageDescriptor, new VraPackageContents(restClient, serverPackage.getId()), dryrun);
+    }
+
+    @Override
+    public Package exportPackage(Package serverPackage, VraPackageDescriptor vraPackageDescriptor, VraPackageContents contents, boolean dryrun) {
         logger.debug("vRA Catalog Item export extention is enabled.");
         List<File> catalogItemFiles = new ArrayList<>();
 
@@ -55,13 +60,9 @@ public class VraCatalogItemPackageStoreExtention implements PackageStoreExtentio
             return serverPackage;
         }
 
-        for (Map<String, String> contentObj : restClient.getPackageContents(serverPackage.getId())) {
-            String contentTypeId = contentObj.get("contentTypeId");
-            if ("composite-blueprint".equals(contentTypeId)) {
-                loadCatalogItem(catalogItemFiles, serverPackage, contentObj, dryrun);
-            } else if ("xaas-blueprint".equals(contentTypeId)) {
-                loadCatalogItem(catalogItemFiles, serverPackage, contentObj, dryrun);
-            }
+        contents.prefetchCatalogItems();
+        for (String name : contents.getBlueprintNames()) {
+            loadCatalogItem(catalogItemFiles, serverPackage, contents, name, dryrun);
         }
 
         if (!catalogItemFiles.isEmpty()) {
@@ -101,10 +102,9 @@ public class VraCatalogItemPackageStoreExtention implements PackageStoreExtentio
     }
 
     @SuppressWarnings("unchecked")
-    private void loadCatalogItem(List<File> catalogItems, Package serverPackage, Map<String, String> contentObj,
+    private void loadCatalogItem(List<File> catalogItems, Package serverPackage, VraPackageContents contents, String name,
             boolean dryrun) {
-        String name = contentObj.get("name");
-        Map<String, Object> serverCatalogItem = restClient.getCatalogItemByName(name);
+        Map<String, Object> serverCatalogItem = contents.getCatalogItem(name);
 
         if (serverCatalogItem == null) {
             logger.debug("Catalog Item '{}' does not exist.", name);
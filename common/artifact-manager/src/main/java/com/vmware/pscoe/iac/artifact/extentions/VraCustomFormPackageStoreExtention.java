@@ -37,7 +37,7 @@ import com.vmware.pscoe.iac.artifact.model.Package;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVra;
 import com.vmware.pscoe.iac.artifact.model.vra.VraPackageDescriptor;
 
-public class VraCustomFormPackageStoreExtention implements PackageStoreExtention<VraPackageDescriptor> {
+public class VraCustomFormPackageStoreExtention implements VraPackageContentsExtention {
 
 	private final Logger logger = LoggerFactory.getLogger(VraCustomFormPackageStoreExtention.class);
 	private final RestClientVra restClient;
@@ -48,6 +48,11 @@ public class VraCustomFormPackageStoreExtention implements PackageStoreExtention
 
     @Override
     public Package exportPackage(Package serverPackage,  VraPackageDescriptor vraPackageDescriptor, boolean dryrun) {
+        return exportPackage(serverPackage, vraPackageDescriptor, new VraPackageContents(restClient, serverPackage.getId()), dryrun);
+    }
+
+    @Override
+    public Package exportPackage(Package serverPackage, VraPackageDescriptor vraPackageDescriptor, VraPackageContents contents, boolean dryrun) {
         logger.debug("vRA Custom Form export extention is enabled.");
         List<File> customFormFiles = new ArrayList<>();
 
@@ -62,11 +67,10 @@ public class VraCustomFormPackageStoreExtention implements PackageStoreExtention
             return serverPackage;
         }
 
-        for (Map<String, String> contentObj : restClient.getPackageContents(serverPackage.getId())) {
-            if (!"composite-blueprint".equals(contentObj.get("contentTypeId"))) { continue; }
-                
+        contents.prefetchCustomForms();
+        for (Map<String, String> contentObj : contents.getContents(VraPackageContents.COMPOSITE_BLUEPRINT)) {
             String formId = contentObj.get("contentId");
-            String formJson = restClient.getBlueprintCustomForm(formId);
+            String formJson = contents.getCustomForm(formId);
             
             if (formJson == null) {
                 logger.debug("Blueprint '{}' is not associated with custom form.", formId);
@@ -35,7 +35,7 @@ import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class VraIconPackageStoreExtention implements PackageStoreExtention<VraPackageDescriptor> {
+public class VraIconPackageStoreExtention implements VraPackageContentsExtention {
 
     private final Logger logger = LoggerFactory.getLogger(VraIconPackageStoreExtention.class);
     private final RestClientVra restClient;
@@ -46,6 +46,11 @@ public class VraIconPackageStoreExtention implements PackageStoreExtention<VraPa
 
     @Override
     public Package exportPackage(Package serverPackage, VraPackageDescriptor vraPackageDescriptor, boolean dryrun) {
+        return exportPackage(serverPackage, vraPackageDescriptor, new VraPackageContents(restClient, serverPackage.getId()), dryrun);
+    }
+
+    @Override
+    public Package exportPackage(Package serverPackage, VraPackageDescriptor vraPackageDescriptor, VraPackageContents contents, boolean dryrun) {
         logger.debug("vRA Icon export extention is enabled.");
         List<File> iconFiles = new ArrayList<>();
 
@@ -54,13 +59,9 @@ public class VraIconPackageStoreExtention implements PackageStoreExtention<VraPa
             return serverPackage;
         }
 
-        for (Map<String, String> contentObj : restClient.getPackageContents(serverPackage.getId())) {
-            String contentTypeId = contentObj.get("contentTypeId");
-            if ("composite-blueprint".equals(contentTypeId)) {
-                loadCatalogItemIcon(iconFiles, serverPackage, contentObj, dryrun);
-            } else if ("xaas-blueprint".equals(contentTypeId)) {
-                loadCatalogItemIcon(iconFiles, serverPackage, contentObj, dryrun);
-            }
+        contents.prefetchIcons();
+        for (String name : contents.getBlueprintNames()) {
+            loadCatalogItemIcon(iconFiles, serverPackage, contents, name, dryrun);
         }
 
         if (!iconFiles.isEmpty()) {
@@ -99,10 +100,9 @@ public class VraIconPackageStoreExtention implements PackageStoreExtention<VraPa
         return pkg;
     }
 
-    private void loadCatalogItemIcon(List<File> icons, Package serverPackage, Map<String, String> contentObj,
+    private void loadCatalogItemIcon(List<File> icons, Package serverPackage, VraPackageContents contents, String name,
             boolean dryrun) {
-        String name = contentObj.get("name");
-        Map<String, Object> catalogItem = restClient.getCatalogItemByName(name);
+        Map<String, Object> catalogItem = contents.getCatalogItem(name);
 
         if (catalogItem == null) {
             return;
@@ -113,7 +113,7 @@ public class VraIconPackageStoreExtention implements PackageStoreExtention<VraPa
             return;
         }
 
-        Map<String, Object> icon = restClient.getIcon(iconId);
+        Map<String, Object> icon = contents.getIcon(iconId);
         if (icon == null) {
             return;
         }
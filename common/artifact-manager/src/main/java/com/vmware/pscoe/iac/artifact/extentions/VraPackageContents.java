@@ -0,0 +1,171 @@
+package com.vmware.pscoe.iac.artifact.extentions;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.vmware.pscoe.iac.artifact.rest.RestClientVra;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
+
+/**
+ * The contents of a vRA package on the server, shared by the extensions exporting the package.
+ *
+ * The contents are retrieved once and indexed by content type. The catalog items, icons and custom forms of the
+ * contents are retrieved concurrently the first time they are requested and kept for the other extensions, e.g.
+ * the icon and the catalog item extensions both need the catalog item of each blueprint.
+ */
+public class VraPackageContents {
+    /**
+     * Content type of the composite blueprints.
+     */
+    public static final String COMPOSITE_BLUEPRINT = "composite-blueprint";
+
+    /**
+     * Content type of the XaaS blueprints.
+     */
+    public static final String XAAS_BLUEPRINT = "xaas-blueprint";
+
+    /**
+     * Number of details retrieved concurrently.
+     */
+    private static final int DETAIL_THREADS = 8;
+
+    /**
+     * The vRA rest client.
+     */
+    private final RestClientVra restClient;
+
+    /**
+     * The id of the package on the server.
+     */
+    private final String packageId;
+
+    /**
+     * The contents of the package by content type, null until retrieved.
+     */
+    private Map<String, List<Map<String, String>>> contentsByType;
+
+    /**
+     * The catalog items by name.
+     */
+    private final Map<String, Optional<Map<String, Object>>> catalogItems = new ConcurrentHashMap<>();
+
+    /**
+     * The icons by id.
+     */
+    private final Map<String, Optional<Map<String, Object>>> icons = new ConcurrentHashMap<>();
+
+    /**
+     * The custom forms by blueprint id.
+     */
+    private final Map<String, Optional<String>> customForms = new ConcurrentHashMap<>();
+
+    /**
+     * @param vraRestClient the vRA rest client
+     * @param serverPackageId the id of the package on the server
+     */
+    public VraPackageContents(final RestClientVra vraRestClient, final String serverPackageId) {
+        this.restClient = vraRestClient;
+        this.packageId = serverPackageId;
+    }
+
+    /**
+     * @param contentTypeIds the content types, e.g. composite-blueprint
+     * @return the contents of the given types, in the order of the types
+     */
+    public synchronized List<Map<String, String>> getContents(final String... contentTypeIds) {
+        if (contentsByType == null) {
+            contentsByType = restClient.getPackageContents(packageId).stream()
+                    .collect(Collectors.groupingBy(content -> String.valueOf(content.get("contentTypeId")), LinkedHashMap::new, Collectors.toList()));
+        }
+        return Arrays.stream(contentTypeIds).flatMap(type -> contentsByType.getOrDefault(type, Collections.emptyList()).stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the names of the composite and XaaS blueprints of the package
+     */
+    public List<String> getBlueprintNames() {
+        return getContents(COMPOSITE_BLUEPRINT, XAAS_BLUEPRINT).stream().map(content -> content.get("name")).collect(Collectors.toList());
+    }
+
+    /**
+     * @param name the name of the catalog item
+     * @return the catalog item, null if there is no such item
+     */
+    public Map<String, Object> getCatalogItem(final String name) {
+        return catalogItems.computeIfAbsent(name, key -> Optional.ofNullable(restClient.getCatalogItemByName(key))).orElse(null);
+    }
+
+    /**
+     * @param iconId the id of the icon
+     * @return a copy of the icon, null if there is no such icon
+     */
+    public Map<String, Object> getIcon(final String iconId) {
+        return icons.computeIfAbsent(iconId, key -> Optional.ofNullable(restClient.getIcon(key))).map(LinkedHashMap::new).orElse(null);
+    }
+
+    /**
+     * @param blueprintId the id of the composite blueprint
+     * @return the custom form of the blueprint, null if the blueprint has no custom form
+     */
+    public String getCustomForm(final String blueprintId) {
+        return customForms.computeIfAbsent(blueprintId, key -> Optional.ofNullable(restClient.getBlueprintCustomForm(key))).orElse(null);
+    }
+
+    /**
+     * Retrieves the catalog items of all blueprints concurrently.
+     */
+    public void prefetchCatalogItems() {
+        prefetch(getBlueprintNames(), this::getCatalogItem);
+    }
+
+    /**
+     * Retrieves the catalog items and their icons concurrently.
+     */
+    public void prefetchIcons() {
+        prefetchCatalogItems();
+        Set<String> iconIds = getBlueprintNames().stream().map(this::getCatalogItem).filter(Objects::nonNull)
+                .map(item -> (String) item.get("iconId")).filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+        prefetch(iconIds, this::getIcon);
+    }
+
+    /**
+     * Retrieves the custom forms of all composite blueprints concurrently.
+     */
+    public void prefetchCustomForms() {
+        prefetch(getContents(COMPOSITE_BLUEPRINT).stream().map(content -> content.get("contentId")).collect(Collectors.toList()), this::getCustomForm);
+    }
+
+    private <T> void prefetch(final Collection<String> keys, final Function<String, T> fetch) {
+        if (keys.size() < 2) {
+            return;
+        }
+        ConcurrencyUtil.forEach(keys, DETAIL_THREADS, fetch::apply);
+    }
+}
@@ -0,0 +1,30 @@
+package com.vmware.pscoe.iac.artifact.extentions;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ * 
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.  
+ * 
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import com.vmware.pscoe.iac.artifact.model.Package;
+import com.vmware.pscoe.iac.artifact.model.vra.VraPackageDescriptor;
+
+/**
+ * A vRA extension exporting content related to the contents of the package, e.g. the catalog items of the blueprints.
+ * The extensions exporting a package share one {@link VraPackageContents}, so the package contents and their details
+ * are retrieved once per package.
+ */
+public interface VraPackageContentsExtention extends PackageStoreExtention<VraPackageDescriptor> {
+
+    public Package exportPackage(Package serverPackage, VraPackageDescriptor packageDescriptor, VraPackageContents contents, boolean dryrun);
+
+}
@@ -17,6 +17,7 @@ package com.vmware.pscoe.iac.artifact.model;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 public abstract class PackageContent<T extends PackageContent.ContentType> {
     
@@ -54,6 +55,23 @@ public abstract class PackageContent<T extends PackageContent.ContentType> {
             Content a = this, b = (Content)obj;
             return a.type.equals(b.type) && a.id.equalsIgnoreCase(b.id) && a.name.equalsIgnoreCase(b.name);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, foldCase(id), foldCase(name));
+        }
+
+        /**
+         * @param value the value
+         * @return the value with the case folded as by {@link String#equalsIgnoreCase(String)}, so equal values have equal hashes
+         */
+        private static String foldCase(String value) {
+            StringBuilder folded = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                folded.append(Character.toLowerCase(Character.toUpperCase(value.charAt(i))));
+            }
+            return folded.toString();
+        }
         
         @Override
         public String toString() {
@@ -16,9 +16,6 @@ package com.vmware.pscoe.iac.artifact.model.abx;
  */
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.util.Base64;
 
 public class AbxAction {
 
@@ -41,9 +38,4 @@ public class AbxAction {
     public void setBundle(File bundle) {
         this.bundle = bundle;
     }
-
-    public String getBundleAsB64() throws IOException {
-        byte[] content = Files.readAllBytes(bundle.toPath());
-        return Base64.getEncoder().encodeToString(content);
-    }
 }
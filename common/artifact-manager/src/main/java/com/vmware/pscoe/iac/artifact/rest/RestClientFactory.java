@@ -204,6 +204,17 @@ public final class RestClientFactory {
 		return restTemplate;
 	}
 
+	/**
+	 * Adds the interceptor recording the requests of the rest template in the running {@link RestClientMetrics}
+	 * recording. It is added after the authentication interceptor, so the token requests are recorded separately.
+	 *
+	 * @param restTemplate the rest template
+	 * @param product the product, e.g. vrang
+	 */
+	private static void addMetricsInterceptor(RestTemplate restTemplate, String product) {
+		restTemplate.getInterceptors().add(new RestClientMetricsInterceptor(product));
+	}
+
 	/**
 	 * The function returns a RestClientVro object with a configured RestTemplate and
 	 * RestClientVraNgAuthNInterceptor.
@@ -217,6 +228,7 @@ public final class RestClientFactory {
 
         RestClientRequestInterceptor<ConfigurationVraNg> interceptor = new RestClientVraNgAuthNInterceptor(configuration, restTemplate);
 		restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "vro");
 
 		return new RestClientVro(configuration, restTemplate);
 	}
@@ -245,6 +257,7 @@ public final class RestClientFactory {
 			throw new UnsupportedOperationException("Unsupported authentication provider");
 		}
 		restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "vro");
 
 		return new RestClientVro(configuration, restTemplate);
 	}
@@ -273,6 +286,7 @@ public final class RestClientFactory {
                 throw new UnsupportedOperationException("Unsupported authentication provider, supported providers: BASIC, AUTH_N");
         }
         restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "vrops");
 
 		return new RestClientVrops(configuration, restTemplate);
 	}
@@ -293,6 +307,7 @@ public final class RestClientFactory {
         // has to be instantiated based on the configuration property
         RestClientRequestInterceptor<ConfigurationVra> interceptor = new RestClientVraCafeAuthNInterceptor(configuration, restTemplate);
 		restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "vra");
 
 		return new RestClientVra(configuration, restTemplate);
 	}
@@ -310,6 +325,7 @@ public final class RestClientFactory {
 
         RestClientRequestInterceptor<ConfigurationVraNg> interceptor = new RestClientVraNgAuthNInterceptor(configuration, restTemplate);
 		restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "vrang");
 
 		return new RestClientVraNg(configuration, restTemplate);
 	}
@@ -333,6 +349,7 @@ public final class RestClientFactory {
 		String apiVersion = versionRestClient.getVersion();
         RestClientRequestInterceptor<ConfigurationVcd> interceptor = new RestClientVcdBasicAuthInterceptor(configuration, restTemplate, apiVersion);
 		restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "vcd");
 
 		return new RestClientVcd(configuration, restTemplate);
 	}
@@ -350,6 +367,7 @@ public final class RestClientFactory {
 
         RestClientRequestInterceptor<ConfigurationVrli> interceptor = new RestClientVrliAuthInterceptor(configuration, restTemplate);
 		restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "vrli");
 
 		return new RestClientVrliV1(configuration, restTemplate);
 	}
@@ -367,6 +385,7 @@ public final class RestClientFactory {
 
 		RestClientRequestInterceptor<ConfigurationVrli> interceptor = new RestClientVrliAuthInterceptor(configuration, restTemplate);
 		restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "vrli");
 
 		return new RestClientVrliV2(configuration, restTemplate);
 	}
@@ -400,6 +419,7 @@ public enum TimeoutType {
 		RestTemplate restTemplate = getInsecureRestTemplate(configuration.getProxy());
 		RestClientRequestInterceptor<ConfigurationVraNg> interceptor = new RestClientVraNgAuthNInterceptor(configuration, restTemplate);
 		restTemplate.getInterceptors().add(interceptor);
+		addMetricsInterceptor(restTemplate, "cs");
 		return new RestClientCs(configuration, restTemplate);
 	}
 }
@@ -0,0 +1,338 @@
+package com.vmware.pscoe.iac.artifact.rest;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Request metrics of the REST clients, recorded by the {@link RestClientMetricsInterceptor} installed by the
+ * {@link RestClientFactory} on every rest template.
+ *
+ * The requests are grouped by product, HTTP method, templated path (ids replaced by {id}) and status. For each
+ * group the count, the request and response bytes and a latency histogram are kept. Requests are recorded only
+ * while a recording is started, in the metrics of the thread which started it and of the threads started by it, so
+ * the Mojos of a parallel build each report their own requests at the end of their run as a table, a JSON file and
+ * a Prometheus text file.
+ */
+public final class RestClientMetrics {
+	/**
+	 * Upper bounds of the latency histogram buckets, in milliseconds.
+	 */
+	static final long[] LATENCY_BUCKETS_MS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000 };
+
+	/**
+	 * Status of requests which failed without a response.
+	 */
+	static final String STATUS_IO_ERROR = "io_error";
+
+	/**
+	 * The metrics of the running recording, inherited by the threads started while recording.
+	 */
+	private static final InheritableThreadLocal<RestClientMetrics> RECORDING = new InheritableThreadLocal<>();
+
+	/**
+	 * Path segments which are ids: UUIDs, numbers, long hex strings and URNs.
+	 */
+	private static final Pattern ID_SEGMENT = Pattern.compile(
+			"(?i)(.*[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}.*|\\d+|[0-9a-f]{16,}|urn:.*)");
+
+	/**
+	 * Number of rows of the summary table.
+	 */
+	private static final int TABLE_ROWS = 25;
+
+	/**
+	 * Milliseconds per second.
+	 */
+	private static final double MS_PER_SECOND = 1000.0;
+
+	/**
+	 * The 95th percentile.
+	 */
+	private static final double P95 = 0.95;
+
+	/**
+	 * The endpoints by key.
+	 */
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+	RestClientMetrics() {
+	}
+
+	/**
+	 * Starts recording the requests of the current thread, and of the threads it starts, in new metrics.
+	 * @return the metrics of the recording
+	 */
+	public static RestClientMetrics startRecording() {
+		RestClientMetrics metrics = new RestClientMetrics();
+		RECORDING.set(metrics);
+		return metrics;
+	}
+
+	/**
+	 * Stops the recording of the current thread.
+	 */
+	public static void stopRecording() {
+		RECORDING.remove();
+	}
+
+	/**
+	 * @return the metrics of the recording of the current thread, null when not recording
+	 */
+	static RestClientMetrics current() {
+		return RECORDING.get();
+	}
+
+	/**
+	 * Replaces the ids in a path by {id}, so the requests to the same endpoint are grouped together.
+	 * @param path the request path, without query
+	 * @return the templated path
+	 */
+	static String templatePath(final String path) {
+		if (path == null || path.isEmpty()) {
+			return "/";
+		}
+		String[] segments = path.split("/", -1);
+		for (int i = 0; i < segments.length; i++) {
+			if (!segments[i].isEmpty() && ID_SEGMENT.matcher(segments[i]).matches()) {
+				segments[i] = "{id}";
+			}
+		}
+		return String.join("/", segments);
+	}
+
+	/**
+	 * Records a request.
+	 * @param product the product, e.g. vrang
+	 * @param method the HTTP method
+	 * @param path the request path, without query
+	 * @param status the response status, or {@link #STATUS_IO_ERROR}
+	 * @param requestBytes the size of the request body
+	 * @param nanos the time until the response headers were received
+	 * @return the endpoint of the request, to which the response bytes are added while the body is read
+	 */
+	Endpoint record(final String product, final String method, final String path, final String status, final long requestBytes, final long nanos) {
+		String templatedPath = templatePath(path);
+		Endpoint endpoint = endpoints.computeIfAbsent(String.join(" ", product, method, templatedPath, status),
+				key -> new Endpoint(product, method, templatedPath, status));
+		endpoint.record(requestBytes, nanos);
+		return endpoint;
+	}
+
+	/**
+	 * @return whether no requests were recorded
+	 */
+	public boolean isEmpty() {
+		return endpoints.isEmpty();
+	}
+
+	/**
+	 * @return the summary table of the endpoints with the highest total time
+	 */
+	public List<String> toTable() {
+		List<String> lines = new ArrayList<>();
+		String format = "%-6s %-6s %-70s %-8s %7s %10s %9s %9s %9s %12s";
+		lines.add(String.format(Locale.ROOT, format, "PRODUCT", "METHOD", "PATH", "STATUS", "COUNT", "TOTAL(s)", "AVG(ms)", "P95(ms)",
+				"MAX(ms)", "BYTES IN"));
+		List<Endpoint> sorted = sorted();
+		for (Endpoint endpoint : sorted.subList(0, Math.min(sorted.size(), TABLE_ROWS))) {
+			long count = endpoint.count.sum();
+			lines.add(String.format(Locale.ROOT, format, endpoint.product, endpoint.method, endpoint.path, endpoint.status, count,
+					String.format(Locale.ROOT, "%.1f", endpoint.totalMs() / MS_PER_SECOND), endpoint.totalMs() / Math.max(count, 1),
+					endpoint.percentileMs(P95), TimeUnit.NANOSECONDS.toMillis(endpoint.maxNanos.get()), endpoint.responseBytes.sum()));
+		}
+		if (sorted.size() > TABLE_ROWS) {
+			lines.add(String.format("... %d more endpoints", sorted.size() - TABLE_ROWS));
+		}
+		lines.add(String.format(Locale.ROOT, "Total: %d requests, %.1f s", sorted.stream().mapToLong(e -> e.count.sum()).sum(),
+				sorted.stream().mapToLong(Endpoint::totalMs).sum() / MS_PER_SECOND));
+		return lines;
+	}
+
+	/**
+	 * @return the metrics as JSON, one object per endpoint with the non-cumulative histogram buckets
+	 */
+	public String toJson() {
+		JsonArray result = new JsonArray();
+		for (Endpoint endpoint : sorted()) {
+			JsonObject json = new JsonObject();
+			json.addProperty("product", endpoint.product);
+			json.addProperty("method", endpoint.method);
+			json.addProperty("path", endpoint.path);
+			json.addProperty("status", endpoint.status);
+			json.addProperty("count", endpoint.count.sum());
+			json.addProperty("requestBytes", endpoint.requestBytes.sum());
+			json.addProperty("responseBytes", endpoint.responseBytes.sum());
+			json.addProperty("totalMs", endpoint.totalMs());
+			json.addProperty("maxMs", TimeUnit.NANOSECONDS.toMillis(endpoint.maxNanos.get()));
+			JsonObject buckets = new JsonObject();
+			for (int i = 0; i < endpoint.buckets.length; i++) {
+				buckets.addProperty(i < LATENCY_BUCKETS_MS.length ? String.valueOf(LATENCY_BUCKETS_MS[i]) : "+Inf", endpoint.buckets[i].sum());
+			}
+			json.add("latencyBucketsMs", buckets);
+			result.add(json);
+		}
+		return new GsonBuilder().setPrettyPrinting().create().toJson(result);
+	}
+
+	/**
+	 * @return the metrics in the Prometheus text format
+	 */
+	public String toPrometheus() {
+		StringBuilder text = new StringBuilder();
+		text.append("# HELP rest_client_requests_total Number of REST requests.\n");
+		text.append("# TYPE rest_client_requests_total counter\n");
+		sorted().forEach(e -> text.append("rest_client_requests_total").append(e.labels()).append(' ').append(e.count.sum()).append('\n'));
+		text.append("# HELP rest_client_request_bytes_total Bytes sent in REST request bodies.\n");
+		text.append("# TYPE rest_client_request_bytes_total counter\n");
+		sorted().forEach(e -> text.append("rest_client_request_bytes_total").append(e.labels()).append(' ').append(e.requestBytes.sum()).append('\n'));
+		text.append("# HELP rest_client_response_bytes_total Bytes read from REST response bodies.\n");
+		text.append("# TYPE rest_client_response_bytes_total counter\n");
+		sorted().forEach(e -> text.append("rest_client_response_bytes_total").append(e.labels()).append(' ').append(e.responseBytes.sum()).append('\n'));
+		text.append("# HELP rest_client_request_duration_seconds Time until the REST response headers were received.\n");
+		text.append("# TYPE rest_client_request_duration_seconds histogram\n");
+		for (Endpoint e : sorted()) {
+			long cumulative = 0;
+			for (int i = 0; i < e.buckets.length; i++) {
+				cumulative += e.buckets[i].sum();
+				String le = i < LATENCY_BUCKETS_MS.length ? String.valueOf(LATENCY_BUCKETS_MS[i] / MS_PER_SECOND) : "+Inf";
+				String labels = e.labels();
+				text.append("rest_client_request_duration_seconds_bucket").append(labels, 0, labels.length() - 1).append(",le=\"").append(le)
+						.append("\"} ").append(cumulative).append('\n');
+			}
+			text.append("rest_client_request_duration_seconds_sum").append(e.labels()).append(' ')
+					.append(e.totalNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1)).append('\n');
+			text.append("rest_client_request_duration_seconds_count").append(e.labels()).append(' ').append(e.count.sum()).append('\n');
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Writes the metrics to {name}.json and {name}.prom.
+	 * @param directory the target directory
+	 * @param name the file name, without extension
+	 * @throws IOException when a file cannot be written
+	 */
+	public void write(final File directory, final String name) throws IOException {
+		directory.mkdirs();
+		Files.write(new File(directory, name + ".json").toPath(), toJson().getBytes(StandardCharsets.UTF_8));
+		Files.write(new File(directory, name + ".prom").toPath(), toPrometheus().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private List<Endpoint> sorted() {
+		List<Endpoint> sorted = new ArrayList<>(endpoints.values());
+		sorted.sort(Comparator.comparingLong(Endpoint::totalMs).reversed().thenComparing(e -> e.product + e.method + e.path + e.status));
+		return sorted;
+	}
+
+	/**
+	 * The metrics of the requests to one endpoint with one status.
+	 */
+	static final class Endpoint {
+		private final String product;
+		private final String method;
+		private final String path;
+		private final String status;
+		private final LongAdder count = new LongAdder();
+		private final LongAdder requestBytes = new LongAdder();
+		private final LongAdder responseBytes = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS_MS.length + 1];
+
+		private Endpoint(final String product, final String method, final String path, final String status) {
+			this.product = product;
+			this.method = method;
+			this.path = path;
+			this.status = status;
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		private void record(final long bytes, final long nanos) {
+			count.increment();
+			requestBytes.add(bytes);
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+			long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+			int bucket = 0;
+			while (bucket < LATENCY_BUCKETS_MS.length && ms > LATENCY_BUCKETS_MS[bucket]) {
+				bucket++;
+			}
+			buckets[bucket].increment();
+		}
+
+		/**
+		 * @param bytes bytes read from the response body
+		 */
+		void addResponseBytes(final long bytes) {
+			responseBytes.add(bytes);
+		}
+
+		long getCount() {
+			return count.sum();
+		}
+
+		long getResponseBytes() {
+			return responseBytes.sum();
+		}
+
+		private long totalMs() {
+			return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+		}
+
+		/**
+		 * @return the upper bound of the bucket containing the percentile, the maximum for the last bucket
+		 */
+		private long percentileMs(final double percentile) {
+			long rank = (long) Math.ceil(count.sum() * percentile);
+			long cumulative = 0;
+			for (int i = 0; i < LATENCY_BUCKETS_MS.length; i++) {
+				cumulative += buckets[i].sum();
+				if (cumulative >= rank) {
+					return Math.min(LATENCY_BUCKETS_MS[i], TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+				}
+			}
+			return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+		}
+
+		private String labels() {
+			return String.format("{product=\"%s\",method=\"%s\",path=\"%s\",status=\"%s\"}", product, method, escape(path), status);
+		}
+
+		private static String escape(final String value) {
+			return value.replace("\\", "\\\\").replace("\"", "\\\"");
+		}
+	}
+}
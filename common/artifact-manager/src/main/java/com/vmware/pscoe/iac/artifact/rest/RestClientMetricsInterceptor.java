@@ -0,0 +1,136 @@
+package com.vmware.pscoe.iac.artifact.rest;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Records the count, bytes and latency of the requests of a rest template in the {@link RestClientMetrics} of the
+ * recording of the calling thread. Requests made while not recording are only passed on.
+ *
+ * The latency is the time until the response headers are received. The response bytes are counted while the body
+ * is read, so reading the response is not delayed.
+ */
+public class RestClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+	/**
+	 * The product of the rest template, e.g. vrang.
+	 */
+	private final String product;
+
+	/**
+	 * @param product the product of the rest template, e.g. vrang
+	 */
+	public RestClientMetricsInterceptor(final String product) {
+		this.product = product;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, final ClientHttpRequestExecution execution) throws IOException {
+		RestClientMetrics metrics = RestClientMetrics.current();
+		if (metrics == null) {
+			return execution.execute(request, body);
+		}
+		String method = String.valueOf(request.getMethod());
+		String path = request.getURI().getPath();
+		long requestBytes = body == null ? 0 : body.length;
+		long start = System.nanoTime();
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		} catch (IOException | RuntimeException e) {
+			metrics.record(product, method, path, RestClientMetrics.STATUS_IO_ERROR, requestBytes, System.nanoTime() - start);
+			throw e;
+		}
+		RestClientMetrics.Endpoint endpoint = metrics.record(product, method, path, String.valueOf(response.getRawStatusCode()), requestBytes,
+				System.nanoTime() - start);
+		return new CountingResponse(response, endpoint);
+	}
+
+	/**
+	 * A response counting the bytes read from its body.
+	 */
+	private static final class CountingResponse implements ClientHttpResponse {
+		private final ClientHttpResponse response;
+		private final RestClientMetrics.Endpoint endpoint;
+		private InputStream body;
+
+		private CountingResponse(final ClientHttpResponse response, final RestClientMetrics.Endpoint endpoint) {
+			this.response = response;
+			this.endpoint = endpoint;
+		}
+
+		@Override
+		public synchronized InputStream getBody() throws IOException {
+			if (body == null) {
+				InputStream responseBody = response.getBody();
+				body = responseBody == null ? null : new FilterInputStream(responseBody) {
+					@Override
+					public int read() throws IOException {
+						int b = super.read();
+						if (b >= 0) {
+							endpoint.addResponseBytes(1);
+						}
+						return b;
+					}
+
+					@Override
+					public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+						int read = super.read(buffer, offset, length);
+						if (read > 0) {
+							endpoint.addResponseBytes(read);
+						}
+						return read;
+					}
+				};
+			}
+			return body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return response.getHeaders();
+		}
+
+		@Override
+		public HttpStatus getStatusCode() throws IOException {
+			return response.getStatusCode();
+		}
+
+		@Override
+		public int getRawStatusCode() throws IOException {
+			return response.getRawStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return response.getStatusText();
+		}
+
+		@Override
+		public void close() {
+			response.close();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.vmware.pscoe.iac.artifact.rest;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vmware.pscoe.iac.artifact.configuration.Configuration;
+
+/**
+ * The REST clients of a build, shared by all its modules and goals. The clients are created by the
+ * {@link RestClientFactory} the first time a configuration is used and handed out again for equal configurations, so
+ * the TLS connections, the authentication tokens and the cached lookups of a client, e.g. the version or the project
+ * id, are reused instead of being acquired again for every module.
+ *
+ * Configurations are equal when they have the same type, the same connection properties and the same SSL and timeout
+ * settings. The registry and the handed out clients are safe to use from the threads of a parallel build (mvn -T).
+ *
+ * A build starts a new scope with {@link #beginScope(String)}, which discards the clients of a previous build run in
+ * the same JVM. The sharing is disabled with the {@value #SHARED_CLIENTS} system property set to false.
+ */
+public final class RestClientRegistry {
+	/**
+	 * The system property disabling the sharing of the clients.
+	 */
+	public static final String SHARED_CLIENTS = "vrealize.rest.client.shared";
+
+	/**
+	 * Logger instance.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(RestClientRegistry.class);
+
+	/**
+	 * The clients by client type and configuration.
+	 */
+	private static final Map<List<Object>, Holder<?>> CLIENTS = new ConcurrentHashMap<>();
+
+	/**
+	 * The id of the current scope, null before a scope begins.
+	 */
+	private static String scope;
+
+	private RestClientRegistry() {
+		throw new IllegalStateException("Cannot instantiate the registry class: RestClientRegistry");
+	}
+
+	/**
+	 * Begins the scope of a build. The clients of another scope are discarded, the clients of the same scope are kept.
+	 *
+	 * @param scopeId the id of the build, e.g. its start time and root directory
+	 */
+	public static synchronized void beginScope(String scopeId) {
+		if (!Objects.equals(scope, scopeId)) {
+			if (!CLIENTS.isEmpty()) {
+				LOGGER.debug("Discarding {} REST clients of a previous build", CLIENTS.size());
+			}
+			CLIENTS.clear();
+			scope = scopeId;
+		}
+	}
+
+	/**
+	 * Discards all clients.
+	 */
+	public static void clear() {
+		CLIENTS.clear();
+	}
+
+	/**
+	 * @param configuration the configuration
+	 * @param clientType the type of the client, e.g. RestClientVraNg
+	 * @param factory creates the client, e.g. RestClientFactory::getClientVraNg
+	 * @param <C> the type of the configuration
+	 * @param <T> the type of the client
+	 * @return the client of the configuration, created by the factory when the registry has no such client
+	 */
+	@SuppressWarnings("unchecked")
+	public static <C extends Configuration, T> T getClient(C configuration, Class<T> clientType, Function<C, T> factory) {
+		if (!isShared()) {
+			return factory.apply(configuration);
+		}
+		List<Object> key = Arrays.asList(clientType.getName(), configuration.getClass().getName(), configuration.getConnectionProperties(),
+				System.getProperty(RestClientFactory.IGNORE_SSL_CERTIFICATE_VERIFICATION), System.getProperty(RestClientFactory.IGNORE_SSL_HOSTNAME_VERIFICATION),
+				System.getProperty(RestClientFactory.CONNECTION_TIMEOUT), System.getProperty(RestClientFactory.SOCKET_TIMEOUT));
+		Holder<T> holder = (Holder<T>) CLIENTS.computeIfAbsent(key, k -> new Holder<>());
+		return holder.get(() -> {
+			LOGGER.debug("Creating {} for host {}", clientType.getSimpleName(), configuration.getHost());
+			return factory.apply(configuration);
+		});
+	}
+
+	private static boolean isShared() {
+		return !"false".equalsIgnoreCase(System.getProperty(SHARED_CLIENTS));
+	}
+
+	/**
+	 * Holds a client created once. The client is created outside the lock of the map, so creating a client, which may
+	 * contact the server, does not block the clients of other configurations.
+	 *
+	 * @param <T> the type of the client
+	 */
+	private static final class Holder<T> {
+		private T client;
+
+		private synchronized T get(Supplier<T> factory) {
+			if (client == null) {
+				client = factory.get();
+			}
+			return client;
+		}
+	}
+}
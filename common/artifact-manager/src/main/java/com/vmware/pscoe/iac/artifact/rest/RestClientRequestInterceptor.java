@@ -15,7 +15,13 @@ package com.vmware.pscoe.iac.artifact.rest;
  * #L%
  */
 
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 
 import com.vmware.pscoe.iac.artifact.configuration.Configuration;
@@ -24,6 +30,7 @@ public abstract class RestClientRequestInterceptor<T extends Configuration> impl
 
     private RestTemplate restTemplate;
     private T operationsContext;
+    private final ThreadLocal<Boolean> repeating = new ThreadLocal<>();
 
     private RestClientRequestInterceptor() {
     }
@@ -41,4 +48,35 @@ public abstract class RestClientRequestInterceptor<T extends Configuration> impl
         return operationsContext;
     }
 
+    /**
+     * @return whether the intercepted request is the repetition sent by {@link #repeat(HttpRequest, byte[])}
+     */
+    protected boolean isRepeated() {
+        return Boolean.TRUE.equals(repeating.get());
+    }
+
+    /**
+     * Sends the request again through all interceptors of the rest template, so the repetition is authorized again
+     * and passes the later interceptors, e.g. the metrics, as well. Calling the execution of the intercepted request
+     * again would skip them.
+     *
+     * @param request the intercepted request
+     * @param body the body of the request
+     * @return the response to the repetition
+     * @throws IOException in case of I/O errors
+     */
+    protected ClientHttpResponse repeat(HttpRequest request, byte[] body) throws IOException {
+        ClientHttpRequest repetition = restTemplate.getRequestFactory().createRequest(request.getURI(), request.getMethod());
+        repetition.getHeaders().putAll(request.getHeaders());
+        if (body != null && body.length > 0) {
+            StreamUtils.copy(body, repetition.getBody());
+        }
+        repeating.set(Boolean.TRUE);
+        try {
+            return repetition.execute();
+        } finally {
+            repeating.remove();
+        }
+    }
+
 }
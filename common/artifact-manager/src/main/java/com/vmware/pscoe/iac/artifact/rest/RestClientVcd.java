@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
@@ -47,6 +48,7 @@ import com.vmware.pscoe.iac.artifact.model.vcd.VcdNgPackageManifest;
 import com.vmware.pscoe.iac.artifact.rest.helpers.VcdApiHelper;
 import com.vmware.pscoe.iac.artifact.rest.model.VcdPluginMetadataDTO;
 import com.vmware.pscoe.iac.artifact.rest.model.VcdPluginResourceDTO;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
 
 import net.minidev.json.JSONArray;
 
@@ -138,9 +140,14 @@ public class RestClientVcd extends RestClient {
 	private static final String PUBLISHED_TENANTS_KEY_NAME = "publishedTenants";
 
 	/**
-	 * publishedTenantsInfo.
+	 * number of UI extensions retrieved concurrently.
 	 */
-	private Map<String, Object> publishedTenantsInfo;
+	private static final int UI_EXTENSION_THREADS = 8;
+
+	/**
+	 * catalogue of the UI extensions on the server by plugin name, null until the extensions are listed.
+	 */
+	private volatile Map<String, Package> uiExtensionsByName;
 
 	protected RestClientVcd(ConfigurationVcd configuration, RestTemplate restTemplate) {
 		this.configuration = configuration;
@@ -213,7 +220,8 @@ public class RestClientVcd extends RestClient {
 	}
 
 	/**
-	 * getAllUiExtensions.
+	 * getAllUiExtensions. The details of the extensions are retrieved concurrently and kept in a catalogue
+	 * that is used to look up the extensions of the imported packages.
 	 * 
 	 * @return list of packages
 	 */
@@ -222,11 +230,13 @@ public class RestClientVcd extends RestClient {
 		URI url = getURI(getURIBuilder().setPath(URL_UI_EXTENSION_BASE));
 		ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, getVcdHttpEntity(), String.class);
 		List<String> ids = JsonPath.parse(response.getBody()).read("$[*].id", List.class);
-		List<Package> extensions = new ArrayList<Package>();
+		List<Package> extensions = ConcurrencyUtil.map(ids, UI_EXTENSION_THREADS, this::getUiExtension);
 
-		for (String id : ids) {
-			extensions.add(getUiExtension(id));
+		Map<String, Package> catalogue = new ConcurrentHashMap<>();
+		for (Package extension : extensions) {
+			catalogue.putIfAbsent(extension.getName(), extension);
 		}
+		this.uiExtensionsByName = catalogue;
 
 		return extensions;
 	}
@@ -277,14 +287,11 @@ public class RestClientVcd extends RestClient {
 	 * getUiExtension.
 	 */
 	public Package getUiExtension(Package localPkg) {
-		List<Package> extensions = getAllUiExtensions();
-		for (Package remotePkg : extensions) {
-			if (localPkg.getName().equals(remotePkg.getName())) {
-				return remotePkg;
-			}
+		if (this.uiExtensionsByName == null) {
+			getAllUiExtensions();
 		}
 
-		return null;
+		return this.uiExtensionsByName.get(localPkg.getName());
 	}
 
 	/**
@@ -295,13 +302,25 @@ public class RestClientVcd extends RestClient {
 	 * addUiExtension.
 	 */
 	public Package addUiExtension(Package pkg) {
+		return this.addUiExtension(pkg, null);
+	}
+
+	/**
+	 * 
+	 * @param pkg                  package
+	 * @param publishedTenantsInfo scope of the replaced extension, null for a new extension
+	 * @return Package
+	 * 
+	 * addUiExtension.
+	 */
+	private Package addUiExtension(Package pkg, Map<String, Object> publishedTenantsInfo) {
 		logger.debug("Adding UI extension for [" + pkg + "]...");
 		VcdNgPackageManifest manifest = VcdNgPackageManifest.getInstance(pkg);
 		VcdPluginMetadataDTO vcdPluginMetadataDTO = new VcdPluginMetadataDTO(manifest);
 
-		if (this.publishedTenantsInfo != null) {
-			vcdPluginMetadataDTO.setTenantScoped((boolean) this.publishedTenantsInfo.get(TENANT_SCOPED_KEY_NAME));
-			vcdPluginMetadataDTO.setProviderScoped((boolean) this.publishedTenantsInfo.get(PROVIDER_SCOPED_KEY_NAME));
+		if (publishedTenantsInfo != null) {
+			vcdPluginMetadataDTO.setTenantScoped((boolean) publishedTenantsInfo.get(TENANT_SCOPED_KEY_NAME));
+			vcdPluginMetadataDTO.setProviderScoped((boolean) publishedTenantsInfo.get(PROVIDER_SCOPED_KEY_NAME));
 		}
 
 		String requestBody = new Gson().toJson(vcdPluginMetadataDTO);
@@ -312,7 +331,12 @@ public class RestClientVcd extends RestClient {
 		ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
 		String pluginId = JsonPath.parse(response.getBody()).read("$.id");
 		logger.debug("UI extension for [" + pkg + "] added.");
-		return getUiExtension(pluginId);
+		Package remotePkg = getUiExtension(pluginId);
+		Map<String, Package> catalogue = this.uiExtensionsByName;
+		if (catalogue != null) {
+			catalogue.put(remotePkg.getName(), remotePkg);
+		}
+		return remotePkg;
 	}
 
 	/**
@@ -325,6 +349,10 @@ public class RestClientVcd extends RestClient {
 		logger.debug("Removing UI extension for [" + remotePkg + "]...");
 		URI url = getURI(getURIBuilder().setPath(String.format(URL_UI_EXTENSION_BY_ID, remotePkg.getId())));
 		restTemplate.exchange(url, HttpMethod.DELETE, this.getVcdHttpEntity(), String.class);
+		Map<String, Package> catalogue = this.uiExtensionsByName;
+		if (catalogue != null) {
+			catalogue.computeIfPresent(remotePkg.getName(), (name, pkg) -> remotePkg.getId().equals(pkg.getId()) ? null : pkg);
+		}
 		logger.debug("UI extension for [" + remotePkg + "] removed.");
 	}
 
@@ -389,15 +417,16 @@ public class RestClientVcd extends RestClient {
 	 */
 	public Package addOrReplaceUiPlugin(Package pkg) {
 		Package remotePkg = this.getUiExtension(pkg);
+		Map<String, Object> publishedTenantsInfo = null;
 		if (remotePkg != null) {
-			this.setUiExtensionPublishedTenantsInfo(remotePkg.getId());
+			publishedTenantsInfo = this.getUiExtensionPublishedTenantsInfo(remotePkg.getId());
 			this.deleteUiPlugin(remotePkg);
 			this.removeUiExtension(remotePkg);
 		}
 
-		remotePkg = this.addUiExtension(pkg);
+		remotePkg = this.addUiExtension(pkg, publishedTenantsInfo);
 		this.uploadUiPlugin(pkg, remotePkg);
-		this.publishOrRepublishUIPlugin(remotePkg);
+		this.publishOrRepublishUIPlugin(remotePkg, publishedTenantsInfo);
 
 		return remotePkg;
 	}
@@ -440,10 +469,11 @@ public class RestClientVcd extends RestClient {
 	/**
 	 * 
 	 * @param id extension id
+	 * @return published tenants info
 	 * 
-	 * getUiExtension.
+	 * getUiExtensionPublishedTenantsInfo.
 	 */
-	private void setUiExtensionPublishedTenantsInfo(String id) {
+	private Map<String, Object> getUiExtensionPublishedTenantsInfo(String id) {
 		logger.debug("Getting UI extension published tenants info for ID [" + id + "]...");
 		URI url = getURI(getURIBuilder().setPath(String.format(URL_UI_EXTENSION_BY_ID, id)));
 
@@ -451,24 +481,25 @@ public class RestClientVcd extends RestClient {
 		boolean tenantScoped = JsonPath.parse(response.getBody()).read("$." + TENANT_SCOPED_KEY_NAME);
 		boolean providerScoped = JsonPath.parse(response.getBody()).read("$." + PROVIDER_SCOPED_KEY_NAME);
 
-		this.publishedTenantsInfo = new HashMap<>();
-		this.publishedTenantsInfo.put(TENANT_SCOPED_KEY_NAME, tenantScoped);
-		this.publishedTenantsInfo.put(PROVIDER_SCOPED_KEY_NAME, providerScoped);
+		Map<String, Object> publishedTenantsInfo = new HashMap<>();
+		publishedTenantsInfo.put(TENANT_SCOPED_KEY_NAME, tenantScoped);
+		publishedTenantsInfo.put(PROVIDER_SCOPED_KEY_NAME, providerScoped);
 
 		if (tenantScoped) {
 			JsonArray publishedTenants = this.getUiExtensionTenants(id);
-			this.publishedTenantsInfo.put(PUBLISHED_TENANTS_KEY_NAME, publishedTenants);
+			publishedTenantsInfo.put(PUBLISHED_TENANTS_KEY_NAME, publishedTenants);
 		}
 
 		logger.debug("Getting UI extension published tenants info for ID [" + id + "] retrieved.");
+		return publishedTenantsInfo;
 	}
 
-	private void publishOrRepublishUIPlugin(Package remotePkg) {
+	private void publishOrRepublishUIPlugin(Package remotePkg, Map<String, Object> publishedTenantsInfo) {
 		logger.debug("Publish or Republish UI Plugin [" + remotePkg + "] ...");
-		if (this.publishedTenantsInfo == null) {
+		if (publishedTenantsInfo == null) {
 			this.publishUiPlugin(remotePkg);
-		} else if ((boolean) this.publishedTenantsInfo.get(TENANT_SCOPED_KEY_NAME)) {
-			JsonArray publishedTenants = (JsonArray) this.publishedTenantsInfo.get(PUBLISHED_TENANTS_KEY_NAME);
+		} else if ((boolean) publishedTenantsInfo.get(TENANT_SCOPED_KEY_NAME)) {
+			JsonArray publishedTenants = (JsonArray) publishedTenantsInfo.get(PUBLISHED_TENANTS_KEY_NAME);
 			boolean checkedAllTenants = this.hasAllTenantsChecked(publishedTenants);
 
 			if (checkedAllTenants) {
@@ -117,14 +117,17 @@ public class RestClientVcdBasicAuthInterceptor extends RestClientRequestIntercep
 	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) {
 		try {
 			if (!request.getURI().getPath().contains(PROVIDER_URL_SESSION) && !request.getURI().getPath().contains(URL_VERSION)) {
-				if (this.bearerToken == null) {
-					logger.info("Aquiring vCD auth token...");
-					acquireToken(request);
-					logger.info("vCD auth token aquired");
+				// the client may be shared by the threads of a parallel build, so the token is acquired once
+				synchronized (this) {
+					if (this.bearerToken == null) {
+						logger.info("Aquiring vCD auth token...");
+						acquireToken(request);
+						logger.info("vCD auth token aquired");
+					}
+
+					request.getHeaders().add(HEADER_VCLOUD_TOKEN, this.vcloudToken);
+					request.getHeaders().add(HEADER_AUTHORIZATION, VcdApiHelper.buildBearerToken(this.bearerToken));
 				}
-				
-				request.getHeaders().add(HEADER_VCLOUD_TOKEN, this.vcloudToken);
-				request.getHeaders().add(HEADER_AUTHORIZATION, VcdApiHelper.buildBearerToken(this.bearerToken));
 			}
 			
 			return execution.execute(request, body);
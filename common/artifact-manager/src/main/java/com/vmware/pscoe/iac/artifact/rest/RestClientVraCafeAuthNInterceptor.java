@@ -57,13 +57,16 @@ public class RestClientVraCafeAuthNInterceptor extends RestClientRequestIntercep
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) {
         try {
-            if (!request.getURI().getPath().contains("/identity/api/tokens") &&
-                (token == null || tokenExpirationDate.isBefore(LocalDateTime.now()))) {
-                logger.info("vRA authentication token has expired. Acquiring a new one.");
-                acquireToken(request);
+            // the client may be shared by the threads of a parallel build, so the token is acquired once
+            synchronized (this) {
+                if (!request.getURI().getPath().contains("/identity/api/tokens") &&
+                    (token == null || tokenExpirationDate.isBefore(LocalDateTime.now()))) {
+                    logger.info("vRA authentication token has expired. Acquiring a new one.");
+                    acquireToken(request);
+                }
+
+                request.getHeaders().add("Authorization", "Bearer " + this.token);
             }
-
-            request.getHeaders().add("Authorization", "Bearer " + this.token);
             return execution.execute(request, body);
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -218,6 +218,20 @@ public class RestClientVraNg extends RestClientVraNgPrimitive {
 		}
 	}
 
+	/**
+	 * getBlueprintVersionList.
+	 * 
+	 * @param blueprintId blueprint id
+	 * @return the versions, the last updated first
+	 */
+	public List<String> getBlueprintVersionList(final String blueprintId) {
+		try {
+			return this.getBlueprintVersionListPrimitive(blueprintId);
+		} catch (Exception e) {
+			throw new RuntimeException(String.format("Could not fetch Blueprint versions for id '%s'.", blueprintId), e);
+		}
+	}
+
 	/**
 	 * isBlueprintVersionPresent.
 	 * 
@@ -415,6 +429,20 @@ public class RestClientVraNg extends RestClientVraNgPrimitive {
 		}
 	}
 
+	/**
+	 * Retrieve all Secrets of the project.
+	 * 
+	 * @return secrets
+	 */
+	public List<VraNgSecret> getAllSecrets() {
+		try {
+			return getAllSecretsPrimitive();
+		} catch (Exception e) {
+			logger.error("Error fetching secrets.", e.getMessage());
+			throw new RuntimeException(e);
+		}
+	}
+
 	// =================================================
 	// REGION OPERATIONS
 	// =================================================
@@ -670,6 +698,21 @@ public class RestClientVraNg extends RestClientVraNgPrimitive {
 		}
 	}
 
+	/**
+	 * getFabricEntities.
+	 *
+	 * @param fabricType fabric type
+	 * @return map with key=id, value=name
+	 */
+	public Map<String, String> getFabricEntities(final String fabricType) {
+		try {
+			return getFabricEntitiesPrimitive(fabricType);
+		} catch (Exception e) {
+			logger.debug("Could not get entities of {}", fabricType);
+			throw new RuntimeException(String.format("Could not get entities of %s.", fabricType), e);
+		}
+	}
+
 	// =================================================
 	// CATALOG OPERATIONS
 	// =================================================
@@ -1262,6 +1305,20 @@ public class RestClientVraNg extends RestClientVraNgPrimitive {
 		}
 	}
 
+	/**
+	 * Retrieve all ABX Constants.
+	 * 
+	 * @return constants
+	 */
+	public List<AbxConstant> getAllAbxConstants() {
+		try {
+			return getAllAbxConstantsPrimitive();
+		} catch (Exception e) {
+			logger.error("Error fetching abx constants.", e.getMessage());
+			throw new RuntimeException(e);
+		}
+	}
+
 	// =================================================
 	// POLICIES
 	// =================================================
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.vmware.pscoe.iac.artifact.configuration.ConfigurationVraNg;
+import com.vmware.pscoe.iac.artifact.rest.auth.TokenCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.*;
@@ -41,6 +42,7 @@ public class RestClientVraNgAuthNInterceptor extends RestClientRequestIntercepto
     private static final String SERVICE_REFRESH_TOKEN = "/csp/gateway/am/api/auth/api-tokens/authorize";
     private static final String SERVICE_CREDENTIALS = "/csp/gateway/am/api/login";
     private static final String DEFAULT_TOKEN_TYPE = "Bearer";
+    private static final String TOKEN_CACHE_PROVIDER = "vra-ng";
 
     private final Logger logger = LoggerFactory.getLogger(RestClientVraNgAuthNInterceptor.class);
 
@@ -56,21 +58,52 @@ public class RestClientVraNgAuthNInterceptor extends RestClientRequestIntercepto
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) {
         try {
-            if (!isRequestInBlackList(request) && !hasValidToken()) {
-                logger.info("Request URL: {}", request.getURI());
-                acquireToken(request);
+            final String sentToken = authorize(request);
+            ClientHttpResponse response = execution.execute(request, body);
+            if (sentToken != null && !isRepeated() && response.getRawStatusCode() == HttpStatus.UNAUTHORIZED.value()) {
+                // the token may be revoked before its expiry, e.g. a cached token of a previous run, so it is renewed once
+                logger.info("The token was rejected, acquiring a new token");
+                response.close();
+                discardToken(sentToken);
+                response = repeat(request, body);
             }
-            if (this.token != null) {
-               request.getHeaders().add("Authorization", this.tokenType + " " + this.token);
-            }
- 
-            return execution.execute(request, body);
+
+            return response;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    // the client may be shared by the threads of a parallel build, so the token is acquired once
+    private synchronized String authorize(HttpRequest request) throws JsonProcessingException {
+        if (!isRequestInBlackList(request) && !hasValidToken()) {
+            logger.info("Request URL: {}", request.getURI());
+            acquireToken(request);
+        }
+        if (this.token != null) {
+            request.getHeaders().set("Authorization", this.tokenType + " " + this.token);
+        }
+        return isRequestInBlackList(request) ? null : this.token;
+    }
+
+    private synchronized void discardToken(String rejectedToken) {
+        // the token may already be renewed by another thread
+        if (rejectedToken.equals(this.token)) {
+            this.token = null;
+            TokenCache.getDefault().remove(getConfiguration().getAuthHost(), getTokenCachePrincipal(), TOKEN_CACHE_PROVIDER);
+        }
+    }
+
     private void acquireToken(HttpRequest request) throws JsonProcessingException {
+        final TokenCache tokenCache = TokenCache.getDefault();
+        final TokenCache.CachedToken cached = tokenCache.get(getConfiguration().getAuthHost(), getTokenCachePrincipal(), TOKEN_CACHE_PROVIDER);
+        if (cached != null) {
+            this.token = cached.getValue();
+            this.tokenExpirationDate = LocalDateTime.ofInstant(cached.getExpiresAt(), ZoneOffset.UTC);
+            this.setTokenType(cached.getTokenType());
+            return;
+        }
+
         String refreshToken;
         if (getConfiguration().getRefreshToken() != null && !getConfiguration().getRefreshToken().isEmpty()) {
             logger.info("Acquiring with refresh token");
@@ -90,6 +123,13 @@ public class RestClientVraNgAuthNInterceptor extends RestClientRequestIntercepto
         this.token = responseBody.jsonString().contains("access_token") ? responseBody.read("$.access_token") : null;
         String tokenTypeFromResponse = responseBody.jsonString().contains("token_type") ? responseBody.read("$.token_type") : null;
         this.setTokenType(tokenTypeFromResponse);
+        tokenCache.put(getConfiguration().getAuthHost(), getTokenCachePrincipal(), TOKEN_CACHE_PROVIDER,
+            new TokenCache.CachedToken(this.token, this.tokenType, this.tokenExpirationDate.toInstant(ZoneOffset.UTC)));
+    }
+
+    private String getTokenCachePrincipal() {
+        final String refreshToken = getConfiguration().getRefreshToken();
+        return refreshToken != null && !refreshToken.isEmpty() ? refreshToken : getConfiguration().getUsername() + "@" + getConfiguration().getDomain();
     }
 
     private ResponseEntity<String> requestWithRefreshToken(HttpRequest request, String refreshToken) {
@@ -152,7 +192,8 @@ public class RestClientVraNgAuthNInterceptor extends RestClientRequestIntercepto
     }
 
     private boolean hasValidToken() {
-        return token != null && LocalDateTime.now(ZoneOffset.UTC).isBefore(tokenExpirationDate);
+        // renewed shortly before the expiry, so the token does not expire while a request is sent
+        return token != null && TokenCache.isFresh(tokenExpirationDate.toInstant(ZoneOffset.UTC));
     }
 
     private boolean isValidTokenType(String tokenType) {
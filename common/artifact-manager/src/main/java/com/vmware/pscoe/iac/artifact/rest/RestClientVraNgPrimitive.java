@@ -20,8 +20,12 @@ package com.vmware.pscoe.iac.artifact.rest;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.rmi.UnexpectedException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,9 +35,11 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.vmware.pscoe.iac.artifact.model.Version;
@@ -73,6 +79,8 @@ import com.vmware.pscoe.iac.artifact.model.vrang.VraNgStorageProfile;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgSubscription;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgWorkflowContentSource;
 
+import com.vmware.pscoe.iac.artifact.rest.helpers.JsonHelper;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
 import com.vmware.pscoe.iac.artifact.utils.VraNgOrganizationUtil;
 
 import org.apache.commons.lang3.StringUtils;
@@ -88,9 +96,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
@@ -307,25 +318,29 @@ public class RestClientVraNgPrimitive extends RestClient {
 	 */
 	private final RestTemplate restTemplate;
 	/**
-	 * apiVersion.
+	 * apiVersion, detected on first use. Volatile, since the client is shared by the threads of a parallel build.
 	 */
-	private String apiVersion;
+	private volatile String apiVersion;
 	/**
-	 * projectId.
+	 * projectId, resolved on first use.
 	 */
-	private String projectId;
+	private volatile String projectId;
 	/**
 	 * mapper.
 	 */
 	private final ObjectMapper mapper = new ObjectMapper();
 	/**
-	 * productVersion.
+	 * productVersion, detected on first use.
 	 */
-	private Version productVersion;
+	private volatile Version productVersion;
 	/**
 	 * default page size.
 	 */
 	private static final int PAGE_SIZE = 500;
+	/**
+	 * Number of item details retrieved concurrently.
+	 */
+	private static final int DETAIL_THREADS = 8;
 	/**
 	 * vRA 8.12 version.
 	 */
@@ -341,11 +356,21 @@ public class RestClientVraNgPrimitive extends RestClient {
 	/**
 	 * isVraAbove812.
 	 */
-	private boolean isVraAbove812;
+	private final boolean isVraAbove812;
 	/**
 	 * isVraAbove811.
 	 */
-	private boolean isVraAbove810;
+	private final boolean isVraAbove810;
+	/**
+	 * The policies of the organization by type id and policy id, listed once and updated with the created and deleted
+	 * policies.
+	 * Null until the policies are first requested.
+	 */
+	private Map<String, Map<String, JsonObject>> policiesByType;
+	/**
+	 * The policies of the organization by type id, project id and name.
+	 */
+	private Map<String, JsonObject> policiesByName;
 
 	/**
 	 * RestClientVraNgPrimitive.
@@ -563,17 +588,15 @@ public class RestClientVraNgPrimitive extends RestClient {
 	 * @return List of VraNg Blueprint Objects
 	 */
 	public List<VraNgBlueprint> getAllBlueprintsPrimitive() {
-		List<VraNgBlueprint> blueprints = new ArrayList<>();
-		List<JsonObject> results = this.getPagedContent(SERVICE_BLUEPRINT, new HashMap<>());
+		Map<String, String> params = new HashMap<>();
+		params.put("projects", getProjectId());
+		List<JsonObject> results = this.getPagedContent(SERVICE_BLUEPRINT, params);
 
 		LOGGER.debug("Blueprints found on server: {}", results.size());
-		results.forEach(o -> {
-			JsonObject ob = o.getAsJsonObject();
-			String prjId = ob.get("projectId").getAsString();
-			if (getProjectId().equals(prjId)) {
-				blueprints.add(this.getBlueprintPrimitive(ob.get("id").getAsString()));
-			}
-		});
+		// the project is filtered by the server, the check is kept for servers ignoring the filter
+		List<String> ids = results.stream().filter(ob -> getProjectId().equals(ob.get("projectId").getAsString()))
+				.map(ob -> ob.get("id").getAsString()).collect(Collectors.toList());
+		List<VraNgBlueprint> blueprints = this.getDetailsPrimitive(ids, this::getBlueprintPrimitive);
 
 		LOGGER.debug("Blueprints in target project: {}", blueprints.size());
 
@@ -647,6 +670,20 @@ public class RestClientVraNgPrimitive extends RestClient {
 		return content;
 	}
 
+	/**
+	 * Retrieve the versions of a blueprint.
+	 *
+	 * @param blueprintId Blueprint ID
+	 * @return the versions, the last updated first
+	 */
+	public List<String> getBlueprintVersionListPrimitive(final String blueprintId) {
+		Map<String, String> params = new HashMap<>();
+		params.put("orderBy", "updatedAt DESC");
+		return this.getPagedContent(SERVICE_BLUEPRINT + "/" + blueprintId + SERVICE_BLUEPRINT_VERSIONS, params).stream()
+				.filter(version -> isJsonElementPresent(version.get("version"))).map(version -> version.get("version").getAsString())
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * Checks if blueprint version present.
 	 *
@@ -1115,6 +1152,21 @@ public class RestClientVraNgPrimitive extends RestClient {
 		return null;
 	}
 
+	/**
+	 * Retrieve all Secrets of the project.
+	 *
+	 * @return List of Secrets
+	 */
+	protected List<VraNgSecret> getAllSecretsPrimitive() {
+		Map<String, String> params = new HashMap<>();
+		params.put("$filter", String.format("projectId eq '%s'", getProjectId()));
+		List<JsonObject> results = this.getPagedContent(SERVICE_SECRET, params);
+		LOGGER.debug("Secrets found on server: {}", results.size());
+
+		Gson gson = new Gson();
+		return results.stream().map(ob -> gson.fromJson(ob, VraNgSecret.class)).collect(Collectors.toList());
+	}
+
 	/**
 	 * Retrieve Catalog Item By Blueprint Name.
 	 *
@@ -1182,10 +1234,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 		List<JsonObject> allResults = new ArrayList<>();
 		Integer totalPages = root.getAsJsonObject().get("totalPages").getAsInt();
 		for (int page = 0; page < totalPages; page++) {
-			JsonArray content = root.getAsJsonObject().get("content").getAsJsonArray();
-			for (int i = 0; i < content.size(); i++) {
-				allResults.add(content.get(i).getAsJsonObject());
-			}
+			allResults.addAll(JsonHelper.getPageContent(root));
 			// no further REST call is needed if all results are on one page
 			if (totalPages == 1) {
 				return allResults;
@@ -1198,6 +1247,18 @@ public class RestClientVraNgPrimitive extends RestClient {
 		return allResults;
 	}
 
+	/**
+	 * Retrieves the details of the given items, concurrently when there are several items.
+	 *
+	 * @param ids    ids of the items
+	 * @param detail retriever of the details of an item
+	 * @param <T>    type of the details
+	 * @return the details, in the order of the ids
+	 */
+	private <T> List<T> getDetailsPrimitive(final List<String> ids, final Function<String, T> detail) {
+		return ConcurrencyUtil.map(ids, DETAIL_THREADS, detail);
+	}
+
 	/**
 	 * Retriever for paged content based on totalElements and numberOfElements.
 	 *
@@ -1228,11 +1289,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 			totalElements = root.getAsJsonObject().get("totalElements").getAsInt();
 			numberOfElements = root.getAsJsonObject().get("numberOfElements").getAsInt();
 			LOGGER.debug(String.format("Page %d number of elements: %d", page, numberOfElements));
-			JsonArray content = root.getAsJsonObject().get("content").getAsJsonArray();
-
-			for (int i = 0; i < content.size(); i++) {
-				allResults.add(content.get(i).getAsJsonObject());
-			}
+			allResults.addAll(JsonHelper.getPageContent(root));
 
 			page += 1;
 		} while ((page * PAGE_SIZE) < totalElements);
@@ -2161,6 +2218,23 @@ public class RestClientVraNgPrimitive extends RestClient {
 		return null;
 	}
 
+	/**
+	 * Retrieve all fabric entities of a type, e.g. fabric-vsphere-datastores or regions.
+	 *
+	 * @param fabricType fabric type
+	 * @return map with key=id, value=name of the fabric entities.
+	 */
+	protected Map<String, String> getFabricEntitiesPrimitive(final String fabricType) {
+		Map<String, String> entities = new LinkedHashMap<>();
+		this.getTotalElements(SERVICE_IAAS_BASE + "/" + fabricType, new HashMap<>()).forEach(entity -> {
+			if (entity.has("id") && entity.has("name")) {
+				entities.put(entity.get("id").getAsString(), entity.get("name").getAsString());
+			}
+		});
+
+		return entities;
+	}
+
 	/**
 	 * Retrieve Organization By Name.
 	 *
@@ -2476,7 +2550,9 @@ public class RestClientVraNgPrimitive extends RestClient {
 	 */
 	public List<AbxAction> getAllAbxActionsPrimitive() {
 		List<AbxAction> actions = new ArrayList<>();
-		List<JsonObject> results = this.getPagedContent(SERVICE_ABX_ACTIONS, new HashMap<>());
+		Map<String, String> params = new HashMap<>();
+		params.put("$filter", String.format("projectId eq '%s'", getProjectId()));
+		List<JsonObject> results = this.getPagedContent(SERVICE_ABX_ACTIONS, params);
 
 		LOGGER.debug("ABX Actions found on server: {}", results.size());
 		results.forEach(o -> {
@@ -2519,6 +2595,19 @@ public class RestClientVraNgPrimitive extends RestClient {
 		return null;
 	}
 
+	/**
+	 * Retrieve all ABX Constants.
+	 *
+	 * @return List of ABX Constants
+	 */
+	protected List<AbxConstant> getAllAbxConstantsPrimitive() {
+		List<JsonObject> results = this.getPagedContent(SERVICE_ABX_CONSTANT, new HashMap<>());
+		LOGGER.debug("ABX Constants found on server: {}", results.size());
+
+		Gson gson = new Gson();
+		return results.stream().map(ob -> gson.fromJson(ob, AbxConstant.class)).collect(Collectors.toList());
+	}
+
 	/**
 	 * Create Abx Action.
 	 *
@@ -2533,9 +2622,8 @@ public class RestClientVraNgPrimitive extends RestClient {
 
 		Map<String, Object> map = createAbxActionMap(action);
 
-		String jsonBody = this.getJsonString(map);
-		ResponseEntity<String> response = this.postJsonPrimitive(url, HttpMethod.POST, jsonBody);
-		return new Gson().fromJson(response.getBody(), AbxAction.class).id;
+		String responseBody = this.postAbxActionPrimitive(url, HttpMethod.POST, action, map);
+		return new Gson().fromJson(responseBody, AbxAction.class).id;
 	}
 
 	/**
@@ -2553,9 +2641,8 @@ public class RestClientVraNgPrimitive extends RestClient {
 
 		Map<String, Object> map = createAbxActionMap(action);
 
-		String jsonBody = this.getJsonString(map);
-		ResponseEntity<String> response = this.postJsonPrimitive(url, HttpMethod.PUT, jsonBody);
-		return new Gson().fromJson(response.getBody(), AbxAction.class).id;
+		String responseBody = this.postAbxActionPrimitive(url, HttpMethod.PUT, action, map);
+		return new Gson().fromJson(responseBody, AbxAction.class).id;
 	}
 
 	/**
@@ -2686,7 +2773,6 @@ public class RestClientVraNgPrimitive extends RestClient {
 		map.put("runtime", action.platform.runtime);
 		map.put("entrypoint", action.platform.entrypoint);
 		map.put("inputs", action.abx.inputs);
-		map.put("compressedContent", action.getBundleAsB64());
 		map.put("shared", action.abx.shared);
 
 		if (action.platform.timeoutSec != null && action.platform.timeoutSec > 0) {
@@ -2706,6 +2792,42 @@ public class RestClientVraNgPrimitive extends RestClient {
 		return map;
 	}
 
+	/**
+	 * Writes the JSON of an ABX action, with the bundle as its base64 encoded compressedContent. The bundle is encoded
+	 * while it is written, instead of being read into a byte array, a base64 string and a JSON string. The request body
+	 * itself is still buffered by the interceptors of the REST client.
+	 *
+	 * @param action Abx Action
+	 * @param map    the action map without the bundle, see createAbxActionMap
+	 * @param out    the target stream, left open
+	 * @throws IOException throws IO exception incase the bundle cannot be read
+	 */
+	protected void writeAbxActionJson(final AbxAction action, final Map<String, Object> map, final OutputStream out) throws IOException {
+		try (JsonGenerator generator = mapper.getFactory().createGenerator(StreamUtils.nonClosing(out), JsonEncoding.UTF8)) {
+			generator.writeStartObject();
+			for (Map.Entry<String, Object> entry : map.entrySet()) {
+				generator.writeObjectField(entry.getKey(), entry.getValue());
+			}
+			generator.writeFieldName("compressedContent");
+			if (action.bundle == null) {
+				generator.writeNull();
+			} else {
+				try (InputStream bundle = Files.newInputStream(action.bundle.toPath())) {
+					generator.writeBinary(bundle, -1);
+				}
+			}
+			generator.writeEndObject();
+		}
+	}
+
+	private String postAbxActionPrimitive(final URI url, final HttpMethod method, final AbxAction action, final Map<String, Object> map) {
+		LOGGER.debug("Executing method {} on URI {} with ABX action {}", method, url, action.getName());
+		return restTemplate.execute(url, method, request -> {
+			request.getHeaders().setContentType(MediaType.APPLICATION_JSON_UTF8);
+			writeAbxActionJson(action, map, request.getBody());
+		}, response -> StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+	}
+
 	private String getJsonString(final Map<String, Object> entity) {
 		Gson gson = new GsonBuilder().setLenient().serializeNulls().create();
 
@@ -2803,6 +2925,124 @@ public class RestClientVraNgPrimitive extends RestClient {
 		return is;
 	}
 
+	// =================================================
+	// Policies
+	// =================================================
+
+	/**
+	 * Retrieve the policies of a type from the policy snapshot. The policies of all types are listed with a single
+	 * listing, the first time any policy is requested, since filtering by typeId is not supported before vRA 8.16.
+	 *
+	 * @param typeId type of the policies
+	 * @param type   class of the policies
+	 * @param <T>    type of the policies
+	 * @return new instances of the policies of the type
+	 */
+	private synchronized <T> List<T> getPoliciesPrimitive(final String typeId, final Class<T> type) {
+		this.loadPolicySnapshot();
+		Gson gson = new Gson();
+		return this.policiesByType.getOrDefault(typeId.toLowerCase(Locale.ROOT), Collections.emptyMap()).values().stream()
+				.map(policy -> gson.fromJson(policy, type)).collect(Collectors.toList());
+	}
+
+	/**
+	 * Retrieve a policy from the policy snapshot by name.
+	 *
+	 * @param typeId    type of the policy
+	 * @param projectId project of the policy
+	 * @param name      name of the policy
+	 * @return a copy of the policy, null if there is no such policy
+	 */
+	private synchronized JsonObject getPolicyByNamePrimitive(final String typeId, final String projectId, final String name) {
+		this.loadPolicySnapshot();
+		JsonObject policy = this.policiesByName.get(getPolicyKey(typeId, projectId, name));
+		return policy == null ? null : policy.deepCopy();
+	}
+
+	/**
+	 * Lists the policies of the organization, unless they are already listed. The statistics of the policies
+	 * (computeStats) are not requested, since they are expensive to compute and not used by the policy stores.
+	 */
+	private void loadPolicySnapshot() {
+		if (this.policiesByType != null) {
+			return;
+		}
+		Map<String, String> params = new HashMap<>();
+		params.put("expandDefinition", "true");
+		List<JsonObject> policies = this.getPagedContent(SERVICE_POLICIES, params);
+		this.policiesByType = new HashMap<>();
+		this.policiesByName = new HashMap<>();
+		policies.forEach(this::addToPolicySnapshot);
+		LOGGER.debug("Policies found on server: {}", policies.size());
+	}
+
+	/**
+	 * Updates the policy snapshot with a created or updated policy. The snapshot is discarded when the response does
+	 * not contain the policy.
+	 *
+	 * @param response response of the policy creation
+	 */
+	private synchronized void updatePolicySnapshot(final ResponseEntity<String> response) {
+		if (this.policiesByType == null) {
+			return;
+		}
+		JsonElement policy = null;
+		try {
+			policy = response == null || response.getBody() == null ? null : JsonParser.parseString(response.getBody());
+		} catch (JsonSyntaxException e) {
+			LOGGER.debug("Unable to parse the created policy: {}", e.getMessage());
+		}
+		if (policy != null && policy.isJsonObject() && isJsonElementPresent(policy.getAsJsonObject().get("id"))
+				&& isJsonElementPresent(policy.getAsJsonObject().get("typeId"))) {
+			this.addToPolicySnapshot(policy.getAsJsonObject());
+		} else {
+			this.discardPolicySnapshot();
+		}
+	}
+
+	/**
+	 * Removes a deleted policy from the policy snapshot.
+	 *
+	 * @param policyId id of the deleted policy
+	 */
+	private synchronized void removeFromPolicySnapshot(final String policyId) {
+		if (this.policiesByType == null || policyId == null) {
+			return;
+		}
+		for (Map.Entry<String, Map<String, JsonObject>> policies : this.policiesByType.entrySet()) {
+			JsonObject removed = policies.getValue().remove(policyId);
+			if (removed != null) {
+				this.policiesByName.remove(getPolicyKey(policies.getKey(), getPolicyProperty(removed, "projectId"), getPolicyProperty(removed, "name")));
+			}
+		}
+	}
+
+	private synchronized void discardPolicySnapshot() {
+		this.policiesByType = null;
+		this.policiesByName = null;
+	}
+
+	private void addToPolicySnapshot(final JsonObject policy) {
+		if (!isJsonElementPresent(policy.get("id")) || !isJsonElementPresent(policy.get("typeId"))) {
+			return;
+		}
+		String typeId = policy.get("typeId").getAsString();
+		Map<String, JsonObject> policies = this.policiesByType.computeIfAbsent(typeId.toLowerCase(Locale.ROOT), key -> new LinkedHashMap<>());
+		JsonObject previous = policies.put(policy.get("id").getAsString(), policy);
+		if (previous != null) {
+			this.policiesByName.remove(getPolicyKey(typeId, getPolicyProperty(previous, "projectId"), getPolicyProperty(previous, "name")));
+		}
+		this.policiesByName.put(getPolicyKey(typeId, getPolicyProperty(policy, "projectId"), getPolicyProperty(policy, "name")), policy);
+	}
+
+	private String getPolicyProperty(final JsonObject policy, final String property) {
+		return isJsonElementPresent(policy.get(property)) ? policy.get(property).getAsString() : null;
+	}
+
+	private static String getPolicyKey(final String typeId, final String projectId, final String name) {
+		return typeId.toLowerCase(Locale.ROOT) + "|" + projectId + "|" + name;
+	}
+
 	// =================================================
 	// Content Sharing Policy
 	// =================================================
@@ -2813,17 +3053,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 	 * @return list of sharing policy Ids that are available.
 	 */
 	protected List<VraNgContentSharingPolicy> getAllContentSharingPoliciesPrimitive() {
-		Map<String, String> params = new HashMap<>();
-		params.put("expandDefinition", "true");
-		params.put("computeStats", "true");
-		// Add additional filter to reduce the data received from server for newer vRA
-		// versions (8.16 and above)
-		if (isVraAbove810) {
-			params.put("typeId", CONTENT_SHARING_POLICY_TYPE);
-		}
-		List<VraNgContentSharingPolicy> results = this.getPagedContent(SERVICE_POLICIES, params).stream()
-				.map(jsonOb -> new Gson().fromJson(jsonOb.toString(), VraNgContentSharingPolicy.class))
-				.filter(policy -> policy.getTypeId().equalsIgnoreCase(CONTENT_SHARING_POLICY_TYPE)).collect(Collectors.toList());
+		List<VraNgContentSharingPolicy> results = this.getPoliciesPrimitive(CONTENT_SHARING_POLICY_TYPE, VraNgContentSharingPolicy.class);
 		LOGGER.debug("Policy Ids found on server - {}, for projectId: {}", results.size(), this.getProjectId());
 
 		return results;
@@ -2836,18 +3066,11 @@ public class RestClientVraNgPrimitive extends RestClient {
 	 * @return content sharing policy Id.
 	 */
 	public String getContentSharingPolicyIdByName(final String name) {
-		Map<String, String> params = new HashMap<>();
-		params.put("expandDefinition", "true");
-		params.put("computeStats", "true");
-
-		VraNgContentSharingPolicy policy = this.getPagedContent(SERVICE_POLICIES, params).stream()
-				.map(jsonOb -> new Gson().fromJson(jsonOb.toString(), VraNgContentSharingPolicy.class))
-				.filter(p -> p.getTypeId().equalsIgnoreCase(CONTENT_SHARING_POLICY_TYPE))
-				.filter(p -> p.getName().equals(name) && p.getProjectId().equals(this.getProjectId())).findFirst().orElse(null);
+		JsonObject policy = this.getPolicyByNamePrimitive(CONTENT_SHARING_POLICY_TYPE, this.getProjectId(), name);
 		if (policy == null) {
 			throw new Error("Cannot find Content Sharing Policy by name" + name);
 		} else {
-			return policy.getId();
+			return policy.get("id").getAsString();
 		}
 	}
 
@@ -2875,6 +3098,8 @@ public class RestClientVraNgPrimitive extends RestClient {
 			}
 		} catch (Exception e) {
 			if (e.getMessage().contains(NOT_FOUND_ERROR)) {
+				// deleted since the policies were listed
+				this.removeFromPolicySnapshot(policyId);
 				return null;
 			} else {
 				throw e;
@@ -2898,7 +3123,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 		}
 		URI url = getURIBuilder().setPath(SERVICE_POLICIES).build();
 		String jsonBody = new Gson().toJson(csPolicy);
-		this.postJsonPrimitive(url, HttpMethod.POST, jsonBody);
+		this.updatePolicySnapshot(this.postJsonPrimitive(url, HttpMethod.POST, jsonBody));
 	}
 
 	// =================================================
@@ -2911,14 +3136,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 	 */
 	protected List<VraNgResourceQuotaPolicy> getAllResourceQuotaPoliciesPrimitive() {
 		if (this.isVraAbove810) {
-			Map<String, String> params = new HashMap<>();
-			params.put("expandDefinition", "true");
-			params.put("computeStats", "true");
-			params.put("typeId", RESOURCE_QUOTA_POLICY_TYPE);
-
-			List<VraNgResourceQuotaPolicy> results = this.getPagedContent(SERVICE_POLICIES, params).stream()
-					.map(jsonOb -> new Gson().fromJson(jsonOb.toString(), VraNgResourceQuotaPolicy.class))
-					.filter(policy -> policy.getTypeId().equalsIgnoreCase(RESOURCE_QUOTA_POLICY_TYPE)).collect(Collectors.toList());
+			List<VraNgResourceQuotaPolicy> results = this.getPoliciesPrimitive(RESOURCE_QUOTA_POLICY_TYPE, VraNgResourceQuotaPolicy.class);
 
 			LOGGER.debug("Policy Ids found on server - {}, for projectId: {}", results.size(), this.getProjectId());
 			return results;
@@ -2938,7 +3156,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 			URI url = getURIBuilder().setPath(SERVICE_POLICIES).build();
 			String jsonBody = new Gson().toJson(rqPolicy);
 			JsonObject jsonObject = new Gson().fromJson(jsonBody, JsonObject.class);
-			this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString());
+			this.updatePolicySnapshot(this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString()));
 		} else {
 			throw (new UnsupportedOperationException("Policy import/export supported in VRA Versions  8.10.x or newer."));
 		}
@@ -2971,15 +3189,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 	 */
 	protected List<VraNgDay2ActionsPolicy> getAllDay2ActionsPoliciesPrimitive() {
 		if (this.isVraAbove810) {
-			Map<String, String> params = new HashMap<>();
-			params.put("expandDefinition", "true");
-			params.put("computeStats", "true");
-			// filtering by typeId works on 8.16 but not on earlier versions.
-			params.put("typeId", DAY2_ACTION_POLICY_TYPE);
-
-			List<VraNgDay2ActionsPolicy> results = this.getPagedContent(SERVICE_POLICIES, params).stream()
-					.map(jsonOb -> new Gson().fromJson(jsonOb.toString(), VraNgDay2ActionsPolicy.class))
-					.filter(policy -> policy.getTypeId().equalsIgnoreCase(DAY2_ACTION_POLICY_TYPE)).collect(Collectors.toList());
+			List<VraNgDay2ActionsPolicy> results = this.getPoliciesPrimitive(DAY2_ACTION_POLICY_TYPE, VraNgDay2ActionsPolicy.class);
 
 			LOGGER.debug("Policy Ids found on server - {}, for projectId: {}", results.size(), this.getProjectId());
 			return results;
@@ -2998,7 +3208,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 			URI url = getURIBuilder().setPath(SERVICE_POLICIES).build();
 			String jsonBody = new Gson().toJson(d2aPolicy);
 			JsonObject jsonObject = new Gson().fromJson(jsonBody, JsonObject.class);
-			this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString());
+			this.updatePolicySnapshot(this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString()));
 		} else {
 			throw new UnsupportedOperationException("Policy import/export supported inVRA Versions  8.10.x or newer.");
 		}
@@ -3032,14 +3242,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 	protected List<VraNgLeasePolicy> getAllLeasePoliciesPrimitive() {
 		if (this.isVraAbove810) {
 
-			Map<String, String> params = new HashMap<>();
-			params.put("expandDefinition", "true");
-			params.put("computeStats", "true");
-			params.put("typeId", LEASE_POLICY_TYPE);
-
-			List<VraNgLeasePolicy> results = this.getPagedContent(SERVICE_POLICIES, params).stream()
-					.map(jsonOb -> new Gson().fromJson(jsonOb.toString(), VraNgLeasePolicy.class))
-					.filter(policy -> policy.getTypeId().equalsIgnoreCase(LEASE_POLICY_TYPE)).collect(Collectors.toList());
+			List<VraNgLeasePolicy> results = this.getPoliciesPrimitive(LEASE_POLICY_TYPE, VraNgLeasePolicy.class);
 
 			LOGGER.debug("Lease Policies found on server - {}, for projectId: {}", results.size(), this.getProjectId());
 			return results;
@@ -3075,7 +3278,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 			URI url = getURIBuilder().setPath(SERVICE_POLICIES).build();
 			String jsonBody = new Gson().toJson(policy);
 			JsonObject jsonObject = new Gson().fromJson(jsonBody, JsonObject.class);
-			this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString());
+			this.updatePolicySnapshot(this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString()));
 		} else {
 			throw new UnsupportedOperationException("Policy import/export supported inVRA Versions  8.10.x or newer.");
 		}
@@ -3095,7 +3298,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 			URI url = getURIBuilder().setPath(SERVICE_POLICIES).build();
 			String jsonBody = new Gson().toJson(policy);
 			JsonObject jsonObject = new Gson().fromJson(jsonBody, JsonObject.class);
-			this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString());
+			this.updatePolicySnapshot(this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString()));
 		} else {
 			throw new UnsupportedOperationException("Policy import/export supported inVRA Versions  8.10.x or newer.");
 		}
@@ -3126,15 +3329,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 	protected List<VraNgDeploymentLimitPolicy> getAllDeploymentLimitPoliciesPrimitive() {
 		if (this.isVraAbove810) {
 
-			Map<String, String> params = new HashMap<>();
-			params.put("expandDefinition", "true");
-			params.put("computeStats", "true");
-			// filtering by typeId works on 8.16 but not on earlier versions.
-			params.put("typeId", DEPLOYMENT_LIMIT_POLICY_TYPE);
-
-			List<VraNgDeploymentLimitPolicy> results = this.getPagedContent(SERVICE_POLICIES, params).stream()
-					.map(jsonOb -> new Gson().fromJson(jsonOb.toString(), VraNgDeploymentLimitPolicy.class))
-					.filter(policy -> policy.getTypeId().equalsIgnoreCase(DEPLOYMENT_LIMIT_POLICY_TYPE)).collect(Collectors.toList());
+			List<VraNgDeploymentLimitPolicy> results = this.getPoliciesPrimitive(DEPLOYMENT_LIMIT_POLICY_TYPE, VraNgDeploymentLimitPolicy.class);
 
 			LOGGER.debug("Policy Ids found on server - {}, for projectId: {}", results.size(), this.getProjectId());
 			return results;
@@ -3157,7 +3352,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 			URI url = getURIBuilder().setPath(SERVICE_POLICIES).build();
 			String jsonBody = new Gson().toJson(policy);
 			JsonObject jsonObject = new Gson().fromJson(jsonBody, JsonObject.class);
-			this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString());
+			this.updatePolicySnapshot(this.postJsonPrimitive(url, HttpMethod.POST, jsonObject.toString()));
 		} else {
 			throw new UnsupportedOperationException("Policy import/export supported inVRA Versions  8.10.x or newer.");
 		}
@@ -3186,17 +3381,7 @@ public class RestClientVraNgPrimitive extends RestClient {
 	 */
 	protected List<VraNgApprovalPolicy> getAllApprovalPoliciesPrimitive() {
 		if (isVraAbove810) {
-			Map<String, String> params = new HashMap<>();
-			params.put("expandDefinition", "true");
-			params.put("computeStats", "true");
-			// filtering by typeId works on 8.16 but not on earlier versions.
-			// filter here to reduce traffic for newer vRA versions.
-			params.put("typeId", APPROVAL_POLICY_TYPE);
-
-			// filter here for older vRA versions.
-			List<VraNgApprovalPolicy> results = this.getPagedContent(SERVICE_POLICIES, params).stream()
-					.map(jsonOb -> new Gson().fromJson(jsonOb.toString(), VraNgApprovalPolicy.class))
-					.filter(policy -> policy.getTypeId().equalsIgnoreCase(APPROVAL_POLICY_TYPE)).collect(Collectors.toList());
+			List<VraNgApprovalPolicy> results = this.getPoliciesPrimitive(APPROVAL_POLICY_TYPE, VraNgApprovalPolicy.class);
 
 			LOGGER.debug("Policy Ids found on server - {}, for projectId: {}", results.size(), this.getProjectId());
 			return results;
@@ -44,6 +44,7 @@ import com.vmware.pscoe.iac.artifact.model.PackageContent.Content;
 import com.vmware.pscoe.iac.artifact.model.vra.VraPackageContent;
 import com.vmware.pscoe.iac.artifact.rest.helpers.JsonHelper;
 import com.vmware.pscoe.iac.artifact.rest.model.VraPackageDTO;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.http.client.utils.URIBuilder;
@@ -73,6 +74,11 @@ public class RestClientVraPrimitive extends RestClient {
 	 */
 	private final Logger logger = LoggerFactory.getLogger(RestClientVraPrimitive.class);
 
+	/**
+	 * Number of content pages retrieved concurrently.
+	 */
+	private static final int PAGE_THREADS = 4;
+
 	/**
 	 * param SERVICE_CONTENT.
 	 */
@@ -177,11 +183,18 @@ public class RestClientVraPrimitive extends RestClient {
 		DocumentContext context = JsonPath.parse(response.getBody());
 		List<Map<String, String>> result = context.read("$..content.*");
 		int totalPages = context.read("$.metadata.totalPages");
+		if (totalPages < 2) {
+			return result;
+		}
+
+		// the remaining pages are known after the first one, so they are retrieved concurrently and kept in page order
+		List<URI> pageUris = new ArrayList<>();
 		for (int pageNumber = 2; pageNumber <= totalPages; pageNumber++) {
 			uriBuilder.setParameter("page", String.valueOf(pageNumber));
-			response = restTemplate.exchange(getURI(uriBuilder), HttpMethod.GET, entity, String.class);
-			result.addAll(JsonPath.parse(response.getBody()).read("$..content.*"));
+			pageUris.add(getURI(uriBuilder));
 		}
+		ConcurrencyUtil.map(pageUris, PAGE_THREADS, pageUri -> JsonPath.parse(restTemplate.exchange(pageUri, HttpMethod.GET, entity, String.class).getBody())
+				.<List<Map<String, String>>>read("$..content.*")).forEach(result::addAll);
 
 		return result;
 	}
@@ -93,6 +93,8 @@ public class RestClientVro extends RestClient {
     private ConfigurationNg configuration;
     /** Rest Template to be utilized in a REST API connection. */
     private RestTemplate restTemplate;
+    /** The version of the server, retrieved once as the client may be shared by the modules of a build. */
+    private volatile String version;
 
     /**
      * This method returns the RESTR Template that is used to establish connection to the REST API to the product that
@@ -129,6 +131,9 @@ public class RestClientVro extends RestClient {
      */
     @Override
     public String getVersion() {
+        if (this.version != null) {
+            return this.version;
+        }
         URI url = getURI(getURIBuilder().setPath("vco/api/about"));
 
         if (isVraCloud(url)) {
@@ -136,7 +141,8 @@ public class RestClientVro extends RestClient {
         }
         ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, getDefaultHttpEntity(), String.class);
 
-        return JsonPath.parse(response.getBody()).read("$.version");
+        this.version = JsonPath.parse(response.getBody()).read("$.version");
+        return this.version;
     }
 
     /**
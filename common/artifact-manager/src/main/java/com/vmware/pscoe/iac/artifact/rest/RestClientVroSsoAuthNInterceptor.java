@@ -19,6 +19,7 @@ import com.vmware.pscoe.iac.artifact.configuration.ConfigurationVro;
 import com.vmware.pscoe.iac.artifact.rest.auth.VraSsoAuth;
 import com.vmware.pscoe.iac.artifact.rest.auth.VraSsoAuth.SsoToken;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.RestTemplate;
@@ -44,17 +45,39 @@ public class RestClientVroSsoAuthNInterceptor extends RestClientRequestIntercept
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) {
         try {
             // blacklisted paths should not be intercepted in order to avoid interception loops
-            if (!isRequestPathInBlacklist(request.getURI().getPath())) {
-                this.token = this.token != null && !this.token.isExpired() ? this.token : this.ssoAuth.acquireToken();
-                request.getHeaders().add("Authorization", this.token.getTokenType() + " " + this.token.getValue());
+            if (isRequestPathInBlacklist(request.getURI().getPath())) {
+                return execution.execute(request, body);
+            }
+            final SsoToken sentToken = authorize(request);
+            ClientHttpResponse response = execution.execute(request, body);
+            if (!isRepeated() && response.getRawStatusCode() == HttpStatus.UNAUTHORIZED.value()) {
+                // the token may be revoked before its expiry, e.g. a cached token of a previous run, so it is renewed once
+                response.close();
+                discardToken(sentToken);
+                response = repeat(request, body);
             }
 
-            return execution.execute(request, body);
+            return response;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    // the client may be shared by the threads of a parallel build, so the token is acquired once
+    private synchronized SsoToken authorize(HttpRequest request) {
+        this.token = this.token != null && !this.token.isExpired() ? this.token : this.ssoAuth.getToken();
+        request.getHeaders().set("Authorization", this.token.getTokenType() + " " + this.token.getValue());
+        return this.token;
+    }
+
+    private synchronized void discardToken(SsoToken rejectedToken) {
+        // the token may already be renewed by another thread
+        if (rejectedToken == this.token) {
+            this.token = null;
+            this.ssoAuth.removeCachedToken();
+        }
+    }
+
     private boolean isRequestPathInBlacklist(String requestPath) {
         return requestPath.contains(SSO_REGISTRY_URL) || requestPath.contains(SAAS_URL) || requestPath.contains(VERSION_URL)
                 || requestPath.contains(AUTHORIZATION_SERVICE_URL_VRA_8) || requestPath.contains(AUTHORIZATION_SERVICE_URL_VRA_CLOUD);
@@ -17,9 +17,9 @@ package com.vmware.pscoe.iac.artifact.rest;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.time.temporal.ChronoField;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,6 +29,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpRequestExecution;
@@ -41,11 +42,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.vmware.pscoe.iac.artifact.configuration.ConfigurationVrops;
+import com.vmware.pscoe.iac.artifact.rest.auth.TokenCache;
 
 public class RestClientVropsAuthNInterceptor extends RestClientRequestInterceptor<ConfigurationVrops> {
     private static final String VROPS_AUTH_TOKEN_URI = "/suite-api/api/auth/token/acquire";
     private static final String AUTH_HEADER_NAME = "Authorization";
     private static final String VROPS_AUTH_HEADER_KEY = "vRealizeOpsToken";
+    private static final String TOKEN_CACHE_PROVIDER = "vrops";
 
     private final Logger logger = LoggerFactory.getLogger(RestClientVropsAuthNInterceptor.class);
 
@@ -59,21 +62,56 @@ public class RestClientVropsAuthNInterceptor extends RestClientRequestIntercepto
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) {
         try {
-            if (!hasValidTokens() && !isAccessTokenRequests(request)) {
-                acquireToken(request);
-            }
-            if (this.vropsAuthToken != null) {
-                request.getHeaders().remove(AUTH_HEADER_NAME);
-                request.getHeaders().add(AUTH_HEADER_NAME, VROPS_AUTH_HEADER_KEY + " " + this.vropsAuthToken);
+            final String sentToken = authorize(request);
+            ClientHttpResponse response = execution.execute(request, body);
+            if (sentToken != null && !isRepeated() && response.getRawStatusCode() == HttpStatus.UNAUTHORIZED.value()) {
+                // the token may be revoked before its expiry, e.g. a cached token of a previous run, so it is renewed once
+                logger.info("The VROPS auth token was rejected, acquiring a new token.");
+                response.close();
+                discardToken(sentToken);
+                response = repeat(request, body);
             }
 
-            return execution.execute(request, body);
+            return response;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    // the client may be shared by the threads of a parallel build, so the token is acquired once
+    private synchronized String authorize(HttpRequest request) throws JsonProcessingException {
+        if (!hasValidTokens() && !isAccessTokenRequests(request)) {
+            acquireToken(request);
+        }
+        if (this.vropsAuthToken != null) {
+            request.getHeaders().remove(AUTH_HEADER_NAME);
+            request.getHeaders().add(AUTH_HEADER_NAME, VROPS_AUTH_HEADER_KEY + " " + this.vropsAuthToken);
+        }
+        return isAccessTokenRequests(request) ? null : this.vropsAuthToken;
+    }
+
+    private synchronized void discardToken(String rejectedToken) {
+        // the token may already be renewed by another thread
+        if (rejectedToken.equals(this.vropsAuthToken)) {
+            this.vropsAuthToken = null;
+            TokenCache.getDefault().remove(getConfiguration().getHost(), getTokenCachePrincipal(), TOKEN_CACHE_PROVIDER);
+        }
+    }
+
+    private String getTokenCachePrincipal() {
+        return getConfiguration().getVropsRestUser() + "@" + getConfiguration().getVropsAuthSource();
+    }
+
     private void acquireToken(HttpRequest request) throws JsonProcessingException {
+        final TokenCache tokenCache = TokenCache.getDefault();
+        final String principal = getTokenCachePrincipal();
+        final TokenCache.CachedToken cached = tokenCache.get(getConfiguration().getHost(), principal, TOKEN_CACHE_PROVIDER);
+        if (cached != null) {
+            this.vropsAuthToken = cached.getValue();
+            this.vropsTokenExpirationTime = LocalDateTime.ofInstant(cached.getExpiresAt(), ZoneOffset.UTC);
+            return;
+        }
+
         logger.info("Acquiring VROPS auth token.");
         final URI vropsTokenUri = UriComponentsBuilder.newInstance().scheme(request.getURI().getScheme()).host(getConfiguration().getHost())
                 .port(getConfiguration().getPort()).path(VROPS_AUTH_TOKEN_URI).build().toUri();
@@ -91,9 +129,12 @@ public class RestClientVropsAuthNInterceptor extends RestClientRequestIntercepto
         ResponseEntity<String> response = getRestTemplate().exchange(vropsTokenUri, HttpMethod.POST, entity, String.class);
         final DocumentContext responseBody = JsonPath.parse(response.getBody());
 
-        final long ttl = responseBody.read("$.validity");
-        this.vropsTokenExpirationTime = LocalDateTime.now(ZoneOffset.UTC).plus(ttl, ChronoField.MINUTE_OF_HOUR.getBaseUnit());
+        // the validity is the expiry of the token in milliseconds since the epoch
+        final long validity = responseBody.read("$.validity", Long.class);
+        this.vropsTokenExpirationTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(validity), ZoneOffset.UTC);
         this.vropsAuthToken = responseBody.read("$.token");
+        tokenCache.put(getConfiguration().getHost(), principal, TOKEN_CACHE_PROVIDER,
+                new TokenCache.CachedToken(this.vropsAuthToken, VROPS_AUTH_HEADER_KEY, this.vropsTokenExpirationTime.toInstant(ZoneOffset.UTC)));
     }
 
     private boolean isAccessTokenRequests(HttpRequest request) {
@@ -101,6 +142,6 @@ public class RestClientVropsAuthNInterceptor extends RestClientRequestIntercepto
     }
 
     private boolean hasValidTokens() {
-        return vropsAuthToken != null && LocalDateTime.now(ZoneOffset.UTC).isBefore(vropsTokenExpirationTime);
+        return vropsAuthToken != null && TokenCache.isFresh(vropsTokenExpirationTime.toInstant(ZoneOffset.UTC));
     }
 }
@@ -0,0 +1,293 @@
+package com.vmware.pscoe.iac.artifact.rest.auth;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StreamUtils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Authentication tokens kept on disk between the runs of the tools, so back to back builds and installer runs against
+ * the same server reuse a token instead of authenticating again.
+ *
+ * A token is stored per host, principal (the user or the refresh token) and authentication provider, in a file named
+ * after the digest of the three, so the file names do not disclose them. The files are readable only by their owner
+ * and are locked while read or written, so concurrent processes do not read a partly written token. A token is handed
+ * out only while it is valid for longer than the refresh margin, so it is renewed before it expires during a request.
+ *
+ * The cache is disabled by default. It is enabled with the {@value #TOKEN_CACHE} system property set to true, which
+ * stores the tokens in {@value #DEFAULT_DIRECTORY} in the home directory of the user, or set to a directory.
+ * A failure of the cache is logged and the token is acquired from the server as without the cache.
+ */
+public final class TokenCache {
+    /** The system property enabling the cache, true or the directory of the tokens. */
+    public static final String TOKEN_CACHE = "vrealize.auth.token.cache";
+    /** The system property with the seconds before the expiry when a token is renewed. */
+    public static final String REFRESH_MARGIN = "vrealize.auth.token.refresh.margin";
+    /** The directory of the tokens in the home directory of the user. */
+    public static final String DEFAULT_DIRECTORY = ".m2/vro-token-cache";
+    /** The default seconds before the expiry when a token is renewed. */
+    private static final long DEFAULT_REFRESH_MARGIN_SECONDS = 60;
+    /** Serializes the file locks of the threads of this process, which the file locks do not. */
+    private static final Object LOCK = new Object();
+    /** The permissions of the token files. */
+    private static final Set<PosixFilePermission> FILE_PERMISSIONS = EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE);
+    /** The permissions of the directory of the token files. */
+    private static final Set<PosixFilePermission> DIRECTORY_PERMISSIONS = EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE,
+            PosixFilePermission.OWNER_EXECUTE);
+
+    /** Logger instance. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenCache.class);
+
+    /** The directory of the tokens, null when the cache is disabled. */
+    private final Path directory;
+
+    /**
+     * @param directory the directory of the tokens, null to disable the cache
+     */
+    public TokenCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the cache configured by the {@value #TOKEN_CACHE} system property
+     */
+    public static TokenCache getDefault() {
+        String value = System.getProperty(TOKEN_CACHE);
+        if (value == null || value.trim().isEmpty() || Boolean.FALSE.toString().equalsIgnoreCase(value.trim())) {
+            return new TokenCache(null);
+        }
+        if (Boolean.TRUE.toString().equalsIgnoreCase(value.trim())) {
+            return new TokenCache(Paths.get(System.getProperty("user.home"), DEFAULT_DIRECTORY));
+        }
+        return new TokenCache(Paths.get(value.trim()));
+    }
+
+    /**
+     * @param expiresAt the expiry of a token, null when unknown
+     * @return true when the token is valid for longer than the refresh margin
+     */
+    public static boolean isFresh(Instant expiresAt) {
+        return expiresAt != null && Instant.now().plus(getRefreshMargin()).isBefore(expiresAt);
+    }
+
+    private static Duration getRefreshMargin() {
+        try {
+            return Duration.ofSeconds(Long.parseLong(System.getProperty(REFRESH_MARGIN, String.valueOf(DEFAULT_REFRESH_MARGIN_SECONDS))));
+        } catch (NumberFormatException e) {
+            return Duration.ofSeconds(DEFAULT_REFRESH_MARGIN_SECONDS);
+        }
+    }
+
+    /**
+     * @return true when the tokens are stored on disk
+     */
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @param host the host issuing the token
+     * @param principal the user or the refresh token the token is issued to
+     * @param provider the authentication provider, e.g. vra-ng
+     * @return the stored token, null when there is no token valid for longer than the refresh margin
+     */
+    public CachedToken get(String host, String principal, String provider) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Path file = getFile(host, principal, provider);
+        synchronized (LOCK) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ); FileLock lock = channel.lock(0, Long.MAX_VALUE, true)) {
+                String json = StreamUtils.copyToString(Channels.newInputStream(channel), StandardCharsets.UTF_8);
+                CachedToken token = new Gson().fromJson(json, CachedToken.class);
+                if (token == null || token.getValue() == null || !isFresh(token.getExpiresAt())) {
+                    return null;
+                }
+                LOGGER.debug("Using the cached {} token for {}", provider, host);
+                return token;
+            } catch (NoSuchFileException e) {
+                return null;
+            } catch (IOException | JsonParseException e) {
+                LOGGER.warn("Unable to read the cached {} token for {}: {}", provider, host, e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Stores a token, replacing the stored token of the host, principal and provider.
+     *
+     * @param host the host issuing the token
+     * @param principal the user or the refresh token the token is issued to
+     * @param provider the authentication provider, e.g. vra-ng
+     * @param token the token
+     */
+    public void put(String host, String principal, String provider, CachedToken token) {
+        if (!isEnabled() || token.getValue() == null || !isFresh(token.getExpiresAt())) {
+            return;
+        }
+        Path file = getFile(host, principal, provider);
+        byte[] json = new Gson().toJson(token).getBytes(StandardCharsets.UTF_8);
+        synchronized (LOCK) {
+            try {
+                createDirectory();
+                try (FileChannel channel = openForWrite(file); FileLock lock = channel.lock()) {
+                    channel.truncate(0);
+                    channel.write(ByteBuffer.wrap(json));
+                    channel.force(true);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to cache the {} token for {}: {}", provider, host, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes the stored token of the host, principal and provider, e.g. a token rejected by the server before its
+     * expiry, so the token is not handed out again.
+     *
+     * @param host the host issuing the token
+     * @param principal the user or the refresh token the token is issued to
+     * @param provider the authentication provider, e.g. vra-ng
+     */
+    public void remove(String host, String principal, String provider) {
+        if (!isEnabled()) {
+            return;
+        }
+        Path file = getFile(host, principal, provider);
+        synchronized (LOCK) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.warn("Unable to remove the cached {} token for {}: {}", provider, host, e.getMessage());
+            }
+        }
+    }
+
+    private Path getFile(String host, String principal, String provider) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(String.join("\n", host, String.valueOf(principal), provider).getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder();
+            for (byte b : hash) {
+                name.append(String.format("%02x", b));
+            }
+            return directory.resolve(name.append(".json").toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private void createDirectory() throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        if (isPosix()) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(DIRECTORY_PERMISSIONS));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    private static FileChannel openForWrite(Path file) throws IOException {
+        if (!isPosix()) {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            file.toFile().setReadable(false, false);
+            file.toFile().setReadable(true, true);
+            file.toFile().setWritable(false, false);
+            file.toFile().setWritable(true, true);
+            return channel;
+        }
+        FileChannel channel = FileChannel.open(file, EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE),
+                PosixFilePermissions.asFileAttribute(FILE_PERMISSIONS));
+        // a file created by another tool or version keeps its permissions, so they are restricted here as well
+        Files.setPosixFilePermissions(file, FILE_PERMISSIONS);
+        return channel;
+    }
+
+    private static boolean isPosix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+
+    /**
+     * A stored token.
+     */
+    public static final class CachedToken {
+        /** The token value. */
+        private String value;
+        /** The token type, such as "Bearer". */
+        private String tokenType;
+        /** The expiry in milliseconds since the epoch. */
+        private long expiresAt;
+
+        /**
+         * @param value the token value
+         * @param tokenType the token type, such as "Bearer"
+         * @param expiresAt the expiry of the token
+         */
+        public CachedToken(String value, String tokenType, Instant expiresAt) {
+            this.value = value;
+            this.tokenType = tokenType;
+            this.expiresAt = expiresAt == null ? 0 : expiresAt.toEpochMilli();
+        }
+
+        /**
+         * @return the token value
+         */
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * @return the token type, such as "Bearer"
+         */
+        public String getTokenType() {
+            return tokenType;
+        }
+
+        /**
+         * @return the expiry of the token, null when unknown
+         */
+        public Instant getExpiresAt() {
+            return expiresAt == 0 ? null : Instant.ofEpochMilli(expiresAt);
+        }
+    }
+}
@@ -16,6 +16,9 @@ package com.vmware.pscoe.iac.artifact.rest.auth;
  */
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -65,6 +68,8 @@ public class VraSsoAuth {
     private static final String HTTP_ENTITY_TYPE = "httpEntity";
     /** Token URI. */
     private static final String TOKEN_URL_TYPE = "tokenUri";
+    /** The provider of the tokens in the token cache. */
+    private static final String TOKEN_CACHE_PROVIDER = "vra-sso";
 
     /** vRO Config.*/
     private ConfigurationVro vroConfig;
@@ -84,6 +89,38 @@ public class VraSsoAuth {
         this.serverVersion = this.getVersion();
     }
 
+    /**
+     * Return the token of the configured user stored in the token cache, or acquire a new token from Aria Automation
+     * and store it in the token cache.
+     * @return The cached or acquired token.
+     */
+    public SsoToken getToken() {
+        final TokenCache tokenCache = TokenCache.getDefault();
+        final String principal = getTokenCachePrincipal();
+        final TokenCache.CachedToken cached = tokenCache.get(this.vroConfig.getAuthHost(), principal, TOKEN_CACHE_PROVIDER);
+        if (cached != null) {
+            return new SsoToken(cached.getValue(), AuthProvider.VRA, cached.getExpiresAt());
+        }
+
+        final SsoToken token = acquireToken();
+        tokenCache.put(this.vroConfig.getAuthHost(), principal, TOKEN_CACHE_PROVIDER,
+            new TokenCache.CachedToken(token.getValue(), token.getTokenType(), token.getExpiresAt()));
+        return token;
+    }
+
+    /**
+     * Remove the token of the configured user from the token cache, e.g. when the token is rejected by Aria Automation.
+     */
+    public void removeCachedToken() {
+        TokenCache.getDefault().remove(this.vroConfig.getAuthHost(), getTokenCachePrincipal(), TOKEN_CACHE_PROVIDER);
+    }
+
+    private String getTokenCachePrincipal() {
+        return StringUtils.isEmpty(this.vroConfig.getRefreshToken())
+            ? this.vroConfig.getUsername() + "@" + this.vroConfig.getDomain() + "@" + this.vroConfig.getTenant()
+            : this.vroConfig.getRefreshToken();
+    }
+
     /**
      * Accuire authentication token from Aria Automation.
      * @return The token returned by Aria Automation.
@@ -120,7 +157,9 @@ public class VraSsoAuth {
 				? responseBody.read("$.access_token")
 				: responseBody.read("$." + TOKEN_NAME);
 
-            return new SsoToken(tokenValue, AuthProvider.VRA);
+            final Integer expiresIn = responseBody.jsonString().contains("expires_in") ? responseBody.read("$.expires_in", Integer.class) : null;
+
+            return new SsoToken(tokenValue, AuthProvider.VRA, expiresIn != null ? Instant.now().plusSeconds(expiresIn) : getExpiry(tokenValue));
         } catch (Exception e) {
             throw new RuntimeException(String.format("Unable to acquire token for VRO SSO authentication: %s. Request was %s %s. Request body not shown due to sensitive data.",
                 e.getMessage(), HttpMethod.POST, tokenUri));
@@ -274,6 +313,25 @@ public class VraSsoAuth {
         return version;
     }
 
+    /**
+     * Read the expiry of a JWT token from its exp claim.
+     * @param token The token.
+     * @return The expiry of the token, null when the token is not a JWT token or has no expiry.
+     */
+    private static Instant getExpiry(String token) {
+        final String[] parts = token == null ? new String[0] : token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            final String claims = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            final Number exp = JsonPath.parse(claims).read("$.exp");
+            return Instant.ofEpochSecond(exp.longValue());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     private HttpEntity<String> getDefaultHttpEntity() {
         HttpHeaders headers = new HttpHeaders();
 
@@ -292,6 +350,8 @@ public class VraSsoAuth {
         private String tokenType;
         /** Authentication provider. */
         private AuthProvider type;
+        /** The expiry of the token, null when unknown. */
+        private Instant expiresAt;
 
         /**
          * Create a new Single Sign On token based on the given token string and Authentication Provider.
@@ -299,9 +359,20 @@ public class VraSsoAuth {
          * @param type Authentication provider.
          */
         public SsoToken(String token, AuthProvider type) {
+            this(token, type, null);
+        }
+
+        /**
+         * Create a new Single Sign On token based on the given token string, Authentication Provider and expiry.
+         * @param token Token string.
+         * @param type Authentication provider.
+         * @param expiresAt The expiry of the token, null when unknown.
+         */
+        public SsoToken(String token, AuthProvider type, Instant expiresAt) {
             this.value = token;
             this.type = type;
             this.tokenType = DEFAULT_TOKEN_TYPE;
+            this.expiresAt = expiresAt;
         }
 
         /**
@@ -313,11 +384,19 @@ public class VraSsoAuth {
         }
 
         /**
-         * Return true if expired and  false otherwise.
+         * Return true if expired or about to expire and false otherwise. A token with an unknown expiry is expired.
          * @return true if expired and false otherwise.
          */
         public boolean isExpired() {
-            return Boolean.TRUE;
+            return !TokenCache.isFresh(expiresAt);
+        }
+
+        /**
+         * Return the expiry of the token.
+         * @return the expiry of the token, null when unknown.
+         */
+        public Instant getExpiresAt() {
+            return expiresAt;
         }
 
         /**
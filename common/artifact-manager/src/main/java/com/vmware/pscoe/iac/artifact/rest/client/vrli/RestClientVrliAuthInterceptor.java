@@ -17,13 +17,14 @@ package com.vmware.pscoe.iac.artifact.rest.client.vrli;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.time.temporal.ChronoField;
 import java.util.HashMap;
 import java.util.Map;
 
 import com.vmware.pscoe.iac.artifact.rest.RestClientRequestInterceptor;
+import com.vmware.pscoe.iac.artifact.rest.auth.TokenCache;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpRequestExecution;
@@ -51,6 +53,8 @@ public class RestClientVrliAuthInterceptor extends RestClientRequestInterceptor<
     private static final String AUTH_HEADER_NAME = "Authorization";
     private static final String VRLI_AUTH_HEADER_KEY = "Bearer";
     private static final String VROPS_AUTH_HEADER_KEY = "vRealizeOpsToken";
+    private static final String VRLI_TOKEN_CACHE_PROVIDER = "vrli";
+    private static final String VROPS_TOKEN_CACHE_PROVIDER = "vrops";
 
 	private final Logger logger = LoggerFactory.getLogger(RestClientVrliAuthInterceptor.class);
 
@@ -66,21 +70,56 @@ public class RestClientVrliAuthInterceptor extends RestClientRequestInterceptor<
 	@Override
 	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) {
 		try {
-            if (!hasValidTokens() && !isAccessTokenRequests(request)) {
-                acquireTokens(request);
-			}
-            request.getHeaders().add(AUTH_HEADER_NAME, VRLI_AUTH_HEADER_KEY + " " + this.vrliAuthToken);
-            if (this.vropsAuthToken != null && !request.getURI().getHost().contains(getConfiguration().getHost())) {
-                request.getHeaders().remove(AUTH_HEADER_NAME);
-                request.getHeaders().add(AUTH_HEADER_NAME, VROPS_AUTH_HEADER_KEY + " " + this.vropsAuthToken);
+            final String sentToken = authorize(request);
+            ClientHttpResponse response = execution.execute(request, body);
+            if (sentToken != null && !isRepeated() && response.getRawStatusCode() == HttpStatus.UNAUTHORIZED.value()) {
+                // the token may be revoked before its expiry, e.g. a cached token of a previous run, so it is renewed once
+                logger.info("The auth token was rejected, acquiring new tokens.");
+                response.close();
+                discardToken(sentToken);
+                response = repeat(request, body);
             }
 
-            return execution.execute(request, body);
+            return response;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+    // the client may be shared by the threads of a parallel build, so the tokens are acquired once
+    private synchronized String authorize(HttpRequest request) throws JsonProcessingException {
+        if (!hasValidTokens() && !isAccessTokenRequests(request)) {
+            acquireTokens(request);
+        }
+        String token = this.vrliAuthToken;
+        request.getHeaders().set(AUTH_HEADER_NAME, VRLI_AUTH_HEADER_KEY + " " + this.vrliAuthToken);
+        if (this.vropsAuthToken != null && !request.getURI().getHost().contains(getConfiguration().getHost())) {
+            token = this.vropsAuthToken;
+            request.getHeaders().remove(AUTH_HEADER_NAME);
+            request.getHeaders().add(AUTH_HEADER_NAME, VROPS_AUTH_HEADER_KEY + " " + this.vropsAuthToken);
+        }
+        return isAccessTokenRequests(request) ? null : token;
+    }
+
+    private synchronized void discardToken(String rejectedToken) {
+        // the token may already be renewed by another thread
+        if (rejectedToken.equals(this.vrliAuthToken)) {
+            this.vrliAuthToken = null;
+            TokenCache.getDefault().remove(getConfiguration().getHost(), getVrliTokenCachePrincipal(), VRLI_TOKEN_CACHE_PROVIDER);
+        } else if (rejectedToken.equals(this.vropsAuthToken)) {
+            this.vropsAuthToken = null;
+            TokenCache.getDefault().remove(getConfiguration().getIntegrationVropsAuthHost(), getVropsTokenCachePrincipal(), VROPS_TOKEN_CACHE_PROVIDER);
+        }
+    }
+
+    private String getVrliTokenCachePrincipal() {
+        return getConfiguration().getUsername() + "@" + getConfiguration().getProvider();
+    }
+
+    private String getVropsTokenCachePrincipal() {
+        return getConfiguration().getIntegrationVropsAuthUser() + "@" + getConfiguration().getIntegrationVropsAuthSource();
+    }
+
     private void acquireTokens(HttpRequest request) throws JsonProcessingException {
         logger.info("Acquiring VRLI token.");
         acquireVrliToken(request);
@@ -91,6 +130,15 @@ public class RestClientVrliAuthInterceptor extends RestClientRequestInterceptor<
     }
 
     private void acquireVrliToken(HttpRequest request) throws JsonProcessingException {
+        final TokenCache tokenCache = TokenCache.getDefault();
+        final String principal = getVrliTokenCachePrincipal();
+        final TokenCache.CachedToken cached = tokenCache.get(getConfiguration().getHost(), principal, VRLI_TOKEN_CACHE_PROVIDER);
+        if (cached != null) {
+            this.vrliAuthToken = cached.getValue();
+            this.vrliTokenExpirationTime = LocalDateTime.ofInstant(cached.getExpiresAt(), ZoneOffset.UTC);
+            return;
+        }
+
         final URI vrliTokenUri = UriComponentsBuilder.newInstance().scheme(request.getURI().getScheme()).host(getConfiguration().getHost())
                 .port(getConfiguration().getPort()).path(VRLI_AUTH_TOKEN_URI).build().toUri();
         logger.info("VRLI Auth Token URL: {}", vrliTokenUri);
@@ -107,12 +155,25 @@ public class RestClientVrliAuthInterceptor extends RestClientRequestInterceptor<
         ResponseEntity<String> response = getRestTemplate().exchange(vrliTokenUri, HttpMethod.POST, entity, String.class);
         final DocumentContext responseBody = JsonPath.parse(response.getBody());
 
+        // the ttl of the session is in seconds
         final int ttl = responseBody.read("$.ttl");
-        this.vrliTokenExpirationTime = LocalDateTime.now(ZoneOffset.UTC).plus(ttl, ChronoField.MINUTE_OF_HOUR.getBaseUnit());
+        this.vrliTokenExpirationTime = LocalDateTime.now(ZoneOffset.UTC).plusSeconds(ttl);
         this.vrliAuthToken = responseBody.read("$.sessionId");
+        tokenCache.put(getConfiguration().getHost(), principal, VRLI_TOKEN_CACHE_PROVIDER,
+                new TokenCache.CachedToken(this.vrliAuthToken, VRLI_AUTH_HEADER_KEY, this.vrliTokenExpirationTime.toInstant(ZoneOffset.UTC)));
     }
 
     private void acquireVropsToken(HttpRequest request) throws JsonProcessingException {
+        // the token is shared with the vROps client of the same user
+        final TokenCache tokenCache = TokenCache.getDefault();
+        final String principal = getVropsTokenCachePrincipal();
+        final TokenCache.CachedToken cached = tokenCache.get(getConfiguration().getIntegrationVropsAuthHost(), principal, VROPS_TOKEN_CACHE_PROVIDER);
+        if (cached != null) {
+            this.vropsAuthToken = cached.getValue();
+            this.vropsTokenExpirationTime = LocalDateTime.ofInstant(cached.getExpiresAt(), ZoneOffset.UTC);
+            return;
+        }
+
         final URI vropsTokenUri = UriComponentsBuilder.newInstance().scheme(request.getURI().getScheme()).host(getConfiguration().getIntegrationVropsAuthHost())
                 .port(getConfiguration().getIntegrationVropsAuthPort()).path(VROPS_AUTH_TOKEN_URI).build().toUri();
         logger.info("VROPS Integration Auth Token URL: {}", vropsTokenUri);
@@ -129,9 +190,12 @@ public class RestClientVrliAuthInterceptor extends RestClientRequestInterceptor<
         ResponseEntity<String> response = getRestTemplate().exchange(vropsTokenUri, HttpMethod.POST, entity, String.class);
         final DocumentContext responseBody = JsonPath.parse(response.getBody());
 
-        final long ttl = responseBody.read("$.validity");
-        this.vropsTokenExpirationTime = LocalDateTime.now(ZoneOffset.UTC).plus(ttl, ChronoField.MINUTE_OF_HOUR.getBaseUnit());
+        // the validity is the expiry of the token in milliseconds since the epoch
+        final long validity = responseBody.read("$.validity", Long.class);
+        this.vropsTokenExpirationTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(validity), ZoneOffset.UTC);
         this.vropsAuthToken = responseBody.read("$.token");
+        tokenCache.put(getConfiguration().getIntegrationVropsAuthHost(), principal, VROPS_TOKEN_CACHE_PROVIDER,
+                new TokenCache.CachedToken(this.vropsAuthToken, VROPS_AUTH_HEADER_KEY, this.vropsTokenExpirationTime.toInstant(ZoneOffset.UTC)));
     }
 
     private boolean isAccessTokenRequests(HttpRequest request) {
@@ -144,11 +208,11 @@ public class RestClientVrliAuthInterceptor extends RestClientRequestInterceptor<
 
     private boolean hasValidTokens() {
         if (!StringUtils.isEmpty(getConfiguration().getIntegrationVropsAuthHost())) {
-            return vrliAuthToken != null && LocalDateTime.now(ZoneOffset.UTC).isBefore(vrliTokenExpirationTime) && vropsAuthToken != null
-                    && LocalDateTime.now(ZoneOffset.UTC).isBefore(vropsTokenExpirationTime);
+            return vrliAuthToken != null && TokenCache.isFresh(vrliTokenExpirationTime.toInstant(ZoneOffset.UTC)) && vropsAuthToken != null
+                    && TokenCache.isFresh(vropsTokenExpirationTime.toInstant(ZoneOffset.UTC));
         }
 
-        return vrliAuthToken != null && LocalDateTime.now(ZoneOffset.UTC).isBefore(vrliTokenExpirationTime);
+        return vrliAuthToken != null && TokenCache.isFresh(vrliTokenExpirationTime.toInstant(ZoneOffset.UTC));
 	}
 
 }
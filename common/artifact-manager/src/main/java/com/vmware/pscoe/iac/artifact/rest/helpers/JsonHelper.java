@@ -15,12 +15,15 @@ package com.vmware.pscoe.iac.artifact.rest.helpers;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.function.Function;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -70,5 +73,18 @@ public class JsonHelper {
         return Optional.ofNullable(el.get(property)).map(mapper).orElse(def);
     }
 
+    /**
+     * @param page a page returned by a paged list request, e.g. of vRA NG
+     * @return the items in the content of the page
+     */
+    public static List<JsonObject> getPageContent(JsonElement page) {
+        JsonArray content = page.getAsJsonObject().get("content").getAsJsonArray();
+        List<JsonObject> results = new ArrayList<>(content.size());
+        for (int i = 0; i < content.size(); i++) {
+            results.add(content.get(i).getAsJsonObject());
+        }
+        return results;
+    }
+
 
 }
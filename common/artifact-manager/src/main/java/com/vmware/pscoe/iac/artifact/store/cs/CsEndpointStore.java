@@ -18,9 +18,10 @@ package com.vmware.pscoe.iac.artifact.store.cs;
 import java.io.File;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -82,24 +83,24 @@ public class CsEndpointStore extends AbstractCsStore {
 	}
 
 	private void importEndpoints(Collection<File> endpointFiles) {
-		List<Endpoint> existingEndpoints = restClient.getProjectEndpoints();
+		Map<String, Endpoint> existingEndpoints = new HashMap<>();
+		restClient.getProjectEndpoints().forEach(ex -> existingEndpoints.putIfAbsent(ex.getName(), ex));
 
-		endpointFiles.stream()
+		List<Endpoint> endpoints = endpointFiles.stream()
 				.map(file -> CsStoreHelper.loadFromYamlFile(file, Endpoint.class))
-				.forEach(endpoint -> {
-					endpoint.setProject(restClient.getProjectName());
-					endpoint.setCloudProxyId(restClient.getCloudProxyId());
-					Optional<Endpoint> optional = existingEndpoints.stream()
-							.filter(ex -> ex.getName().equals(endpoint.getName()))
-							.findFirst();
-					if (optional.isPresent()) {
-						endpoint.setId(optional.get().getId());
-						restClient.updateEndpoint(endpoint);
+				.collect(Collectors.toList());
+		CsImportEngine.importAll(endpoints, endpoint -> {
+			endpoint.setProject(restClient.getProjectName());
+			endpoint.setCloudProxyId(restClient.getCloudProxyId());
+			Endpoint existing = existingEndpoints.get(endpoint.getName());
+			if (existing != null) {
+				endpoint.setId(existing.getId());
+				restClient.updateEndpoint(endpoint);
 
-					} else {
-						restClient.createEndpoint(endpoint);
-					}
-				});
+			} else {
+				restClient.createEndpoint(endpoint);
+			}
+		});
 	}
 
 	private void addEndpointVarsToExtractionContext(Endpoint endpoint) {
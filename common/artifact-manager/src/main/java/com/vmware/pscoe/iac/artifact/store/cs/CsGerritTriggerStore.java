@@ -61,7 +61,9 @@ public class CsGerritTriggerStore extends AbstractCsStore {
 		if (triggerFiles == null || triggerFiles.isEmpty()) {
 			return;
 		}
-		triggerFiles.stream().forEach(this::importTrigger);
+		// fill the cache of the Gerrit triggers on the server before the concurrent imports look it up
+		getAllItems();
+		CsImportEngine.importAll(triggerFiles, this::importTrigger);
 	}
 
 
@@ -61,7 +61,9 @@ public class CsGitWebhookStore extends AbstractCsStore {
 		if (triggerFiles == null || triggerFiles.isEmpty()) {
 			return;
 		}
-		triggerFiles.stream().forEach(this::importTrigger);
+		// fill the cache of the Git webhooks on the server before the concurrent imports look it up
+		getAllItems();
+		CsImportEngine.importAll(triggerFiles, this::importTrigger);
 	}
 
 
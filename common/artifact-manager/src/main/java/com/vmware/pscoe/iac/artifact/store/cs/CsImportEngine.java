@@ -0,0 +1,110 @@
+package com.vmware.pscoe.iac.artifact.store.cs;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
+
+/**
+ * Imports the items of a Code Stream store concurrently.
+ *
+ * The items are imported level by level: the items of a level are imported concurrently and a level starts once
+ * all items of the previous level have been imported, e.g. a pipeline is imported after the pipelines it rolls back
+ * to. When an item fails, the remaining items of its level are still imported and the failure is rethrown before
+ * the next level starts.
+ */
+final class CsImportEngine {
+	/**
+	 * Number of items imported concurrently.
+	 */
+	static final int IMPORT_THREADS = 4;
+
+	/**
+	 * Variable for logging.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(CsImportEngine.class);
+
+	private CsImportEngine() {
+	}
+
+	/**
+	 * Imports independent items concurrently.
+	 * @param <T> the type of the items
+	 * @param items the items
+	 * @param importer imports a single item
+	 */
+	static <T> void importAll(final Collection<T> items, final Consumer<T> importer) {
+		importLevels(Collections.singletonList(new ArrayList<>(items)), importer);
+	}
+
+	/**
+	 * Imports the items level by level, the items of a level concurrently.
+	 * @param <T> the type of the items
+	 * @param levels the levels, see {@link #levels(Map)}
+	 * @param importer imports a single item
+	 */
+	static <T> void importLevels(final List<List<T>> levels, final Consumer<T> importer) {
+		for (List<T> level : levels) {
+			ConcurrencyUtil.forEach(level, IMPORT_THREADS, importer);
+		}
+	}
+
+	/**
+	 * Groups items into levels, so that each item is in a later level than the items it depends on. Dependencies
+	 * on items which are not part of the import (e.g. already present on the server) are ignored. Items with
+	 * circular dependencies are put together in the last level.
+	 * @param dependencies the dependencies of each item
+	 * @return the levels, in import order
+	 */
+	static List<List<String>> levels(final Map<String, Set<String>> dependencies) {
+		Map<String, Set<String>> remaining = new TreeMap<>();
+		dependencies.forEach((item, deps) -> {
+			Set<String> known = new HashSet<>(deps);
+			known.retainAll(dependencies.keySet());
+			known.remove(item);
+			remaining.put(item, known);
+		});
+
+		List<List<String>> levels = new ArrayList<>();
+		while (!remaining.isEmpty()) {
+			List<String> level = remaining.entrySet().stream().filter(entry -> entry.getValue().isEmpty()).map(Map.Entry::getKey)
+					.collect(Collectors.toList());
+			if (level.isEmpty()) {
+				LOGGER.warn("Circular dependencies between {}, importing them together", remaining.keySet());
+				level = new ArrayList<>(remaining.keySet());
+			}
+			level.forEach(remaining::remove);
+			for (Set<String> deps : remaining.values()) {
+				deps.removeAll(level);
+			}
+			levels.add(level);
+		}
+		return levels;
+	}
+}
@@ -16,11 +16,7 @@ package com.vmware.pscoe.iac.artifact.store.cs;
  */
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,7 +31,6 @@ import com.google.gson.JsonParser;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.yaml.snakeyaml.Yaml;
 
 public final class CsPipelineStore extends AbstractCsStore {
 	/**
@@ -94,91 +89,35 @@ public final class CsPipelineStore extends AbstractCsStore {
 			return;
 		}
 
-		// Map to store dependencies extracted from YAML files
+		// Parse each YAML file once and extract the rollback dependencies
+		Map<String, JsonObject> pipelines = new HashMap<>();
 		Map<String, Set<String>> dependencies = new HashMap<>();
-
-		// Parse YAML files and extract dependencies
 		for (File file : pipelineFiles) {
-			Set<String> deps = extractPipeRollbackDependencies(file);
-			dependencies.put(file.getName(), deps);
+			JsonObject pipeline = JsonParser.parseString(CsStoreHelper.loadFromYamlFile(file)).getAsJsonObject();
+			pipelines.put(file.getName(), pipeline);
+			dependencies.put(file.getName(), extractPipeRollbackDependencies(pipeline));
 		}
 
-		// Perform topological sort
-		List<String> orderedFiles = topologicalSort(dependencies);
-
-		// Import pipelines in the ordered sequence
-		for (String fileName : orderedFiles) {
-			File file = new File(pipelinesFolder, fileName);
-			importPipeline(file);
-		}
+		// Import the pipelines level by level, a pipeline after the pipelines it rolls back to.
+		// The cache of the project pipelines is filled first, so the concurrent imports do not fetch it each.
+		getProjectPipelines();
+		CsImportEngine.importLevels(CsImportEngine.levels(dependencies), fileName -> importPipeline(pipelines.get(fileName)));
 	}
 
-	private Set<String> extractPipeRollbackDependencies(File yamlFile) {
+	private Set<String> extractPipeRollbackDependencies(JsonObject pipeline) {
 		Set<String> dependencies = new HashSet<>();
-		try (InputStream inputStream = new FileInputStream(yamlFile)) {
-			Yaml yaml = new Yaml();
-			Map<String, Object> data = yaml.load(inputStream);
-			if (data.containsKey("rollbacks")) {
-				Object rollbacksObj = data.get("rollbacks");
-				if (rollbacksObj instanceof List) {
-					for (Object rollback : (List<?>) rollbacksObj) {
-						if (rollback instanceof Map) {
-							Object nameObj = ((Map<?, ?>) rollback).get("name");
-							if (nameObj instanceof String) {
-								String dependencyFileName = (String) nameObj;
-								dependencies.add(dependencyFileName + ".yaml");
-							}
-						}
-					}
+		JsonElement rollbacks = pipeline.get("rollbacks");
+		if (rollbacks != null && rollbacks.isJsonArray()) {
+			for (JsonElement rollback : rollbacks.getAsJsonArray()) {
+				if (rollback.isJsonObject() && rollback.getAsJsonObject().has("name")
+						&& rollback.getAsJsonObject().get("name").isJsonPrimitive()) {
+					dependencies.add(rollback.getAsJsonObject().get("name").getAsString() + ".yaml");
 				}
 			}
-		} catch (IOException e) {
-			logger.error(e.getMessage(), e);
 		}
 		return dependencies;
 	}
 
-	// Topological sort algorithm
-	private List<String> topologicalSort(Map<String, Set<String>> dependencies) {
-		Map<String, Integer> vertexMap = new HashMap<>();
-		List<String> fileList = new ArrayList<>(dependencies.keySet());
-		for (int i = 0; i < fileList.size(); i++) {
-			vertexMap.put(fileList.get(i), i);
-		}
-
-		List<List<Integer>> graph = new ArrayList<>();
-		for (int i = 0; i < fileList.size(); i++) {
-			graph.add(new ArrayList<>());
-		}
-		for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
-			int from = vertexMap.get(entry.getKey());
-			for (String dep : entry.getValue()) {
-				int to = vertexMap.get(dep);
-				graph.get(from).add(to);
-			}
-		}
-
-		List<String> orderedFiles = new ArrayList<>();
-		boolean[] visited = new boolean[fileList.size()];
-		for (int i = 0; i < fileList.size(); i++) {
-			if (!visited[i]) {
-				topologicalSortUtil(graph, i, visited, orderedFiles, fileList);
-			}
-		}
-		return orderedFiles;
-	}
-
-	private void topologicalSortUtil(List<List<Integer>> graph, int v, boolean[] visited, List<String> orderedFiles,
-			List<String> fileList) {
-		visited[v] = true;
-		for (int i : graph.get(v)) {
-			if (!visited[i]) {
-				topologicalSortUtil(graph, i, visited, orderedFiles, fileList);
-			}
-		}
-		orderedFiles.add(fileList.get(v));
-	}
-
 	private void exportPipeline(JsonObject obj) {
 		String pipelineName = obj.get("name").getAsString();
 		logger.info("Exporting pipeline : {}", pipelineName);
@@ -188,10 +127,7 @@ public final class CsPipelineStore extends AbstractCsStore {
 		CsStoreHelper.addVarsToExtractionContext(jsonString, descriptor);
 	}
 
-	private void importPipeline(File pipelineFile) {
-		String jsonString = CsStoreHelper.loadFromYamlFile(pipelineFile);
-		JsonElement el = JsonParser.parseString(jsonString);
-		JsonObject obj = el.getAsJsonObject();
+	private void importPipeline(JsonObject obj) {
 		String name = obj.get("name").getAsString();
 		String state = obj.get("state").getAsString();
 		obj.addProperty("project", restClient.getProjectName());
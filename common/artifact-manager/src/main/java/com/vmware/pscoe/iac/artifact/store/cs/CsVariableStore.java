@@ -21,8 +21,9 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -81,41 +82,34 @@ public class CsVariableStore extends AbstractCsStore {
 
 	private void importVariables(Collection<File> varFiles) {
 
-		List<Variable> existingVariables = this.restClient.getProjectVariables();
-		// Gson gson = new GsonBuilder().setLenient().serializeNulls().create();
-		varFiles.stream()
+		Map<String, Variable> existingVariables = new HashMap<>();
+		this.restClient.getProjectVariables().forEach(ex -> existingVariables.putIfAbsent(ex.getName(), ex));
+		List<Variable> variables = varFiles.stream()
 				.map(this::readSingleFile)
-				// .map(varFile -> gson.fromJson(readFile(varFile), Variable.class))
-				.forEach(vars -> {
-					vars.forEach(var -> {
-						var.setProject(restClient.getProjectName());
-						Optional<Variable> optional = existingVariables
-								.stream()
-								.filter(ex -> ex.getName().equals(var.getName()))
-								.findFirst();
-						if (!optional.isPresent()) {
-							logger.info(String.format("Create variable '%s'", var.getName()));
-							restClient.createVariable(var);
-							return;
-						}
-						Variable existingVar = optional.get();
-						if (existingVar.getType().equals(var.getType())
-								&& existingVar.getDescription().equals(var.getDescription())) {
-							logger.info(String.format("No updates for variable '%s'", existingVar.getName()));
-							return;
-						}
-						if (!existingVar.getType().equals("REGULAR")) {
-							logger.warn(String.format("Change of SECRET/RESTRICTED variable '%s'. Secret value is lost.", existingVar
-									.getName()));
-						}
-
-						var.setValue(existingVar.getValue());
-						logger.info(String.format("Update variable '%s'", var.getName()));
-						restClient.updateVariable(var);
-
-
-					});
-				});
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+		CsImportEngine.importAll(variables, var -> {
+			var.setProject(restClient.getProjectName());
+			Variable existingVar = existingVariables.get(var.getName());
+			if (existingVar == null) {
+				logger.info(String.format("Create variable '%s'", var.getName()));
+				restClient.createVariable(var);
+				return;
+			}
+			if (existingVar.getType().equals(var.getType())
+					&& existingVar.getDescription().equals(var.getDescription())) {
+				logger.info(String.format("No updates for variable '%s'", existingVar.getName()));
+				return;
+			}
+			if (!existingVar.getType().equals("REGULAR")) {
+				logger.warn(String.format("Change of SECRET/RESTRICTED variable '%s'. Secret value is lost.", existingVar
+						.getName()));
+			}
+
+			var.setValue(existingVar.getValue());
+			logger.info(String.format("Update variable '%s'", var.getName()));
+			restClient.updateVariable(var);
+		});
 	}
 
 	private List<Variable> readSingleFile(File varFile) {
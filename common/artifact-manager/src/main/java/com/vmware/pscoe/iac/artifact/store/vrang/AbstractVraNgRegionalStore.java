@@ -36,6 +36,7 @@ public abstract class AbstractVraNgRegionalStore {
     protected Package vraNgPackage;
     protected VraNgPackageDescriptor vraNgPackageDescriptor;
     protected Logger logger;
+    protected VraNgFabricResolver fabricResolver;
 
     private void ini(
 		RestClientVraNg restClient,
@@ -45,8 +46,17 @@ public abstract class AbstractVraNgRegionalStore {
 			this.restClient = restClient;
 			this.vraNgPackage = vraNgPackage;
 			this.vraNgPackageDescriptor = vraNgPackageDescriptor;
+			this.fabricResolver = new VraNgFabricResolver(restClient);
 		}
 
+	/**
+	 * Shares the resolved fabric entities and cloud accounts with other regional stores.
+	 * @param fabricResolver the fabric resolver
+	 */
+	public void setFabricResolver(VraNgFabricResolver fabricResolver) {
+		this.fabricResolver = fabricResolver;
+	}
+
 	public void init(
 		RestClientVraNg restClient,
 		Package vraNgPackage,
@@ -15,12 +15,15 @@ package com.vmware.pscoe.iac.artifact.store.vrang;
  * #L%
  */
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.vmware.pscoe.iac.artifact.configuration.ConfigurationException;
 import com.vmware.pscoe.iac.artifact.configuration.ConfigurationVraNg;
 import com.vmware.pscoe.iac.artifact.model.Package;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgIntegration;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageDescriptor;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
+import com.vmware.pscoe.iac.artifact.utils.VraNgContentHash;
 import com.vmware.pscoe.iac.artifact.utils.VraNgIntegrationUtils;
 
 import org.apache.commons.lang3.StringUtils;
@@ -29,7 +32,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Abstract class that unify the way the content is exported for all subclasses
@@ -134,6 +141,68 @@ public abstract class AbstractVraNgStore implements IVraNgStore {
             }
         }
     }
+	/**
+	 * Compares an item to import with its current representation on the server, see {@link VraNgContentHash}.
+	 *
+	 * @param itemType the type of the item, for logging
+	 * @param itemName the name of the item, for logging
+	 * @param local    the item as it would be imported
+	 * @param server   the item on the server, null if it does not exist
+	 * @return true if the import would not change the item, so it can be skipped
+	 */
+	protected boolean isUnchangedOnServer(String itemType, String itemName, JsonElement local, JsonElement server) {
+		return this.isUnchangedOnServer(itemType, itemName, local, server, VraNgContentHash.SERVER_MANAGED_FIELDS);
+	}
+
+	/**
+	 * Compares an item to import with its current representation on the server, see {@link VraNgContentHash}.
+	 *
+	 * @param itemType            the type of the item, for logging
+	 * @param itemName            the name of the item, for logging
+	 * @param local               the item as it would be imported
+	 * @param server              the item on the server, null if it does not exist
+	 * @param serverManagedFields the properties managed by the server for the type of the item
+	 * @return true if the import would not change the item, so it can be skipped
+	 */
+	protected boolean isUnchangedOnServer(String itemType, String itemName, JsonElement local, JsonElement server,
+			Collection<String> serverManagedFields) {
+		if (server != null && VraNgContentHash.isUnchanged(local, server, serverManagedFields)) {
+			logger.info("Skipping {} '{}', no changes compared to the server", itemType, itemName);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param <P>      the type of the policies
+	 * @param policies the policies on the server
+	 * @param getId    returns the ID of a policy
+	 * @return the policies with an ID, by ID, see {@link #isPolicyUnchangedOnServer}
+	 */
+	protected <P> Map<String, P> getPoliciesById(List<P> policies, Function<P, String> getId) {
+		return policies.stream().filter(policy -> getId.apply(policy) != null)
+				.collect(Collectors.toMap(getId, policy -> policy, (first, second) -> first));
+	}
+
+	/**
+	 * Compares a policy to import with the policy with the same ID on the server, see {@link #isUnchangedOnServer}.
+	 *
+	 * @param <P>              the type of the policy
+	 * @param policyType       the type of the policy, for logging
+	 * @param policyName       the name of the policy, for logging
+	 * @param policyId         the ID of the policy, null if it has none
+	 * @param policy           the policy as it would be imported
+	 * @param policiesOnServer the policies on the server, by ID
+	 * @return true if the import would not change the policy, so it can be skipped
+	 */
+	protected <P> boolean isPolicyUnchangedOnServer(String policyType, String policyName, String policyId, P policy, Map<String, P> policiesOnServer) {
+		if (policyId == null || !policiesOnServer.containsKey(policyId)) {
+			return false;
+		}
+		Gson gson = new Gson();
+		return this.isUnchangedOnServer(policyType, policyName, gson.toJsonTree(policy), gson.toJsonTree(policiesOnServer.get(policyId)));
+	}
+
 	protected File[] filterBasedOnConfiguration(File itemFolder, FilenameFilter filter) {
 		return itemFolder.listFiles(filter);
 	}
@@ -83,12 +83,14 @@ public final class VraNgApprovalPolicyStore  extends AbstractVraNgStore {
 			return;
 		}
 		logger.info("Found Approval Policies. Importing ...");
+		// the policies on the server are fetched once and compared with the local ones
+		Map<String, VraNgApprovalPolicy> policiesOnServer = this.getPoliciesById(this.restClient.getApprovalPolicies(), VraNgApprovalPolicy::getId);
 		for (File policyFile : approvalPolicyFiles) {
 			//exclude hidden files e.g. .DS_Store
 			//exclude files that do not end with a '.json' extension as defined in CUSTOM_RESOURCE_SUFFIX
 			String filename = policyFile.getName();
 			if (!filename.startsWith(".") && filename.endsWith(CUSTOM_RESOURCE_SUFFIX)) {
-				this.handlePolicyImport(policyFile);
+				this.handlePolicyImport(policyFile, policiesOnServer);
 			} else {
 				logger.warn("Skipped unexpected file '{}'", filename);
 			}
@@ -99,8 +101,9 @@ public final class VraNgApprovalPolicyStore  extends AbstractVraNgStore {
 	 * Imports policy file to server , replacing the organization id.
 	 *
 	 * @param approvalPolicyFile   the policy to import.
+	 * @param policiesOnServer the policies on the server, by ID
 	 */
-	private void handlePolicyImport(final File approvalPolicyFile) {
+	private void handlePolicyImport(final File approvalPolicyFile, final Map<String, VraNgApprovalPolicy> policiesOnServer) {
 		//convert file to policy object.
 		VraNgApprovalPolicy policy = jsonFileToVraNgApprovalPolicy(approvalPolicyFile);
 		//replace object organization id with target organization Id
@@ -117,6 +120,9 @@ public final class VraNgApprovalPolicyStore  extends AbstractVraNgStore {
 			policy.setProjectId(this.restClient.getProjectId());
 		}
 		policy.setOrgId(organizationId);
+		if (this.isPolicyUnchangedOnServer("approval policy", policy.getName(), policy.getId(), policy, policiesOnServer)) {
+			return;
+		}
 		this.restClient.createApprovalPolicy(policy);
 	}
 
@@ -260,13 +260,17 @@ public class VraNgBlueprintStore extends AbstractVraNgStore {
 		} else {
 			bpID = existingRecord.getId();
 			bp.setId(bpID);
-			restClient.updateBlueprint(bp);
+			// the draft on the server is already fetched with its content, skip the update when nothing changed
+			Gson gson = new Gson();
+			if (!this.isUnchangedOnServer("blueprint", bpName, gson.toJsonTree(bp), gson.toJsonTree(existingRecord))) {
+				restClient.updateBlueprint(bp);
+			}
 		}
 
-		// Importing blueprint versions
+		// Importing blueprint versions, the older versions are unreleased only when a new version is released
 		VraNgReleaseManager releaseManager = new VraNgReleaseManager(this.restClient);
-		releaseManager.releaseNextVersion(bp);
-		if (this.config.getUnreleaseBlueprintVersions()) {
+		boolean released = releaseManager.releaseNextVersion(bp);
+		if (released && this.config.getUnreleaseBlueprintVersions()) {
 			// Sleep so versions can be ordered correctly. Milliseconds parsing in JAVA is not very good, so we are
 			// forcing a one second difference between versions
 			try {
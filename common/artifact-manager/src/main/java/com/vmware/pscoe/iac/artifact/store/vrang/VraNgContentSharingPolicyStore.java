@@ -7,9 +7,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +62,11 @@ public class VraNgContentSharingPolicyStore extends AbstractVraNgStore {
 	 * Content sharing type: catalog item.
 	 */
 	private static final String CATALOG_ITEM = "CATALOG_ITEM_IDENTIFIER";
+	/**
+	 * Properties of the policy managed by the server. The scope and organization are only used in the stored policies.
+	 */
+	private static final List<String> SERVER_MANAGED_FIELDS = Arrays.asList("id", "createdAt", "createdBy", "lastUpdatedAt",
+			"lastUpdatedBy", "scope", "organization");
 	/**
 	 * Logger.
 	 */
@@ -88,13 +96,16 @@ public class VraNgContentSharingPolicyStore extends AbstractVraNgStore {
 		}
 
 		logger.info("Found Content Sharing Policies. Importing...");
+		// the policies on the server are listed once, the details are fetched only for the policies to compare
+		Set<String> policyIdsOnServer = this.restClient.getContentSharingPolicies().stream()
+				.map(VraNgContentSharingPolicy::getId).collect(Collectors.toSet());
 		for (File policyFile : contentSharingPolicyFiles) {
 			// exclude hidden files e.g. .DS_Store
 			// exclude files that do not end with a '.json' extension as defined in
 			// CUSTOM_RESOURCE_SUFFIX
 			String filename = policyFile.getName();
 			if (!filename.startsWith(".") && filename.endsWith(CUSTOM_RESOURCE_SUFFIX)) {
-				this.handleContentSharingPolicyImport(policyFile);
+				this.handleContentSharingPolicyImport(policyFile, policyIdsOnServer);
 			} else {
 				logger.warn("Skipped unexpected file '{}'", filename);
 			}
@@ -155,12 +166,22 @@ public class VraNgContentSharingPolicyStore extends AbstractVraNgStore {
 	 * . Handles logic to update or create a content sharing policy.
 	 *
 	 * @param contentSharingPolicyFile file where the policy is stored.
+	 * @param policyIdsOnServer the IDs of the policies on the server.
 	 */
-	private void handleContentSharingPolicyImport(final File contentSharingPolicyFile) {
+	private void handleContentSharingPolicyImport(final File contentSharingPolicyFile, final Set<String> policyIdsOnServer) {
 		VraNgContentSharingPolicy csPolicy = jsonFileToVraNgContentSharingPolicy(contentSharingPolicyFile);
 		logger.info("Attempting to import content sharing policy '{}', from file '{}'", csPolicy.getName(), contentSharingPolicyFile.getName());
 		this.resolveEntitledUsersOrgAndScope(csPolicy, true);
 		this.enrichContentSharingPolicy(csPolicy);
+		if (csPolicy.getId() != null && policyIdsOnServer.contains(csPolicy.getId())) {
+			// both sides reference the entitled items, project and organization by ID
+			VraNgContentSharingPolicy existing = this.restClient.getContentSharingPolicy(csPolicy.getId());
+			Gson gson = new Gson();
+			if (this.isUnchangedOnServer("content sharing policy", csPolicy.getName(), gson.toJsonTree(csPolicy), gson.toJsonTree(existing),
+					SERVER_MANAGED_FIELDS)) {
+				return;
+			}
+		}
 		this.restClient.createContentSharingPolicy(csPolicy);
 	}
 
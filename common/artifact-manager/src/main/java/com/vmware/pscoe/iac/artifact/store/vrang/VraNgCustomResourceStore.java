@@ -42,6 +42,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +54,13 @@ import static com.vmware.pscoe.iac.artifact.store.vrang.VraNgDirs.DIR_CUSTOM_RES
 
 public class VraNgCustomResourceStore extends AbstractVraNgStore {
 
+	/**
+	 * Properties of the custom resource and its additional actions managed by the server.
+	 */
+	private static final List<String> SERVER_MANAGED_FIELDS = Arrays.asList("id", "orgId", "createdAt", "createdBy", "updatedAt",
+			"updatedBy", "additionalActions.id", "additionalActions.createdAt", "additionalActions.updatedAt",
+			"additionalActions.formDefinition.id");
+
 	/**
 	 * Current Organization Id.
 	 */
@@ -154,8 +162,10 @@ public class VraNgCustomResourceStore extends AbstractVraNgStore {
 			logger.info("No Custom Resource available - skip import");
 			return;
 		}
+		// the custom resources on the server are fetched once and compared with the local ones
+		Map<String, VraNgCustomResource> customResourcesOnServer = restClient.getAllCustomResources();
 		for (File cr : localList) {
-			this.importCustomResource(cr);
+			this.importCustomResource(cr, customResourcesOnServer);
 		}
 	}
 
@@ -205,9 +215,12 @@ public class VraNgCustomResourceStore extends AbstractVraNgStore {
 	 * the same is deleted prior the import. Custom resource ID is removed to prevent the deletition
 	 * of existing custom resource with matching ID in another tenant in multi-tenant environments.
 	 *
+	 * The import is skipped when the custom resource on the server does not differ from the local one.
+	 *
 	 * @param jsonFile file of the resource action
+	 * @param customResourcesOnServer custom resources on the server, by ID
 	 */
-	private void importCustomResource(final File jsonFile) {
+	private void importCustomResource(final File jsonFile, final Map<String, VraNgCustomResource> customResourcesOnServer) {
 		String customResourceName = FilenameUtils.removeExtension(jsonFile.getName());
 		String resourceType = "[UNKNOWN]";
 		String existingObjectId = null;
@@ -231,7 +244,14 @@ public class VraNgCustomResourceStore extends AbstractVraNgStore {
 				// by the given organization.
 				// If not found, there is still a posibility that one exists under different
 				// organization.
-				existingObjectId = getIdOfCustomResourceOfType(resourceType);
+				VraNgCustomResource existing = getCustomResourceOfType(resourceType, customResourcesOnServer);
+				if (existing != null) {
+					existingObjectId = existing.getId();
+					if (this.isUnchangedOnServer("custom resource", customResourceName, customResourceJsonElement,
+							gson.fromJson(existing.getJson(), JsonObject.class), SERVER_MANAGED_FIELDS)) {
+						return;
+					}
+				}
 			}
 			// If Custom Resource with the same resource type exists - delete it first.
 			// There can only be just one custom resource of a given resource type.
@@ -344,11 +364,10 @@ public class VraNgCustomResourceStore extends AbstractVraNgStore {
 		return true;
 	}
 
-	private String getIdOfCustomResourceOfType(final String type) {
+	private VraNgCustomResource getCustomResourceOfType(final String type, final Map<String, VraNgCustomResource> allResources) {
 		if (type == null) {
 			return null;
 		}
-		Map<String, VraNgCustomResource> allResources = restClient.getAllCustomResources();
 		for (String id : allResources.keySet()) {
 			VraNgCustomResource customResource = allResources.get(id);
 			String json = customResource.getJson();
@@ -357,7 +376,7 @@ public class VraNgCustomResourceStore extends AbstractVraNgStore {
 			JsonElement resourceTypeElement = customResourceObject.get("resourceType");
 			if (resourceTypeElement != null && resourceTypeElement.isJsonPrimitive()
 				&& type.equals(resourceTypeElement.getAsString())) {
-				return id;
+				return customResource;
 			}
 		}
 		return null;
@@ -83,12 +83,14 @@ public final class VraNgDay2ActionsPolicyStore extends AbstractVraNgStore {
 
 		logger.info("Found Day 2 Actions  Policies. Importing ...");
 
+		// the policies on the server are fetched once and compared with the local ones
+		Map<String, VraNgDay2ActionsPolicy> policiesOnServer = this.getPoliciesById(this.restClient.getDay2ActionsPolicies(), VraNgDay2ActionsPolicy::getId);
 		for (File policyFile : day2ActionsolicyFiles) {
 			//exclude hidden files e.g. .DS_Store
 			//exclude files that do not end with a '.json' extension as defined in CUSTOM_RESOURCE_SUFFIX
 			String filename = policyFile.getName();
 			if (!filename.startsWith(".") && filename.endsWith(CUSTOM_RESOURCE_SUFFIX)) {
-				this.handleDay2ActionsPolicyImport(policyFile);
+				this.handleDay2ActionsPolicyImport(policyFile, policiesOnServer);
 			} else {
 				logger.warn("Skipped unexpected file '{}'", filename);
 			}
@@ -100,8 +102,9 @@ public final class VraNgDay2ActionsPolicyStore extends AbstractVraNgStore {
 	 * Handles logic to update or create a day 2 actions policy.
 	 *
 	 * @param day2ActionspolicyFile
+	 * @param policiesOnServer the policies on the server, by ID
 	 */
-	private void handleDay2ActionsPolicyImport(final File day2ActionspolicyFile) {
+	private void handleDay2ActionsPolicyImport(final File day2ActionspolicyFile, final Map<String, VraNgDay2ActionsPolicy> policiesOnServer) {
 		VraNgDay2ActionsPolicy policy = jsonFileToVraNgDay2ActionsPolicy(day2ActionspolicyFile);
 		//replace object organization id with target organization Id
 		String organizationId = VraNgOrganizationUtil.getOrganization(this.restClient, this.config).getId();
@@ -115,6 +118,9 @@ public final class VraNgDay2ActionsPolicyStore extends AbstractVraNgStore {
 			policy.setProjectId(this.restClient.getProjectId());
 		}
 		policy.setOrgId(organizationId);
+		if (this.isPolicyUnchangedOnServer("day 2 actions policy", policy.getName(), policy.getId(), policy, policiesOnServer)) {
+			return;
+		}
 		this.restClient.createDay2ActionsPolicy(policy);
 	}
 	/**
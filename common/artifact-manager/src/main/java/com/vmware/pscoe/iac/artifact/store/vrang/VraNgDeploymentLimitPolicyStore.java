@@ -83,12 +83,14 @@ public final class VraNgDeploymentLimitPolicyStore extends AbstractVraNgStore {
 		}
 
 		logger.info("Found Deployment Limit Policies. Importing ...");
+		// the policies on the server are fetched once and compared with the local ones
+		Map<String, VraNgDeploymentLimitPolicy> policiesOnServer = this.getPoliciesById(this.restClient.getDeploymentLimitPolicies(), VraNgDeploymentLimitPolicy::getId);
 		for (File policyFile : deploymentLimitPolicyFiles) {
 			//exclude hidden files e.g. .DS_Store
 			//exclude files that do not end with a '.json' extension as defined in CUSTOM_RESOURCE_SUFFIX
 			String filename = policyFile.getName();
 			if (!filename.startsWith(".") && filename.endsWith(CUSTOM_RESOURCE_SUFFIX)) {
-				this.handleDeploymentLimitPolicyImport(policyFile);
+				this.handleDeploymentLimitPolicyImport(policyFile, policiesOnServer);
 			} else {
 				logger.warn("Skipped unexpected file '{}'", filename);
 			}
@@ -100,8 +102,9 @@ public final class VraNgDeploymentLimitPolicyStore extends AbstractVraNgStore {
 	 * Handles logic to update or create a deployment limit policy.
 	 *
 	 * @param policyFile
+	 * @param policiesOnServer the policies on the server, by ID
 	 */
-	private void handleDeploymentLimitPolicyImport(final File policyFile)  {
+	private void handleDeploymentLimitPolicyImport(final File policyFile, final Map<String, VraNgDeploymentLimitPolicy> policiesOnServer) {
 
 		VraNgDeploymentLimitPolicy policy = jsonFileToVraNgDeploymentLimitPolicy(policyFile);
 		logger.info("Attempting to import deployment limit policy '{}'", policy.getName());
@@ -117,6 +120,9 @@ public final class VraNgDeploymentLimitPolicyStore extends AbstractVraNgStore {
 			policy.setProjectId(this.restClient.getProjectId());
 		}
 		policy.setOrgId(organizationId);
+		if (this.isPolicyUnchangedOnServer("deployment limit policy", policy.getName(), policy.getId(), policy, policiesOnServer)) {
+			return;
+		}
 		this.restClient.createDeploymentLimitPolicy(policy);
 	}
 	/**
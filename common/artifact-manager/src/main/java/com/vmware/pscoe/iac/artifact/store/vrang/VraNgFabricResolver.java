@@ -0,0 +1,140 @@
+package com.vmware.pscoe.iac.artifact.store.vrang;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgCloudAccount;
+import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
+
+/**
+ * Resolves the names and ids of the fabric entities (e.g. datastores, storage policies, regions) and the cloud
+ * accounts referenced by the regional content.
+ *
+ * Each fabric type is listed once and kept in name and id maps, so resolving the links of all storage profiles of
+ * an environment needs one request per fabric type instead of one request per link. The regional stores of a
+ * package share one resolver.
+ */
+public class VraNgFabricResolver {
+	/**
+	 * Index of the fabric type in a fabric link, e.g. /iaas/api/fabric-vsphere-datastores/{id}.
+	 */
+	private static final int FABRIC_TYPE_INDEX = 3;
+
+	/**
+	 * Variable for logging.
+	 */
+	private final Logger logger = LoggerFactory.getLogger(VraNgFabricResolver.class);
+
+	/**
+	 * The rest client.
+	 */
+	private final RestClientVraNg restClient;
+
+	/**
+	 * The fabric entities by fabric type, with key=id, value=name.
+	 */
+	private final Map<String, Map<String, String>> namesById = new ConcurrentHashMap<>();
+
+	/**
+	 * The fabric entities by fabric type, with key=name, value=id.
+	 */
+	private final Map<String, Map<String, String>> idsByName = new ConcurrentHashMap<>();
+
+	/**
+	 * Entities resolved one by one because they are missing from the listing, by fabric link or type and name.
+	 */
+	private final Map<String, Optional<String>> resolved = new ConcurrentHashMap<>();
+
+	/**
+	 * The cloud accounts.
+	 */
+	private List<VraNgCloudAccount> cloudAccounts;
+
+	/**
+	 * @param restClient the rest client
+	 */
+	public VraNgFabricResolver(final RestClientVraNg restClient) {
+		this.restClient = restClient;
+	}
+
+	/**
+	 * @return the cloud accounts, retrieved once
+	 */
+	public synchronized List<VraNgCloudAccount> getCloudAccounts() {
+		if (cloudAccounts == null) {
+			cloudAccounts = restClient.getCloudAccounts();
+		}
+		return cloudAccounts;
+	}
+
+	/**
+	 * Resolves the name of a fabric entity.
+	 *
+	 * @param fabricUrl the fabric link, e.g. /iaas/api/fabric-vsphere-datastores/{id}
+	 * @return the name of the entity
+	 */
+	public String getName(final String fabricUrl) {
+		String[] segments = fabricUrl.split("/");
+		if (segments.length > FABRIC_TYPE_INDEX + 1) {
+			String name = getNamesById(segments[FABRIC_TYPE_INDEX]).get(segments[segments.length - 1]);
+			if (name != null) {
+				return name;
+			}
+		}
+		return resolved.computeIfAbsent(fabricUrl, url -> Optional.ofNullable(restClient.getFabricEntityName(url))).orElse(null);
+	}
+
+	/**
+	 * Resolves the id of a fabric entity.
+	 *
+	 * @param fabricType the fabric type, e.g. fabric-vsphere-datastores
+	 * @param name the name of the entity
+	 * @return the id of the entity, null if there is no such entity
+	 */
+	public String getId(final String fabricType, final String name) {
+		getNamesById(fabricType);
+		String id = idsByName.get(fabricType).get(name);
+		if (id != null) {
+			return id;
+		}
+		return resolved.computeIfAbsent(fabricType + "/" + name, key -> Optional.ofNullable(restClient.getFabricEntityId(fabricType, name)))
+				.orElse(null);
+	}
+
+	private Map<String, String> getNamesById(final String fabricType) {
+		return namesById.computeIfAbsent(fabricType, type -> {
+			Map<String, String> entities = restClient.getFabricEntities(type);
+			if (entities == null) {
+				entities = Collections.emptyMap();
+			}
+			Map<String, String> ids = new HashMap<>();
+			// the first entity with a name wins, as when looking up a single entity by name
+			entities.forEach((id, name) -> ids.putIfAbsent(name, id));
+			idsByName.put(type, ids);
+			logger.debug("Retrieved {} entities of {}", entities.size(), type);
+			return entities;
+		});
+	}
+}
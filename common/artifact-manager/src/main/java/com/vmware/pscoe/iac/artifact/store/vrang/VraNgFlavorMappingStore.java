@@ -170,7 +170,7 @@ public class VraNgFlavorMappingStore extends AbstractVraNgRegionalStore{
             return;
         }
 
-        List<VraNgCloudAccount> cloudAccounts = this.restClient.getCloudAccounts();
+        List<VraNgCloudAccount> cloudAccounts = this.fabricResolver.getCloudAccounts();
 
         Map<String, List<String>> flavorProfilesByRegion = this.restClient.getAllFlavorProfilesByRegion();
 
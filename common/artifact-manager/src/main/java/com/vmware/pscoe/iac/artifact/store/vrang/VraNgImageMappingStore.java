@@ -190,7 +190,7 @@ public class VraNgImageMappingStore extends AbstractVraNgRegionalStore {
             return;
         }
 
-        List<VraNgCloudAccount> cloudAccounts = this.restClient.getCloudAccounts();
+        List<VraNgCloudAccount> cloudAccounts = this.fabricResolver.getCloudAccounts();
 
         Map<String, List<String>> imageProfilesByRegion = this.restClient.getAllImageProfilesByRegion();
 
@@ -81,19 +81,21 @@ public final class VraNgLeasePolicyStore extends AbstractVraNgStore {
 		}
 
 		logger.info("Found Lease Policies. Importing...");
+		// the policies on the server are fetched once and compared with the local ones
+		Map<String, VraNgLeasePolicy> policiesOnServer = this.getPoliciesById(this.restClient.getLeasePolicies(), VraNgLeasePolicy::getId);
 		for (File policyFile : leasePolicyFiles) {
 			//exclude hidden files e.g. .DS_Store
 			//exclude files that do not end with a '.json' extension as defined in CUSTOM_RESOURCE_SUFFIX
 			String filename = policyFile.getName();
 			if (!filename.startsWith(".") && filename.endsWith(CUSTOM_RESOURCE_SUFFIX)) {
-				this.handleLeasePolicyImport(policyFile);
+				this.handleLeasePolicyImport(policyFile, policiesOnServer);
 			} else {
 				logger.warn("Skipped unexpected file '{}'", filename);
 			}
 		}
 	}
 
-	private void handleLeasePolicyImport(final File leasePolicyFile) {
+	private void handleLeasePolicyImport(final File leasePolicyFile, final Map<String, VraNgLeasePolicy> policiesOnServer) {
 		VraNgLeasePolicy policy = jsonFileToVraNgLeasePolicy(leasePolicyFile);
 		logger.info("Attempting to import Lease policy '{}'", policy.getName());
 
@@ -107,6 +109,9 @@ public final class VraNgLeasePolicyStore extends AbstractVraNgStore {
 			policy.setProjectId(this.restClient.getProjectId());
 		}
 		policy.setOrgId(organizationId);
+		if (this.isPolicyUnchangedOnServer("lease policy", policy.getName(), policy.getId(), policy, policiesOnServer)) {
+			return;
+		}
 		this.restClient.createLeasePolicy(policy);
 	}
 
@@ -0,0 +1,141 @@
+package com.vmware.pscoe.iac.artifact.store.vrang;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageContent.ContentType;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageDescriptor;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPolicy;
+import com.vmware.pscoe.iac.artifact.store.filters.CustomFolderFileFilter;
+import com.vmware.pscoe.iac.artifact.store.filters.CustomFolderFolderFilter;
+
+/**
+ * The local files of the vRA content selected by a package descriptor (content.yaml).
+ *
+ * The files are selected the same way the stores select them on import: a type given as null in the descriptor
+ * selects all its local files, a list of names selects only the files of these items. The regional content is stored
+ * by region mapping instead of by item name, so it is not part of the selection.
+ */
+public final class VraNgLocalContent {
+
+	/**
+	 * The local directories of the content types, with the items selected for them by the descriptor.
+	 */
+	private static final List<ContentDirectory> DIRECTORIES = List.of(
+			new ContentDirectory(ContentType.PROPERTY_GROUP, VraNgPackageDescriptor::getPropertyGroup, false, VraNgDirs.DIR_PROPERTY_GROUPS),
+			new ContentDirectory(ContentType.CONTENT_SOURCE, VraNgPackageDescriptor::getContentSource, false, VraNgDirs.DIR_CONTENT_SOURCES),
+			new ContentDirectory(ContentType.CUSTOM_RESOURCE, VraNgPackageDescriptor::getCustomResource, false, VraNgDirs.DIR_CUSTOM_RESOURCES),
+			new ContentDirectory(ContentType.RESOURCE_ACTION, VraNgPackageDescriptor::getResourceAction, false, VraNgDirs.DIR_RESOURCE_ACTIONS),
+			new ContentDirectory(ContentType.BLUEPRINT, VraNgPackageDescriptor::getBlueprint, true, VraNgDirs.DIR_BLUEPRINTS),
+			new ContentDirectory(ContentType.SUBSCRIPTION, VraNgPackageDescriptor::getSubscription, false, VraNgDirs.DIR_SUBSCRIPTIONS),
+			new ContentDirectory(ContentType.CATALOG_ENTITLEMENT, VraNgPackageDescriptor::getCatalogEntitlement, false, VraNgDirs.DIR_ENTITLEMENTS),
+			new ContentDirectory(ContentType.CATALOG_ITEM, VraNgPackageDescriptor::getCatalogItem, false, VraNgDirs.DIR_CATALOG_ITEMS),
+			new ContentDirectory(ContentType.CONTENT_SHARING_POLICY, policies(VraNgPolicy::getContentSharing), false, VraNgDirs.DIR_POLICIES, "content-sharing"),
+			new ContentDirectory(ContentType.LEASE_POLICY, policies(VraNgPolicy::getLease), false, VraNgDirs.DIR_POLICIES, "lease"),
+			new ContentDirectory(ContentType.RESOURCE_QUOTA_POLICY, policies(VraNgPolicy::getResourceQuota), false, VraNgDirs.DIR_POLICIES, "resource-quota"),
+			new ContentDirectory(ContentType.DAY2_ACTIONS_POLICY, policies(VraNgPolicy::getDay2Actions), false, VraNgDirs.DIR_POLICIES, "day2-actions"),
+			new ContentDirectory(ContentType.DEPLOYMENT_LIMIT_POLICY, policies(VraNgPolicy::getDeploymentLimit), false, VraNgDirs.DIR_POLICIES, "deployment-limit"),
+			new ContentDirectory(ContentType.APPROVAL_POLICY, policies(VraNgPolicy::getApproval), false, VraNgDirs.DIR_POLICIES, "approval"));
+
+	private VraNgLocalContent() {
+	}
+
+	/**
+	 * @param descriptor      the package descriptor
+	 * @param sourceDirectory the directory with the local content
+	 * @return the local files of the items selected by the descriptor
+	 * @throws IOException if a selected item directory cannot be listed
+	 */
+	public static List<File> getSelectedFiles(final VraNgPackageDescriptor descriptor, final File sourceDirectory) throws IOException {
+		List<File> files = new ArrayList<>();
+		for (ContentDirectory directory : DIRECTORIES) {
+			for (File item : directory.getSelectedItems(descriptor, sourceDirectory)) {
+				if (item.isDirectory()) {
+					try (Stream<Path> stream = Files.walk(item.toPath())) {
+						stream.filter(Files::isRegularFile).forEach(file -> files.add(file.toFile()));
+					}
+				} else {
+					files.add(item);
+				}
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * @param type            the content type
+	 * @param descriptor      the package descriptor
+	 * @param sourceDirectory the directory with the local content
+	 * @return the number of local items of the type selected by the descriptor, -1 for the regional content
+	 */
+	public static int countSelectedItems(final ContentType type, final VraNgPackageDescriptor descriptor, final File sourceDirectory) {
+		return DIRECTORIES.stream().filter(directory -> directory.type == type).findFirst()
+				.map(directory -> directory.getSelectedItems(descriptor, sourceDirectory).length).orElse(-1);
+	}
+
+	private static Function<VraNgPackageDescriptor, List<String>> policies(final Function<VraNgPolicy, List<String>> policyNames) {
+		return descriptor -> descriptor.getPolicy() == null ? null : policyNames.apply(descriptor.getPolicy());
+	}
+
+	/**
+	 * The local directory of a content type.
+	 */
+	private static final class ContentDirectory {
+		/**
+		 * The content type stored in the directory.
+		 */
+		private final ContentType type;
+		/**
+		 * Returns the items of the type selected by the descriptor.
+		 */
+		private final Function<VraNgPackageDescriptor, List<String>> itemNames;
+		/**
+		 * Whether each item is stored in a folder named after it, otherwise in a file.
+		 */
+		private final boolean itemsAreFolders;
+		/**
+		 * The path of the directory, relative to the source directory.
+		 */
+		private final String[] path;
+
+		ContentDirectory(final ContentType type, final Function<VraNgPackageDescriptor, List<String>> itemNames, final boolean itemsAreFolders,
+				final String... path) {
+			this.type = type;
+			this.itemNames = itemNames;
+			this.itemsAreFolders = itemsAreFolders;
+			this.path = path;
+		}
+
+		File[] getSelectedItems(final VraNgPackageDescriptor descriptor, final File sourceDirectory) {
+			File folder = Paths.get(sourceDirectory.getPath(), path).toFile();
+			List<String> names = itemNames.apply(descriptor);
+			if (!folder.isDirectory() || (names != null && names.isEmpty())) {
+				return new File[0];
+			}
+			File[] items = folder.listFiles(itemsAreFolders ? new CustomFolderFolderFilter(names) : new CustomFolderFileFilter(names));
+			return items == null ? new File[0] : items;
+		}
+	}
+}
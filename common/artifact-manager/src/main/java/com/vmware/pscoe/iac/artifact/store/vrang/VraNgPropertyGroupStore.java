@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.List;
 
 import com.google.gson.Gson;
@@ -55,6 +56,11 @@ public final class VraNgPropertyGroupStore extends AbstractVraNgStore {
 	 * Suffix used for the property groups.
 	 */
 	private static final String PROPERTY_GROUP_SUFFIX = ".json";
+	/**
+	 * Properties of the property group data managed by the server, see {@link #sanitizePropertyGroupJsonElement}.
+	 */
+	private static final List<String> SERVER_MANAGED_FIELDS = Arrays.asList("id", "orgId", "projectName", "createdAt", "createdBy",
+			"updatedAt", "updatedBy");
 
 	/**
 	 * Initialize store.
@@ -158,6 +164,10 @@ public final class VraNgPropertyGroupStore extends AbstractVraNgStore {
 			}
 
 			propertyGroup.setId(existingPropertyGroup.getId());
+			if (this.isUnchangedOnServer("property group", propertyGroup.getName(), JsonParser.parseString(propertyGroup.getRawData()),
+					JsonParser.parseString(existingPropertyGroup.getRawData()), SERVER_MANAGED_FIELDS)) {
+				return;
+			}
 			logger.info("Updating property group: {}", customPropertyGroupFile.getAbsolutePath());
 			this.restClient.updatePropertyGroup(propertyGroup);
 		} else { // CREATE
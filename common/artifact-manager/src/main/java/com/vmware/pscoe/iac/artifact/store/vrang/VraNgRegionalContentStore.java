@@ -87,7 +87,8 @@ public class VraNgRegionalContentStore extends AbstractVraNgStore {
         // determine from which cloud account to export the content (based on the export
         // tag)
         String exportTag = regionMapping.getCloudAccountTags().getExportTag();
-        List<VraNgCloudAccount> cloudAccounts = this.restClient
+        VraNgFabricResolver fabricResolver = new VraNgFabricResolver(restClient);
+        List<VraNgCloudAccount> cloudAccounts = fabricResolver
                 .getCloudAccounts().stream().filter(cloudAccount -> VraNgRegionalContentUtils
                         .isIntersecting(cloudAccount.getTags(), new ArrayList<String>(Arrays.asList(exportTag))))
                 .collect(Collectors.toList());
@@ -106,16 +107,19 @@ public class VraNgRegionalContentStore extends AbstractVraNgStore {
         // export flavor mappings
         VraNgFlavorMappingStore flavorMappingStore = new VraNgFlavorMappingStore();
 		flavorMappingStore.init( restClient, vraNgPackage, vraNgPackageDescriptor );
+		flavorMappingStore.setFabricResolver( fabricResolver );
         flavorMappingStore.exportContent( cloudAccounts );
 
         // export image mappings
         VraNgImageMappingStore imageMappingStore = new VraNgImageMappingStore();
 		imageMappingStore.init( restClient, vraNgPackage, vraNgPackageDescriptor );
+		imageMappingStore.setFabricResolver( fabricResolver );
 		imageMappingStore.exportContent( cloudAccounts );
 
         // export storage profiles
         VraNgStorageProfileStore storageProfileStore = new VraNgStorageProfileStore();
 		storageProfileStore.init( restClient, vraNgPackage, vraNgPackageDescriptor );
+		storageProfileStore.setFabricResolver( fabricResolver );
 		storageProfileStore.exportContent( cloudAccounts );
     }
 
@@ -158,19 +162,25 @@ public class VraNgRegionalContentStore extends AbstractVraNgStore {
             }
             List<String> importTags = (ArrayList<String>) cloudAccountTags.get("import-tags");
 
+            // the regional stores share the cloud accounts and fabric entities
+            VraNgFabricResolver fabricResolver = new VraNgFabricResolver(restClient);
+
             // flavor mappings
 			VraNgFlavorMappingStore flavorMappingStore = new VraNgFlavorMappingStore();
 			flavorMappingStore.init( restClient, vraNgPackage, vraNgPackageDescriptor );
+			flavorMappingStore.setFabricResolver( fabricResolver );
             flavorMappingStore.importContent(sourceDirectory, importTags);
 
             // image mappings
             VraNgImageMappingStore imageMappingStore = new VraNgImageMappingStore();
 			imageMappingStore.init( restClient, vraNgPackage, vraNgPackageDescriptor );
+			imageMappingStore.setFabricResolver( fabricResolver );
             imageMappingStore.importContent(sourceDirectory, importTags);
 
             // storage profiles
             VraNgStorageProfileStore storageProfileStore = new VraNgStorageProfileStore();
 			storageProfileStore.init( restClient, vraNgPackage, vraNgPackageDescriptor );
+			storageProfileStore.setFabricResolver( fabricResolver );
             storageProfileStore.importContent(sourceDirectory, importTags);
 
         } catch (FileNotFoundException e) {
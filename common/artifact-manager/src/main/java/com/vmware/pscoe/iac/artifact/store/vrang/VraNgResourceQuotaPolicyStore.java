@@ -84,12 +84,14 @@ public final class VraNgResourceQuotaPolicyStore extends AbstractVraNgStore {
 
 		logger.info("Found Resource Quota Policies. Importing ...");
 
+		// the policies on the server are fetched once and compared with the local ones
+		Map<String, VraNgResourceQuotaPolicy> policiesOnServer = this.getPoliciesById(this.restClient.getResourceQuotaPolicies(), VraNgResourceQuotaPolicy::getId);
 		for (File policyFile : resourceQuotaPolicyFiles) {
 			//exclude hidden files e.g. .DS_Store
 			//exclude files that do not end with a '.json' extension as defined in CUSTOM_RESOURCE_SUFFIX
 			String filename = policyFile.getName();
 			if (!filename.startsWith(".") && filename.endsWith(CUSTOM_RESOURCE_SUFFIX)) {
-				this.handleResourceQuotaPolicyImport(policyFile);
+				this.handleResourceQuotaPolicyImport(policyFile, policiesOnServer);
 			} else {
 				logger.warn("Skipped unexpected file '{}'", filename);
 			}
@@ -101,8 +103,9 @@ public final class VraNgResourceQuotaPolicyStore extends AbstractVraNgStore {
 	 * Handles logic to update or create a resource quota policy.
 	 *
 	 * @param resourceQuotaPolicyFile to read from
+	 * @param policiesOnServer the policies on the server, by ID
 	 */
-	private void handleResourceQuotaPolicyImport(final File resourceQuotaPolicyFile) {
+	private void handleResourceQuotaPolicyImport(final File resourceQuotaPolicyFile, final Map<String, VraNgResourceQuotaPolicy> policiesOnServer) {
 
 		VraNgResourceQuotaPolicy policy = jsonFileToVraNgResourceQuotaPolicy(resourceQuotaPolicyFile);
 
@@ -118,6 +121,9 @@ public final class VraNgResourceQuotaPolicyStore extends AbstractVraNgStore {
 			policy.setProjectId(this.restClient.getProjectId());
 		}
 		policy.setOrgId(organizationId);
+		if (this.isPolicyUnchangedOnServer("resource quota policy", policy.getName(), policy.getId(), policy, policiesOnServer)) {
+			return;
+		}
 		this.restClient.createResourceQuotaPolicy(policy);
 	}
 
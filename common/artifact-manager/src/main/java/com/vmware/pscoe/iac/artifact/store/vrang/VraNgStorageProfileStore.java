@@ -201,7 +201,7 @@ public class VraNgStorageProfileStore extends AbstractVraNgRegionalStore {
                     String datastoreHref = ob.get("_links").getAsJsonObject()
                             .get("datastore").getAsJsonObject()
                             .get("href").getAsString();
-                    String datastoreName = this.restClient.getFabricEntityName(datastoreHref);
+                    String datastoreName = this.fabricResolver.getName(datastoreHref);
                     datastore.put("name", datastoreName);
                     datastore.put("fabric", datastoreHref.split("/")[3]);
                     cleanOb.add("_datastore", gson.toJsonTree(datastore));
@@ -213,7 +213,7 @@ public class VraNgStorageProfileStore extends AbstractVraNgRegionalStore {
                     String storagePolicyHref = ob.get("_links").getAsJsonObject()
                             .get("storage-policy").getAsJsonObject()
                             .get("href").getAsString();
-                    String storagePolicyName = this.restClient.getFabricEntityName(storagePolicyHref);
+                    String storagePolicyName = this.fabricResolver.getName(storagePolicyHref);
                     storagePolicy.put("name", storagePolicyName);
                     storagePolicy.put("fabric", storagePolicyHref.split("/")[3]);
                     cleanOb.add("_storagePolicy", gson.toJsonTree(storagePolicy));
@@ -249,7 +249,7 @@ public class VraNgStorageProfileStore extends AbstractVraNgRegionalStore {
             return;
         }
 
-        List<VraNgCloudAccount> cloudAccounts = this.restClient.getCloudAccounts();
+        List<VraNgCloudAccount> cloudAccounts = this.fabricResolver.getCloudAccounts();
 
         Map<String, List<VraNgStorageProfile>> storageProfilesByRegion = this.restClient.getAllStorageProfilesByRegion();
 
@@ -440,7 +440,7 @@ public class VraNgStorageProfileStore extends AbstractVraNgRegionalStore {
     private String resolveFabricId(JsonObject ob) {
         String fabric = ob.get("fabric").getAsString();
         String name = ob.get("name").getAsString();
-        String entityId = this.restClient.getFabricEntityId(fabric, name);
+        String entityId = this.fabricResolver.getId(fabric, name);
         logger.debug("{} '{}': {}", fabric, name, entityId);
         return entityId;
     }
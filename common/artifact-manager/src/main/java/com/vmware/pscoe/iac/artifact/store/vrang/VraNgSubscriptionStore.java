@@ -195,6 +195,11 @@ public class VraNgSubscriptionStore extends AbstractVraNgStore {
             logger.info("Trying to importing subscription '{}' with ID {}...", subscriptionName, subscriptionId);
             substituteProjects(subscriptionJsonElement);
             addRunnableId(subscriptionJsonElement);
+            VraNgSubscription existing = allSubscriptions.get(subscriptionId);
+            if (existing != null && this.isUnchangedOnServer("subscription", subscriptionName, subscriptionJsonElement,
+                    JsonParser.parseString(existing.getJson()))) {
+                return;
+            }
             subscriptionContent = gson.toJson(subscriptionJsonElement);
             restClient.importSubscription(subscriptionName, subscriptionContent);
             logger.debug("Subscription '{}' imported successfully.", subscriptionName);
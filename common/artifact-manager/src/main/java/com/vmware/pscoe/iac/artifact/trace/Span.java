@@ -0,0 +1,151 @@
+package com.vmware.pscoe.iac.artifact.trace;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed phase, e.g. the import of one content type. A span started while another span of the same thread is open
+ * becomes its child. Spans are closed with try-with-resources:
+ *
+ * <pre>
+ * try (Span span = Tracer.span("vrang.import.blueprint")) {
+ *     span.setCount(blueprints.size());
+ *     ...
+ * }
+ * </pre>
+ */
+public final class Span implements AutoCloseable {
+	/**
+	 * The attribute holding the number of items processed in the span.
+	 */
+	public static final String COUNT = "count";
+
+	/**
+	 * The span returned while not tracing, which records nothing.
+	 */
+	static final Span NOT_RECORDED = new Span(null, 0, null, "");
+
+	/**
+	 * The tracer of the span, null when not recorded.
+	 */
+	private final Tracer tracer;
+
+	/**
+	 * The id of the span.
+	 */
+	private final long id;
+
+	/**
+	 * The enclosing span of the same thread, null for a root span.
+	 */
+	private final Span parent;
+
+	/**
+	 * The name of the span.
+	 */
+	private final String name;
+
+	/**
+	 * The thread which started the span.
+	 */
+	private final Thread thread;
+
+	/**
+	 * The start, as returned by {@link System#nanoTime()}.
+	 */
+	private final long startNanoTime;
+
+	/**
+	 * The attributes of the span.
+	 */
+	private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+	/**
+	 * The duration, -1 while the span is open.
+	 */
+	private volatile long durationNanos = -1;
+
+	Span(final Tracer tracer, final long id, final Span parent, final String name) {
+		this.tracer = tracer;
+		this.id = id;
+		this.parent = parent;
+		this.name = name;
+		this.thread = Thread.currentThread();
+		this.startNanoTime = System.nanoTime();
+	}
+
+	/**
+	 * @param key the attribute name
+	 * @param value the attribute value, a string or a number
+	 * @return the span
+	 */
+	public synchronized Span setAttribute(final String key, final Object value) {
+		if (tracer != null) {
+			attributes.put(key, value);
+		}
+		return this;
+	}
+
+	/**
+	 * @param count the number of items processed in the span
+	 * @return the span
+	 */
+	public Span setCount(final long count) {
+		return setAttribute(COUNT, count);
+	}
+
+	/**
+	 * Ends the span.
+	 */
+	@Override
+	public void close() {
+		if (tracer != null && durationNanos < 0) {
+			durationNanos = System.nanoTime() - startNanoTime;
+			tracer.end(this);
+		}
+	}
+
+	long getId() {
+		return id;
+	}
+
+	Span getParent() {
+		return parent;
+	}
+
+	String getName() {
+		return name;
+	}
+
+	Thread getThread() {
+		return thread;
+	}
+
+	long getStartNanoTime() {
+		return startNanoTime;
+	}
+
+	long getDurationNanos() {
+		return durationNanos;
+	}
+
+	synchronized Map<String, Object> getAttributes() {
+		return Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+	}
+}
@@ -0,0 +1,343 @@
+package com.vmware.pscoe.iac.artifact.trace;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Records the {@link Span}s of the store phases (unpack, fetch, import per content type, workflow execution) and
+ * exports them as Chrome trace-event JSON, which can be opened in chrome://tracing or Perfetto as a flame chart, or as
+ * OTLP JSON, which can be sent to an OpenTelemetry collector later. No collector is needed while running.
+ *
+ * Spans are recorded only while tracing is started, by the tracer of the thread which started it and of the threads
+ * started by it, so the Mojos of a parallel build each write their own trace. Spans started while not tracing are not
+ * recorded. The export format is selected with the {@value #FORMAT_PROPERTY} system property: chrome (default) or
+ * otlp.
+ */
+public final class Tracer {
+	/**
+	 * The system property selecting the export format.
+	 */
+	public static final String FORMAT_PROPERTY = "iac.trace.format";
+
+	/**
+	 * The OTLP export format.
+	 */
+	public static final String FORMAT_OTLP = "otlp";
+
+	/**
+	 * Maximum number of spans kept, the later spans are dropped.
+	 */
+	static final int MAX_SPANS = 100000;
+
+	/**
+	 * The tracer of the running trace, inherited by the threads started while tracing.
+	 */
+	private static final InheritableThreadLocal<Tracer> TRACING = new InheritableThreadLocal<>();
+
+	/**
+	 * Nanoseconds per microsecond.
+	 */
+	private static final double NANOS_PER_MICRO = 1000.0;
+
+	/**
+	 * The OTLP span kind internal.
+	 */
+	private static final int SPAN_KIND_INTERNAL = 1;
+
+	/**
+	 * The open span of each thread.
+	 */
+	private final ThreadLocal<Span> current = new ThreadLocal<>();
+
+	/**
+	 * The ended spans.
+	 */
+	private final Queue<Span> ended = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The number of ended spans.
+	 */
+	private final AtomicInteger endedCount = new AtomicInteger();
+
+	/**
+	 * The last span id.
+	 */
+	private final AtomicLong lastId = new AtomicLong();
+
+	/**
+	 * The wall clock time matching {@link #baseNanoTime}, in nanoseconds since the epoch.
+	 */
+	private final long baseEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+
+	/**
+	 * The start of the tracer, as returned by {@link System#nanoTime()}.
+	 */
+	private final long baseNanoTime = System.nanoTime();
+
+	/**
+	 * The OTLP trace id.
+	 */
+	private final String traceId = newTraceId();
+
+	Tracer() {
+	}
+
+	/**
+	 * Starts tracing the current thread, and the threads it starts, with a new tracer.
+	 * @return the tracer of the trace
+	 */
+	public static Tracer startTracing() {
+		Tracer tracer = new Tracer();
+		TRACING.set(tracer);
+		return tracer;
+	}
+
+	/**
+	 * Stops the tracing of the current thread.
+	 */
+	public static void stopTracing() {
+		TRACING.remove();
+	}
+
+	/**
+	 * Starts a span with the tracer of the current thread.
+	 * @param name the name of the span
+	 * @return the span, not recorded when not tracing
+	 */
+	public static Span span(final String name) {
+		Tracer tracer = TRACING.get();
+		return tracer == null ? Span.NOT_RECORDED : tracer.start(name);
+	}
+
+	/**
+	 * Binds a task to the trace of the current thread, so the spans it starts on another thread, such as a pool thread,
+	 * are recorded by the same tracer as children of the open span of the current thread.
+	 * @param <T> the type of the argument
+	 * @param <R> the type of the result
+	 * @param task the task
+	 * @return the task running in the trace of the current thread, the task itself when not tracing
+	 */
+	public static <T, R> Function<T, R> propagate(final Function<T, R> task) {
+		Tracer tracer = TRACING.get();
+		if (tracer == null) {
+			return task;
+		}
+		Span parent = tracer.current.get();
+		return argument -> {
+			Tracer previousTracer = TRACING.get();
+			Span previous = tracer.current.get();
+			TRACING.set(tracer);
+			tracer.setCurrent(parent);
+			try {
+				return task.apply(argument);
+			} finally {
+				tracer.setCurrent(previous);
+				if (previousTracer == null) {
+					TRACING.remove();
+				} else {
+					TRACING.set(previousTracer);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Starts a span, a child of the open span of the current thread.
+	 * @param name the name of the span
+	 * @return the span
+	 */
+	public Span start(final String name) {
+		Span span = new Span(this, lastId.incrementAndGet(), current.get(), name);
+		current.set(span);
+		return span;
+	}
+
+	void end(final Span span) {
+		if (span.getThread() == Thread.currentThread() && current.get() == span) {
+			setCurrent(span.getParent());
+		}
+		if (endedCount.incrementAndGet() <= MAX_SPANS) {
+			ended.add(span);
+		}
+	}
+
+	private void setCurrent(final Span span) {
+		if (span == null) {
+			current.remove();
+		} else {
+			current.set(span);
+		}
+	}
+
+	/**
+	 * @return whether no spans have ended
+	 */
+	public boolean isEmpty() {
+		return ended.isEmpty();
+	}
+
+	/**
+	 * @return the ended spans in the Chrome trace-event format
+	 */
+	public String toChromeTrace() {
+		JsonArray events = new JsonArray();
+		Map<Long, String> threads = new LinkedHashMap<>();
+		for (Span span : spans()) {
+			threads.putIfAbsent(span.getThread().getId(), span.getThread().getName());
+			JsonObject event = new JsonObject();
+			event.addProperty("name", span.getName());
+			event.addProperty("cat", "iac");
+			event.addProperty("ph", "X");
+			event.addProperty("ts", (span.getStartNanoTime() - baseNanoTime) / NANOS_PER_MICRO);
+			event.addProperty("dur", span.getDurationNanos() / NANOS_PER_MICRO);
+			event.addProperty("pid", 1);
+			event.addProperty("tid", span.getThread().getId());
+			JsonObject args = new JsonObject();
+			span.getAttributes().forEach((key, value) -> addProperty(args, key, value));
+			event.add("args", args);
+			events.add(event);
+		}
+		threads.forEach((id, name) -> {
+			JsonObject event = new JsonObject();
+			event.addProperty("name", "thread_name");
+			event.addProperty("ph", "M");
+			event.addProperty("pid", 1);
+			event.addProperty("tid", id);
+			JsonObject args = new JsonObject();
+			args.addProperty("name", name);
+			event.add("args", args);
+			events.add(event);
+		});
+		JsonObject trace = new JsonObject();
+		trace.add("traceEvents", events);
+		trace.addProperty("displayTimeUnit", "ms");
+		return new GsonBuilder().setPrettyPrinting().create().toJson(trace);
+	}
+
+	/**
+	 * @return the ended spans in the OTLP JSON format
+	 */
+	public String toOtlpJson() {
+		JsonArray spans = new JsonArray();
+		for (Span span : spans()) {
+			JsonObject json = new JsonObject();
+			json.addProperty("traceId", traceId);
+			json.addProperty("spanId", String.format("%016x", span.getId()));
+			if (span.getParent() != null) {
+				json.addProperty("parentSpanId", String.format("%016x", span.getParent().getId()));
+			}
+			json.addProperty("name", span.getName());
+			json.addProperty("kind", SPAN_KIND_INTERNAL);
+			long start = baseEpochNanos + span.getStartNanoTime() - baseNanoTime;
+			json.addProperty("startTimeUnixNano", String.valueOf(start));
+			json.addProperty("endTimeUnixNano", String.valueOf(start + span.getDurationNanos()));
+			JsonArray attributes = new JsonArray();
+			attributes.add(otlpAttribute("thread.name", span.getThread().getName()));
+			span.getAttributes().forEach((key, value) -> attributes.add(otlpAttribute(key, value)));
+			json.add("attributes", attributes);
+			spans.add(json);
+		}
+		JsonObject scope = new JsonObject();
+		scope.addProperty("name", "com.vmware.pscoe.iac.artifact");
+		JsonObject scopeSpans = new JsonObject();
+		scopeSpans.add("scope", scope);
+		scopeSpans.add("spans", spans);
+		JsonArray scopeSpansList = new JsonArray();
+		scopeSpansList.add(scopeSpans);
+
+		JsonArray resourceAttributes = new JsonArray();
+		resourceAttributes.add(otlpAttribute("service.name", "build-tools-for-vmware-aria"));
+		JsonObject resource = new JsonObject();
+		resource.add("attributes", resourceAttributes);
+		JsonObject resourceSpans = new JsonObject();
+		resourceSpans.add("resource", resource);
+		resourceSpans.add("scopeSpans", scopeSpansList);
+		JsonArray resourceSpansList = new JsonArray();
+		resourceSpansList.add(resourceSpans);
+		JsonObject result = new JsonObject();
+		result.add("resourceSpans", resourceSpansList);
+		return new GsonBuilder().setPrettyPrinting().create().toJson(result);
+	}
+
+	/**
+	 * Writes the ended spans to {name}.trace.json, or to {name}.otlp.json when the OTLP format is selected.
+	 * @param directory the target directory
+	 * @param name the file name, without extension
+	 * @return the written file
+	 * @throws IOException when the file cannot be written
+	 */
+	public File write(final File directory, final String name) throws IOException {
+		boolean otlp = FORMAT_OTLP.equalsIgnoreCase(System.getProperty(FORMAT_PROPERTY));
+		File file = new File(directory, name + (otlp ? ".otlp.json" : ".trace.json"));
+		directory.mkdirs();
+		Files.write(file.toPath(), (otlp ? toOtlpJson() : toChromeTrace()).getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private List<Span> spans() {
+		List<Span> spans = new ArrayList<>(ended);
+		spans.sort(Comparator.comparingLong(Span::getStartNanoTime));
+		return spans;
+	}
+
+	private static void addProperty(final JsonObject json, final String key, final Object value) {
+		if (value instanceof Number) {
+			json.addProperty(key, (Number) value);
+		} else {
+			json.addProperty(key, String.valueOf(value));
+		}
+	}
+
+	private static JsonObject otlpAttribute(final String key, final Object value) {
+		JsonObject attributeValue = new JsonObject();
+		if (value instanceof Integer || value instanceof Long) {
+			// OTLP JSON encodes 64 bit integers as strings
+			attributeValue.addProperty("intValue", String.valueOf(value));
+		} else if (value instanceof Number) {
+			attributeValue.addProperty("doubleValue", (Number) value);
+		} else {
+			attributeValue.addProperty("stringValue", String.valueOf(value));
+		}
+		JsonObject attribute = new JsonObject();
+		attribute.addProperty("key", key);
+		attribute.add("value", attributeValue);
+		return attribute;
+	}
+
+	private static String newTraceId() {
+		return UUID.randomUUID().toString().replace("-", "");
+	}
+}
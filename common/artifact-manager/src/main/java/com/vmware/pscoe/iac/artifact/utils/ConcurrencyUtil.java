@@ -0,0 +1,107 @@
+package com.vmware.pscoe.iac.artifact.utils;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
+
+/**
+ * Runs independent tasks on a bounded pool of threads.
+ *
+ * All tasks are waited for, so none of them is left running when one of them fails. The failure of the first failed
+ * item, in the order of the items, is then rethrown as thrown by the task. A single item is processed on the calling
+ * thread. The spans started by the tasks are children of the open span of the calling thread.
+ */
+public final class ConcurrencyUtil {
+
+	private ConcurrencyUtil() {
+	}
+
+	/**
+	 * Applies a task to the items concurrently.
+	 * @param <T> the type of the items
+	 * @param <R> the type of the results
+	 * @param items the items
+	 * @param maxThreads the maximum number of items processed at the same time
+	 * @param task the task
+	 * @return the results of the task, in the order of the items
+	 */
+	public static <T, R> List<R> map(final Collection<T> items, final int maxThreads, final Function<? super T, ? extends R> task) {
+		if (items.size() < 2) {
+			return items.stream().map(task).collect(Collectors.toList());
+		}
+		Function<? super T, ? extends R> traced = Tracer.propagate(task);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(items.size(), maxThreads)));
+		try {
+			List<CompletableFuture<R>> futures = items.stream()
+					.map(item -> CompletableFuture.<R>supplyAsync(() -> traced.apply(item), executor))
+					.collect(Collectors.toList());
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+			List<R> results = new ArrayList<>(futures.size());
+			for (CompletableFuture<R> future : futures) {
+				results.add(join(future));
+			}
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Applies a task to the items concurrently.
+	 * @param <T> the type of the items
+	 * @param items the items
+	 * @param maxThreads the maximum number of items processed at the same time
+	 * @param task the task
+	 */
+	public static <T> void forEach(final Collection<T> items, final int maxThreads, final Consumer<? super T> task) {
+		map(items, maxThreads, item -> {
+			task.accept(item);
+			return null;
+		});
+	}
+
+	/**
+	 * Waits for a task and rethrows its failure as thrown by the task, instead of wrapped in a
+	 * {@link CompletionException}.
+	 * @param <T> the type of the result
+	 * @param future the task
+	 * @return the result of the task
+	 */
+	public static <T> T join(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
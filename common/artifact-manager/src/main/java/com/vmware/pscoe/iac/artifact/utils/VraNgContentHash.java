@@ -0,0 +1,178 @@
+package com.vmware.pscoe.iac.artifact.utils;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Normalized hashes of vRA content, used to detect whether a local item differs from its representation on the server.
+ *
+ * The server representation contains properties the server manages (e.g. id, orgId, createdAt), so these are
+ * stripped from both sides before the comparison. Every other property takes part in it, so a property removed from
+ * the local item is reported as a change. Both sides are then normalized: object keys are sorted, null properties are
+ * dropped, numbers are compared by value and the line endings and trailing whitespace of strings are ignored.
+ */
+public final class VraNgContentHash {
+
+	/**
+	 * Top level properties managed by the server for every type of content.
+	 */
+	public static final Set<String> SERVER_MANAGED_FIELDS = Collections.unmodifiableSet(
+			new HashSet<>(Arrays.asList("id", "orgId", "createdAt", "createdBy", "updatedAt", "updatedBy")));
+
+	private VraNgContentHash() {
+	}
+
+	/**
+	 * @param local  the local item, as imported
+	 * @param server the current representation of the item on the server
+	 * @return whether importing the local item would not change the server item, ignoring {@link #SERVER_MANAGED_FIELDS}
+	 */
+	public static boolean isUnchanged(final JsonElement local, final JsonElement server) {
+		return isUnchanged(local, server, SERVER_MANAGED_FIELDS);
+	}
+
+	/**
+	 * @param local               the local item, as imported
+	 * @param server              the current representation of the item on the server
+	 * @param serverManagedFields the properties managed by the server for the type of the item. Nested properties are
+	 *                            given by their dot separated path, e.g. additionalActions.id, where arrays on the path
+	 *                            apply to each of their elements.
+	 * @return whether importing the local item would not change the server item
+	 */
+	public static boolean isUnchanged(final JsonElement local, final JsonElement server, final Collection<String> serverManagedFields) {
+		if (local == null || server == null) {
+			return false;
+		}
+		return hash(strip(local, serverManagedFields)).equals(hash(strip(server, serverManagedFields)));
+	}
+
+	/**
+	 * @param local  the local content, e.g. a blueprint content.yaml
+	 * @param server the content on the server
+	 * @return whether both contents are equal, ignoring line endings and trailing whitespace
+	 */
+	public static boolean isUnchanged(final String local, final String server) {
+		return local != null && server != null && normalize(local).equals(normalize(server));
+	}
+
+	/**
+	 * @param element the JSON element
+	 * @return the hex encoded SHA-256 of the normalized element
+	 */
+	public static String hash(final JsonElement element) {
+		StringBuilder canonical = new StringBuilder();
+		canonicalize(element, canonical);
+		return sha256(canonical.toString());
+	}
+
+	/**
+	 * @param content the content, e.g. a blueprint content.yaml
+	 * @return the hex encoded SHA-256 of the content, ignoring line endings and trailing whitespace
+	 */
+	public static String hash(final String content) {
+		return sha256(normalize(content));
+	}
+
+	private static String sha256(final String value) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @param element the element
+	 * @param fields  the dot separated paths of the properties to remove
+	 * @return a copy of the element without the given properties
+	 */
+	static JsonElement strip(final JsonElement element, final Collection<String> fields) {
+		JsonElement stripped = element.deepCopy();
+		for (String field : fields) {
+			remove(stripped, field.split("\\."), 0);
+		}
+		return stripped;
+	}
+
+	private static void remove(final JsonElement element, final String[] path, final int index) {
+		if (element.isJsonArray()) {
+			element.getAsJsonArray().forEach(item -> remove(item, path, index));
+		} else if (element.isJsonObject()) {
+			JsonObject object = element.getAsJsonObject();
+			if (index == path.length - 1) {
+				object.remove(path[index]);
+			} else if (object.has(path[index])) {
+				remove(object.get(path[index]), path, index + 1);
+			}
+		}
+	}
+
+	private static void canonicalize(final JsonElement element, final StringBuilder out) {
+		if (element == null || element.isJsonNull()) {
+			out.append("null");
+		} else if (element.isJsonObject()) {
+			Map<String, JsonElement> sorted = new TreeMap<>();
+			element.getAsJsonObject().entrySet().stream().filter(entry -> !entry.getValue().isJsonNull())
+					.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+			out.append('{');
+			sorted.forEach((key, value) -> {
+				out.append(new JsonPrimitive(key)).append(':');
+				canonicalize(value, out);
+				out.append(',');
+			});
+			out.append('}');
+		} else if (element.isJsonArray()) {
+			out.append('[');
+			element.getAsJsonArray().forEach(item -> {
+				canonicalize(item, out);
+				out.append(',');
+			});
+			out.append(']');
+		} else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if (primitive.isNumber()) {
+				out.append(primitive.getAsBigDecimal().stripTrailingZeros().toPlainString());
+			} else if (primitive.isString()) {
+				out.append(new JsonPrimitive(normalize(primitive.getAsString())));
+			} else {
+				out.append(primitive);
+			}
+		}
+	}
+
+	private static String normalize(final String value) {
+		return value.replace("\r\n", "\n").replaceAll("[ \t]+\n", "\n").replaceAll("\\s+$", "");
+	}
+}
@@ -0,0 +1,123 @@
+package com.vmware.pscoe.iac.artifact;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.vmware.pscoe.iac.artifact.model.abx.AbxAction;
+import com.vmware.pscoe.iac.artifact.model.abx.AbxActionVersion;
+import com.vmware.pscoe.iac.artifact.model.abx.AbxConstant;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgSecret;
+import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
+
+public class AbxImportSessionTest {
+
+	private RestClientVraNg restClient;
+	private AbxImportSession session;
+
+	@BeforeEach
+	void init() {
+		restClient = Mockito.mock(RestClientVraNg.class);
+		session = new AbxImportSession(restClient);
+	}
+
+	@Test
+	void testLookupsListEachKindOnce() {
+		when(restClient.getAllAbxActions()).thenReturn(Arrays.asList(createAction("first", "id-1"), createAction("second", "id-2")));
+		AbxConstant constant = new AbxConstant();
+		constant.id = "constant-id";
+		constant.name = "constant";
+		when(restClient.getAllAbxConstants()).thenReturn(Collections.singletonList(constant));
+		VraNgSecret secret = new VraNgSecret();
+		secret.id = "secret-id";
+		secret.name = "secret";
+		when(restClient.getAllSecrets()).thenReturn(Collections.singletonList(secret));
+
+		assertEquals("id-1", session.getAction("first").id);
+		assertEquals("id-2", session.getAction("second").id);
+		assertNull(session.getAction("third"));
+		assertEquals("constant-id", session.getConstant("constant").id);
+		assertNull(session.getConstant("missing"));
+		assertEquals("secret-id", session.getSecret("secret").id);
+		assertNull(session.getSecret("missing"));
+
+		verify(restClient, times(1)).getAllAbxActions();
+		verify(restClient, times(1)).getAllAbxConstants();
+		verify(restClient, times(1)).getAllSecrets();
+	}
+
+	@Test
+	void testCreatedActionIsAddedToTheSnapshot() {
+		when(restClient.getAllAbxActions()).thenReturn(Collections.emptyList());
+
+		assertNull(session.getAction("created"));
+		session.addAction(createAction("created", "id-1"));
+
+		assertEquals("id-1", session.getAction("created").id);
+		verify(restClient, times(1)).getAllAbxActions();
+	}
+
+	@Test
+	void testLastVersionIsRetrievedOnce() {
+		AbxAction action = createAction("action", "id-1");
+		AbxActionVersion version = new AbxActionVersion();
+		version.id = "version-1";
+		version.name = "1.0.0";
+		when(restClient.getAbxLastUpdatedVersion(any(AbxAction.class))).thenReturn(version);
+
+		assertEquals("1.0.0", session.getLastVersion(action).name);
+		AbxActionVersion created = new AbxActionVersion();
+		created.id = "version-2";
+		created.name = "1.0.1";
+		session.setLastVersion(action, created);
+
+		assertEquals("1.0.1", session.getLastVersion(action).name);
+		verify(restClient, times(1)).getAbxLastUpdatedVersion(any(AbxAction.class));
+	}
+
+	@Test
+	void testActionWithoutVersionsIsLookedUpAgain() {
+		AbxAction action = createAction("action", "id-1");
+		AbxActionVersion version = new AbxActionVersion();
+		version.id = "version-1";
+		version.name = "1.0.0";
+		when(restClient.getAbxLastUpdatedVersion(any(AbxAction.class))).thenReturn(null, version);
+
+		assertNull(session.getLastVersion(action));
+		assertEquals("1.0.0", session.getLastVersion(action).name);
+		assertEquals("1.0.0", session.getLastVersion(action).name);
+		verify(restClient, times(2)).getAbxLastUpdatedVersion(any(AbxAction.class));
+	}
+
+	private AbxAction createAction(String name, String id) {
+		AbxAction action = new AbxAction();
+		action.name = name;
+		action.id = id;
+		return action;
+	}
+}
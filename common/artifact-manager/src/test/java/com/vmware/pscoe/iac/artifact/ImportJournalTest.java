@@ -0,0 +1,133 @@
+package com.vmware.pscoe.iac.artifact;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.vmware.pscoe.iac.artifact.model.Package;
+import com.vmware.pscoe.iac.artifact.model.PackageFactory;
+import com.vmware.pscoe.iac.artifact.model.PackageType;
+
+public class ImportJournalTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	private File bundle;
+	private File journals;
+	private Package first;
+	private Package second;
+
+	@BeforeEach
+	void init() throws IOException {
+		tempFolder.create();
+		bundle = tempFolder.newFolder();
+		journals = tempFolder.newFolder();
+		first = createPackage("com.vmware.first-1.0.0.package", "first");
+		second = createPackage("com.vmware.second-1.0.0.package", "second");
+	}
+
+	@Test
+	void testResumeSkipsRecordedItems() {
+		String digest = ImportJournal.digest(Arrays.asList(new File(first.getFilesystemPath()), new File(second.getFilesystemPath())));
+		ImportJournal journal = ImportJournal.open(journals, "vro.local", digest);
+		journal.recordCompleted(first);
+		journal.recordCompleted(second, "blueprint");
+
+		ImportJournal resumed = reopen("vro.local", digest);
+		assertTrue(resumed.isCompleted(first));
+		assertFalse(resumed.isCompleted(second));
+		assertTrue(resumed.isCompleted(second, "blueprint"));
+		assertFalse(resumed.isCompleted(second, "subscription"));
+	}
+
+	@Test
+	void testDiscardDeletesTheJournalsOfTheBundle() {
+		ImportJournal.open(journals, "vra.local", "0123").recordCompleted(first);
+		ImportJournal.open(journals, "vro.local", "0123").recordCompleted(first);
+		ImportJournal.open(journals, "vra.local", "4567").recordCompleted(first);
+
+		ImportJournal.discard(journals, "0123");
+
+		assertEquals(1, journals.listFiles((dir, name) -> name.endsWith(".journal")).length);
+		assertFalse(ImportJournal.open(journals, "vra.local", "0123").isCompleted(first));
+		assertTrue(ImportJournal.open(journals, "vra.local", "4567").isCompleted(first));
+	}
+
+	@Test
+	void testRebuiltPackageIsNotSkipped() throws IOException {
+		ImportJournal journal = ImportJournal.open(journals, "vrops.local", "4567");
+		journal.recordCompleted(first);
+
+		Files.write(new File(first.getFilesystemPath()).toPath(), "rebuilt".getBytes(StandardCharsets.UTF_8));
+		assertFalse(reopen("vrops.local", "4567").isCompleted(first));
+	}
+
+	@Test
+	void testJournalPerHost() {
+		ImportJournal.open(journals, "first.local", "89ab").recordCompleted(first);
+
+		assertTrue(reopen("first.local", "89ab").isCompleted(first));
+		assertFalse(ImportJournal.open(journals, "second.local", "89ab").isCompleted(first));
+	}
+
+	@Test
+	void testDigestDependsOnContent() throws IOException {
+		List<File> files = Collections.singletonList(new File(first.getFilesystemPath()));
+		String digest = ImportJournal.digest(files);
+		assertEquals(digest, ImportJournal.digest(files));
+
+		Files.write(files.get(0).toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+		assertNotEquals(digest, ImportJournal.digest(files));
+	}
+
+	/**
+	 * Opens the journal file in a new journal instance, as a later run would.
+	 */
+	private ImportJournal reopen(String host, String digest) {
+		File copy = new File(journals, "run-" + System.nanoTime());
+		copy.mkdirs();
+		for (File f : journals.listFiles((dir, name) -> name.endsWith(".journal"))) {
+			try {
+				Files.copy(f.toPath(), new File(copy, f.getName()).toPath());
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+		return ImportJournal.open(copy, host, digest);
+	}
+
+	private Package createPackage(String name, String content) throws IOException {
+		File file = new File(bundle, name);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return PackageFactory.getInstance(PackageType.VRO, file);
+	}
+}
@@ -0,0 +1,133 @@
+package com.vmware.pscoe.iac.artifact;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.vmware.pscoe.iac.artifact.model.PackageFactory;
+import com.vmware.pscoe.iac.artifact.model.PackageType;
+
+public class PackageManagerTest {
+
+	private static final FileTime PREVIOUS_PULL = FileTime.fromMillis(1_600_000_000_000L);
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	private File exported;
+	private File project;
+
+	@BeforeEach
+	void init() throws IOException {
+		tempFolder.create();
+		exported = tempFolder.newFolder();
+		project = tempFolder.newFolder();
+	}
+
+	@AfterEach
+	void tearDown() {
+		tempFolder.delete();
+	}
+
+	@Test
+	void testSyncWritesOnlyChangedFiles() throws IOException {
+		write(exported, "blueprints/unchanged/content.yaml", "name: unchanged");
+		write(exported, "blueprints/modified/content.yaml", "name: modified v2");
+		write(exported, "blueprints/added/content.yaml", "name: added");
+		File unchanged = write(project, "blueprints/unchanged/content.yaml", "name: unchanged");
+		File modified = write(project, "blueprints/modified/content.yaml", "name: modified v1");
+
+		PackageManager.syncContents(exported, project, Arrays.asList());
+
+		assertEquals(PREVIOUS_PULL, Files.getLastModifiedTime(unchanged.toPath()));
+		assertFalse(PREVIOUS_PULL.equals(Files.getLastModifiedTime(modified.toPath())));
+		assertEquals("name: modified v2", read(project, "blueprints/modified/content.yaml"));
+		assertEquals("name: added", read(project, "blueprints/added/content.yaml"));
+	}
+
+	@Test
+	void testSyncDeletesOnlyRemovableFilesMissingFromTheSource() throws IOException {
+		write(exported, "Workflow/kept.xml", "<workflow/>");
+		File kept = write(project, "Workflow/kept.xml", "<workflow/>");
+		File removed = write(project, "Workflow/removed.xml", "<workflow/>");
+		File other = write(project, "Workflow/other.xml", "<workflow/>");
+
+		PackageManager.syncContents(exported, project, Arrays.asList(kept, removed));
+
+		assertTrue(kept.exists());
+		assertFalse(removed.exists());
+		assertTrue(other.exists());
+		assertEquals(PREVIOUS_PULL, Files.getLastModifiedTime(kept.toPath()));
+	}
+
+	@Test
+	void testCopyCreatesTheDestination() throws IOException {
+		write(exported, "a/b.txt", "b");
+		File destination = new File(project, "missing");
+
+		PackageManager.copyContents(exported, destination);
+
+		assertEquals("b", read(destination, "a/b.txt"));
+	}
+
+	@Test
+	void testPackAddsRootFilesInTheSamePass() throws IOException {
+		write(exported, "bundle.zip", "compressed");
+		write(exported, "package.json", "{\"name\": \"stale\"}");
+		File packageJson = write(project, "package.json", "{\"name\": \"action\"}");
+		File pkgFile = new File(project, "action.abx");
+
+		new PackageManager(PackageFactory.getInstance(PackageType.ABX, pkgFile)).pack(exported, Arrays.asList(packageJson));
+
+		try (ZipFile zip = new ZipFile(pkgFile)) {
+			assertEquals(2, zip.size());
+			assertEquals(ZipEntry.STORED, zip.getEntry("bundle.zip").getMethod());
+			assertEquals(ZipEntry.DEFLATED, zip.getEntry("package.json").getMethod());
+			try (InputStream in = zip.getInputStream(zip.getEntry("package.json"))) {
+				assertEquals("{\"name\": \"action\"}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			}
+		}
+	}
+
+	private static File write(File dir, String path, String content) throws IOException {
+		File file = new File(dir, path);
+		Files.createDirectories(file.getParentFile().toPath());
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(file.toPath(), PREVIOUS_PULL);
+		return file;
+	}
+
+	private static String read(File dir, String path) throws IOException {
+		return new String(Files.readAllBytes(new File(dir, path).toPath()), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,78 @@
+package com.vmware.pscoe.iac.artifact;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.vmware.pscoe.iac.artifact.model.Package;
+import com.vmware.pscoe.iac.artifact.model.PackageFactory;
+import com.vmware.pscoe.iac.artifact.model.PackageType;
+import com.vmware.pscoe.iac.artifact.rest.RestClientVcd;
+
+public class VcdNgPackageStoreTest {
+
+	private RestClientVcd restClient;
+	private VcdNgPackageStore store;
+
+	@BeforeEach
+	void init() {
+		restClient = Mockito.mock(RestClientVcd.class);
+		store = new VcdNgPackageStore(restClient, new ArrayList<>());
+		when(restClient.getAllUiExtensions()).thenReturn(new ArrayList<>());
+	}
+
+	@Test
+	void testImportAllPackagesImportsEachPlugin() {
+		List<Package> packages = Arrays.asList(createPackage("com.vmware.first", "1.0.0"), createPackage("com.vmware.second", "1.0.0"),
+				createPackage("com.vmware.third", "1.0.0"));
+		when(restClient.addOrReplaceUiPlugin(any(Package.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		List<Package> imported = store.importAllPackages(packages, false, false);
+
+		assertEquals(packages, imported);
+		verify(restClient, times(1)).getAllUiExtensions();
+		verify(restClient, times(3)).addOrReplaceUiPlugin(any(Package.class));
+	}
+
+	@Test
+	void testImportAllPackagesFailsWhenAPluginFails() {
+		Package failing = createPackage("com.vmware.failing", "1.0.0");
+		List<Package> packages = Arrays.asList(createPackage("com.vmware.first", "1.0.0"), failing);
+		when(restClient.addOrReplaceUiPlugin(any(Package.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(restClient.addOrReplaceUiPlugin(failing)).thenThrow(new RuntimeException("Upload failed"));
+
+		RuntimeException e = assertThrows(RuntimeException.class, () -> store.importAllPackages(packages, false, false));
+		assertEquals("Upload failed", e.getMessage());
+	}
+
+	private Package createPackage(String name, String version) {
+		return PackageFactory.getInstance(PackageType.VCDNG, new File(name + "-" + version + "." + PackageType.VCDNG.getPackageExtention()));
+	}
+}
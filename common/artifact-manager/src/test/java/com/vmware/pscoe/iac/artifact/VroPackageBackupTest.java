@@ -0,0 +1,107 @@
+package com.vmware.pscoe.iac.artifact;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipFile;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.vmware.pscoe.iac.artifact.model.Package;
+import com.vmware.pscoe.iac.artifact.model.PackageFactory;
+import com.vmware.pscoe.iac.artifact.model.PackageType;
+import com.vmware.pscoe.iac.artifact.rest.RestClientVro;
+
+public class VroPackageBackupTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	private RestClientVro restClientVro;
+	private List<Package> serverPackages;
+
+	@BeforeEach
+	void init() {
+		restClientVro = Mockito.mock(RestClientVro.class);
+		Mockito.when(restClientVro.exportPackage(ArgumentMatchers.any(Package.class), ArgumentMatchers.anyBoolean(), ArgumentMatchers.anyBoolean(), ArgumentMatchers.anyBoolean()))
+			.thenAnswer(invocation -> {
+				Package pkg = invocation.getArgument(0);
+				Files.write(Paths.get(pkg.getFilesystemPath()), pkg.getFQName().getBytes(StandardCharsets.UTF_8));
+				return pkg;
+			});
+
+		serverPackages = Arrays.asList(
+			PackageFactory.getInstance(PackageType.VRO, new File("com.vmware.first-1.0.0.package")),
+			PackageFactory.getInstance(PackageType.VRO, new File("com.vmware.first-1.0.1.package")),
+			PackageFactory.getInstance(PackageType.VRO, new File("com.vmware.second-2.0.0.package")));
+	}
+
+	@Test
+	void testBackupExportsAllServerVersions() throws IOException {
+		tempFolder.create();
+		File dir = tempFolder.newFolder();
+		Package first = PackageFactory.getInstance(PackageType.VRO, new File(dir, "com.vmware.first-1.0.2.package"));
+		Package third = PackageFactory.getInstance(PackageType.VRO, new File(dir, "com.vmware.third-1.0.0.package"));
+
+		try (VroPackageBackup backup = new VroPackageBackup(restClientVro, serverPackages, first, "2024.01.01_00-00-00", 2, false, false)) {
+			backup.submit(first);
+			backup.submit(third);
+
+			assertEquals(2, backup.await(first).size());
+			assertTrue(backup.await(third).isEmpty());
+		}
+
+		File backupDir = new File(dir, "backup_2024.01.01_00-00-00");
+		assertTrue(new File(backupDir, "com.vmware.first-1.0.0.package.backup_2024.01.01_00-00-00").exists());
+		assertTrue(new File(backupDir, "com.vmware.first-1.0.1.package.backup_2024.01.01_00-00-00").exists());
+		assertFalse(new File(backupDir, "com.vmware.second-2.0.0.package.backup_2024.01.01_00-00-00").exists());
+	}
+
+	@Test
+	void testBackupAsArchiveContainsManifest() throws IOException {
+		tempFolder.create();
+		File dir = tempFolder.newFolder();
+		Package first = PackageFactory.getInstance(PackageType.VRO, new File(dir, "com.vmware.first-1.0.2.package"));
+		Package second = PackageFactory.getInstance(PackageType.VRO, new File(dir, "com.vmware.second-2.0.1.package"));
+
+		try (VroPackageBackup backup = new VroPackageBackup(restClientVro, serverPackages, first, "2024.01.01_00-00-00", 2, true, false)) {
+			backup.submit(first);
+			backup.submit(second);
+		}
+
+		assertFalse(new File(dir, "backup_2024.01.01_00-00-00").exists());
+		File archive = new File(dir, "backup_2024.01.01_00-00-00.zip");
+		assertTrue(archive.exists());
+		try (ZipFile zip = new ZipFile(archive)) {
+			assertEquals(4, zip.size());
+			assertTrue(zip.getEntry(VroPackageBackup.MANIFEST_FILE_NAME) != null);
+		}
+	}
+}
@@ -18,7 +18,10 @@ package com.vmware.pscoe.iac.artifact;
 import com.vmware.pscoe.iac.artifact.extentions.PackageStoreExtention;
 import com.vmware.pscoe.iac.artifact.model.Package;
 import com.vmware.pscoe.iac.artifact.model.PackageFactory;
+import com.vmware.pscoe.iac.artifact.model.PackageContent.Content;
 import com.vmware.pscoe.iac.artifact.model.PackageType;
+import com.vmware.pscoe.iac.artifact.model.vro.VroPackageContent;
+import com.vmware.pscoe.iac.artifact.model.vro.VroPackageContent.ContentType;
 import com.vmware.pscoe.iac.artifact.model.vro.VroPackageDescriptor;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVro;
 import com.vmware.pscoe.iac.artifact.strategy.Strategy;
@@ -32,8 +35,18 @@ import org.mockito.Mockito;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 public class VroPackageStoreTest {
 
 	@Rule
@@ -94,4 +107,59 @@ public class VroPackageStoreTest {
 
 		vroPackageStore.importPackage(vropsPkg, false, true);
 	}
+
+	@Test
+	void testDeletePackagesListsTheServerOnceAndKeepsSharedContent() {
+		Package firstOld = createPackage("com.vmware.first-1.0.0.package");
+		Package firstLatest = createPackage("com.vmware.first-1.0.1.package");
+		Package secondOld = createPackage("com.vmware.second-1.0.0.package");
+		Package secondLatest = createPackage("com.vmware.second-1.0.1.package");
+		when(restClientVro.getPackages()).thenReturn(Arrays.asList(firstOld, firstLatest, secondOld, secondLatest));
+
+		Content<ContentType> removed = new Content<>(ContentType.ACTION, "action-1", "com.vmware/removed");
+		Content<ContentType> kept = new Content<>(ContentType.WORKFLOW, "workflow-1", "Kept");
+		Content<ContentType> moved = new Content<>(ContentType.ACTION, "action-2", "com.vmware/moved");
+		when(restClientVro.getPackageContent(firstOld)).thenReturn(new VroPackageContent(Arrays.asList(removed, kept, moved)));
+		when(restClientVro.getPackageContent(firstLatest)).thenReturn(new VroPackageContent(Arrays.asList(kept)));
+		// the element moved to the other package is kept as well
+		when(restClientVro.getPackageContent(secondOld)).thenReturn(new VroPackageContent(Arrays.asList(removed)));
+		when(restClientVro.getPackageContent(secondLatest)).thenReturn(new VroPackageContent(Arrays.asList(
+				new Content<>(ContentType.ACTION, "ACTION-2", "com.vmware/Moved"))));
+
+		List<Package> deleted = vroPackageStore.deletePackages(Arrays.asList(firstLatest, secondLatest, firstLatest), false, true, false);
+
+		assertEquals(Arrays.asList(firstOld, secondOld), deleted);
+		verify(restClientVro, times(1)).getPackages();
+		verify(restClientVro, times(1)).getPackageContent(firstOld);
+		verify(restClientVro, times(1)).getPackageContent(secondLatest);
+		verify(restClientVro, times(1)).deleteContent(removed, false);
+		verify(restClientVro, never()).deleteContent(eq(kept), anyBoolean());
+		verify(restClientVro, never()).deleteContent(eq(moved), anyBoolean());
+		verify(restClientVro).deletePackage(firstOld, false, false);
+		verify(restClientVro).deletePackage(secondOld, false, false);
+		verify(restClientVro, never()).deletePackage(eq(firstLatest), anyBoolean(), anyBoolean());
+	}
+
+	@Test
+	void testDeletePackagesContinuesWhenContentCannotBeDeleted() {
+		Package old = createPackage("com.vmware.first-1.0.0.package");
+		Package latest = createPackage("com.vmware.first-1.0.1.package");
+		when(restClientVro.getPackages()).thenReturn(Arrays.asList(latest, old));
+		Content<ContentType> failing = new Content<>(ContentType.ACTION, "action-1", "com.vmware/failing");
+		Content<ContentType> removed = new Content<>(ContentType.ACTION, "action-2", "com.vmware/removed");
+		when(restClientVro.getPackageContent(old)).thenReturn(new VroPackageContent(Arrays.asList(failing, removed)));
+		when(restClientVro.getPackageContent(latest)).thenReturn(new VroPackageContent(new ArrayList<>()));
+		Mockito.doThrow(new RuntimeException("in use")).when(restClientVro).deleteContent(failing, false);
+
+		List<Package> deleted = vroPackageStore.deletePackage(latest, false, true, false);
+
+		assertEquals(Arrays.asList(old), deleted);
+		verify(restClientVro).deleteContent(removed, false);
+		verify(restClientVro).deletePackage(old, false, false);
+		verify(restClientVro, never()).deletePackage(any(Package.class), eq(true), anyBoolean());
+	}
+
+	private Package createPackage(String fileName) {
+		return PackageFactory.getInstance(PackageType.VRO, new File(fileName));
+	}
 }
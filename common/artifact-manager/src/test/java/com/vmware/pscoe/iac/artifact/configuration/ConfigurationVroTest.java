@@ -21,12 +21,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Properties;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class ConfigurationVroTest {
@@ -119,6 +122,30 @@ class ConfigurationVroTest {
 		assertSame(this.configurationVro.getPassword(), "test");
 	}
 
+	@Test
+	public void testPackageBackupThreads() throws Exception {
+		this.properties.setProperty("username", "test");
+		this.properties.setProperty("password", "test");
+		this.configurationVro = new ConfigurationVro(this.properties);
+		assertEquals(ConfigurationNg.DEFAULT_PACKAGE_BACKUP_THREADS, this.configurationVro.getPackageBackupThreads());
+
+		this.properties.setProperty(ConfigurationNg.PACKAGE_BACKUP_THREADS, "8");
+		this.configurationVro.validate(true);
+		assertEquals(8, this.configurationVro.getPackageBackupThreads());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "0", "-1", "four" })
+	public void testValidateRejectsInvalidPackageBackupThreads(String threads) {
+		this.properties.setProperty("username", "test");
+		this.properties.setProperty("password", "test");
+		this.properties.setProperty(ConfigurationNg.PACKAGE_BACKUP_THREADS, threads);
+		this.configurationVro = new ConfigurationVro(this.properties);
+
+		ConfigurationException e = assertThrows(ConfigurationException.class, () -> this.configurationVro.validate(true));
+		assertTrue(e.getMessage().contains(ConfigurationNg.PACKAGE_BACKUP_THREADS));
+	}
+
 	private static Stream<Arguments> usernameProvider() {
 		return Stream.of(arguments("configurationadmin", "vra", "configurationadmin", null),
 				arguments("configurationadmin@corp.local", "vra", "configurationadmin", "corp.local"),
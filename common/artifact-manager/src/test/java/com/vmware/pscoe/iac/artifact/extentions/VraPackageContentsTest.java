@@ -0,0 +1,112 @@
+package com.vmware.pscoe.iac.artifact.extentions;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.vmware.pscoe.iac.artifact.rest.RestClientVra;
+
+public class VraPackageContentsTest {
+	private static final String PACKAGE_ID = "package-id";
+
+	private RestClientVra restClient;
+	private VraPackageContents contents;
+
+	@BeforeEach
+	void init() {
+		restClient = Mockito.mock(RestClientVra.class);
+		contents = new VraPackageContents(restClient, PACKAGE_ID);
+
+		List<Map<String, String>> packageContents = new ArrayList<>();
+		packageContents.add(content("composite-blueprint", "bp-1", "Blueprint 1"));
+		packageContents.add(content("xaas-blueprint", "xaas-1", "XaaS 1"));
+		packageContents.add(content("property-definition", "prop-1", "Property 1"));
+		packageContents.add(content("composite-blueprint", "bp-2", "Blueprint 2"));
+		when(restClient.getPackageContents(PACKAGE_ID)).thenReturn(packageContents);
+	}
+
+	@Test
+	void testContentsAreRetrievedOnceAndIndexedByType() {
+		assertEquals(Arrays.asList("Blueprint 1", "Blueprint 2", "XaaS 1"), contents.getBlueprintNames());
+		assertEquals(1, contents.getContents("property-definition").size());
+		assertEquals(0, contents.getContents("unknown").size());
+
+		verify(restClient, times(1)).getPackageContents(PACKAGE_ID);
+	}
+
+	@Test
+	void testCatalogItemsAndIconsAreRetrievedOnce() {
+		when(restClient.getCatalogItemByName("Blueprint 1")).thenReturn(catalogItem("icon-1"));
+		when(restClient.getCatalogItemByName("Blueprint 2")).thenReturn(catalogItem("icon-1"));
+		when(restClient.getCatalogItemByName("XaaS 1")).thenReturn(null);
+		Map<String, Object> icon = new HashMap<>();
+		icon.put("id", "icon-1");
+		icon.put("organization", "org");
+		when(restClient.getIcon("icon-1")).thenReturn(icon);
+
+		contents.prefetchIcons();
+		contents.prefetchCatalogItems();
+		contents.getIcon("icon-1").remove("organization");
+
+		assertEquals("org", contents.getIcon("icon-1").get("organization"));
+		assertNull(contents.getCatalogItem("XaaS 1"));
+		verify(restClient, times(1)).getCatalogItemByName("Blueprint 1");
+		verify(restClient, times(1)).getCatalogItemByName("Blueprint 2");
+		verify(restClient, times(1)).getCatalogItemByName("XaaS 1");
+		verify(restClient, times(1)).getIcon("icon-1");
+	}
+
+	@Test
+	void testCustomFormsAreRetrievedForCompositeBlueprints() {
+		when(restClient.getBlueprintCustomForm("bp-1")).thenReturn("{}");
+
+		contents.prefetchCustomForms();
+
+		assertEquals("{}", contents.getCustomForm("bp-1"));
+		assertNull(contents.getCustomForm("bp-2"));
+		verify(restClient, times(1)).getBlueprintCustomForm("bp-1");
+		verify(restClient, times(1)).getBlueprintCustomForm("bp-2");
+		verify(restClient, times(0)).getBlueprintCustomForm("xaas-1");
+	}
+
+	private static Map<String, String> content(String contentTypeId, String contentId, String name) {
+		Map<String, String> content = new HashMap<>();
+		content.put("contentTypeId", contentTypeId);
+		content.put("contentId", contentId);
+		content.put("name", name);
+		return content;
+	}
+
+	private static Map<String, Object> catalogItem(String iconId) {
+		Map<String, Object> catalogItem = new HashMap<>();
+		catalogItem.put("iconId", iconId);
+		return catalogItem;
+	}
+}
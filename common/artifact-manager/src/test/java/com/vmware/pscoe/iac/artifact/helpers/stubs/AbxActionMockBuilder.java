@@ -52,7 +52,6 @@ public class AbxActionMockBuilder {
 		abxAction.abx.shared = SHARED;
 
 		when(abxAction.getName()).thenReturn(NAME);
-		when(abxAction.getBundleAsB64()).thenReturn(null);		
 
 		return abxAction;
     }
@@ -67,7 +66,6 @@ public class AbxActionMockBuilder {
 		result.put("runtime", RUNTIME);
 		result.put("entrypoint", ENTRYPOINT);
 		result.put("inputs", new LinkedHashMap<>());
-		result.put("compressedContent", null);
 		result.put("shared", SHARED);
 
 		return result;
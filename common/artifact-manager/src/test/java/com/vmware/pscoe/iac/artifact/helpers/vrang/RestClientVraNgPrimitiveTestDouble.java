@@ -22,6 +22,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -32,6 +33,7 @@ import com.vmware.pscoe.iac.artifact.model.abx.AbxAction;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgContentSharingPolicy;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgFlavorMapping;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgImageMapping;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgLeasePolicy;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgProject;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgStorageProfile;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgCatalogItem;
@@ -99,6 +101,16 @@ public class RestClientVraNgPrimitiveTestDouble extends RestClientVraNgPrimitive
 		return super.jsonObjectValid(ob);
 	}
 
+	/**
+	 * getAllLeasePoliciesPrimitive.
+	 *
+	 * @return leasePolicies List<VraNgLeasePolicy>
+	 */
+	@Override
+	public List<VraNgLeasePolicy> getAllLeasePoliciesPrimitive() {
+		return super.getAllLeasePoliciesPrimitive();
+	}
+
 	/**
 	 * getAllImageMappingsByRegionPrimitive.
 	 *
@@ -171,6 +183,18 @@ public class RestClientVraNgPrimitiveTestDouble extends RestClientVraNgPrimitive
 		return super.createAbxActionMap(action);
 	}
 
+	/**
+	 * writeAbxActionJson.
+	 *
+	 * @param action AbxAction
+	 * @param map    abxAction Map<String, Object>
+	 * @param out    target stream
+	 */
+	@Override
+	public void writeAbxActionJson(final AbxAction action, final Map<String, Object> map, final OutputStream out) throws IOException {
+		super.writeAbxActionJson(action, map, out);
+	}
+
 	/**
 	 * getAllFlavorMappingsByRegionPrimitive.
 	 *
@@ -0,0 +1,137 @@
+package com.vmware.pscoe.iac.artifact.rest;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+public class RestClientMetricsTest {
+	private RestClientMetrics metrics;
+	private RestClientMetricsInterceptor interceptor;
+	private ClientHttpRequestExecution execution;
+
+	@BeforeEach
+	void init() {
+		metrics = RestClientMetrics.startRecording();
+		interceptor = new RestClientMetricsInterceptor("vrang");
+		execution = Mockito.mock(ClientHttpRequestExecution.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RestClientMetrics.stopRecording();
+	}
+
+	@Test
+	void testIdsAreTemplated() {
+		assertEquals("/blueprint/api/blueprints/{id}/versions/{id}",
+				RestClientMetrics.templatePath("/blueprint/api/blueprints/4a4f8a28-7a5b-4a5f-9b2e-6a6f0c1d2e3f/versions/12"));
+		assertEquals("/cloudapi/extensions/ui/{id}", RestClientMetrics.templatePath("/cloudapi/extensions/ui/urn:vcloud:uiPlugin:1"));
+		assertEquals("/iaas/api/projects", RestClientMetrics.templatePath("/iaas/api/projects"));
+	}
+
+	@Test
+	void testRequestsAreGroupedByEndpointAndStatus() throws IOException {
+		ClientHttpResponse first = response(200, "{\"id\":1}");
+		ClientHttpResponse second = response(200, "{}");
+		ClientHttpResponse notFound = response(404, "");
+		when(execution.execute(any(), any())).thenReturn(first, second, notFound);
+
+		IOUtils.toString(interceptor.intercept(request("/iaas/api/projects/1"), new byte[3], execution).getBody(), StandardCharsets.UTF_8);
+		IOUtils.toString(interceptor.intercept(request("/iaas/api/projects/2"), new byte[0], execution).getBody(), StandardCharsets.UTF_8);
+		interceptor.intercept(request("/iaas/api/projects/3"), new byte[0], execution);
+
+		String json = metrics.toJson();
+		assertTrue(json.contains("\"path\": \"/iaas/api/projects/{id}\""), json);
+		assertTrue(json.contains("\"count\": 2"), json);
+		assertTrue(json.contains("\"responseBytes\": 10"), json);
+		assertTrue(json.contains("\"requestBytes\": 3"), json);
+		String prometheus = metrics.toPrometheus();
+		assertTrue(prometheus.contains("rest_client_requests_total{product=\"vrang\",method=\"GET\",path=\"/iaas/api/projects/{id}\",status=\"404\"} 1"),
+				prometheus);
+		assertTrue(prometheus.contains("le=\"+Inf\"} 2"), prometheus);
+		assertEquals(4, metrics.toTable().size());
+	}
+
+	@Test
+	void testFailedRequestsAreRecorded() throws IOException {
+		when(execution.execute(any(), any())).thenThrow(new IOException("Connection refused"));
+
+		assertThrows(IOException.class, () -> interceptor.intercept(request("/iaas/api/projects"), new byte[0], execution));
+
+		assertTrue(metrics.toJson().contains("\"status\": \"" + RestClientMetrics.STATUS_IO_ERROR + "\""));
+	}
+
+	@Test
+	void testRequestsAreRecordedInTheRecordingOfTheCallingThread() throws Exception {
+		ClientHttpResponse ok = response(200, "");
+		when(execution.execute(any(), any())).thenReturn(ok);
+		AtomicReference<RestClientMetrics> other = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			other.set(RestClientMetrics.startRecording());
+			try {
+				interceptor.intercept(request("/iaas/api/projects"), new byte[0], execution);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			} finally {
+				RestClientMetrics.stopRecording();
+			}
+		});
+		thread.start();
+		thread.join();
+
+		assertTrue(metrics.isEmpty());
+		assertTrue(other.get().toJson().contains("\"count\": 1"), other.get().toJson());
+
+		RestClientMetrics.stopRecording();
+		assertSame(ok, interceptor.intercept(request("/iaas/api/projects"), new byte[0], execution));
+		assertTrue(metrics.isEmpty());
+	}
+
+	private static HttpRequest request(String path) {
+		HttpRequest request = Mockito.mock(HttpRequest.class);
+		when(request.getMethod()).thenReturn(HttpMethod.GET);
+		when(request.getURI()).thenReturn(URI.create("https://vra.local" + path + "?page=1"));
+		return request;
+	}
+
+	private static ClientHttpResponse response(int status, String body) throws IOException {
+		ClientHttpResponse response = Mockito.mock(ClientHttpResponse.class);
+		when(response.getRawStatusCode()).thenReturn(status);
+		when(response.getBody()).thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+		return response;
+	}
+}
@@ -0,0 +1,122 @@
+package com.vmware.pscoe.iac.artifact.rest;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vmware.pscoe.iac.artifact.configuration.Configuration;
+import com.vmware.pscoe.iac.artifact.configuration.fixtures.ConfigurationTestDouble;
+
+public class RestClientRegistryTest {
+
+	private final AtomicInteger created = new AtomicInteger();
+
+	private final Function<Configuration, Object> factory = configuration -> {
+		created.incrementAndGet();
+		return new Object();
+	};
+
+	@BeforeEach
+	void init() {
+		RestClientRegistry.beginScope("build-1");
+	}
+
+	@AfterEach
+	void tearDown() {
+		RestClientRegistry.clear();
+		System.clearProperty(RestClientRegistry.SHARED_CLIENTS);
+	}
+
+	@Test
+	void testEqualConfigurationsShareTheClient() {
+		Object first = RestClientRegistry.getClient(createConfiguration("host-1", "bundle-1"), Object.class, factory);
+		Object second = RestClientRegistry.getClient(createConfiguration("host-1", "bundle-2"), Object.class, factory);
+
+		assertSame(first, second);
+		assertEquals(1, created.get());
+	}
+
+	@Test
+	void testOtherHostGetsAnotherClient() {
+		Object first = RestClientRegistry.getClient(createConfiguration("host-1", "bundle-1"), Object.class, factory);
+		Object second = RestClientRegistry.getClient(createConfiguration("host-2", "bundle-1"), Object.class, factory);
+
+		assertNotSame(first, second);
+		assertEquals(2, created.get());
+	}
+
+	@Test
+	void testNewScopeDiscardsTheClients() {
+		Object first = RestClientRegistry.getClient(createConfiguration("host-1", "bundle-1"), Object.class, factory);
+		RestClientRegistry.beginScope("build-1");
+		Object sameBuild = RestClientRegistry.getClient(createConfiguration("host-1", "bundle-1"), Object.class, factory);
+		RestClientRegistry.beginScope("build-2");
+		Object nextBuild = RestClientRegistry.getClient(createConfiguration("host-1", "bundle-1"), Object.class, factory);
+
+		assertSame(first, sameBuild);
+		assertNotSame(first, nextBuild);
+	}
+
+	@Test
+	void testSharingCanBeDisabled() {
+		System.setProperty(RestClientRegistry.SHARED_CLIENTS, "false");
+		Object first = RestClientRegistry.getClient(createConfiguration("host-1", "bundle-1"), Object.class, factory);
+		Object second = RestClientRegistry.getClient(createConfiguration("host-1", "bundle-1"), Object.class, factory);
+
+		assertNotSame(first, second);
+	}
+
+	@Test
+	void testParallelModulesCreateTheClientOnce() {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<CompletableFuture<Object>> clients = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				clients.add(CompletableFuture.supplyAsync(
+						() -> RestClientRegistry.getClient(createConfiguration("host-1", "bundle-1"), Object.class, factory), executor));
+			}
+			Object first = clients.get(0).join();
+			clients.forEach(client -> assertSame(first, client.join()));
+			assertEquals(1, created.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private Configuration createConfiguration(String host, String bundle) {
+		Properties properties = new Properties();
+		properties.setProperty(Configuration.HOST, host);
+		properties.setProperty(Configuration.PORT, "443");
+		properties.setProperty(Configuration.USERNAME, "configurationadmin@corp.local");
+		properties.setProperty(Configuration.IMPORT_JOURNAL_BUNDLE, bundle);
+		return new ConfigurationTestDouble(properties);
+	}
+}
@@ -0,0 +1,141 @@
+package com.vmware.pscoe.iac.artifact.rest;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import com.vmware.pscoe.iac.artifact.configuration.ConfigurationVrops;
+import com.vmware.pscoe.iac.artifact.rest.auth.TokenCache;
+
+public class RestClientVropsAuthNInterceptorTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	private RestTemplate restTemplate;
+	private ClientHttpRequestFactory requestFactory;
+	private List<String> sentTokens;
+	private List<ClientHttpResponse> responses;
+
+	@BeforeEach
+	void init() throws IOException {
+		tempFolder.create();
+		System.setProperty(TokenCache.TOKEN_CACHE, tempFolder.newFolder().getAbsolutePath());
+
+		ConfigurationVrops configuration = Mockito.mock(ConfigurationVrops.class);
+		when(configuration.getHost()).thenReturn("vrops.corp.local");
+		when(configuration.getPort()).thenReturn(443);
+		when(configuration.getVropsRestUser()).thenReturn("admin");
+		when(configuration.getVropsRestPassword()).thenReturn("password");
+		when(configuration.getVropsAuthSource()).thenReturn("local");
+		sentTokens = new ArrayList<>();
+		responses = new ArrayList<>();
+		requestFactory = Mockito.mock(ClientHttpRequestFactory.class);
+		when(requestFactory.createRequest(any(), any())).thenAnswer(invocation -> {
+			ClientHttpResponse response = responses.size() > 1 ? responses.remove(0) : responses.get(0);
+			ClientHttpRequest request = Mockito.mock(ClientHttpRequest.class);
+			when(request.getHeaders()).thenReturn(new HttpHeaders());
+			when(request.execute()).thenReturn(response);
+			return request;
+		});
+		restTemplate = Mockito.spy(new RestTemplate(requestFactory));
+		restTemplate.getInterceptors().add(new RestClientVropsAuthNInterceptor(configuration, restTemplate));
+		// records the requests passing the interceptors after the authentication, e.g. the metrics
+		restTemplate.getInterceptors().add((request, body, execution) -> {
+			sentTokens.add(request.getHeaders().getFirst("Authorization"));
+			return execution.execute(request, body);
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty(TokenCache.TOKEN_CACHE);
+		tempFolder.delete();
+	}
+
+	@Test
+	void testRejectedCachedTokenIsRemovedAndRenewedOnce() throws IOException {
+		TokenCache.getDefault().put("vrops.corp.local", "admin@local", "vrops",
+				new TokenCache.CachedToken("revoked-token", "vRealizeOpsToken", Instant.now().plus(1, ChronoUnit.HOURS)));
+		long validity = Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli();
+		doReturn(new ResponseEntity<>("{\"token\":\"new-token\",\"validity\":" + validity + "}", HttpStatus.OK)).when(restTemplate)
+				.exchange(any(URI.class), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+		ClientHttpResponse unauthorized = response(401);
+		responses.add(unauthorized);
+		responses.add(response(200));
+
+		ClientHttpResponse response = get();
+
+		assertEquals(200, response.getRawStatusCode());
+		assertEquals(List.of("vRealizeOpsToken revoked-token", "vRealizeOpsToken new-token"), sentTokens);
+		assertEquals("new-token", TokenCache.getDefault().get("vrops.corp.local", "admin@local", "vrops").getValue());
+		verify(unauthorized).close();
+		verify(restTemplate, times(1)).exchange(any(URI.class), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+	}
+
+	@Test
+	void testRequestRejectedWithTheNewTokenIsNotRepeated() throws IOException {
+		long validity = Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli();
+		doReturn(new ResponseEntity<>("{\"token\":\"new-token\",\"validity\":" + validity + "}", HttpStatus.OK)).when(restTemplate)
+				.exchange(any(URI.class), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+		responses.add(response(401));
+
+		ClientHttpResponse response = get();
+
+		assertEquals(401, response.getRawStatusCode());
+		assertEquals(List.of("vRealizeOpsToken new-token", "vRealizeOpsToken new-token"), sentTokens);
+		verify(requestFactory, times(2)).createRequest(any(), any());
+	}
+
+	private ClientHttpResponse get() throws IOException {
+		return restTemplate.getRequestFactory().createRequest(URI.create("https://vrops.corp.local/suite-api/api/resources"), HttpMethod.GET)
+				.execute();
+	}
+
+	private static ClientHttpResponse response(int status) throws IOException {
+		ClientHttpResponse response = Mockito.mock(ClientHttpResponse.class);
+		when(response.getRawStatusCode()).thenReturn(status);
+		return response;
+	}
+}
@@ -0,0 +1,138 @@
+package com.vmware.pscoe.iac.artifact.rest.auth;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TokenCacheTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	private Path directory;
+
+	@BeforeEach
+	void init() throws IOException {
+		tempFolder.create();
+		directory = tempFolder.newFolder().toPath();
+	}
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty(TokenCache.TOKEN_CACHE);
+		tempFolder.delete();
+	}
+
+	@Test
+	void testStoredTokenIsReturnedForTheSameKey() {
+		TokenCache cache = new TokenCache(directory.resolve("tokens"));
+		Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+		cache.put("vra.corp.local", "configurationadmin", "vra-ng", new TokenCache.CachedToken("token-1", "Bearer", expiresAt));
+
+		TokenCache.CachedToken token = new TokenCache(directory.resolve("tokens")).get("vra.corp.local", "configurationadmin", "vra-ng");
+
+		assertNotNull(token);
+		assertEquals("token-1", token.getValue());
+		assertEquals("Bearer", token.getTokenType());
+		assertEquals(expiresAt.toEpochMilli(), token.getExpiresAt().toEpochMilli());
+		assertNull(cache.get("vra.corp.local", "other", "vra-ng"));
+		assertNull(cache.get("vra.corp.local", "configurationadmin", "vra-sso"));
+		assertNull(cache.get("other.corp.local", "configurationadmin", "vra-ng"));
+	}
+
+	@Test
+	void testTokenAboutToExpireIsNotReturned() {
+		TokenCache cache = new TokenCache(directory);
+		cache.put("vra.corp.local", "configurationadmin", "vra-ng", new TokenCache.CachedToken("token-1", "Bearer", Instant.now().plusSeconds(10)));
+
+		assertNull(cache.get("vra.corp.local", "configurationadmin", "vra-ng"));
+	}
+
+	@Test
+	void testTokenFileIsReadableOnlyByTheOwner() throws IOException {
+		TokenCache cache = new TokenCache(directory.resolve("tokens"));
+		cache.put("vra.corp.local", "configurationadmin", "vra-ng", new TokenCache.CachedToken("token-1", "Bearer", Instant.now().plus(1, ChronoUnit.HOURS)));
+
+		List<Path> files;
+		try (Stream<Path> stream = Files.list(directory.resolve("tokens"))) {
+			files = stream.collect(Collectors.toList());
+		}
+		assertEquals(1, files.size());
+		assertFalse(files.get(0).getFileName().toString().contains("vra.corp.local"));
+		assertFalse(new String(Files.readAllBytes(files.get(0)), StandardCharsets.UTF_8).contains("configurationadmin"));
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+			assertEquals(EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE), Files.getPosixFilePermissions(files.get(0)));
+		}
+	}
+
+	@Test
+	void testRemovedTokenIsNotReturned() {
+		TokenCache cache = new TokenCache(directory);
+		cache.put("vra.corp.local", "configurationadmin", "vra-ng", new TokenCache.CachedToken("token-1", "Bearer", Instant.now().plus(1, ChronoUnit.HOURS)));
+		cache.put("vra.corp.local", "other", "vra-ng", new TokenCache.CachedToken("token-2", "Bearer", Instant.now().plus(1, ChronoUnit.HOURS)));
+
+		cache.remove("vra.corp.local", "configurationadmin", "vra-ng");
+		cache.remove("vra.corp.local", "configurationadmin", "vra-ng");
+
+		assertNull(cache.get("vra.corp.local", "configurationadmin", "vra-ng"));
+		assertEquals("token-2", cache.get("vra.corp.local", "other", "vra-ng").getValue());
+	}
+
+	@Test
+	void testCorruptFileIsIgnored() throws IOException {
+		TokenCache cache = new TokenCache(directory);
+		cache.put("vra.corp.local", "configurationadmin", "vra-ng", new TokenCache.CachedToken("token-1", "Bearer", Instant.now().plus(1, ChronoUnit.HOURS)));
+		try (Stream<Path> stream = Files.list(directory)) {
+			Files.write(stream.findFirst().get(), "{not json".getBytes(StandardCharsets.UTF_8));
+		}
+
+		assertNull(cache.get("vra.corp.local", "configurationadmin", "vra-ng"));
+	}
+
+	@Test
+	void testCacheIsDisabledByDefault() {
+		TokenCache cache = TokenCache.getDefault();
+		cache.put("vra.corp.local", "configurationadmin", "vra-ng", new TokenCache.CachedToken("token-1", "Bearer", Instant.now().plus(1, ChronoUnit.HOURS)));
+
+		assertFalse(cache.isEnabled());
+		assertNull(cache.get("vra.corp.local", "configurationadmin", "vra-ng"));
+
+		System.setProperty(TokenCache.TOKEN_CACHE, directory.toString());
+		assertTrue(TokenCache.getDefault().isEnabled());
+	}
+}
@@ -10,12 +10,19 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -63,11 +70,15 @@ import com.vmware.pscoe.iac.artifact.helpers.stubs.PropertyGroupMockBuilder;
 import com.vmware.pscoe.iac.artifact.helpers.vrang.RestClientVraNgPrimitiveTestDouble;
 import com.vmware.pscoe.iac.artifact.helpers.vrang.RestClientVraNgPrimitiveTestResponseProvider;
 import com.vmware.pscoe.iac.artifact.model.abx.AbxAction;
+import com.vmware.pscoe.iac.artifact.model.abx.AbxDefinition;
+import com.vmware.pscoe.iac.artifact.model.abx.Platform;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgBlueprint;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgCatalogItem;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgCloudAccount;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgContentSharingPolicy;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgCustomForm;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgCustomResource;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgLeasePolicy;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgOrganization;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgProject;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPropertyGroup;
@@ -828,6 +839,35 @@ class RestClientVraNgPrimitiveTest {
 		return arguments.stream();
 	}
 
+	@Test
+	void testWriteAbxActionJsonEncodesTheBundle() throws IOException {
+		byte[] bundle = new byte[100000];
+		new Random(1).nextBytes(bundle);
+		File bundleFile = File.createTempFile("abx-bundle", ".zip");
+		bundleFile.deleteOnExit();
+		Files.write(bundleFile.toPath(), bundle);
+
+		AbxAction abxAction = new AbxAction();
+		abxAction.name = "nic.abx";
+		abxAction.platform = new Platform();
+		abxAction.platform.runtime = "python";
+		abxAction.platform.entrypoint = "handler.handler";
+		abxAction.abx = new AbxDefinition();
+		abxAction.abx.inputs = new LinkedHashMap<>();
+		abxAction.abx.inputs.put("secret:constant-id", "");
+		abxAction.setBundle(bundleFile);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		restClient.writeAbxActionJson(abxAction, restClient.createAbxActionMap(abxAction), out);
+
+		JsonObject json = JsonParser.parseString(out.toString(StandardCharsets.UTF_8.name())).getAsJsonObject();
+		assertEquals("nic.abx", json.get("name").getAsString());
+		assertEquals("python", json.get("runtime").getAsString());
+		assertTrue(json.get("description").isJsonNull());
+		assertEquals("", json.getAsJsonObject("inputs").get("secret:constant-id").getAsString());
+		assertEquals(Base64.getEncoder().encodeToString(bundle), json.get("compressedContent").getAsString());
+	}
+
 	@Test
 	void testCreateAbxActionMapThrownExceptionWhenFaasProviderNameIsNotCorrect() throws IOException {
 		AbxAction abxAction = AbxActionMockBuilder.buildAbxAction();
@@ -895,5 +935,78 @@ class RestClientVraNgPrimitiveTest {
 		// THEN
 		assertEquals(expected, actual);
 	}
+
+	@Test
+	void testGetAllBlueprintsPrimitiveFiltersByProjectAndRetrievesDetails() {
+		// GIVEN
+		when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class))).thenAnswer(invocation -> {
+			URI uri = invocation.getArgument(0);
+			if (uri.getPath().endsWith("/blueprints")) {
+				return new ResponseEntity<>("{\"content\":[{\"id\":\"bp1\",\"projectId\":\"\"},{\"id\":\"bp2\",\"projectId\":\"other\"},"
+						+ "{\"id\":\"bp3\",\"projectId\":\"\"}],\"totalPages\":1}", HttpStatus.OK);
+			}
+			String id = uri.getPath().substring(uri.getPath().lastIndexOf('/') + 1);
+			return new ResponseEntity<>("{\"id\":\"" + id + "\",\"name\":\"Blueprint " + id + "\"}", HttpStatus.OK);
+		});
+
+		// WHEN
+		List<VraNgBlueprint> blueprints = restClient.getAllBlueprintsPrimitive();
+
+		// THEN
+		ArgumentCaptor<URI> uris = ArgumentCaptor.forClass(URI.class);
+		verify(restTemplate, times(3)).exchange(uris.capture(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+		assertTrue(uris.getAllValues().get(0).getQuery().contains("projects="));
+		assertEquals(2, blueprints.size());
+		assertEquals("bp1", blueprints.get(0).getId());
+		assertEquals("bp3", blueprints.get(1).getId());
+	}
+
+	@Test
+	void testGetAllAbxActionsPrimitiveFiltersByProject() {
+		// GIVEN
+		when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenReturn(new ResponseEntity<>("{\"content\":[{\"id\":\"a1\",\"name\":\"action\",\"projectId\":\"\"}],\"totalPages\":1}", HttpStatus.OK));
+
+		// WHEN
+		List<AbxAction> actions = restClient.getAllAbxActionsPrimitive();
+
+		// THEN
+		ArgumentCaptor<URI> uri = ArgumentCaptor.forClass(URI.class);
+		verify(restTemplate).exchange(uri.capture(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+		assertEquals("page=0&size=500&$filter=projectId+eq+''", uri.getValue().getQuery());
+		assertEquals(1, actions.size());
+		assertEquals("a1", actions.get(0).id);
+	}
+
+	@Test
+	void testPoliciesAreListedOnceForAllTypes() throws URISyntaxException {
+		// GIVEN
+		when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenReturn(new ResponseEntity<>("{\"content\":["
+						+ "{\"id\":\"cs1\",\"name\":\"shared\",\"projectId\":\"\",\"typeId\":\"com.vmware.policy.catalog.entitlement\"},"
+						+ "{\"id\":\"cs2\",\"name\":\"shared\",\"projectId\":\"other\",\"typeId\":\"com.vmware.policy.catalog.entitlement\"},"
+						+ "{\"id\":\"l1\",\"name\":\"lease\",\"projectId\":\"\",\"typeId\":\"com.vmware.policy.deployment.lease\"}"
+						+ "],\"totalPages\":1}", HttpStatus.OK));
+		when(restTemplate.exchange(any(URI.class), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+				.thenReturn(new ResponseEntity<>("{\"id\":\"l2\",\"name\":\"new lease\",\"typeId\":\"com.vmware.policy.deployment.lease\"}",
+						HttpStatus.CREATED));
+
+		// WHEN
+		String sharingPolicyId = restClient.getContentSharingPolicyIdByName("shared");
+		List<VraNgLeasePolicy> leasePolicies = restClient.getAllLeasePoliciesPrimitive();
+		VraNgLeasePolicy newPolicy = new Gson().fromJson("{\"name\":\"new lease\"}", VraNgLeasePolicy.class);
+		restClient.createLeasePolicyPrimitive(newPolicy);
+		List<VraNgLeasePolicy> updatedLeasePolicies = restClient.getAllLeasePoliciesPrimitive();
+
+		// THEN
+		ArgumentCaptor<URI> uri = ArgumentCaptor.forClass(URI.class);
+		verify(restTemplate, times(1)).exchange(uri.capture(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+		assertEquals("page=0&size=500&expandDefinition=true", uri.getValue().getQuery());
+		assertEquals("cs1", sharingPolicyId);
+		assertEquals(1, leasePolicies.size());
+		assertEquals("l1", leasePolicies.get(0).getId());
+		assertEquals(2, updatedLeasePolicies.size());
+		assertEquals("l2", updatedLeasePolicies.get(1).getId());
+	}
 	
 }
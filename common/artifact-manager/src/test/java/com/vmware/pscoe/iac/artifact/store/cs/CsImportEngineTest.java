@@ -0,0 +1,72 @@
+package com.vmware.pscoe.iac.artifact.store.cs;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+public class CsImportEngineTest {
+
+	@Test
+	void testLevelsFollowDependencies() {
+		Map<String, Set<String>> dependencies = new HashMap<>();
+		dependencies.put("rollback.yaml", Collections.emptySet());
+		dependencies.put("first.yaml", new HashSet<>(Arrays.asList("rollback.yaml")));
+		dependencies.put("second.yaml", new HashSet<>(Arrays.asList("rollback.yaml", "onServer.yaml")));
+		dependencies.put("third.yaml", new HashSet<>(Arrays.asList("first.yaml", "third.yaml")));
+
+		List<List<String>> levels = CsImportEngine.levels(dependencies);
+
+		assertEquals(Arrays.asList(Arrays.asList("rollback.yaml"), Arrays.asList("first.yaml", "second.yaml"), Arrays.asList("third.yaml")),
+				levels);
+	}
+
+	@Test
+	void testCircularDependenciesAreImportedTogether() {
+		Map<String, Set<String>> dependencies = new HashMap<>();
+		dependencies.put("a.yaml", new HashSet<>(Arrays.asList("b.yaml")));
+		dependencies.put("b.yaml", new HashSet<>(Arrays.asList("a.yaml")));
+
+		assertEquals(Arrays.asList(Arrays.asList("a.yaml", "b.yaml")), CsImportEngine.levels(dependencies));
+	}
+
+	@Test
+	void testFailureStopsBeforeNextLevel() {
+		Set<String> imported = ConcurrentHashMap.newKeySet();
+		List<List<String>> levels = Arrays.asList(Arrays.asList("a", "failing", "b"), Arrays.asList("c"));
+
+		RuntimeException e = assertThrows(RuntimeException.class, () -> CsImportEngine.importLevels(levels, item -> {
+			if ("failing".equals(item)) {
+				throw new RuntimeException("Import failed");
+			}
+			imported.add(item);
+		}));
+
+		assertEquals("Import failed", e.getMessage());
+		assertEquals(new HashSet<>(Arrays.asList("a", "b")), imported);
+	}
+}
@@ -210,11 +210,13 @@ public class CsPipelineStoreTest {
 		// TEST
 		store.importContent(tempFolder.getRoot());
 
-		// VERIFY
-		InOrder inOrder = inOrder(restClient);
-		inOrder.verify(restClient).updatePipeline(eq("PipelineRollback"), any());
-		inOrder.verify(restClient).updatePipeline(eq("Pipeline2"), any());
-		inOrder.verify(restClient).updatePipeline(eq("Pipeline1"), any());
+		// VERIFY the rollback pipeline is imported before each of the pipelines using it
+		InOrder inOrder1 = inOrder(restClient);
+		inOrder1.verify(restClient).updatePipeline(eq("PipelineRollback"), any());
+		inOrder1.verify(restClient).updatePipeline(eq("Pipeline1"), any());
+		InOrder inOrder2 = inOrder(restClient);
+		inOrder2.verify(restClient).updatePipeline(eq("PipelineRollback"), any());
+		inOrder2.verify(restClient).updatePipeline(eq("Pipeline2"), any());
 
 		verify(restClient, times(3)).patchPipeline(any(), any());
 
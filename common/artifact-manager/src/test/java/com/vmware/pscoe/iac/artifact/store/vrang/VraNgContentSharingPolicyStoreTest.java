@@ -235,6 +235,30 @@ public class VraNgContentSharingPolicyStoreTest {
 		File contentSharingPolicyFolder = Paths.get(fsMocks.getTempFolderProjectPath().getPath(), contentSharingPolicy).toFile();
 		AssertionsHelper.assertFolderContainsFiles(contentSharingPolicyFolder, new String[] { "cs.json" });
 
+		VraNgContentSharingPolicy csPolicyFromServer = new VraNgContentSharingPolicy("679daee9-d63d-4ce2-9ee1-d4336861fe87", "cs",
+				"com.vmware.policy.catalog.entitlement", "1", "1", "HARD", "PREVIOUS", new VraNgDefinition(), this.scope1, this.organization.getName());
+		when(restClient.getContentSharingPolicies()).thenReturn(Arrays.asList(csPolicyFromServer));
+		when(restClient.getContentSharingPolicy("679daee9-d63d-4ce2-9ee1-d4336861fe87")).thenReturn(csPolicyFromServer);
+
+		// START TEST
+		store.importContent(tempFolder.getRoot());
+
+		// VERIFY
+		verify(restClient, times(1)).createContentSharingPolicy(any());
+	}
+
+	@Test
+	void testImportContentUnchangedIsSkipped() {
+		System.out.println("testImportContentUnchangedIsSkipped");
+		VraNgPolicy vraNgPolicy = new VraNgPolicy(Arrays.asList("cs"), null, null, null, null, null);
+		VraNgContentSharingPolicy csPolicy = new VraNgContentSharingPolicy("679daee9-d63d-4ce2-9ee1-d4336861fe87", "cs",
+				"com.vmware.policy.catalog.entitlement", "1", "1", "HARD", "TEST", new VraNgDefinition(), this.scope1, this.organization.getName());
+
+		// GIVEN
+		when(vraNgPackageDescriptor.getPolicy()).thenReturn(vraNgPolicy);
+
+		fsMocks.contentSharingFsMocks().addContentSharingPolicy(csPolicy);
+
 		when(restClient.getContentSharingPolicies()).thenReturn(Arrays.asList(csPolicy));
 		when(restClient.getContentSharingPolicy("679daee9-d63d-4ce2-9ee1-d4336861fe87")).thenReturn(csPolicy);
 
@@ -242,7 +266,7 @@ public class VraNgContentSharingPolicyStoreTest {
 		store.importContent(tempFolder.getRoot());
 
 		// VERIFY
-		verify(restClient, times(1)).createContentSharingPolicy(any());
+		verify(restClient, never()).createContentSharingPolicy(any());
 	}
 
 	@Test
@@ -458,7 +482,7 @@ public class VraNgContentSharingPolicyStoreTest {
 				"com.vmware.policy.catalog.entitlement", "1", this.organization.getId(), "HARD", "TEST", contentSourcesDefinition, scope, organization);
 
 		VraNgContentSharingPolicy csPolicyFromServer2 = new VraNgContentSharingPolicy("679daee9-d63d-4ce2-9ee1-d4336861fe86", "test",
-				"com.vmware.policy.catalog.entitlement", "1", this.organization.getId(), "HARD", "TEST", contentSourcesDefinition, scope, organization);
+				"com.vmware.policy.catalog.entitlement", "1", this.organization.getId(), "HARD", "PREVIOUS", contentSourcesDefinition, scope, organization);
 
 		VraNgContentSharingPolicy toBeCreated = new VraNgContentSharingPolicy("679daee9-d63d-4ce2-9ee1-d4336861fe86", "test",
 				"com.vmware.policy.catalog.entitlement", "1", this.organization.getId(), "HARD", "TEST", contentItemsDefinition, scope, organization);
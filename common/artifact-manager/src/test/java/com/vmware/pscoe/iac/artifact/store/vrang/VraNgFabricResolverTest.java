@@ -0,0 +1,83 @@
+package com.vmware.pscoe.iac.artifact.store.vrang;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
+
+public class VraNgFabricResolverTest {
+	private static final String DATASTORES = "fabric-vsphere-datastores";
+
+	private RestClientVraNg restClient;
+	private VraNgFabricResolver resolver;
+
+	@BeforeEach
+	void init() {
+		restClient = Mockito.mock(RestClientVraNg.class);
+		resolver = new VraNgFabricResolver(restClient);
+
+		Map<String, String> datastores = new LinkedHashMap<>();
+		datastores.put("ds-1", "datastore1");
+		datastores.put("ds-2", "datastore2");
+		when(restClient.getFabricEntities(DATASTORES)).thenReturn(datastores);
+	}
+
+	@Test
+	void testFabricTypeIsListedOnce() {
+		assertEquals("datastore1", resolver.getName("/iaas/api/fabric-vsphere-datastores/ds-1"));
+		assertEquals("datastore2", resolver.getName("/iaas/api/fabric-vsphere-datastores/ds-2"));
+		assertEquals("ds-2", resolver.getId(DATASTORES, "datastore2"));
+
+		verify(restClient, times(1)).getFabricEntities(DATASTORES);
+		verify(restClient, never()).getFabricEntityName(anyString());
+		verify(restClient, never()).getFabricEntityId(anyString(), anyString());
+	}
+
+	@Test
+	void testEntityMissingFromListingIsResolvedOnce() {
+		when(restClient.getFabricEntityId(DATASTORES, "datastore3")).thenReturn(null);
+
+		assertNull(resolver.getId(DATASTORES, "datastore3"));
+		assertNull(resolver.getId(DATASTORES, "datastore3"));
+
+		verify(restClient, times(1)).getFabricEntityId(DATASTORES, "datastore3");
+	}
+
+	@Test
+	void testCloudAccountsAreRetrievedOnce() {
+		when(restClient.getCloudAccounts()).thenReturn(new ArrayList<>());
+
+		resolver.getCloudAccounts();
+		resolver.getCloudAccounts();
+
+		verify(restClient, times(1)).getCloudAccounts();
+	}
+}
@@ -0,0 +1,116 @@
+package com.vmware.pscoe.iac.artifact.store.vrang;
+
+/*-
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.vmware.pscoe.iac.artifact.PackageManager;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageContent.ContentType;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageDescriptor;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPolicy;
+
+public class VraNgLocalContentTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@BeforeEach
+	void init() throws IOException {
+		tempFolder.create();
+		for (String file : Arrays.asList("blueprints/A/content.yaml", "blueprints/A/details.json", "blueprints/B/content.yaml",
+				"subscriptions/s1.json", "subscriptions/s2.json", "custom-resources/c.json", "policies/lease/l1.json",
+				"policies/lease/l2.json", "policies/approval/a.json", "flavor-mappings/region.json")) {
+			File local = new File(tempFolder.getRoot(), file);
+			local.getParentFile().mkdirs();
+			local.createNewFile();
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		tempFolder.delete();
+	}
+
+	@Test
+	void testOnlyTheItemsSelectedByTheDescriptorAreReturned() throws IOException {
+		VraNgPackageDescriptor descriptor = new VraNgPackageDescriptor();
+		descriptor.setBlueprint(Arrays.asList("A"));
+		descriptor.setCustomResource(Collections.emptyList());
+		descriptor.setPolicy(new VraNgPolicy(null, null, null, Arrays.asList("l1"), null, null));
+
+		Set<String> selected = VraNgLocalContent.getSelectedFiles(descriptor, tempFolder.getRoot()).stream()
+				.map(file -> tempFolder.getRoot().toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/'))
+				.collect(Collectors.toCollection(TreeSet::new));
+
+		assertEquals(new TreeSet<>(Arrays.asList("blueprints/A/content.yaml", "blueprints/A/details.json", "subscriptions/s1.json",
+				"subscriptions/s2.json", "policies/lease/l1.json", "policies/approval/a.json")), selected);
+	}
+
+	@Test
+	void testPullOfFilteredTypeKeepsTheItemsNotSelected() throws IOException {
+		VraNgPackageDescriptor descriptor = new VraNgPackageDescriptor();
+		descriptor.setBlueprint(Arrays.asList("A"));
+		descriptor.setCustomResource(Collections.emptyList());
+		descriptor.setPolicy(new VraNgPolicy());
+		File exported = tempFolder.newFolder("exported");
+		new File(exported, "blueprints/A").mkdirs();
+		new File(exported, "blueprints/A/content.yaml").createNewFile();
+		new File(exported, "subscriptions").mkdirs();
+		new File(exported, "subscriptions/s1.json").createNewFile();
+		File project = tempFolder.getRoot();
+
+		PackageManager.syncContents(exported, project, VraNgLocalContent.getSelectedFiles(descriptor, project));
+
+		assertTrue(new File(project, "blueprints/A/content.yaml").exists());
+		assertFalse(new File(project, "blueprints/A/details.json").exists());
+		assertTrue(new File(project, "blueprints/B/content.yaml").exists());
+		assertTrue(new File(project, "subscriptions/s1.json").exists());
+		assertFalse(new File(project, "subscriptions/s2.json").exists());
+		assertTrue(new File(project, "custom-resources/c.json").exists());
+		assertTrue(new File(project, "policies/lease/l2.json").exists());
+		assertTrue(new File(project, "flavor-mappings/region.json").exists());
+	}
+
+	@Test
+	void testSelectedItemsAreCountedPerType() {
+		VraNgPackageDescriptor descriptor = new VraNgPackageDescriptor();
+		descriptor.setBlueprint(Arrays.asList("A", "C"));
+		descriptor.setPolicy(new VraNgPolicy(null, null, null, Arrays.asList("l1"), null, null));
+		File root = tempFolder.getRoot();
+
+		assertEquals(1, VraNgLocalContent.countSelectedItems(ContentType.BLUEPRINT, descriptor, root));
+		assertEquals(2, VraNgLocalContent.countSelectedItems(ContentType.SUBSCRIPTION, descriptor, root));
+		assertEquals(1, VraNgLocalContent.countSelectedItems(ContentType.LEASE_POLICY, descriptor, root));
+		assertEquals(0, VraNgLocalContent.countSelectedItems(ContentType.CATALOG_ITEM, descriptor, root));
+		assertEquals(-1, VraNgLocalContent.countSelectedItems(ContentType.FLAVOR_MAPPING, descriptor, root));
+	}
+}
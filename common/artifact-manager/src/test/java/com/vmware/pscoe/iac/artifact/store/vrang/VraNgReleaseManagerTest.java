@@ -18,6 +18,9 @@ package com.vmware.pscoe.iac.artifact.store.vrang;
 import com.vmware.pscoe.iac.artifact.VraNgReleaseManager;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
 import com.vmware.pscoe.iac.artifact.model.vrang.VraNgBlueprint;
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -60,4 +63,39 @@ public class VraNgReleaseManagerTest {
         // Then
         verify(restClientVrang, Mockito.times(2)).releaseBlueprintVersion(Mockito.anyString(), Mockito.anyString());
 	}
+
+	@Test
+	public void testReleaseContentReleasesOnlyChangedBlueprints() {
+        // Given
+        VraNgBlueprint unchanged = new VraNgBlueprint("blueprint_id_2", "blueprint_name_2", "content: 2\r\n", "blueprint_desc_2", false);
+        VraNgBlueprint newBlueprint = new VraNgBlueprint("blueprint_id_3", "blueprint_name_3", "content: 3", "blueprint_desc_3", false);
+        when(restClientVrang.getAllBlueprints()).thenReturn(Arrays.asList(bp, unchanged, newBlueprint));
+        when(restClientVrang.getBlueprintVersionList(bp.getId())).thenReturn(Arrays.asList("2", "1"));
+        when(restClientVrang.getBlueprintVersionList(unchanged.getId())).thenReturn(Arrays.asList("1"));
+        when(restClientVrang.getBlueprintVersionList(newBlueprint.getId())).thenReturn(Collections.emptyList());
+        when(restClientVrang.getBlueprintVersionContent(bp.getId(), "2")).thenReturn("Latest content");
+        when(restClientVrang.getBlueprintVersionContent(unchanged.getId(), "1")).thenReturn("content: 2");
+
+        // When
+        vraNgReleaseManager.releaseContent("blueprint", Collections.emptyList(), "3", false);
+
+        // Then
+        verify(restClientVrang).releaseBlueprintVersion(bp.getId(), "3");
+        verify(restClientVrang).releaseBlueprintVersion(newBlueprint.getId(), "3");
+        verify(restClientVrang, never()).releaseBlueprintVersion(eq(unchanged.getId()), anyString());
+        verify(restClientVrang, never()).getBlueprintVersionContent(eq(newBlueprint.getId()), anyString());
+	}
+
+	@Test
+	public void testReleaseContentFailsWhenVersionIsPresent() {
+        // Given
+        when(restClientVrang.getAllBlueprints()).thenReturn(Arrays.asList(bp));
+        when(restClientVrang.getBlueprintVersionList(bp.getId())).thenReturn(Arrays.asList("2", "1"));
+
+        // When
+        assertThrows(RuntimeException.class, () -> vraNgReleaseManager.releaseContent("all", Arrays.asList(bp.getName()), "1", true));
+
+        // Then
+        verify(restClientVrang, never()).releaseBlueprintVersion(anyString(), anyString());
+	}
 }
@@ -0,0 +1,129 @@
+package com.vmware.pscoe.iac.artifact.trace;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
+
+public class TracerTest {
+	private Tracer tracer;
+
+	@BeforeEach
+	void init() {
+		tracer = new Tracer();
+	}
+
+	@Test
+	void testSpansAreNestedPerThread() {
+		try (Span outer = tracer.start("import")) {
+			try (Span inner = tracer.start("vrang.import.blueprint")) {
+				inner.setCount(3);
+			}
+			CompletableFuture.runAsync(() -> tracer.start("other thread").close()).join();
+		}
+
+		JsonArray spans = JsonParser.parseString(tracer.toOtlpJson()).getAsJsonObject().getAsJsonArray("resourceSpans").get(0)
+				.getAsJsonObject().getAsJsonArray("scopeSpans").get(0).getAsJsonObject().getAsJsonArray("spans");
+		assertEquals(3, spans.size());
+		JsonObject outer = find(spans, "import");
+		JsonObject inner = find(spans, "vrang.import.blueprint");
+		assertEquals(outer.get("spanId"), inner.get("parentSpanId"));
+		assertNull(find(spans, "other thread").get("parentSpanId"));
+		assertTrue(inner.toString().contains("{\"key\":\"count\",\"value\":{\"intValue\":\"3\"}}"), inner.toString());
+	}
+
+	@Test
+	void testChromeTraceHasCompleteEvents() {
+		try (Span span = tracer.start("unpack")) {
+			span.setCount(2);
+		}
+
+		JsonArray events = JsonParser.parseString(tracer.toChromeTrace()).getAsJsonObject().getAsJsonArray("traceEvents");
+		JsonObject event = find(events, "unpack");
+		assertEquals("X", event.get("ph").getAsString());
+		assertTrue(event.get("dur").getAsDouble() >= 0);
+		assertEquals(2, event.getAsJsonObject("args").get("count").getAsInt());
+		assertEquals("M", find(events, "thread_name").get("ph").getAsString());
+	}
+
+	@Test
+	void testSpansAreRecordedOnlyWhileTracing() throws InterruptedException {
+		Tracer.span("before").close();
+		Tracer started = Tracer.startTracing();
+		try {
+			Span span = Tracer.span("unpack");
+			span.close();
+			span.close();
+			Thread thread = new Thread(() -> Tracer.span("started thread").close());
+			thread.start();
+			thread.join();
+		} finally {
+			Tracer.stopTracing();
+		}
+		Tracer.span("after").setCount(1).close();
+
+		JsonArray events = JsonParser.parseString(started.toChromeTrace()).getAsJsonObject().getAsJsonArray("traceEvents");
+		assertNotNull(find(events, "unpack"));
+		assertNotNull(find(events, "started thread"));
+		assertNull(find(events, "before"));
+		assertNull(find(events, "after"));
+		assertTrue(tracer.isEmpty());
+	}
+
+	@Test
+	void testSpansOfPoolTasksAreChildrenOfTheCallingSpan() {
+		Tracer started = Tracer.startTracing();
+		try {
+			try (Span span = Tracer.span("import")) {
+				ConcurrencyUtil.forEach(Arrays.asList("a", "b", "c"), 2, item -> Tracer.span("task " + item).close());
+			}
+			Tracer.span("next").close();
+		} finally {
+			Tracer.stopTracing();
+		}
+
+		JsonArray spans = JsonParser.parseString(started.toOtlpJson()).getAsJsonObject().getAsJsonArray("resourceSpans").get(0)
+				.getAsJsonObject().getAsJsonArray("scopeSpans").get(0).getAsJsonObject().getAsJsonArray("spans");
+		JsonObject parent = find(spans, "import");
+		for (String item : Arrays.asList("a", "b", "c")) {
+			assertEquals(parent.get("spanId"), find(spans, "task " + item).get("parentSpanId"), item);
+		}
+		assertNull(find(spans, "next").get("parentSpanId"));
+	}
+
+	private static JsonObject find(JsonArray array, String name) {
+		for (int i = 0; i < array.size(); i++) {
+			JsonObject json = array.get(i).getAsJsonObject();
+			if (name.equals(json.get("name").getAsString())) {
+				return json;
+			}
+		}
+		return null;
+	}
+}
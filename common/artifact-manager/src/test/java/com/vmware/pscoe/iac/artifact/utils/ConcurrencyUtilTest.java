@@ -0,0 +1,77 @@
+package com.vmware.pscoe.iac.artifact.utils;
+
+/*
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyUtilTest {
+
+	@Test
+	void testResultsAreInTheOrderOfTheItems() {
+		List<Integer> results = ConcurrencyUtil.map(Arrays.asList(5, 1, 4, 2, 3), 3, i -> {
+			sleep(i * 10);
+			return i * 2;
+		});
+
+		assertEquals(Arrays.asList(10, 2, 8, 4, 6), results);
+	}
+
+	@Test
+	void testThreadsAreBounded() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		ConcurrencyUtil.forEach(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), 2, i -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			sleep(20);
+			running.decrementAndGet();
+		});
+
+		assertTrue(maxRunning.get() <= 2);
+	}
+
+	@Test
+	void testAllItemsCompleteBeforeTheFirstFailureIsRethrown() {
+		AtomicInteger completed = new AtomicInteger();
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> ConcurrencyUtil.forEach(Arrays.asList(1, 2, 3, 4), 4, i -> {
+			if (i % 2 == 0) {
+				throw new IllegalStateException("item " + i);
+			}
+			sleep(50);
+			completed.incrementAndGet();
+		}));
+
+		assertEquals("item 2", e.getMessage());
+		assertEquals(2, completed.get());
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
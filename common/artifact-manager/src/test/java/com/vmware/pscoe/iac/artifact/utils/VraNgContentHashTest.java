@@ -0,0 +1,91 @@
+package com.vmware.pscoe.iac.artifact.utils;
+
+/*-
+ * #%L
+ * artifact-manager
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+public class VraNgContentHashTest {
+
+	@Test
+	void testServerManagedPropertiesAreIgnored() {
+		JsonElement local = JsonParser.parseString("{\"name\":\"sub\",\"priority\":10,\"constraints\":{\"projectId\":[\"p1\"]}}");
+		JsonElement server = JsonParser.parseString(
+				"{\"updatedAt\":\"2024-01-01\",\"constraints\":{\"projectId\":[\"p1\"]},\"priority\":10.0,\"name\":\"sub\",\"orgId\":\"org\"}");
+
+		assertTrue(VraNgContentHash.isUnchanged(local, server));
+	}
+
+	@Test
+	void testChangedValueIsDetected() {
+		JsonElement local = JsonParser.parseString("{\"name\":\"sub\",\"constraints\":{\"projectId\":[\"p1\",\"p2\"]}}");
+		JsonElement server = JsonParser.parseString("{\"name\":\"sub\",\"constraints\":{\"projectId\":[\"p1\"]}}");
+
+		assertFalse(VraNgContentHash.isUnchanged(local, server));
+	}
+
+	@Test
+	void testPropertyMissingOnServerIsDetected() {
+		JsonElement local = JsonParser.parseString("{\"name\":\"sub\",\"description\":\"new\"}");
+		JsonElement server = JsonParser.parseString("{\"name\":\"sub\"}");
+
+		assertFalse(VraNgContentHash.isUnchanged(local, server));
+	}
+
+	@Test
+	void testPropertiesRemovedLocallyAreDetected() {
+		JsonElement server = JsonParser.parseString(
+				"{\"id\":\"1\",\"name\":\"sub\",\"description\":\"old\",\"constraints\":{\"projectId\":[\"p1\"],\"tag\":\"t\"}}");
+
+		assertFalse(VraNgContentHash.isUnchanged(JsonParser.parseString(
+				"{\"id\":\"1\",\"name\":\"sub\",\"constraints\":{\"projectId\":[\"p1\"],\"tag\":\"t\"}}"), server));
+		assertFalse(VraNgContentHash.isUnchanged(JsonParser.parseString(
+				"{\"id\":\"1\",\"name\":\"sub\",\"description\":\"old\",\"constraints\":{\"projectId\":[\"p1\"]}}"), server));
+	}
+
+	@Test
+	void testNestedServerManagedPropertiesAreIgnored() {
+		JsonElement local = JsonParser.parseString("{\"name\":\"cr\",\"additionalActions\":[{\"name\":\"a\"},{\"name\":\"b\"}]}");
+		JsonElement server = JsonParser.parseString(
+				"{\"id\":\"1\",\"name\":\"cr\",\"additionalActions\":[{\"id\":\"2\",\"name\":\"a\"},{\"id\":\"3\",\"name\":\"b\"}]}");
+
+		assertFalse(VraNgContentHash.isUnchanged(local, server));
+		assertTrue(VraNgContentHash.isUnchanged(local, server, Arrays.asList("id", "additionalActions.id")));
+	}
+
+	@Test
+	void testNullPropertiesAndLineEndingsAreNormalized() {
+		JsonElement local = JsonParser.parseString("{\"content\":\"a: 1\\r\\nb: 2\\r\\n\",\"description\":null}");
+		JsonElement server = JsonParser.parseString("{\"content\":\"a: 1\\nb: 2\"}");
+
+		assertTrue(VraNgContentHash.isUnchanged(local, server));
+		assertEquals(VraNgContentHash.hash(local), VraNgContentHash.hash(JsonParser.parseString("{\"content\":\"a: 1\\nb: 2\"}")));
+		assertTrue(VraNgContentHash.isUnchanged("a: 1  \r\nb: 2\r\n", "a: 1\nb: 2"));
+	}
+
+	@Test
+	void testMissingServerItemIsChanged() {
+		assertFalse(VraNgContentHash.isUnchanged(JsonParser.parseString("{\"name\":\"sub\"}"), null));
+	}
+}
@@ -54,6 +54,11 @@ public class CleanProjectTree implements ProjectTreeVisitor {
         // tests will not be removed from the project
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     protected void deleteFile(File file) {
         if (file != null) {
             logger.info("Deleting file " + file.getAbsolutePath());
@@ -15,7 +15,6 @@ package com.vmware.pscoe.o11n.project;
  * #L%
  */
 
-import com.vmware.pscoe.o11n.project.BaseProjectFileVisitor.WrappedException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mozilla.javascript.Node;
@@ -38,6 +37,8 @@ import static com.google.common.io.Files.getFileExtension;
 
 public class JsBasedActionsProjectTree implements ProjectTree {
     private static final Logger logger = LogManager.getLogger(JsBasedActionsProjectTree.class);
+    private static final String SCRIPT_ROOT = "main/resources";
+    private static final String TEST_ROOT = "test/resources";
     private final Path src;
     private final Path pom;
     private boolean ignoreTests;
@@ -60,12 +61,8 @@ public class JsBasedActionsProjectTree implements ProjectTree {
             throw new ProjectTreeMismatchException(root + " is not a valid actions-only JS-based project root.");
         }
 
-        JsBasedActionsFileVisitor fileVisitor = new JsBasedActionsFileVisitor(visitor);
-        try {
-            Files.walkFileTree(src, fileVisitor);
-        } catch (WrappedException wrappedEx) {
-            throw wrappedEx.getWrappedException();
-        }
+        final ProjectTreeVisitor guarded = ProjectTreeWalker.guard(visitor);
+        new ProjectTreeWalker(src, (file, kind, category) -> visitFile(guarded, file, kind, category), SCRIPT_ROOT, TEST_ROOT).walk();
     }
 
     @Override
@@ -99,14 +96,6 @@ public class JsBasedActionsProjectTree implements ProjectTree {
         return null;
     }
 
-    private boolean isTest(Path current) {
-        return isChild("test/resources", current);
-    }
-
-    private boolean isScript(Path current) {
-        return isChild("main/resources", current);
-    }
-
     private boolean isJs(File current) {
         return getFileExtension(current.getName()).equalsIgnoreCase("js");
     }
@@ -126,36 +115,14 @@ public class JsBasedActionsProjectTree implements ProjectTree {
         return false;
     }
 
-    private boolean isChild(String parent, Path current) {
-        Path parentPath = Paths.get(parent);
-        Path relativeCurrent = src.relativize(current);
-        return relativeCurrent.startsWith(parentPath) && !relativeCurrent.endsWith(parentPath);
-    }
-
-    private class JsBasedActionsFileVisitor extends BaseProjectFileVisitor {
-
-        public JsBasedActionsFileVisitor(ProjectTreeVisitor visitor) {
-            super(visitor);
-        }
-
-        @Override
-        public boolean haveToVisitDirectory(Path dir) {
-            return isScript(dir) || isTest(dir);
-        }
-
-        @Override
-        public void visitFile(Path filePath, String category) throws Exception {
-            final File file = filePath.toFile();
-            if (isScript(filePath) && getFileExtension(file.getName()).equalsIgnoreCase("js")) {
+    private void visitFile(ProjectTreeVisitor visitor, File file, String kind, String category) throws IOException {
+        if (SCRIPT_ROOT.equals(kind) && isJs(file)) {
+            visitor.visitScriptModule(file, category);
+        } else if (TEST_ROOT.equals(kind) && isJs(file)) {
+            if (isJasmine(file))
+                visitor.visitTest(file, category);
+            else if (!ignoreTests)
                 visitor.visitScriptModule(file, category);
-            } else if (isTest(filePath)) {
-                if (isJs(file)) {
-                    if (isJasmine(file))
-                        visitor.visitTest(file, category);
-                    else if (!ignoreTests)
-                        visitor.visitScriptModule(file, category);
-                }
-            }
         }
     }
 }
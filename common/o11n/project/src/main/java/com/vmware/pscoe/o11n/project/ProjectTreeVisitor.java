@@ -29,4 +29,12 @@ public interface ProjectTreeVisitor {
     void visitPolicyTemplate(File file, String category);
 
     void visitTest(File testFile, String category);
+
+    /**
+     * Project trees visit subtrees in parallel. The callbacks of visitors which are not thread-safe are serialized.
+     * @return whether the callbacks can be invoked concurrently
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
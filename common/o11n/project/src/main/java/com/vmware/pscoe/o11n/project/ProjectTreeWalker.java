@@ -0,0 +1,214 @@
+package com.vmware.pscoe.o11n.project;
+
+/*
+ * #%L
+ * o11n-project
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Walks the element roots of a project tree.
+ *
+ * The element roots (e.g. "main/resources/Workflow") are split into name elements once, so every directory and
+ * file is classified by comparing its name elements with the precomputed prefixes instead of relativizing paths.
+ * Directories which are neither an ancestor nor a descendant of an element root are not entered at all.
+ * Subtrees are visited in parallel on a fork-join pool.
+ */
+final class ProjectTreeWalker {
+
+    /**
+     * Handles a file found under one of the element roots.
+     */
+    interface ElementHandler {
+        /**
+         * @param file the file
+         * @param root the element root the file is found under, as passed to the walker
+         * @param category the directories between the element root and the file, joined with "."
+         * @throws Exception on failure, the walk is aborted and the exception is rethrown by {@link #walk()}
+         */
+        void visitFile(File file, String root, String category) throws Exception;
+    }
+
+    private final Path src;
+    private final String[] rootNames;
+    private final String[][] roots;
+    private final ElementHandler handler;
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    ProjectTreeWalker(Path src, ElementHandler handler, String... roots) {
+        this.src = src;
+        this.handler = handler;
+        this.rootNames = roots;
+        this.roots = new String[roots.length][];
+        for (int i = 0; i < roots.length; i++) {
+            this.roots[i] = roots[i].split("/");
+        }
+    }
+
+    /**
+     * Wraps the visitor so its callbacks are serialized, unless it declares itself thread-safe.
+     */
+    static ProjectTreeVisitor guard(ProjectTreeVisitor visitor) {
+        return visitor.isThreadSafe() ? visitor : new SynchronizedVisitor(visitor);
+    }
+
+    /**
+     * Walks the tree.
+     * @throws Exception the first exception thrown by the handler
+     */
+    void walk() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            pool.invoke(new DirectoryTask(src, new String[0]));
+        } finally {
+            pool.shutdown();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private int findRoot(String[] relative) {
+        for (int i = 0; i < roots.length; i++) {
+            if (relative.length > roots[i].length && startsWith(relative, roots[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isOnRootPath(String[] relative) {
+        for (String[] root : roots) {
+            if (relative.length <= root.length ? startsWith(root, relative) : startsWith(relative, root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(String[] path, String[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (!path[i].equals(prefix[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void visitFile(Path file, String[] relative) {
+        int root = findRoot(relative);
+        if (root < 0) {
+            return;
+        }
+        String category = String.join(".", Arrays.copyOfRange(relative, roots[root].length, relative.length - 1));
+        try {
+            handler.visitFile(file.toFile(), rootNames[root], category);
+        } catch (Exception e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private final class DirectoryTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Path dir;
+        private final String[] relative;
+
+        DirectoryTask(Path dir, String[] relative) {
+            this.dir = dir;
+            this.relative = relative;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryTask> subtasks = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+                for (Path entry : entries) {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    String[] entryRelative = Arrays.copyOf(relative, relative.length + 1);
+                    entryRelative[relative.length] = entry.getFileName().toString();
+                    BasicFileAttributes attrs;
+                    try {
+                        attrs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    } catch (IOException e) {
+                        continue;
+                    }
+                    if (attrs.isDirectory()) {
+                        if (isOnRootPath(entryRelative)) {
+                            subtasks.add(new DirectoryTask(entry, entryRelative));
+                        }
+                    } else {
+                        visitFile(entry, entryRelative);
+                    }
+                }
+            } catch (IOException e) {
+                // unreadable files and directories are skipped, as with Files.walkFileTree
+                return;
+            }
+            invokeAll(subtasks);
+        }
+    }
+
+    private static final class SynchronizedVisitor implements ProjectTreeVisitor {
+        private final ProjectTreeVisitor visitor;
+
+        SynchronizedVisitor(ProjectTreeVisitor visitor) {
+            this.visitor = visitor;
+        }
+
+        @Override
+        public synchronized void visitWorkflow(File file, String category) {
+            visitor.visitWorkflow(file, category);
+        }
+
+        @Override
+        public synchronized void visitScriptModule(File file, String category) {
+            visitor.visitScriptModule(file, category);
+        }
+
+        @Override
+        public synchronized void visitResourceElement(File file, String category) {
+            visitor.visitResourceElement(file, category);
+        }
+
+        @Override
+        public synchronized void visitConfigurationElement(File file, String category) {
+            visitor.visitConfigurationElement(file, category);
+        }
+
+        @Override
+        public synchronized void visitPolicyTemplate(File file, String category) {
+            visitor.visitPolicyTemplate(file, category);
+        }
+
+        @Override
+        public synchronized void visitTest(File testFile, String category) {
+            visitor.visitTest(testFile, category);
+        }
+    }
+}
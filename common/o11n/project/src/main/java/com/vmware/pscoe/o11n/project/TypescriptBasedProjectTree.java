@@ -15,8 +15,6 @@ package com.vmware.pscoe.o11n.project;
  * #L%
  */
 
-import com.vmware.pscoe.o11n.project.BaseProjectFileVisitor.WrappedException;
-
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,6 +25,13 @@ import java.util.StringJoiner;
 import static com.google.common.io.Files.getFileExtension;
 
 public class TypescriptBasedProjectTree implements ProjectTree {
+    private static final String SCRIPT_ROOT = "js/src/main/resources";
+    private static final String WORKFLOW_ROOT = "xml/src/main/resources/Workflow";
+    private static final String RESOURCE_ELEMENT_ROOT = "xml/src/main/resources/ResourceElement";
+    private static final String CONFIGURATION_ELEMENT_ROOT = "xml/src/main/resources/ConfigurationElement";
+    private static final String POLICY_TEMPLATE_ROOT = "xml/src/main/resources/PolicyTemplate";
+    private static final String TEST_ROOT = "test";
+
     private final Path src;
     private final Path root;
 
@@ -41,12 +46,9 @@ public class TypescriptBasedProjectTree implements ProjectTree {
             throw new ProjectTreeMismatchException(root + " is not a valid project root.");
         }
 
-        TypescriptBasedFileVisitor fileVisitor = new TypescriptBasedFileVisitor(visitor);
-        try {
-            Files.walkFileTree(src, fileVisitor);
-        } catch (WrappedException wrappedEx) {
-            throw wrappedEx.getWrappedException();
-        }
+        final ProjectTreeVisitor guarded = ProjectTreeWalker.guard(visitor);
+        new ProjectTreeWalker(src, (file, kind, category) -> visitFile(guarded, file, kind, category), WORKFLOW_ROOT, SCRIPT_ROOT,
+                CONFIGURATION_ELEMENT_ROOT, RESOURCE_ELEMENT_ROOT, POLICY_TEMPLATE_ROOT, TEST_ROOT).walk();
     }
 
     @Override
@@ -89,36 +91,6 @@ public class TypescriptBasedProjectTree implements ProjectTree {
     }
 
 
-    private boolean isTest(Path current) {
-        return isChild("test", current);
-    }
-
-    private boolean isScript(Path current) {
-        return isChild("js/src/main/resources", current);
-    }
-
-    private boolean isWorkflow(Path current) {
-        return isChild("xml/src/main/resources/Workflow", current);
-    }
-
-    private boolean isResource(Path current) {
-        return isChild("xml/src/main/resources/ResourceElement", current);
-    }
-
-    private boolean isConfiguration(Path current) {
-        return isChild("xml/src/main/resources/ConfigurationElement", current);
-    }
-
-    private boolean isPolicy(Path current) {
-        return isChild("xml/src/main/resources/PolicyTemplate", current);
-    }
-
-    private boolean isChild(String parent, Path current) {
-        Path parentPath = Paths.get(parent);
-        Path relativeCurrent = src.relativize(current);
-        return relativeCurrent.startsWith(parentPath) && !relativeCurrent.endsWith(parentPath);
-    }
-
     private boolean isElementInfo(File file) {
         return file.getName().toLowerCase().endsWith(".element_info.xml");
     }
@@ -127,35 +99,22 @@ public class TypescriptBasedProjectTree implements ProjectTree {
         return getFileExtension(file.getName()).equalsIgnoreCase("xml");
     }
 
-    private class TypescriptBasedFileVisitor extends BaseProjectFileVisitor {
-
-        public TypescriptBasedFileVisitor(ProjectTreeVisitor visitor) {
-            super(visitor);
+    private void visitFile(ProjectTreeVisitor visitor, File file, String kind, String category) {
+        if (isElementInfo(file)) {
+            return;
         }
-
-        @Override
-        public boolean haveToVisitDirectory(Path dir) {
-            return isScript(dir) || isWorkflow(dir) || isResource(dir) || isConfiguration(dir) || isPolicy(dir) || isTest(dir);
-        }
-
-        @Override
-        public void visitFile(Path filePath, String category) throws Exception {
-            final File file = filePath.toFile();
-            if (!isElementInfo(file)) {
-                if (isWorkflow(filePath) && isXml(file)) {
-                    visitor.visitWorkflow(file, category);
-                } else if (isScript(filePath)) {
-                    visitor.visitScriptModule(file, category);
-                } else if (isConfiguration(filePath) && isXml(file)) {
-                    visitor.visitConfigurationElement(file, category);
-                } else if (isResource(filePath)) {
-                    visitor.visitResourceElement(file, category);
-                } else if (isPolicy(filePath) && isXml(file)) {
-                    visitor.visitPolicyTemplate(file, category);
-                } else if (isTest(filePath)) {
-                    visitor.visitTest(file, category);
-                }
-            }
+        if (WORKFLOW_ROOT.equals(kind) && isXml(file)) {
+            visitor.visitWorkflow(file, category);
+        } else if (SCRIPT_ROOT.equals(kind)) {
+            visitor.visitScriptModule(file, category);
+        } else if (CONFIGURATION_ELEMENT_ROOT.equals(kind) && isXml(file)) {
+            visitor.visitConfigurationElement(file, category);
+        } else if (RESOURCE_ELEMENT_ROOT.equals(kind)) {
+            visitor.visitResourceElement(file, category);
+        } else if (POLICY_TEMPLATE_ROOT.equals(kind) && isXml(file)) {
+            visitor.visitPolicyTemplate(file, category);
+        } else if (TEST_ROOT.equals(kind)) {
+            visitor.visitTest(file, category);
         }
     }
 }
@@ -24,9 +24,13 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.StringJoiner;
 
-import com.vmware.pscoe.o11n.project.BaseProjectFileVisitor.WrappedException;
-
 public class XmlBasedProjectTree implements ProjectTree {
+    private static final String SCRIPT_MODULE_ROOT = "main/resources/ScriptModule";
+    private static final String WORKFLOW_ROOT = "main/resources/Workflow";
+    private static final String RESOURCE_ELEMENT_ROOT = "main/resources/ResourceElement";
+    private static final String CONFIGURATION_ELEMENT_ROOT = "main/resources/ConfigurationElement";
+    private static final String POLICY_TEMPLATE_ROOT = "main/resources/PolicyTemplate";
+
     private final Path src;
     private final Path pom;
     private final Path root;
@@ -44,12 +48,9 @@ public class XmlBasedProjectTree implements ProjectTree {
             throw new ProjectTreeMismatchException(root + " is not a valid XML project root.");
         }
 
-        XmlBasedFileVisitor fileVisitor = new XmlBasedFileVisitor(visitor);
-        try {
-            Files.walkFileTree(src, fileVisitor);
-        } catch (WrappedException wrappedEx) {
-            throw wrappedEx.getWrappedException();
-        }
+        final ProjectTreeVisitor guarded = ProjectTreeWalker.guard(visitor);
+        new ProjectTreeWalker(src, (file, kind, category) -> visitFile(guarded, file, kind, category), WORKFLOW_ROOT, SCRIPT_MODULE_ROOT,
+                CONFIGURATION_ELEMENT_ROOT, RESOURCE_ELEMENT_ROOT, POLICY_TEMPLATE_ROOT).walk();
     }
 
     @Override
@@ -100,32 +101,6 @@ public class XmlBasedProjectTree implements ProjectTree {
         return name.replaceAll("[^a-zA-Z0-9_\\-\\s\\.]", "").trim();
     }
 
-    private boolean isScript(Path current) {
-        return isChild("main/resources/ScriptModule", current);
-    }
-
-    private boolean isWorkflow(Path current) {
-        return isChild("main/resources/Workflow", current);
-    }
-
-    private boolean isResource(Path current) {
-        return isChild("main/resources/ResourceElement", current);
-    }
-
-    private boolean isConfiguration(Path current) {
-        return isChild("main/resources/ConfigurationElement", current);
-    }
-
-    private boolean isPolicy(Path current) {
-        return isChild("main/resources/PolicyTemplate", current);
-    }
-    
-    private boolean isChild(String parent, Path current) {
-        Path parentPath = Paths.get(parent);
-        Path relativeCurrent = src.relativize(current);
-        return relativeCurrent.startsWith(parentPath) && !relativeCurrent.endsWith(parentPath);
-    }
-
     private boolean isElementInfo(File file) {
         return file.getName().toLowerCase().endsWith(".element_info.xml");
     }
@@ -133,34 +108,20 @@ public class XmlBasedProjectTree implements ProjectTree {
         return getFileExtension(file.getName()).equalsIgnoreCase("xml");
     }
 
-    private class XmlBasedFileVisitor extends BaseProjectFileVisitor {
-
-        public XmlBasedFileVisitor(ProjectTreeVisitor visitor) {
-            super(visitor);
-        }
-
-        @Override
-        public boolean haveToVisitDirectory(Path dir) {
-            return isScript(dir) || isWorkflow(dir) || isResource(dir) || isConfiguration(dir) || isPolicy(dir);
+    private void visitFile(ProjectTreeVisitor visitor, File file, String kind, String category) {
+        if (isElementInfo(file)) {
+            return;
         }
-
-        @Override
-        public void visitFile(Path filePath, String category) throws Exception {
-            final File file = filePath.toFile();
-            if  (isElementInfo(file)) {
-                return;
-            }            
-            if (isWorkflow(filePath) && isXml(file)) {
-                visitor.visitWorkflow(file, category);
-            } else if (isScript(filePath) && isXml(file)) {
-                visitor.visitScriptModule(file, category);
-            } else if (isConfiguration(filePath) && isXml(file)) {
-                visitor.visitConfigurationElement(file, category);
-            } else if (isResource(filePath)) {
-                visitor.visitResourceElement(file, category);
-            } else if (isPolicy(filePath) && isXml(file)) {
-                visitor.visitPolicyTemplate(file, category);
-            }
+        if (WORKFLOW_ROOT.equals(kind) && isXml(file)) {
+            visitor.visitWorkflow(file, category);
+        } else if (SCRIPT_MODULE_ROOT.equals(kind) && isXml(file)) {
+            visitor.visitScriptModule(file, category);
+        } else if (CONFIGURATION_ELEMENT_ROOT.equals(kind) && isXml(file)) {
+            visitor.visitConfigurationElement(file, category);
+        } else if (RESOURCE_ELEMENT_ROOT.equals(kind)) {
+            visitor.visitResourceElement(file, category);
+        } else if (POLICY_TEMPLATE_ROOT.equals(kind) && isXml(file)) {
+            visitor.visitPolicyTemplate(file, category);
         }
     }
 }
@@ -19,6 +19,7 @@ import com.vmware.pscoe.iac.artifact.PackageManager;
 import com.vmware.pscoe.iac.artifact.model.Package;
 import com.vmware.pscoe.iac.artifact.model.PackageFactory;
 import com.vmware.pscoe.iac.artifact.model.PackageType;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -29,15 +30,24 @@ import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.ArtifactUtils;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.io.UncheckedIOException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Mojo(name = "package", defaultPhase = LifecyclePhase.PACKAGE)
 public class PackageMojo extends AbstractMojo {
 
+	/**
+	 * The maximum number of bundles packed at the same time.
+	 */
+	private static final int PACKAGE_THREADS = 4;
+
 	@Parameter(defaultValue = "${project.build.directory}", readonly = true)
 	private File directory;
 
@@ -75,6 +85,17 @@ public class PackageMojo extends AbstractMojo {
 		// Prepare list of artifact root folders
 		getBundlesList(distDir, packageName, dirList, packageNameList);
 
+		// Resolve the package file of every bundle
+		List<File> pkgFileList = new ArrayList<>();
+		for (String newPackageName : packageNameList) {
+			project.getArtifact().setArtifactId(newPackageName);
+			project.setName(newPackageName);
+			MavenProjectPackageInfoProvider pkgInfoProvider = new MavenProjectPackageInfoProvider(project);
+			pkgFileList.add(new File(directory, pkgInfoProvider.getPackageName() + "." + PackageType.ABX.getPackageExtention()));
+		}
+
+		packBundles(dirList, packageNameList, pkgFileList);
+
 		for (int i = 0; i < dirList.size(); i++) {
 			// Add the previous artifact to dependencies list
 			if (i > 0) {
@@ -84,46 +105,56 @@ public class PackageMojo extends AbstractMojo {
 			}
 
 			// Change project according to the current bundle
-			File newBaseDir = dirList.get(i);
 			String newPackageName = packageNameList.get(i);
 			project.getArtifact().setArtifactId(newPackageName);
 			project.setName(newPackageName);
-			getLog().info("ABX action name " + newPackageName);
-
-			MavenProjectPackageInfoProvider pkgInfoProvider = new MavenProjectPackageInfoProvider(project);
-
-			File pkgFile = new File(directory, pkgInfoProvider.getPackageName() + "." + PackageType.ABX.getPackageExtention());
-			getLog().info("Target ABX package file " + pkgFile.getAbsolutePath());
-
-			Package pkg = PackageFactory.getInstance(PackageType.ABX, pkgFile);
-
-			try {
-				PackageManager mgr = new PackageManager(pkg);
+			project.getArtifact().setFile(pkgFileList.get(i));
+		}
+		// Add dependency artifacts to the project
+		for (Artifact artifact : depArtifacts) {
+			project.getDependencyArtifacts().add(artifact);
+		}
+	}
 
-				// add everything from the dist dir
-				File distFile = new File(newBaseDir, "dist");
-				if(distFile.exists()){
-					// multi artifact ABX project
-					mgr.pack(distFile);
-				} else {
-					// single artifact ABX project
-					mgr.pack(new File(newBaseDir, "."));
+	/**
+	 * Packs the bundles concurrently, as they are independent of each other. Every package is written in a single pass
+	 * with the package.json of the bundle.
+	 */
+	private void packBundles(List<File> dirList, List<String> packageNameList, List<File> pkgFileList) throws MojoExecutionException {
+		List<Integer> indexes = IntStream.range(0, dirList.size()).boxed().collect(Collectors.toList());
+		try {
+			ConcurrencyUtil.forEach(indexes, PACKAGE_THREADS, i -> {
+				try {
+					packBundle(dirList.get(i), packageNameList.get(i), pkgFileList.get(i));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
 				}
+			});
+		} catch (UncheckedIOException e) {
+			String message = String.format("Error creating ABX bundle: %s", e.getCause().getMessage());
+			throw new MojoExecutionException(e.getCause(), message, message);
+		}
+	}
 
-				// add package.json
-				File packageJsonFile = new File(newBaseDir, "package.json");
-				mgr.addTextFileToExistingZip(packageJsonFile, Paths.get("."));
+	private void packBundle(File newBaseDir, String newPackageName, File pkgFile) throws IOException {
+		getLog().info("ABX action name " + newPackageName);
+		getLog().info("Target ABX package file " + pkgFile.getAbsolutePath());
 
-				project.getArtifact().setFile(pkgFile);
+		Package pkg = PackageFactory.getInstance(PackageType.ABX, pkgFile);
+		PackageManager mgr = new PackageManager(pkg);
 
-			} catch (IOException e) {
-				String message = String.format("Error creating ABX bundle: %s", e.getMessage());
-				throw new MojoExecutionException(e, message, message);
-			}
+		// add everything from the dist dir and the package.json
+		File packageJsonFile = new File(newBaseDir, "package.json");
+		if (!packageJsonFile.isFile()) {
+			throw new FileNotFoundException(packageJsonFile.getAbsolutePath());
 		}
-		// Add dependency artifacts to the project
-		for (Artifact artifact : depArtifacts) {
-			project.getDependencyArtifacts().add(artifact);
+		File distFile = new File(newBaseDir, "dist");
+		if (distFile.exists()) {
+			// multi artifact ABX project
+			mgr.pack(distFile, Collections.singletonList(packageJsonFile));
+		} else {
+			// single artifact ABX project
+			mgr.pack(new File(newBaseDir, "."), Collections.singletonList(packageJsonFile));
 		}
 	}
 
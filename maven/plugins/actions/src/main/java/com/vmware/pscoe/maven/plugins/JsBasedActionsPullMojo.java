@@ -15,6 +15,7 @@ package com.vmware.pscoe.maven.plugins;
  * #L%
  */
 
+import com.vmware.pscoe.iac.artifact.PackageManager;
 import com.vmware.pscoe.iac.artifact.PackageStore;
 import com.vmware.pscoe.iac.artifact.PackageStoreFactory;
 import com.vmware.pscoe.iac.artifact.configuration.ConfigurationException;
@@ -28,12 +29,15 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Mojo(name = "pull")
 public class JsBasedActionsPullMojo extends AbstractIacMojo {
@@ -42,9 +46,7 @@ public class JsBasedActionsPullMojo extends AbstractIacMojo {
     private String packageName;
 
 	@Override
-    public void execute() throws MojoExecutionException, MojoFailureException {
-        super.execute();
-
+    protected void doExecute() throws MojoExecutionException, MojoFailureException {
         final Path tempDir;
         try {
             tempDir = Files.createTempDirectory("vro-js-pull");
@@ -62,16 +64,31 @@ public class JsBasedActionsPullMojo extends AbstractIacMojo {
         } catch (ConfigurationException e) {
             throw new MojoExecutionException("Could not process the configuration", e);
         }
-		// Delete all local files
+        // Collect the local files of the elements, which are deleted unless the package still contains them
         final ProjectTree projectTree = new JsBasedActionsProjectTree(project.getBasedir().toPath(), true);
+        final Set<File> localFiles = ConcurrentHashMap.newKeySet();
         try {
-            projectTree.walk(new CleanProjectTree());
+            projectTree.walk(new CleanProjectTree() {
+                @Override
+                protected void deleteFile(File file) {
+                    if (file != null) {
+                        localFiles.add(file);
+                    }
+                }
+            });
         } catch (Exception e) {
             throw new MojoExecutionException("Could not clean the project tree", e);
         }
 
-		// Convert flat (.pakcage file) to JS tree structure
-		String projectRoot = project.getBasedir().toPath().toString();
-		this.runVroPkg("flat", packageFile.getAbsolutePath(), "js", projectRoot);
+        // Convert flat (.pakcage file) to JS tree structure and write only the added and modified files
+        final Path treeDir = tempDir.resolve("tree");
+        try {
+            this.runVroPkg("flat", packageFile.getAbsolutePath(), "js", treeDir.toString());
+            PackageManager.syncContents(treeDir.toFile(), project.getBasedir(), localFiles);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not update the project tree", e);
+        } finally {
+            FileUtils.deleteQuietly(tempDir.toFile());
+        }
     }
 }
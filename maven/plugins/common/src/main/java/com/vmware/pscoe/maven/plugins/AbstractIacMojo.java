@@ -18,7 +18,11 @@ package com.vmware.pscoe.maven.plugins;
 import com.vmware.pscoe.iac.artifact.configuration.*;
 import com.vmware.pscoe.iac.artifact.model.PackageType;
 import com.vmware.pscoe.iac.artifact.rest.RestClientFactory;
+import com.vmware.pscoe.iac.artifact.rest.RestClientMetrics;
+import com.vmware.pscoe.iac.artifact.rest.RestClientRegistry;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVro;
+import com.vmware.pscoe.iac.artifact.rest.auth.TokenCache;
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Component;
@@ -30,6 +34,10 @@ import org.apache.maven.settings.crypto.SettingsDecrypter;
 import org.apache.maven.settings.crypto.SettingsDecryptionRequest;
 import org.apache.maven.settings.crypto.SettingsDecryptionResult;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -76,6 +84,27 @@ public abstract class AbstractIacMojo extends AbstractVroPkgMojo {
     @Parameter(required = false, property = "socketTimeout", defaultValue = "${vrealize.socket.timeout}")
     private int socketTimeout;
 
+    /**
+     * Enables the token cache on disk, shared by the builds of the user: true for the default directory or a directory.
+     */
+    @Parameter(required = false, property = "tokenCache", defaultValue = "${vrealize.auth.token.cache}")
+    private String tokenCache;
+
+    /**
+     * Records timing spans of the store phases and writes them to trace-{goal}.trace.json in the build directory.
+     */
+    @Parameter(required = false, property = "iac.trace", defaultValue = "false")
+    private boolean trace;
+
+    /**
+     * The start of the build, identifying the scope of the shared REST clients together with the root directory.
+     */
+    @Parameter(defaultValue = "${session.request.startTime}", readonly = true)
+    private Date buildStartTime;
+
+    @Parameter(defaultValue = "${session.executionRootDirectory}", readonly = true)
+    private String executionRootDirectory;
+
     protected void processSslSystemProperties() {
         System.setProperty(RestClientFactory.IGNORE_SSL_CERTIFICATE_VERIFICATION, Boolean.toString(ignoreSslCertificate));
         System.setProperty(RestClientFactory.IGNORE_SSL_HOSTNAME_VERIFICATION, Boolean.toString(ignoreSslHostname));
@@ -84,6 +113,9 @@ public abstract class AbstractIacMojo extends AbstractVroPkgMojo {
     protected void processOtherSystemProperties() {
         System.setProperty(RestClientFactory.CONNECTION_TIMEOUT, String.valueOf(connectionTimeout));
         System.setProperty(RestClientFactory.SOCKET_TIMEOUT, String.valueOf(socketTimeout));
+        if (tokenCache != null && !tokenCache.isEmpty()) {
+            System.setProperty(TokenCache.TOKEN_CACHE, tokenCache);
+        }
     }
 
     protected void overwriteFromCmdLine(Properties props, String prefix) {
@@ -183,7 +215,7 @@ public abstract class AbstractIacMojo extends AbstractVroPkgMojo {
     }
 
     protected RestClientVro getVroRestClient() throws ConfigurationException {
-        return RestClientFactory.getClientVro(getConfigurationForVro());
+        return RestClientRegistry.getClient(getConfigurationForVro(), RestClientVro.class, RestClientFactory::getClientVro);
     }
 
     protected Optional<Configuration> getConfigurationForType(PackageType type) throws ConfigurationException {
@@ -233,9 +265,55 @@ public abstract class AbstractIacMojo extends AbstractVroPkgMojo {
         props.setProperty(Configuration.SOCKET_TIMEOUT, Configuration.DEFAULT_SOCKET_TIMEOUT.toString());
     }
 
+    /**
+     * Prepares the REST clients and runs {@link #doExecute()}, recording the REST requests it makes, then reports
+     * the statistics of the run. Mojos overriding this method instead call it first, only to prepare the REST clients.
+     */
     public void execute() throws MojoExecutionException, MojoFailureException {
         this.processSslSystemProperties();
         this.processOtherSystemProperties();
+        // the modules of a build share the REST clients of equal configurations, a new build starts with new clients
+        RestClientRegistry.beginScope(executionRootDirectory + "@" + (buildStartTime == null ? "" : buildStartTime.getTime()));
+        RestClientMetrics metrics = RestClientMetrics.startRecording();
+        Tracer tracer = trace ? Tracer.startTracing() : null;
+        try {
+            doExecute();
+        } finally {
+            RestClientMetrics.stopRecording();
+            Tracer.stopTracing();
+            reportRunStatistics(metrics, tracer);
+        }
+    }
+
+    /**
+     * Runs the goal of the Mojo.
+     */
+    protected void doExecute() throws MojoExecutionException, MojoFailureException {
+    }
+
+    /**
+     * Logs the REST requests made by the Mojo and writes them to rest-metrics-{goal}.json and .prom in the build
+     * directory, and writes the timing spans of the Mojo to trace-{goal}.trace.json (or .otlp.json) when tracing.
+     */
+    private void reportRunStatistics(RestClientMetrics metrics, Tracer tracer) {
+        String goal = getClass().getSimpleName().replaceAll("Mojo$", "").toLowerCase(Locale.ROOT);
+        File buildDirectory = new File(project.getBuild().getDirectory());
+        if (!metrics.isEmpty()) {
+            getLog().info("REST requests by total time:");
+            metrics.toTable().forEach(line -> getLog().info(line));
+            try {
+                metrics.write(buildDirectory, "rest-metrics-" + goal);
+            } catch (IOException e) {
+                getLog().warn("Could not write the REST request metrics: " + e.getMessage());
+            }
+        }
+        if (tracer != null && !tracer.isEmpty()) {
+            try {
+                getLog().info("Timing spans written to " + tracer.write(buildDirectory, "trace-" + goal));
+            } catch (IOException e) {
+                getLog().warn("Could not write the timing spans: " + e.getMessage());
+            }
+        }
     }
 
     private void overwriteServerCredentials(Properties props) {
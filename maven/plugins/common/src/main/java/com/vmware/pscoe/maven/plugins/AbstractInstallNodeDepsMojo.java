@@ -23,6 +23,8 @@ import org.apache.maven.project.MavenProject;
 import org.apache.commons.lang3.SystemUtils;
 
 import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -42,6 +44,24 @@ public abstract class AbstractInstallNodeDepsMojo extends AbstractIacMojo {
 	@Parameter(property = "skipInstallNodeDeps", defaultValue = "false")
 	private boolean skipInstallNodeDeps;
 
+	/**
+	 * How the tgz dependencies are installed: "npm" runs npm install, "extract" extracts them directly into
+	 * node_modules in parallel and runs npm only for the registry dependencies.
+	 */
+	@Parameter(property = "installNodeDepsMode", defaultValue = "npm")
+	private String installNodeDepsMode;
+
+	/**
+	 * The number of concurrent extractions in the "extract" mode.
+	 */
+	@Parameter(property = "installNodeDepsThreads", defaultValue = "4")
+	private int installNodeDepsThreads;
+
+	/**
+	 * Constant indicating the install mode extracting the tgz dependencies without npm.
+	 */
+	private static final String MODE_EXTRACT = "extract";
+
 	/**
 	 * Constant indicating the maximum number of commands for dependencies installation within one file.
 	 */
@@ -70,12 +90,14 @@ public abstract class AbstractInstallNodeDepsMojo extends AbstractIacMojo {
         }
 		
         List<String> deps = new LinkedList<>();
+		List<Artifact> tgzArtifacts = new LinkedList<>();
 
         for (Object o : project.getArtifacts()) {
             Artifact a = (Artifact) o;
             if ("tgz".equals(a.getType())) {
 				
                 deps.add(a.getFile().getAbsolutePath());
+				tgzArtifacts.add(a);
                 allTgzLibsResolved = allTgzLibsResolved && a.isResolved();
             }
         }
@@ -89,6 +111,11 @@ public abstract class AbstractInstallNodeDepsMojo extends AbstractIacMojo {
 			executeProcess(goOfflineCmds, "Going Offline");
         }
 
+		if (MODE_EXTRACT.equals(installNodeDepsMode)) {
+			extractDependencies(nodeModules, tgzArtifacts);
+			return;
+		}
+
         getLog().debug("Dependencies length:  " + deps.stream().mapToInt(String::length).sum());
 
 		List<List<String>> dependencies = new LinkedList<List<String>>();
@@ -127,6 +154,60 @@ public abstract class AbstractInstallNodeDepsMojo extends AbstractIacMojo {
 		}
     }
 
+	/**
+	 * Extracts the tgz dependencies directly into node_modules and installs the remaining registry dependencies
+	 * with npm in a staging directory, so npm does not prune the extracted packages.
+	 * @param nodeModules the node_modules directory
+	 * @param tgzArtifacts the tgz dependencies
+	 * @exception MojoExecutionException for exception during the extraction or the process execution
+	 * @exception MojoFailureException for exception during process failure
+	 */
+	private void extractDependencies(final File nodeModules, final List<Artifact> tgzArtifacts)
+			throws MojoExecutionException, MojoFailureException {
+		if (installNodeDepsThreads < 1) {
+			throw new MojoExecutionException(String.format(
+					"Invalid value '%d' of parameter 'installNodeDepsThreads', expected a whole number of at least 1", installNodeDepsThreads));
+		}
+		NodeDepsExtractor extractor = new NodeDepsExtractor(nodeModules, installNodeDepsThreads, getLog());
+		List<String> registryDeps;
+		try {
+			registryDeps = extractor.install(tgzArtifacts, new File(project.getBasedir(), "package.json"));
+		} catch (IOException e) {
+			throw new MojoExecutionException("Failed to extract the node dependencies.", e);
+		}
+		getLog().info("Extracted " + tgzArtifacts.size() + " node dependencies");
+		if (registryDeps.isEmpty()) {
+			return;
+		}
+
+		getLog().info("Installing " + registryDeps.size() + " registry dependencies with npm");
+		File staging = new File(project.getBuild().getDirectory(), "node-registry-deps");
+		staging.mkdirs();
+		try (FileWriter writer = new FileWriter(new File(staging, "package.json"))) {
+			writer.write("{\"name\": \"registry-deps\", \"private\": true}");
+		} catch (IOException e) {
+			throw new MojoExecutionException("Failed to prepare the registry dependencies installation.", e);
+		}
+		List<String> command = new LinkedList<>(registryDeps);
+		command.add(0, SystemUtils.IS_OS_WINDOWS ? "npm.cmd" : "npm");
+		command.add(1, "install");
+		command.add(2, "--no-package-lock");
+		if (!getLog().isDebugEnabled()) {
+			command.add("--silent");
+		}
+		new ProcessExecutor()
+				.name("Registry Dependency Installation")
+				.directory(staging)
+				.throwOnError(true)
+				.command(command)
+				.execute(getLog());
+		try {
+			extractor.merge(new File(staging, "node_modules"));
+		} catch (IOException e) {
+			throw new MojoExecutionException("Failed to move the registry dependencies to node_modules.", e);
+		}
+	}
+
 	/**
 	 * This method is used to execute the dependencies.
 	 * @param command this will have list of dependencies
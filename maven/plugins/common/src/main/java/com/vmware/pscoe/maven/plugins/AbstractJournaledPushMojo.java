@@ -0,0 +1,83 @@
+package com.vmware.pscoe.maven.plugins;
+
+/*
+ * #%L
+ * common
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ * 
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.  
+ * 
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import com.vmware.pscoe.iac.artifact.ImportJournal;
+import com.vmware.pscoe.iac.artifact.configuration.Configuration;
+import com.vmware.pscoe.iac.artifact.model.PackageType;
+
+/**
+ * Push mojo which can resume a push which failed half-way, using an import journal of the pushed artifacts.
+ */
+public abstract class AbstractJournaledPushMojo extends AbstractIacMojo {
+
+	/**
+	 * Record each imported package and content item in an import journal, and skip those recorded by a previous push
+	 * of the same artifacts to the same server, e.g. to retry a push which failed half-way. The journal is deleted once
+	 * the push is completed.
+	 */
+	@Parameter(required = false, property = "resume", defaultValue = "false")
+	private boolean resume;
+
+	/**
+	 * Directory of the import journals, one per server and set of artifacts. Only used with {@link #resume}.
+	 */
+	@Parameter(required = false, property = "importJournalDirectory", defaultValue = "${user.home}/.m2/vro-import-journal")
+	private File importJournalDirectory;
+
+	/**
+	 * Digest of the pushed artifacts, null when the push is not journaled.
+	 */
+	private String bundleDigest;
+
+	/**
+	 * Opens the import journal of the artifacts, to be called before they are imported.
+	 * @param artifacts the pushed artifacts
+	 */
+	protected final void beginImportJournal(Collection<Artifact> artifacts) {
+		if (resume) {
+			bundleDigest = ImportJournal.digest(artifacts.stream().map(Artifact::getFile).collect(Collectors.toList()));
+		}
+	}
+
+	/**
+	 * Deletes the import journal once all artifacts are imported.
+	 * @param dryrun whether the push is a dry run, which does not record anything in the journal
+	 */
+	protected final void completeImportJournal(boolean dryrun) {
+		if (bundleDigest != null && !dryrun) {
+			ImportJournal.discard(importJournalDirectory, bundleDigest);
+		}
+	}
+
+	@Override
+	protected void overwriteConfigurationPropertiesForType(PackageType type, Properties props) {
+		super.overwriteConfigurationPropertiesForType(type, props);
+		if (bundleDigest != null) {
+			props.setProperty(Configuration.IMPORT_JOURNAL_DIRECTORY, importJournalDirectory.getAbsolutePath());
+			props.setProperty(Configuration.IMPORT_JOURNAL_BUNDLE, bundleDigest);
+			props.setProperty(Configuration.IMPORT_JOURNAL_RESUME, Boolean.TRUE.toString());
+		}
+	}
+}
@@ -7,8 +7,11 @@ import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
 
 	/**
 	 * #%L
@@ -54,6 +57,24 @@ public abstract class AbstractVroPkgMojo extends AbstractMojo {
 	@Parameter(property = "vroKeyPass", defaultValue = "")
 	private String keystorePassword;
 
+	/**
+	 * Whether the vropkg outputs are restored from the build cache when the inputs are unchanged.
+	 */
+	@Parameter(property = "buildCache", defaultValue = "false")
+	protected boolean buildCache;
+
+	/**
+	 * The build cache directory, shared by all projects.
+	 */
+	@Parameter(property = "buildCacheDirectory", defaultValue = "${user.home}/.m2/vro-build-cache")
+	protected File buildCacheDirectory;
+
+	/**
+	 * Whether vropkg runs in the Node daemon of the session instead of a new Node process.
+	 */
+	@Parameter(property = "nodeDaemon", defaultValue = "false")
+	protected boolean nodeDaemon;
+
 	/**
 	 * Description provided in pom.xml.
 	 */
@@ -146,7 +167,67 @@ public abstract class AbstractVroPkgMojo extends AbstractMojo {
 		vroPkgCmd.add("--groupId");
 		vroPkgCmd.add(project.getGroupId());
 
+		// unpacking a package or into the project itself (pull) is never cached
+		File destination = new File(destPath);
+		BuildCache cache = null;
+		BuildCache.Fingerprint fingerprint = null;
+		if (buildCache && !"flat".equals(srcType) && !destination.getAbsoluteFile().equals(project.getBasedir().getAbsoluteFile())) {
+			cache = new BuildCache(buildCacheDirectory, project, getLog());
+			try {
+				fingerprint = this.fingerprintVroPkg(cache, vroPkgCmd, srcType, srcPath, destType, destination);
+			} catch (IOException e) {
+				getLog().warn("Unable to fingerprint the vropkg inputs, build cache is skipped: " + e.getMessage());
+				cache = null;
+			}
+		}
+		if (cache != null && cache.restore(fingerprint, destination)) {
+			return;
+		}
+
 		new ProcessExecutor().name("Running vropkg...").directory(project.getBasedir()).throwOnError(true)
-				.command(vroPkgCmd).execute(getLog());
+				.daemon(nodeDaemon).command(vroPkgCmd).execute(getLog());
+
+		if (cache != null) {
+			cache.store(fingerprint, destination);
+		}
+	}
+
+	/**
+	 * Fingerprints the inputs of a vropkg run: the command line, the sources, the tgz dependencies, the vropkg version and
+	 * the contents of the signing key and certificate, so a package is signed again when they are replaced at the same
+	 * path. When the destination is a tree, its current content is an input as well since vropkg merges into it.
+	 * @param cache the build cache
+	 * @param vroPkgCmd the vropkg command line
+	 * @param srcType the source type
+	 * @param srcPath the source path
+	 * @param destType the destination type
+	 * @param destination the destination
+	 * @return the fingerprint
+	 * @throws IOException if an input cannot be read
+	 */
+	private BuildCache.Fingerprint fingerprintVroPkg(final BuildCache cache, final List<String> vroPkgCmd, final String srcType,
+			final String srcPath, final String destType, final File destination) throws IOException {
+		String projectRoot = project.getBasedir().toPath().toString();
+		BuildCache.Fingerprint fingerprint = cache.fingerprint("vropkg-" + srcType + "-" + destType)
+				.param("command", String.join(" ", vroPkgCmd.subList(1, vroPkgCmd.size())))
+				.tree("src", new File(srcPath))
+				.dependencies(project)
+				.file("vropkg", Paths.get(projectRoot, "node_modules", "@vmware-pscoe", "vropkg", "package.json").toFile())
+				.file("privateKeyPem", resolveProjectFile(privateKeyPem))
+				.file("certificatePem", resolveProjectFile(keystoreCert));
+		if (!"flat".equals(destType)) {
+			fingerprint.tree("dest", destination);
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Resolves a path given to vropkg, which runs in the project directory.
+	 * @param path the absolute path or the path relative to the project directory
+	 * @return the file
+	 */
+	private File resolveProjectFile(final String path) {
+		File file = new File(path);
+		return file.isAbsolute() ? file : new File(project.getBasedir(), path);
 	}
 }
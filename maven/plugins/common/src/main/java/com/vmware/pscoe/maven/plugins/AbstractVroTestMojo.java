@@ -47,6 +47,9 @@ public abstract class AbstractVroTestMojo extends AbstractMojo {
 	@Parameter(required = false, property = "test", defaultValue = "${test.*}")
 	private Map<String, String> test;
 
+	@Parameter(property = "nodeDaemon", defaultValue = "false")
+	protected boolean nodeDaemon;
+
 	public void execute() throws MojoExecutionException, MojoFailureException {
 		if (skipTests) {
 			getLog().info("Tests are skipped.");
@@ -81,6 +84,7 @@ public abstract class AbstractVroTestMojo extends AbstractMojo {
 				.directory(project.getBasedir())
 				.throwOnError(true)
 				.silent(true)
+				.daemon(nodeDaemon)
 				.command(buildTestbedCommand(config))
 				.execute(getLog());
 	}
@@ -163,6 +167,7 @@ public abstract class AbstractVroTestMojo extends AbstractMojo {
 				.directory(project.getBasedir())
 				.throwOnError(true, "One or more vRO tests failed")
 				.silent(true)
+				.daemon(nodeDaemon)
 				.command(buildRunCommand(config))
 				.execute(getLog());
 	}
@@ -0,0 +1,407 @@
+package com.vmware.pscoe.maven.plugins;
+
+/*
+ * #%L
+ * common
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Build avoidance cache for the steps that run Node processes (vrotsc, npm pack, vropkg).
+ *
+ * A step is identified by a fingerprint of all of its inputs: the content of the source files, the content of the
+ * tgz dependencies, the plugin parameters and the version of the tool. After a step runs, its outputs are copied
+ * into the cache together with the fingerprint. When the next build computes the same fingerprint the outputs are
+ * restored from the cache and the Node process is not started at all.
+ *
+ * The cache keeps the last outputs of each step of each project, under
+ * {@code <directory>/<groupId>/<artifactId>/<step>/<entry>}. An entry is written completely under a new name and then
+ * published by atomically replacing the {@code current} file of the step, which holds the name of the entry, so a
+ * concurrent or interrupted build never restores a partially written entry. Failures of the cache itself are logged
+ * and never fail the build.
+ */
+public final class BuildCache {
+	/**
+	 * Name of the file holding the fingerprint of a cache entry.
+	 */
+	private static final String FINGERPRINT_FILE = "fingerprint";
+
+	/**
+	 * Name of the directory holding the outputs of a cache entry.
+	 */
+	private static final String OUTPUTS_DIR = "outputs";
+
+	/**
+	 * Name of the file holding the name of the current entry of a step.
+	 */
+	private static final String CURRENT_FILE = "current";
+
+	/**
+	 * Directories which are never part of a source tree fingerprint.
+	 */
+	private static final Set<String> EXCLUDED_DIRS = new HashSet<>(Arrays.asList("target", "node_modules", ".git"));
+
+	/**
+	 * The cache directory of the project.
+	 */
+	private final File root;
+
+	/**
+	 * The mojo logger.
+	 */
+	private final Log log;
+
+	/**
+	 * @param directory the cache directory shared by all projects
+	 * @param project the project whose steps are cached
+	 * @param log the mojo logger
+	 */
+	public BuildCache(File directory, MavenProject project, Log log) {
+		this(directory, project.getGroupId(), project.getArtifactId(), log);
+	}
+
+	/**
+	 * @param directory the cache directory shared by all projects
+	 * @param groupId the group id of the project whose steps are cached
+	 * @param artifactId the artifact id of the project whose steps are cached
+	 * @param log the mojo logger
+	 */
+	BuildCache(File directory, String groupId, String artifactId, Log log) {
+		this.root = new File(new File(directory, groupId), artifactId);
+		this.log = log;
+	}
+
+	/**
+	 * Starts the fingerprint of a step.
+	 * @param step the name of the step, unique within the project
+	 * @return the fingerprint to which the inputs of the step are added
+	 */
+	public Fingerprint fingerprint(String step) {
+		return new Fingerprint(step);
+	}
+
+	/**
+	 * Restores the outputs of a step if the cache holds an entry with the same fingerprint.
+	 * @param fingerprint the fingerprint of the step inputs
+	 * @param outputs the files or directories produced by the step
+	 * @return true if the outputs have been restored and the step can be skipped
+	 */
+	public boolean restore(Fingerprint fingerprint, File... outputs) {
+		Path entry;
+		try {
+			entry = getCurrentEntry(fingerprint.step);
+			Path fingerprintFile = entry == null ? null : entry.resolve(FINGERPRINT_FILE);
+			if (fingerprintFile == null || !Files.isRegularFile(fingerprintFile)) {
+				return false;
+			}
+			String cached = new String(Files.readAllBytes(fingerprintFile), StandardCharsets.UTF_8);
+			if (!cached.equals(fingerprint.digest())) {
+				log.debug("Build cache miss for step " + fingerprint.step);
+				return false;
+			}
+		} catch (IOException e) {
+			log.warn("Unable to read step " + fingerprint.step + " from the build cache: " + e.getMessage());
+			return false;
+		}
+		try {
+			for (int i = 0; i < outputs.length; i++) {
+				delete(outputs[i].toPath());
+				Path cachedOutput = entry.resolve(OUTPUTS_DIR).resolve(String.valueOf(i));
+				if (Files.exists(cachedOutput)) {
+					copy(cachedOutput, outputs[i].toPath());
+				}
+			}
+			log.info("Build cache hit for step " + fingerprint.step + ", outputs restored");
+			return true;
+		} catch (IOException e) {
+			log.warn("Unable to restore step " + fingerprint.step + " from the build cache: " + e.getMessage());
+			// the step runs and produces the outputs again, no partially restored output is kept
+			for (File output : outputs) {
+				try {
+					delete(output.toPath());
+				} catch (IOException deleteException) {
+					log.debug("Unable to delete " + output + ": " + deleteException.getMessage());
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Stores the outputs of a step, replacing the previous entry of the step.
+	 * @param fingerprint the fingerprint of the step inputs
+	 * @param outputs the files or directories produced by the step
+	 */
+	public void store(Fingerprint fingerprint, File... outputs) {
+		Path stepDir = new File(root, fingerprint.step).toPath();
+		String name = UUID.randomUUID().toString();
+		Path entry = stepDir.resolve(name);
+		try {
+			for (int i = 0; i < outputs.length; i++) {
+				if (outputs[i].exists()) {
+					copy(outputs[i].toPath(), entry.resolve(OUTPUTS_DIR).resolve(String.valueOf(i)));
+				}
+			}
+			Files.createDirectories(entry);
+			Files.write(entry.resolve(FINGERPRINT_FILE), fingerprint.digest().getBytes(StandardCharsets.UTF_8));
+			// the entry is complete, publish it by replacing the current file in a single rename
+			Path current = stepDir.resolve(name + "." + CURRENT_FILE);
+			Files.write(current, name.getBytes(StandardCharsets.UTF_8));
+			Files.move(current, stepDir.resolve(CURRENT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			log.warn("Unable to store step " + fingerprint.step + " in the build cache: " + e.getMessage());
+			try {
+				delete(entry);
+				Files.deleteIfExists(stepDir.resolve(name + "." + CURRENT_FILE));
+			} catch (IOException deleteException) {
+				log.debug("Unable to delete " + entry + ": " + deleteException.getMessage());
+			}
+			return;
+		}
+		deleteStaleEntries(stepDir, name);
+	}
+
+	/**
+	 * @param step the name of the step
+	 * @return the current entry of the step, null if there is none
+	 * @throws IOException if the current file cannot be read
+	 */
+	private Path getCurrentEntry(String step) throws IOException {
+		Path current = new File(new File(root, step), CURRENT_FILE).toPath();
+		if (!Files.isRegularFile(current)) {
+			return null;
+		}
+		String name = new String(Files.readAllBytes(current), StandardCharsets.UTF_8).trim();
+		return name.isEmpty() || name.contains("/") || name.contains("\\") || name.startsWith(".") ? null : current.resolveSibling(name);
+	}
+
+	/**
+	 * Deletes the entries of a step replaced by the current one. An entry which cannot be deleted, e.g. because
+	 * another build is restoring it, is deleted by a later store.
+	 */
+	private void deleteStaleEntries(Path stepDir, String currentName) {
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(stepDir)) {
+			for (Path stale : entries) {
+				String name = stale.getFileName().toString();
+				if (!name.equals(currentName) && !name.equals(CURRENT_FILE)) {
+					try {
+						delete(stale);
+					} catch (IOException e) {
+						log.debug("Unable to delete the stale build cache entry " + stale + ": " + e.getMessage());
+					}
+				}
+			}
+		} catch (IOException e) {
+			log.debug("Unable to list the build cache entries of " + stepDir + ": " + e.getMessage());
+		}
+	}
+
+	private static void copy(Path source, Path target) throws IOException {
+		if (Files.isRegularFile(source)) {
+			Files.createDirectories(target.getParent());
+			Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+			return;
+		}
+		Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				Files.createDirectories(target.resolve(source.relativize(dir)));
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
+						StandardCopyOption.REPLACE_EXISTING);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	private static void delete(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			return;
+		}
+		Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * The fingerprint of the inputs of a step.
+	 *
+	 * Inputs are recorded by name, so the order in which they are added does not matter.
+	 */
+	public static final class Fingerprint {
+		/**
+		 * The name of the step.
+		 */
+		private final String step;
+
+		/**
+		 * The recorded inputs, input name to value or content hash.
+		 */
+		private final Map<String, String> inputs = new TreeMap<>();
+
+		private Fingerprint(String step) {
+			this.step = step;
+		}
+
+		/**
+		 * Adds a plugin parameter.
+		 * @param name the parameter name
+		 * @param value the parameter value, may be null
+		 * @return this
+		 */
+		public Fingerprint param(String name, Object value) {
+			inputs.put("param:" + name, String.valueOf(value));
+			return this;
+		}
+
+		/**
+		 * Adds the content of a single file, e.g. the package.json of a tool which carries its version.
+		 * @param name the input name
+		 * @param file the file, may not exist
+		 * @return this
+		 * @throws IOException if the file cannot be read
+		 */
+		public Fingerprint file(String name, File file) throws IOException {
+			inputs.put("file:" + name, file.isFile() ? hash(file.toPath()) : "-");
+			return this;
+		}
+
+		/**
+		 * Adds the content of all files under a directory, or of a single file. Build, dependency and VCS
+		 * directories are skipped.
+		 * @param name the input name
+		 * @param source the directory or file, may not exist
+		 * @return this
+		 * @throws IOException if a file cannot be read
+		 */
+		public Fingerprint tree(String name, File source) throws IOException {
+			if (!source.isDirectory()) {
+				return file(name, source);
+			}
+			Path base = source.toPath();
+			Files.walkFileTree(base, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+					return !dir.equals(base) && EXCLUDED_DIRS.contains(dir.getFileName().toString())
+							? FileVisitResult.SKIP_SUBTREE
+							: FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					String relative = base.relativize(file).toString().replace(File.separatorChar, '/');
+					inputs.put("tree:" + name + ":" + relative, hash(file));
+					return FileVisitResult.CONTINUE;
+				}
+			});
+			inputs.put("tree:" + name, "");
+			return this;
+		}
+
+		/**
+		 * Adds the content of the tgz dependencies of the project.
+		 * @param project the project
+		 * @return this
+		 * @throws IOException if a dependency cannot be read
+		 */
+		public Fingerprint dependencies(MavenProject project) throws IOException {
+			for (Object o : project.getArtifacts()) {
+				Artifact a = (Artifact) o;
+				if ("tgz".equals(a.getType())) {
+					String id = a.getGroupId() + ":" + a.getArtifactId() + ":" + a.getVersion();
+					inputs.put("dependency:" + id, a.getFile() != null && a.getFile().isFile() ? hash(a.getFile().toPath()) : "-");
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * @return the hex encoded hash of all recorded inputs
+		 */
+		public String digest() {
+			MessageDigest digest = newDigest();
+			inputs.forEach((name, value) -> {
+				digest.update(name.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+				digest.update(value.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			});
+			return toHex(digest.digest());
+		}
+
+		private static String hash(Path file) throws IOException {
+			MessageDigest digest = newDigest();
+			byte[] buffer = new byte[8192];
+			try (InputStream in = Files.newInputStream(file)) {
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+				}
+			}
+			return toHex(digest.digest());
+		}
+
+		private static MessageDigest newDigest() {
+			try {
+				return MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private static String toHex(byte[] bytes) {
+			StringBuilder sb = new StringBuilder(bytes.length * 2);
+			for (byte b : bytes) {
+				sb.append(String.format("%02x", b));
+			}
+			return sb.toString();
+		}
+	}
+}
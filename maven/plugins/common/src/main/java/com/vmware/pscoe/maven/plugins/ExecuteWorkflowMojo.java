@@ -50,9 +50,7 @@ public class ExecuteWorkflowMojo extends AbstractIacMojo {
     String outputParameter;
 
     @Override
-    public void execute() throws MojoExecutionException, MojoFailureException {
-        super.execute();
-
+    protected void doExecute() throws MojoExecutionException, MojoFailureException {
         getLog().info("Executing workflow with ID " + id);
 
         final Properties paramProps = new Properties();
@@ -0,0 +1,355 @@
+package com.vmware.pscoe.maven.plugins;
+
+/*
+ * #%L
+ * common
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.apache.maven.plugin.logging.Log;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Long-lived Node process which runs the Node CLIs of the build (vrotsc, vropkg, vrotest) in-process, so module
+ * loading and compiler warm-up are paid once per Maven session instead of once per launch.
+ *
+ * The daemon is started on first use and stopped when the JVM exits. It executes one request at a time; when it
+ * is busy with another module of a parallel build or cannot be started, {@link #execute} returns null and the
+ * caller falls back to a one-shot launch. When the daemon dies or does not complete a command in time, the command
+ * fails, as it may have been partially executed, and the next command starts a new daemon. Lines written to the standard output of the daemon directly, e.g. by child
+ * processes of the command such as those of {@code vrotest run --instrument}, are logged as output of the command.
+ */
+final class NodeDaemon {
+	/**
+	 * Classpath location of the daemon script.
+	 */
+	private static final String SCRIPT_RESOURCE = "/node/vro-node-daemon.js";
+
+	/**
+	 * Precedes the messages of the daemon, the other lines of its standard output are written directly by the
+	 * command, e.g. by a child process inheriting it.
+	 */
+	private static final char MESSAGE_MARKER = '\u001e';
+
+	/**
+	 * Time to wait for the daemon to exit on shutdown.
+	 */
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+	/**
+	 * Time to wait for the daemon to be ready on startup.
+	 */
+	private static final long STARTUP_TIMEOUT_SECONDS = 30;
+
+	/**
+	 * Time to wait for the daemon to complete a command.
+	 */
+	private static final long COMMAND_TIMEOUT_MINUTES = 30;
+
+	/**
+	 * The daemon of the session.
+	 */
+	private static NodeDaemon instance;
+
+	/**
+	 * Whether the daemon failed to start, in which case it is not started again.
+	 */
+	private static boolean unavailable;
+
+	/**
+	 * The Node process.
+	 */
+	private final Process process;
+
+	/**
+	 * The requests stream.
+	 */
+	private final BufferedWriter requests;
+
+	/**
+	 * The lines of the standard output of the daemon, empty at the end of the stream.
+	 */
+	private final BlockingQueue<Optional<String>> responses = new LinkedBlockingQueue<>();
+
+	/**
+	 * Serializes the requests.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Id of the last request.
+	 */
+	private int lastId;
+
+	private NodeDaemon(Process process) {
+		this.process = process;
+		this.requests = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+		Thread reader = new Thread(() -> {
+			try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = in.readLine()) != null) {
+					responses.add(Optional.of(line));
+				}
+			} catch (IOException e) {
+				// the daemon died, reported as the end of the stream
+			}
+			responses.add(Optional.empty());
+		}, "node-daemon-reader");
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	/**
+	 * Returns the daemon of the session, starting it if needed.
+	 * @param logger the mojo logger
+	 * @return the daemon, or null if it is not available
+	 */
+	static synchronized NodeDaemon get(Log logger) {
+		if (instance == null && !unavailable) {
+			try {
+				instance = start();
+				logger.debug("Node daemon started");
+			} catch (IOException e) {
+				unavailable = true;
+				logger.info("Node daemon is not available, falling back to one-shot launches: " + e.getMessage());
+			}
+		}
+		return instance;
+	}
+
+	private static NodeDaemon start() throws IOException {
+		File script = File.createTempFile("vro-node-daemon", ".js");
+		script.deleteOnExit();
+		try (InputStream in = NodeDaemon.class.getResourceAsStream(SCRIPT_RESOURCE)) {
+			if (in == null) {
+				throw new IOException("Resource " + SCRIPT_RESOURCE + " not found");
+			}
+			Files.copy(in, script.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		Process process = new ProcessBuilder(SystemUtils.IS_OS_WINDOWS ? "node.exe" : "node", script.getAbsolutePath())
+				.redirectError(ProcessBuilder.Redirect.INHERIT)
+				.start();
+		NodeDaemon daemon = new NodeDaemon(process);
+		String ready;
+		try {
+			ready = daemon.readLine(System.nanoTime() + TimeUnit.SECONDS.toNanos(STARTUP_TIMEOUT_SECONDS));
+		} catch (IOException e) {
+			process.destroy();
+			throw e;
+		}
+		if (ready == null || ready.indexOf(MESSAGE_MARKER) < 0
+				|| !JsonParser.parseString(ready.substring(ready.indexOf(MESSAGE_MARKER) + 1)).getAsJsonObject().has("ready")) {
+			process.destroy();
+			throw new IOException("Node daemon exited on startup");
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread(daemon::stop));
+		return daemon;
+	}
+
+	/**
+	 * Runs a Node CLI in the daemon.
+	 * @param directory the working directory
+	 * @param command the command, the first element being the CLI bin script
+	 * @param outLogger the logger of the standard output
+	 * @param errLogger the logger of the standard error
+	 * @return the exit code, or null if the command has not been executed by the daemon
+	 * @throws IOException if the daemon died or timed out while executing the command
+	 */
+	Integer execute(File directory, List<String> command, ProcessExecutor.Logger outLogger,
+			ProcessExecutor.Logger errLogger) throws IOException {
+		File script = getNodeScript(command.get(0));
+		if (script == null || !lock.tryLock()) {
+			return null;
+		}
+		try {
+			int id = ++lastId;
+			JsonObject request = new JsonObject();
+			request.addProperty("id", id);
+			request.addProperty("cwd", (directory != null ? directory : new File(".")).getAbsolutePath());
+			request.addProperty("script", script.getAbsolutePath());
+			JsonArray args = new JsonArray();
+			command.subList(1, command.size()).forEach(args::add);
+			request.add("args", args);
+			try {
+				requests.write(request.toString());
+				requests.newLine();
+				requests.flush();
+			} catch (IOException e) {
+				// the daemon died before the command was sent, it can still be launched one-shot
+				discard();
+				return null;
+			}
+
+			long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(COMMAND_TIMEOUT_MINUTES);
+			StreamBuffer out = new StreamBuffer(outLogger);
+			StreamBuffer err = new StreamBuffer(errLogger);
+			String line;
+			while ((line = readLine(deadline)) != null) {
+				int marker = line.indexOf(MESSAGE_MARKER);
+				if (marker != 0) {
+					// written to the standard output directly, e.g. by a child process of the command
+					out.append((marker < 0 ? line : line.substring(0, marker)) + "\n");
+					if (marker < 0) {
+						continue;
+					}
+				}
+				JsonObject response = parseResponse(line.substring(marker + 1));
+				if (!response.has("id") || response.get("id").getAsInt() != id) {
+					continue;
+				}
+				if (response.has("out")) {
+					out.append(response.get("out").getAsString());
+				} else if (response.has("err")) {
+					err.append(response.get("err").getAsString());
+				} else if (response.has("exit")) {
+					out.flush();
+					err.flush();
+					return response.get("exit").getAsInt();
+				}
+			}
+			out.flush();
+			err.flush();
+			throw new IOException("Node daemon exited while executing " + script.getName());
+		} catch (IOException e) {
+			discard();
+			throw e;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @param deadline the {@link System#nanoTime()} until which to wait for the line
+	 * @return the next line of the standard output of the daemon, or null at the end of the stream
+	 * @throws IOException if no line has been written until the deadline
+	 */
+	private String readLine(long deadline) throws IOException {
+		try {
+			Optional<String> line = responses.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			if (line == null) {
+				throw new IOException("Node daemon did not respond in time");
+			}
+			if (!line.isPresent()) {
+				// keeps the end of the stream for the next reads
+				responses.add(line);
+			}
+			return line.orElse(null);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted waiting for the Node daemon");
+		}
+	}
+
+	private static JsonObject parseResponse(String message) throws IOException {
+		try {
+			return JsonParser.parseString(message).getAsJsonObject();
+		} catch (RuntimeException e) {
+			throw new IOException("Invalid message of the Node daemon: " + message, e);
+		}
+	}
+
+	/**
+	 * Resolves the JavaScript file behind a CLI bin script, e.g. {@code bin/vrotsc} for {@code bin/vrotsc.cmd}.
+	 * @param executable the executable of the command
+	 * @return the JavaScript file, or null if the executable is not a Node script
+	 */
+	private static File getNodeScript(String executable) {
+		File file = new File(executable.endsWith(".cmd") ? executable.substring(0, executable.length() - ".cmd".length()) : executable);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			String shebang = reader.readLine();
+			return shebang != null && shebang.startsWith("#!") && shebang.contains("node") ? file : null;
+		} catch (IOException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Stops the daemon after it died or timed out, so the next command starts a new one.
+	 */
+	private void discard() {
+		synchronized (NodeDaemon.class) {
+			if (instance == this) {
+				instance = null;
+			}
+		}
+		process.destroy();
+	}
+
+	private void stop() {
+		try {
+			requests.close();
+			if (!process.waitFor(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				process.destroy();
+			}
+		} catch (IOException e) {
+			process.destroy();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			process.destroy();
+		}
+	}
+
+	/**
+	 * Splits the streamed output chunks into lines.
+	 */
+	private static final class StreamBuffer {
+		private final ProcessExecutor.Logger logger;
+		private final StringBuilder pending = new StringBuilder();
+
+		StreamBuffer(ProcessExecutor.Logger logger) {
+			this.logger = logger;
+		}
+
+		void append(String chunk) {
+			pending.append(chunk);
+			int newline;
+			while ((newline = pending.indexOf("\n")) >= 0) {
+				int end = newline > 0 && pending.charAt(newline - 1) == '\r' ? newline - 1 : newline;
+				logger.log(pending.substring(0, end));
+				pending.delete(0, newline + 1);
+			}
+		}
+
+		void flush() {
+			if (pending.length() > 0) {
+				logger.log(pending.toString());
+				pending.setLength(0);
+			}
+		}
+	}
+}
@@ -0,0 +1,650 @@
+package com.vmware.pscoe.maven.plugins;
+
+/*
+ * #%L
+ * common
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.logging.Log;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.vmware.pscoe.iac.artifact.utils.ConcurrencyUtil;
+
+/**
+ * Installs the tgz dependencies of a project by extracting them directly into node_modules, without npm.
+ *
+ * The archives are extracted in parallel. A lock manifest in node_modules records the content hash of every
+ * extracted archive, so archives which have not changed since the previous installation are skipped, and the
+ * packages of archives which are no longer dependencies are removed. The executables of the packages are linked
+ * into node_modules/.bin as npm does. The registry dependencies of the extracted packages and of the project,
+ * which are not provided by any tgz artifact, are returned to the caller to be installed with npm.
+ */
+final class NodeDepsExtractor {
+	/**
+	 * Name of the lock manifest in node_modules.
+	 */
+	static final String LOCK_FILE = ".vro-deps.lock.json";
+
+	/**
+	 * Name of the staging directory in node_modules.
+	 */
+	private static final String STAGING_DIR = ".vro-staging";
+
+	/**
+	 * Name of the directory of the package executables in node_modules.
+	 */
+	private static final String BIN_DIR = ".bin";
+
+	/**
+	 * Size of a tar block.
+	 */
+	private static final int TAR_BLOCK = 512;
+
+	/**
+	 * The node_modules directory.
+	 */
+	private final Path nodeModules;
+
+	/**
+	 * The number of concurrent extractions.
+	 */
+	private final int threads;
+
+	/**
+	 * The mojo logger.
+	 */
+	private final Log log;
+
+	/**
+	 * @param nodeModules the node_modules directory
+	 * @param threads the number of concurrent extractions, at least 1
+	 * @param log the mojo logger
+	 */
+	NodeDepsExtractor(File nodeModules, int threads, Log log) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Invalid number of concurrent extractions " + threads + ", expected at least 1");
+		}
+		this.nodeModules = nodeModules.toPath().toAbsolutePath().normalize();
+		this.threads = threads;
+		this.log = log;
+	}
+
+	/**
+	 * Extracts the tgz artifacts into node_modules and removes the packages of the artifacts extracted by a
+	 * previous installation which are no longer given.
+	 * @param artifacts the resolved tgz artifacts
+	 * @param projectPackageJson the package.json of the project, may not exist
+	 * @return the registry dependencies still to be installed, as npm install specs
+	 * @throws IOException if an archive cannot be extracted
+	 */
+	List<String> install(List<Artifact> artifacts, File projectPackageJson) throws IOException {
+		JsonObject lockedPackages = getObject(readLock(), "packages");
+		Map<String, JsonObject> installed = new ConcurrentHashMap<>();
+
+		try {
+			ConcurrencyUtil.forEach(artifacts, threads, artifact -> {
+				String id = artifact.getGroupId() + ":" + artifact.getArtifactId();
+				try {
+					installed.put(id, this.installArtifact(artifact, getObject(lockedPackages, id)));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			delete(nodeModules.resolve(STAGING_DIR));
+		}
+
+		this.prune(lockedPackages, installed);
+		JsonObject packages = new JsonObject();
+		for (Map.Entry<String, JsonObject> entry : new TreeMap<>(installed).entrySet()) {
+			this.linkBins(entry.getValue());
+			packages.add(entry.getKey(), entry.getValue());
+		}
+		JsonObject lock = new JsonObject();
+		lock.add("packages", packages);
+		try (Writer writer = Files.newBufferedWriter(nodeModules.resolve(LOCK_FILE), StandardCharsets.UTF_8)) {
+			Gson gson = new GsonBuilder().setPrettyPrinting().create();
+			gson.toJson(lock, writer);
+		}
+
+		Map<String, String> required = new LinkedHashMap<>();
+		JsonObject project = readJson(projectPackageJson.toPath());
+		collectDependencies(project, "dependencies", required);
+		collectDependencies(project, "devDependencies", required);
+		for (JsonObject entry : installed.values()) {
+			collectDependencies(readJson(nodeModules.resolve(getString(entry, "name")).resolve("package.json")), "dependencies", required);
+		}
+		List<String> specs = new ArrayList<>();
+		required.forEach((name, range) -> {
+			boolean local = range.startsWith("file:") || range.endsWith(".tgz");
+			if (!local && !Files.exists(nodeModules.resolve(name).resolve("package.json"))) {
+				specs.add(name + "@" + range);
+			}
+		});
+		return specs;
+	}
+
+	/**
+	 * Moves the top-level packages installed by npm in a staging directory into node_modules, keeping the
+	 * packages already present.
+	 * @param stagingNodeModules the node_modules directory of the staging installation
+	 * @throws IOException if a package cannot be moved
+	 */
+	void merge(File stagingNodeModules) throws IOException {
+		if (!stagingNodeModules.isDirectory()) {
+			return;
+		}
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(stagingNodeModules.toPath())) {
+			for (Path entry : entries) {
+				String name = entry.getFileName().toString();
+				if (name.startsWith("@") || BIN_DIR.equals(name)) {
+					Files.createDirectories(nodeModules.resolve(name));
+					try (DirectoryStream<Path> children = Files.newDirectoryStream(entry)) {
+						for (Path child : children) {
+							moveIfAbsent(child, nodeModules.resolve(name).resolve(child.getFileName().toString()));
+						}
+					}
+				} else if (!name.startsWith(".")) {
+					moveIfAbsent(entry, nodeModules.resolve(name));
+				}
+			}
+		}
+	}
+
+	private JsonObject installArtifact(Artifact artifact, JsonObject locked) throws IOException {
+		File file = artifact.getFile();
+		String sha256 = hash(file.toPath());
+		String lockedName = getString(locked, "name");
+		if (sha256.equals(getString(locked, "sha256")) && lockedName != null && Files.isDirectory(this.resolvePackage(lockedName))) {
+			log.debug("Unchanged dependency " + file.getName() + ", extraction skipped");
+			return locked;
+		}
+
+		Path staging = nodeModules.resolve(STAGING_DIR).resolve(artifact.getArtifactId() + "-" + sha256.substring(0, 12));
+		delete(staging);
+		try {
+			this.extract(file.toPath(), staging);
+		} catch (IOException e) {
+			throw new IOException("Could not extract " + file.getAbsolutePath() + ": " + e.getMessage(), e);
+		}
+		String name = getString(readJson(staging.resolve("package.json")), "name");
+		if (name == null) {
+			throw new IOException("No package name found in " + file.getAbsolutePath());
+		}
+		Path target = this.resolvePackage(name);
+		delete(target);
+		Files.createDirectories(target.getParent());
+		Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+		log.debug("Extracted dependency " + file.getName() + " to " + target);
+
+		JsonObject entry = new JsonObject();
+		entry.addProperty("name", name);
+		entry.addProperty("version", artifact.getVersion());
+		entry.addProperty("sha256", sha256);
+		return entry;
+	}
+
+	/**
+	 * Removes the packages and executables of the previous installation which no installed artifact provides any more.
+	 * @param lockedPackages the packages of the previous installation
+	 * @param installed the packages of this installation
+	 * @throws IOException if a package cannot be removed
+	 */
+	private void prune(JsonObject lockedPackages, Map<String, JsonObject> installed) throws IOException {
+		Map<String, JsonObject> installedByName = new HashMap<>();
+		installed.values().forEach(entry -> installedByName.put(getString(entry, "name"), entry));
+		for (Map.Entry<String, JsonElement> locked : lockedPackages.entrySet()) {
+			JsonObject entry = locked.getValue().isJsonObject() ? locked.getValue().getAsJsonObject() : null;
+			String name = getString(entry, "name");
+			if (name != null && !installedByName.containsKey(name)) {
+				log.info("Removing dependency " + name + ", no longer required");
+				delete(this.resolvePackage(name));
+			}
+			if (entry != null && entry.has("bin") && entry.get("bin").isJsonArray()) {
+				for (JsonElement bin : entry.getAsJsonArray("bin")) {
+					if (bin.isJsonPrimitive() && !this.providesBin(installedByName.get(name), bin.getAsString())) {
+						this.deleteBin(bin.getAsString());
+					}
+				}
+			}
+		}
+	}
+
+	private boolean providesBin(JsonObject entry, String bin) {
+		return entry != null && readBins(this.readPackageJson(getString(entry, "name"))).containsKey(bin);
+	}
+
+	/**
+	 * Links the executables declared in the package.json of an installed package into node_modules/.bin, records
+	 * them in the lock entry of the package, so they are removed together with the package.
+	 * @param entry the lock entry of the package
+	 * @throws IOException if an executable cannot be linked
+	 */
+	private void linkBins(JsonObject entry) throws IOException {
+		String name = getString(entry, "name");
+		JsonArray linked = new JsonArray();
+		for (Map.Entry<String, String> bin : readBins(this.readPackageJson(name)).entrySet()) {
+			Path executable = this.resolvePackage(name).resolve(bin.getValue()).normalize();
+			Path binDir = nodeModules.resolve(BIN_DIR);
+			if (!executable.startsWith(nodeModules) || !Files.isRegularFile(executable) || bin.getKey().contains("/")
+					|| bin.getKey().contains("\\")) {
+				log.warn("Skipping the executable " + bin.getKey() + " of " + name + ", " + bin.getValue() + " is not a file of the package");
+				continue;
+			}
+			Files.createDirectories(binDir);
+			String relative = binDir.relativize(executable).toString();
+			this.deleteBin(bin.getKey());
+			if (SystemUtils.IS_OS_WINDOWS) {
+				Files.write(binDir.resolve(bin.getKey() + ".cmd"),
+						("@node \"%~dp0\\" + relative.replace('/', '\\') + "\" %*\r\n").getBytes(StandardCharsets.UTF_8));
+			} else {
+				executable.toFile().setExecutable(true, false);
+				Files.createSymbolicLink(binDir.resolve(bin.getKey()), Paths.get(relative));
+			}
+			linked.add(bin.getKey());
+		}
+		entry.add("bin", linked);
+	}
+
+	private void deleteBin(String bin) throws IOException {
+		Path binDir = nodeModules.resolve(BIN_DIR);
+		Files.deleteIfExists(binDir.resolve(bin));
+		Files.deleteIfExists(binDir.resolve(bin + ".cmd"));
+	}
+
+	private JsonObject readPackageJson(String name) {
+		try {
+			return readJson(this.resolvePackage(name).resolve("package.json"));
+		} catch (IOException e) {
+			return new JsonObject();
+		}
+	}
+
+	/**
+	 * @param packageJson the package.json of a package
+	 * @return the executables of the package by name, with their paths relative to the package
+	 */
+	private static Map<String, String> readBins(JsonObject packageJson) {
+		Map<String, String> bins = new LinkedHashMap<>();
+		JsonElement bin = packageJson.get("bin");
+		String name = getString(packageJson, "name");
+		if (bin != null && bin.isJsonPrimitive() && name != null) {
+			bins.put(name.substring(name.lastIndexOf('/') + 1), bin.getAsString());
+		} else if (bin != null && bin.isJsonObject()) {
+			bin.getAsJsonObject().entrySet().forEach(entry -> {
+				String path = getString(bin.getAsJsonObject(), entry.getKey());
+				if (path != null) {
+					bins.put(entry.getKey(), path);
+				}
+			});
+		}
+		return bins;
+	}
+
+	private Path resolvePackage(String name) throws IOException {
+		Path target = nodeModules.resolve(name).normalize();
+		if (!target.startsWith(nodeModules) || target.equals(nodeModules) || name.startsWith(".")) {
+			throw new IOException("Invalid package name " + name);
+		}
+		return target;
+	}
+
+	/**
+	 * Extracts a gzipped tar archive as npm does, stripping the first path element (usually "package").
+	 * Symbolic links are created when they point into the package, and hard links are extracted as copies of their
+	 * target. Device and FIFO entries are skipped.
+	 * @param tgz the archive
+	 * @param destination the destination directory
+	 * @throws IOException if the archive cannot be read or is corrupt
+	 */
+	private void extract(Path tgz, Path destination) throws IOException {
+		Files.createDirectories(destination);
+		Path root = destination.toAbsolutePath().normalize();
+		try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(tgz)))) {
+			byte[] header = new byte[TAR_BLOCK];
+			Map<String, String> extended = new HashMap<>();
+			while (readFully(in, header) && header[0] != 0) {
+				verifyChecksum(header);
+				String name = extended.containsKey("path") ? extended.get("path") : headerName(header);
+				String linkName = extended.containsKey("linkpath") ? extended.get("linkpath") : cString(header, 157, 100);
+				extended.clear();
+				long size = parseOctal(header, 124, 12);
+				int mode = (int) parseOctal(header, 100, 8);
+				char type = (char) header[156];
+
+				if (type == 'x' || type == 'L' || type == 'K') {
+					byte[] data = readEntry(in, size);
+					if (type == 'x') {
+						extended.putAll(paxHeaders(data));
+					} else {
+						extended.put(type == 'L' ? "path" : "linkpath", cString(data, 0, data.length));
+					}
+					continue;
+				}
+				String relative = stripFirstElement(name);
+				Path target = root.resolve(relative).normalize();
+				if (relative.isEmpty() || !target.startsWith(root) || target.equals(root)) {
+					skip(in, size + padding(size));
+					continue;
+				}
+				if (type == '0' || type == 0 || type == '7') {
+					Files.createDirectories(target.getParent());
+					Files.copy(new BoundedInputStream(in, size), target, StandardCopyOption.REPLACE_EXISTING);
+					skip(in, padding(size));
+					if ((mode & 0100) != 0) {
+						target.toFile().setExecutable(true, false);
+					}
+				} else if (type == '1') {
+					Path source = root.resolve(stripFirstElement(linkName)).normalize();
+					if (!source.startsWith(root) || !Files.isRegularFile(source, LinkOption.NOFOLLOW_LINKS)) {
+						throw new IOException("Hard link " + name + " points to " + linkName + ", which is not a file of the package");
+					}
+					Files.createDirectories(target.getParent());
+					Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+					skip(in, size + padding(size));
+				} else if (type == '2') {
+					if (!target.getParent().resolve(linkName).normalize().startsWith(root)) {
+						throw new IOException("Symbolic link " + name + " points to " + linkName + ", outside of the package");
+					}
+					Files.createDirectories(target.getParent());
+					Files.deleteIfExists(target);
+					Files.createSymbolicLink(target, Paths.get(linkName));
+					skip(in, size + padding(size));
+				} else {
+					if (type == '5') {
+						Files.createDirectories(target);
+					} else {
+						log.debug("Skipping the entry " + name + " of type " + type + " in " + tgz);
+					}
+					skip(in, size + padding(size));
+				}
+			}
+		}
+	}
+
+	private static String stripFirstElement(String name) {
+		int slash = name.indexOf('/');
+		return slash >= 0 ? name.substring(slash + 1) : "";
+	}
+
+	private static void verifyChecksum(byte[] header) throws IOException {
+		long expected = parseOctal(header, 148, 8);
+		long sum = 0;
+		for (int i = 0; i < TAR_BLOCK; i++) {
+			sum += i >= 148 && i < 156 ? ' ' : header[i] & 0xff;
+		}
+		if (sum != expected) {
+			throw new IOException("Corrupt tar header");
+		}
+	}
+
+	private static String headerName(byte[] header) {
+		String name = cString(header, 0, 100);
+		String prefix = cString(header, 345, 155);
+		return prefix.isEmpty() ? name : prefix + "/" + name;
+	}
+
+	/**
+	 * @param data the records of a pax extended header, each "length key=value\n"
+	 * @return the values by key
+	 */
+	private static Map<String, String> paxHeaders(byte[] data) {
+		Map<String, String> headers = new HashMap<>();
+		String records = new String(data, StandardCharsets.UTF_8);
+		for (String record : records.split("\n")) {
+			int space = record.indexOf(' ');
+			int equals = record.indexOf('=', space + 1);
+			if (space >= 0 && equals > space) {
+				headers.put(record.substring(space + 1, equals), record.substring(equals + 1));
+			}
+		}
+		return headers;
+	}
+
+	private static String cString(byte[] buffer, int offset, int length) {
+		int end = offset;
+		while (end < offset + length && buffer[end] != 0) {
+			end++;
+		}
+		return new String(buffer, offset, end - offset, StandardCharsets.UTF_8);
+	}
+
+	private static long parseOctal(byte[] buffer, int offset, int length) {
+		long value = 0;
+		for (int i = offset; i < offset + length; i++) {
+			if (buffer[i] >= '0' && buffer[i] <= '7') {
+				value = value * 8 + (buffer[i] - '0');
+			} else if (value > 0 || (buffer[i] != ' ' && buffer[i] != 0)) {
+				break;
+			}
+		}
+		return value;
+	}
+
+	private static long padding(long size) {
+		return (TAR_BLOCK - size % TAR_BLOCK) % TAR_BLOCK;
+	}
+
+	private static boolean readFully(InputStream in, byte[] buffer) throws IOException {
+		int total = 0;
+		while (total < buffer.length) {
+			int read = in.read(buffer, total, buffer.length - total);
+			if (read < 0) {
+				return false;
+			}
+			total += read;
+		}
+		return true;
+	}
+
+	private static byte[] readEntry(InputStream in, long size) throws IOException {
+		byte[] data = new byte[(int) size];
+		if (!readFully(in, data)) {
+			throw new IOException("Unexpected end of archive");
+		}
+		skip(in, padding(size));
+		return data;
+	}
+
+	private static void skip(InputStream in, long count) throws IOException {
+		long remaining = count;
+		while (remaining > 0) {
+			long skipped = in.skip(remaining);
+			if (skipped <= 0) {
+				if (in.read() < 0) {
+					throw new IOException("Unexpected end of archive");
+				}
+				skipped = 1;
+			}
+			remaining -= skipped;
+		}
+	}
+
+	private static void collectDependencies(JsonObject packageJson, String field, Map<String, String> required) {
+		JsonObject dependencies = getObject(packageJson, field);
+		for (String dependency : dependencies.keySet()) {
+			String range = getString(dependencies, dependency);
+			if (range != null) {
+				required.putIfAbsent(dependency, range);
+			}
+		}
+	}
+
+	/**
+	 * @return the lock manifest of the previous installation, empty if there is none or it cannot be read
+	 */
+	private JsonObject readLock() {
+		try {
+			return readJson(nodeModules.resolve(LOCK_FILE));
+		} catch (IOException | JsonParseException e) {
+			log.warn("Ignoring the unreadable " + LOCK_FILE + ", all dependencies are extracted: " + e.getMessage());
+			return new JsonObject();
+		}
+	}
+
+	private static JsonObject readJson(Path file) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return new JsonObject();
+		}
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			JsonElement json = JsonParser.parseReader(reader);
+			return json.isJsonObject() ? json.getAsJsonObject() : new JsonObject();
+		} catch (JsonParseException e) {
+			throw new IOException("Invalid JSON in " + file + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @return the string value of the member, null if the object is null or the member is missing or not a string
+	 */
+	private static String getString(JsonObject object, String member) {
+		JsonElement value = object == null ? null : object.get(member);
+		return value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString() ? value.getAsString() : null;
+	}
+
+	/**
+	 * @return the object value of the member, an empty object if the member is missing or not an object
+	 */
+	private static JsonObject getObject(JsonObject object, String member) {
+		JsonElement value = object.get(member);
+		return value != null && value.isJsonObject() ? value.getAsJsonObject() : new JsonObject();
+	}
+
+	private static void moveIfAbsent(Path source, Path target) throws IOException {
+		if (!Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+			Files.move(source, target);
+		}
+	}
+
+	private static String hash(Path file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		byte[] buffer = new byte[8192];
+		try (InputStream in = Files.newInputStream(file)) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		StringBuilder sb = new StringBuilder();
+		for (byte b : digest.digest()) {
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
+
+	private static void delete(Path path) throws IOException {
+		if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+		Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * Reads the given number of bytes of the current tar entry without closing the archive stream.
+	 */
+	private static final class BoundedInputStream extends InputStream {
+		private final InputStream in;
+		private long remaining;
+
+		BoundedInputStream(InputStream in, long size) {
+			this.in = in;
+			this.remaining = size;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int b = in.read();
+			if (b < 0) {
+				throw new IOException("Unexpected end of archive");
+			}
+			remaining--;
+			return b;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+			if (read < 0) {
+				throw new IOException("Unexpected end of archive");
+			}
+			remaining -= read;
+			return read;
+		}
+
+		@Override
+		public void close() {
+			// the archive stream is closed by the extractor
+		}
+	}
+}
@@ -31,6 +31,7 @@ public class ProcessExecutor {
 	private boolean throwOnError;
 	private String errorMessage;
 	private boolean silent;
+	private boolean daemon;
 	private final ProcessBuilder processBuilder;
 
 	public ProcessExecutor() {
@@ -63,6 +64,15 @@ public class ProcessExecutor {
 		return this;
 	}
 
+	/**
+	 * Runs the command in the Node daemon of the session when the command is a Node CLI bin script.
+	 * Falls back to a one-shot launch when the daemon is not available or busy.
+	 */
+	public ProcessExecutor daemon(boolean value) {
+		daemon = value;
+		return this;
+	}
+
 	public ProcessExecutor command(String... command) {
 		processBuilder.command(command);
 		return this;
@@ -77,6 +87,30 @@ public class ProcessExecutor {
 		if (!silent) {
 			logger.info(name + " started");
 		}
+		Integer daemonExitCode = null;
+		if (daemon) {
+			NodeDaemon nodeDaemon = NodeDaemon.get(logger);
+			if (nodeDaemon != null) {
+				try {
+					daemonExitCode = nodeDaemon.execute(processBuilder.directory(), processBuilder.command(), logger::info,
+							throwOnError ? logger::error : logger::debug);
+				} catch (IOException e) {
+					throw new MojoExecutionException(String.format("%s failed.", name), e);
+				}
+			}
+		}
+		int exitCode = daemonExitCode != null ? daemonExitCode : launch(logger);
+		if (!silent) {
+			logger.info(name + " finished");
+		}
+		if (throwOnError && exitCode != 0) {
+			throw new MojoFailureException(
+					errorMessage != null ? errorMessage : String.format("%s failed with code %s", name, exitCode));
+		}
+		return exitCode;
+	}
+
+	private int launch(Log logger) throws MojoExecutionException {
 		int exitCode = 0;
 		try {
 			Process process = processBuilder.start();
@@ -93,13 +127,6 @@ public class ProcessExecutor {
 		} catch (IOException e) {
 			throw new MojoExecutionException(String.format("%s failed.", name), e);
 		}
-		if (!silent) {
-			logger.info(name + " finished");
-		}
-		if (throwOnError && exitCode != 0) {
-			throw new MojoFailureException(
-					errorMessage != null ? errorMessage : String.format("%s failed with code %s", name, exitCode));
-		}
 		return exitCode;
 	}
 
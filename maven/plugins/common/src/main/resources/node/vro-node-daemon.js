@@ -0,0 +1,182 @@
+/*
+ * #%L
+ * common
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+/*
+ * Long-lived Node worker for the Node CLIs started by the maven plugins (vrotsc, vropkg, vrotest).
+ *
+ * Requests are read from stdin, one JSON object per line:
+ *   {"id": 1, "cwd": "/project", "script": "/project/node_modules/@vmware-pscoe/vrotsc/bin/vrotsc", "args": ["src", ...]}
+ * Responses are written to stdout, one JSON object per line, each preceded by the record separator character
+ * (\u001e) so they can be told apart from output written to stdout directly, e.g. by child processes:
+ *   {"id": 1, "out": "text"}, {"id": 1, "err": "text"} and finally {"id": 1, "exit": 0}
+ *
+ * Each request runs the script in this process with its own argv and working directory. The modules of the
+ * tool package are reloaded for every request, while its dependencies (e.g. the TypeScript compiler) stay
+ * loaded. A request is complete when the script calls process.exit, even if the script catches the signal thrown
+ * to stop it, or when no more work is pending. Requests are executed one at a time.
+ */
+"use strict";
+
+const fs = require("fs");
+const path = require("path");
+const readline = require("readline");
+
+if (typeof process.getActiveResourcesInfo !== "function") {
+	// idle detection is not possible, the client falls back to one-shot launches
+	process.exit(2);
+}
+
+const protocolWrite = process.stdout.write.bind(process.stdout);
+const stdoutWrite = process.stdout.write;
+const stderrWrite = process.stderr.write;
+const processExit = process.exit;
+const initialArgv = process.argv.slice(0, 1);
+const initialCwd = process.cwd();
+const consoleMethods = Object.assign({}, console);
+
+class ExitSignal {
+	constructor(code) {
+		this.code = code;
+	}
+}
+
+let current = null;
+let baseline = 0;
+const queue = [];
+
+function send(message) {
+	protocolWrite("\u001e" + JSON.stringify(message) + "\n");
+}
+
+function packageRoot(script) {
+	let dir = path.dirname(fs.realpathSync(script));
+	while (dir !== path.dirname(dir)) {
+		if (fs.existsSync(path.join(dir, "package.json"))) {
+			return dir;
+		}
+		dir = path.dirname(dir);
+	}
+	return path.dirname(script);
+}
+
+function unloadTool(root) {
+	const nested = path.join(root, "node_modules") + path.sep;
+	Object.keys(require.cache)
+		.filter(file => file.startsWith(root + path.sep) && !file.startsWith(nested))
+		.forEach(file => delete require.cache[file]);
+}
+
+function finish(request, code) {
+	if (!request || current !== request) {
+		return;
+	}
+	const id = request.id;
+	current = null;
+	process.stdout.write = stdoutWrite;
+	process.stderr.write = stderrWrite;
+	Object.assign(console, consoleMethods);
+	process.exitCode = undefined;
+	process.argv = initialArgv.slice();
+	process.chdir(initialCwd);
+	send({ id: id, exit: code });
+	setImmediate(next);
+}
+
+function waitForIdle(request) {
+	let idleTicks = 0;
+	const check = () => {
+		if (current !== request) {
+			return;
+		}
+		idleTicks = process.getActiveResourcesInfo().length <= baseline ? idleTicks + 1 : 0;
+		if (idleTicks >= 2) {
+			finish(request, process.exitCode || 0);
+		} else if (idleTicks) {
+			setImmediate(check);
+		} else {
+			// checked from an immediate, a pending timer counts as an active resource while its callback runs
+			setTimeout(() => setImmediate(check), 10);
+		}
+	};
+	setImmediate(check);
+}
+
+function run(request) {
+	current = request;
+	baseline = process.getActiveResourcesInfo().length;
+	process.stdout.write = (chunk, encoding, callback) => {
+		send({ id: request.id, out: chunk.toString() });
+		if (typeof callback === "function") {
+			callback();
+		}
+		return true;
+	};
+	process.stderr.write = (chunk, encoding, callback) => {
+		send({ id: request.id, err: chunk.toString() });
+		if (typeof callback === "function") {
+			callback();
+		}
+		return true;
+	};
+	try {
+		process.chdir(request.cwd);
+		process.argv = [process.execPath, request.script].concat(request.args || []);
+		unloadTool(packageRoot(request.script));
+		require(request.script);
+	} catch (e) {
+		fail(e);
+		return;
+	}
+	waitForIdle(request);
+}
+
+function fail(e) {
+	if (e instanceof ExitSignal) {
+		finish(current, e.code || 0);
+	} else {
+		if (current) {
+			process.stderr.write((e && e.stack ? e.stack : String(e)) + "\n");
+		}
+		finish(current, 1);
+	}
+}
+
+function next() {
+	if (!current && queue.length) {
+		run(queue.shift());
+	}
+}
+
+process.exit = code => {
+	if (!current) {
+		processExit(code);
+	}
+	const request = current;
+	const signal = new ExitSignal(code === undefined ? process.exitCode : code);
+	// completes the request even when the script catches the signal
+	setImmediate(() => finish(request, signal.code || 0));
+	throw signal;
+};
+process.on("uncaughtException", fail);
+process.on("unhandledRejection", fail);
+
+readline.createInterface({ input: process.stdin }).on("line", line => {
+	if (line.trim()) {
+		queue.push(JSON.parse(line));
+		next();
+	}
+}).on("close", () => processExit(0));
+
+send({ ready: true });
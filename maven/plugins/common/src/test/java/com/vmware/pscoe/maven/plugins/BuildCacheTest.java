@@ -0,0 +1,110 @@
+package com.vmware.pscoe.maven.plugins;
+
+/*
+ * #%L
+ * common
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuildCacheTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	private BuildCache cache;
+	private File sources;
+	private File output;
+
+	@BeforeEach
+	void init() throws IOException {
+		tempFolder.create();
+		cache = new BuildCache(tempFolder.newFolder("cache"), "com.example", "project", new SystemStreamLog());
+		sources = tempFolder.newFolder("src");
+		write(new File(sources, "a.ts"), "const a = 1;");
+		output = new File(tempFolder.getRoot(), "target/out");
+		write(new File(output, "a.js"), "var a = 1;");
+	}
+
+	@AfterEach
+	void tearDown() {
+		tempFolder.delete();
+	}
+
+	@Test
+	void testStoredOutputsAreRestoredOnHit() throws IOException {
+		cache.store(fingerprint(), output);
+		write(new File(output, "a.js"), "changed");
+		write(new File(output, "stale.js"), "stale");
+
+		assertTrue(cache.restore(fingerprint(), output));
+		assertEquals("var a = 1;", read(new File(output, "a.js")));
+		assertFalse(new File(output, "stale.js").exists());
+	}
+
+	@Test
+	void testNothingIsRestoredOnMiss() throws IOException {
+		assertFalse(cache.restore(fingerprint(), output));
+		assertEquals("var a = 1;", read(new File(output, "a.js")));
+	}
+
+	@Test
+	void testChangedInputsInvalidateTheEntry() throws IOException {
+		cache.store(fingerprint(), output);
+		write(new File(sources, "a.ts"), "const a = 2;");
+
+		assertFalse(cache.restore(fingerprint(), output));
+		assertFalse(cache.restore(cache.fingerprint("compile").tree("sources", sources).param("target", "es6"), output));
+	}
+
+	@Test
+	void testStoreReplacesThePreviousEntry() throws IOException {
+		cache.store(fingerprint(), output);
+		write(new File(sources, "a.ts"), "const a = 2;");
+		write(new File(output, "a.js"), "var a = 2;");
+		cache.store(fingerprint(), output);
+		write(new File(output, "a.js"), "changed");
+
+		assertTrue(cache.restore(fingerprint(), output));
+		assertEquals("var a = 2;", read(new File(output, "a.js")));
+		File stepDir = new File(tempFolder.getRoot(), "cache/com.example/project/compile");
+		assertEquals(2, stepDir.list().length, Arrays.toString(stepDir.list()));
+	}
+
+	private BuildCache.Fingerprint fingerprint() throws IOException {
+		return cache.fingerprint("compile").tree("sources", sources).param("target", "es5");
+	}
+
+	private static void write(File file, String content) throws IOException {
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+}
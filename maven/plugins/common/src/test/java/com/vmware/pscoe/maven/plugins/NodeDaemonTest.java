@@ -0,0 +1,107 @@
+package com.vmware.pscoe.maven.plugins;
+
+/*
+ * #%L
+ * common
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NodeDaemonTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	private File script;
+
+	@BeforeEach
+	void init() throws IOException {
+		tempFolder.create();
+		script = tempFolder.newFile("cli");
+		Files.write(script.toPath(), Arrays.asList("#!/usr/bin/env node",
+				"console.log('from console');",
+				"require('fs').writeSync(1, 'written to stdout\\n');",
+				"require('child_process').spawnSync(process.execPath, ['-e', 'console.log(\"from child\")'], { stdio: 'inherit' });",
+				"process.exit(Number(process.argv[2]));"), StandardCharsets.UTF_8);
+	}
+
+	@AfterEach
+	void tearDown() {
+		tempFolder.delete();
+	}
+
+	@Test
+	void testOutputWrittenToStdoutDirectlyIsLoggedAsCommandOutput() throws IOException {
+		NodeDaemon daemon = NodeDaemon.get(new SystemStreamLog());
+		assertNotNull(daemon);
+		List<String> out = Collections.synchronizedList(new ArrayList<>());
+		List<String> err = Collections.synchronizedList(new ArrayList<>());
+
+		Integer exitCode = daemon.execute(tempFolder.getRoot(), Arrays.asList(script.getAbsolutePath(), "3"), line -> out.add(line.toString()),
+				line -> err.add(line.toString()));
+
+		assertEquals(Integer.valueOf(3), exitCode);
+		assertEquals(Arrays.asList("from console", "written to stdout", "from child"), out);
+		assertEquals(Collections.emptyList(), err);
+
+		// the daemon is still running and serves the next command
+		assertEquals(Integer.valueOf(0), NodeDaemon.get(new SystemStreamLog()).execute(tempFolder.getRoot(),
+				Arrays.asList(script.getAbsolutePath(), "0"), line -> { }, line -> { }));
+	}
+
+	@Test
+	void testExitCaughtByTheCommandCompletesTheCommand() throws IOException {
+		File catching = tempFolder.newFile("catching");
+		Files.write(catching.toPath(), Arrays.asList("#!/usr/bin/env node",
+				"try { process.exit(4); } catch (e) { }",
+				"setTimeout(() => { }, 200);"), StandardCharsets.UTF_8);
+		NodeDaemon daemon = NodeDaemon.get(new SystemStreamLog());
+		assertNotNull(daemon);
+
+		assertEquals(Integer.valueOf(4), daemon.execute(tempFolder.getRoot(), Arrays.asList(catching.getAbsolutePath()), line -> { },
+				line -> { }));
+	}
+
+	@Test
+	void testCommandFailsWhenTheDaemonDies() throws IOException {
+		File dying = tempFolder.newFile("dying");
+		Files.write(dying.toPath(), Arrays.asList("#!/usr/bin/env node",
+				"process.kill(process.pid, 'SIGKILL');"), StandardCharsets.UTF_8);
+		NodeDaemon daemon = NodeDaemon.get(new SystemStreamLog());
+		assertNotNull(daemon);
+
+		assertThrows(IOException.class, () -> daemon.execute(tempFolder.getRoot(), Arrays.asList(dying.getAbsolutePath()), line -> { },
+				line -> { }));
+
+		// the next command starts a new daemon
+		assertEquals(Integer.valueOf(0), NodeDaemon.get(new SystemStreamLog()).execute(tempFolder.getRoot(),
+				Arrays.asList(script.getAbsolutePath(), "0"), line -> { }, line -> { }));
+	}
+}
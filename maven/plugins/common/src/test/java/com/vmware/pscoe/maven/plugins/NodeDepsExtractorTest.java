@@ -0,0 +1,284 @@
+package com.vmware.pscoe.maven.plugins;
+
+/*
+ * #%L
+ * common
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.ArtifactHandler;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NodeDepsExtractorTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	private File nodeModules;
+	private File packageJson;
+
+	@BeforeEach
+	void init() throws IOException {
+		tempFolder.create();
+		nodeModules = tempFolder.newFolder("node_modules");
+		packageJson = new File(tempFolder.getRoot(), "package.json");
+	}
+
+	@AfterEach
+	void tearDown() {
+		tempFolder.delete();
+	}
+
+	@Test
+	void testLinkEntriesAndExecutablesAreInstalled() throws IOException {
+		Artifact artifact = artifact("a", new Tar()
+				.file("package/package.json", "{\"name\": \"@scope/a\", \"bin\": \"bin/cli.js\"}")
+				.file("package/bin/cli.js", "console.log('a');")
+				.symlink("package/lib/link.js", "../bin/cli.js")
+				.hardlink("package/lib/copy.js", "package/bin/cli.js"));
+
+		new NodeDepsExtractor(nodeModules, 2, new SystemStreamLog()).install(Arrays.asList(artifact), packageJson);
+
+		Path pkg = nodeModules.toPath().resolve("@scope/a");
+		assertTrue(Files.isSymbolicLink(pkg.resolve("lib/link.js")));
+		assertEquals("console.log('a');", read(pkg.resolve("lib/link.js")));
+		assertFalse(Files.isSymbolicLink(pkg.resolve("lib/copy.js")));
+		assertEquals("console.log('a');", read(pkg.resolve("lib/copy.js")));
+		Path bin = nodeModules.toPath().resolve(".bin/a");
+		assertTrue(Files.isSymbolicLink(bin));
+		assertEquals(Paths.get("../@scope/a/bin/cli.js"), Files.readSymbolicLink(bin));
+		assertTrue(Files.isExecutable(pkg.resolve("bin/cli.js")));
+	}
+
+	@Test
+	void testSymlinkOutsideOfThePackageIsRejected() {
+		Artifact artifact = artifact("a", new Tar()
+				.file("package/package.json", "{\"name\": \"a\"}")
+				.symlink("package/evil", "../../../etc/passwd"));
+
+		assertThrows(IOException.class,
+				() -> new NodeDepsExtractor(nodeModules, 1, new SystemStreamLog()).install(Arrays.asList(artifact), packageJson));
+		assertFalse(new File(nodeModules, "a").exists());
+	}
+
+	@Test
+	void testDependenciesNoLongerGivenArePruned() throws IOException {
+		Artifact a = artifact("a", new Tar().file("package/package.json", "{\"name\": \"a\"}"));
+		Artifact b = artifact("b", new Tar()
+				.file("package/package.json", "{\"name\": \"b\", \"bin\": {\"b-cli\": \"cli.js\"}}")
+				.file("package/cli.js", "console.log('b');"));
+		new NodeDepsExtractor(nodeModules, 2, new SystemStreamLog()).install(Arrays.asList(a, b), packageJson);
+		assertTrue(new File(nodeModules, "b/package.json").exists());
+		assertTrue(Files.isSymbolicLink(nodeModules.toPath().resolve(".bin/b-cli")));
+
+		new NodeDepsExtractor(nodeModules, 2, new SystemStreamLog()).install(Arrays.asList(a), packageJson);
+
+		assertTrue(new File(nodeModules, "a/package.json").exists());
+		assertFalse(new File(nodeModules, "b").exists());
+		assertFalse(Files.exists(nodeModules.toPath().resolve(".bin/b-cli"), LinkOption.NOFOLLOW_LINKS));
+		String lock = read(nodeModules.toPath().resolve(NodeDepsExtractor.LOCK_FILE));
+		assertTrue(lock.contains("test:a"));
+		assertFalse(lock.contains("test:b"));
+	}
+
+	@Test
+	void testCorruptArchiveKeepsThePreviousInstallation() throws IOException {
+		Artifact artifact = artifact("a", new Tar().file("package/package.json", "{\"name\": \"a\", \"version\": \"1\"}"));
+		new NodeDepsExtractor(nodeModules, 1, new SystemStreamLog()).install(Arrays.asList(artifact), packageJson);
+
+		byte[] archive = new Tar().file("package/package.json", "{\"name\": \"a\", \"version\": \"2\"}").gzip();
+		Files.write(artifact.getFile().toPath(), Arrays.copyOf(archive, archive.length / 2));
+
+		assertThrows(IOException.class,
+				() -> new NodeDepsExtractor(nodeModules, 1, new SystemStreamLog()).install(Arrays.asList(artifact), packageJson));
+		assertEquals("{\"name\": \"a\", \"version\": \"1\"}", read(nodeModules.toPath().resolve("a/package.json")));
+		assertFalse(new File(nodeModules, ".vro-staging").exists());
+	}
+
+	@Test
+	void testCorruptTarHeaderIsRejected() throws IOException {
+		byte[] tar = new Tar().file("package/package.json", "{\"name\": \"a\"}").bytes();
+		tar[0] = 'x';
+		Artifact artifact = artifact("a", null);
+		Files.write(artifact.getFile().toPath(), gzip(tar));
+
+		IOException e = assertThrows(IOException.class,
+				() -> new NodeDepsExtractor(nodeModules, 1, new SystemStreamLog()).install(Arrays.asList(artifact), packageJson));
+		assertTrue(e.getMessage().contains("Corrupt tar header"));
+	}
+
+	@Test
+	void testNonStringValuesOfTheLockAreIgnored() throws IOException {
+		Files.write(nodeModules.toPath().resolve(NodeDepsExtractor.LOCK_FILE),
+				"{\"packages\": {\"test:a\": {\"name\": 1, \"sha256\": {}}}}".getBytes(StandardCharsets.UTF_8));
+		Files.write(packageJson.toPath(), "{\"dependencies\": {\"a\": \"1.0.0\", \"odd\": {}}}".getBytes(StandardCharsets.UTF_8));
+		Artifact artifact = artifact("a", new Tar().file("package/package.json", "{\"name\": \"a\"}"));
+
+		assertEquals(Collections.emptyList(),
+				new NodeDepsExtractor(nodeModules, 1, new SystemStreamLog()).install(Arrays.asList(artifact), packageJson));
+		assertTrue(new File(nodeModules, "a/package.json").exists());
+	}
+
+	@Test
+	void testInvalidThreadCountIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new NodeDepsExtractor(nodeModules, 0, new SystemStreamLog()));
+	}
+
+	private Artifact artifact(String id, Tar tar) {
+		Artifact artifact = new DefaultArtifact("test", id, "1.0.0", "compile", "tgz", null, new TgzHandler());
+		File file = new File(tempFolder.getRoot(), id + ".tgz");
+		try {
+			Files.write(file.toPath(), tar == null ? new byte[0] : tar.gzip());
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		artifact.setFile(file);
+		return artifact;
+	}
+
+	private static String read(Path file) throws IOException {
+		return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] gzip(byte[] data) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (OutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(data);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Handles the tgz artifacts of the tests.
+	 */
+	private static final class TgzHandler implements ArtifactHandler {
+		@Override
+		public String getExtension() {
+			return "tgz";
+		}
+
+		@Override
+		public String getDirectory() {
+			return null;
+		}
+
+		@Override
+		public String getClassifier() {
+			return null;
+		}
+
+		@Override
+		public String getPackaging() {
+			return "tgz";
+		}
+
+		@Override
+		public boolean isIncludesDependencies() {
+			return false;
+		}
+
+		@Override
+		public String getLanguage() {
+			return "javascript";
+		}
+
+		@Override
+		public boolean isAddedToClasspath() {
+			return false;
+		}
+	}
+
+	/**
+	 * Writes ustar archives for the tests.
+	 */
+	private static final class Tar {
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		Tar file(String name, String content) {
+			byte[] data = content.getBytes(StandardCharsets.UTF_8);
+			entry(name, '0', "", data.length, 0644);
+			out.write(data, 0, data.length);
+			out.write(new byte[(512 - data.length % 512) % 512], 0, (512 - data.length % 512) % 512);
+			return this;
+		}
+
+		Tar symlink(String name, String target) {
+			entry(name, '2', target, 0, 0777);
+			return this;
+		}
+
+		Tar hardlink(String name, String target) {
+			entry(name, '1', target, 0, 0644);
+			return this;
+		}
+
+		byte[] bytes() {
+			byte[] archive = out.toByteArray();
+			return Arrays.copyOf(archive, archive.length + 1024);
+		}
+
+		byte[] gzip() throws IOException {
+			return NodeDepsExtractorTest.gzip(bytes());
+		}
+
+		private void entry(String name, char type, String linkName, long size, int mode) {
+			byte[] header = new byte[512];
+			put(header, 0, name);
+			put(header, 100, String.format("%07o", mode));
+			put(header, 108, "0000000");
+			put(header, 116, "0000000");
+			put(header, 124, String.format("%011o", size));
+			put(header, 136, "00000000000");
+			header[156] = (byte) type;
+			put(header, 157, linkName);
+			put(header, 257, "ustar");
+			put(header, 263, "00");
+			Arrays.fill(header, 148, 156, (byte) ' ');
+			long sum = 0;
+			for (byte b : header) {
+				sum += b & 0xff;
+			}
+			put(header, 148, String.format("%06o", sum));
+			header[154] = 0;
+			out.write(header, 0, header.length);
+		}
+
+		private static void put(byte[] header, int offset, String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			System.arraycopy(bytes, 0, header, offset, bytes.length);
+		}
+	}
+}
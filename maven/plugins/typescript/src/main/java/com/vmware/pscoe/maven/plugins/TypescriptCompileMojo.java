@@ -53,6 +53,15 @@ public class TypescriptCompileMojo extends AbstractMojo {
 	@Parameter(required = false, property = "files", defaultValue = "")
 	private List<String> filesChanged;
 
+	@Parameter(property = "buildCache", defaultValue = "false")
+	private boolean buildCache;
+
+	@Parameter(property = "buildCacheDirectory", defaultValue = "${user.home}/.m2/vro-build-cache")
+	private File buildCacheDirectory;
+
+	@Parameter(property = "nodeDaemon", defaultValue = "false")
+	private boolean nodeDaemon;
+
 	@Component
 	private MavenProjectHelper projectHelper;
 
@@ -69,22 +78,50 @@ public class TypescriptCompileMojo extends AbstractMojo {
 			throw new MojoExecutionException("Could not create target directory.", e);
 		}
 
+		String projectRoot = project.getBasedir().toPath().toString();
+		String packageName = getTypesPackageName();
+		File sourcesOut = Paths.get(projectRoot, TypescriptConstants.OUT_ROOT_PATH).toFile();
+		File typesOut = Paths.get(projectRoot, TypescriptConstants.OUT_TYPE_PATH).toFile();
+
+		// a partial compilation depends on the previous outputs, so only full compilations are cached
+		BuildCache cache = null;
+		BuildCache.Fingerprint fingerprint = null;
+		if (buildCache && filesChanged.isEmpty()) {
+			cache = new BuildCache(buildCacheDirectory, project, getLog());
+			try {
+				fingerprint = fingerprintCompile(cache);
+			} catch (IOException e) {
+				getLog().warn("Unable to fingerprint the compilation inputs, build cache is skipped: " + e.getMessage());
+				cache = null;
+			}
+		}
+		if (cache == null || !cache.restore(fingerprint, sourcesOut, typesOut)) {
+			compile(packageName);
+			if (cache != null) {
+				cache.store(fingerprint, sourcesOut, typesOut);
+			}
+		}
+
+		File tgz = new File(Paths.get(projectRoot, TypescriptConstants.OUT_TYPE_PATH,
+				"types-" + packageName + "-" + project.getVersion() + ".tgz").toString());
+		getLog().info("Attach atrifact " + tgz.getName());
+		projectHelper.attachArtifact(project, "tgz", "", tgz);
+	}
+
+	private void compile(String packageName) throws MojoExecutionException, MojoFailureException {
 		new ProcessExecutor()
 				.name("Typescript transpilation")
 				.directory(project.getBasedir())
 				.throwOnError(true)
+				.daemon(nodeDaemon)
 				.command(buildCompileCommand())
 				.execute(getLog());
 
 		String projectRoot = project.getBasedir().toPath().toString();
-		List<String> packageNameList =
-				new ArrayList<>(Arrays.asList(project.getGroupId().split("\\.")));
 		File packageJson = new File(
 				Paths.get(projectRoot, TypescriptConstants.OUT_TYPE_PATH, "package.json")
 						.toString());
 		packageJson.getParentFile().mkdirs();
-		Arrays.stream(project.getArtifactId().split("\\.")).forEach(packageNameList::add);
-		String packageName = Strings.join(packageNameList, '.');
 		try (FileWriter fileWriter = new FileWriter(packageJson)) {
 			try (JsonWriter writer = new JsonWriter(fileWriter)) {
 				writer.beginObject();
@@ -106,11 +143,25 @@ public class TypescriptCompileMojo extends AbstractMojo {
 		}
 		new ProcessExecutor().name("Generating node package").directory(packageJson.getParentFile())
 				.command(nodePackArgs).execute(getLog());
+	}
 
-		File tgz = new File(Paths.get(projectRoot, TypescriptConstants.OUT_TYPE_PATH,
-				"types-" + packageName + "-" + project.getVersion() + ".tgz").toString());
-		getLog().info("Attach atrifact " + tgz.getName());
-		projectHelper.attachArtifact(project, "tgz", "", tgz);
+	private String getTypesPackageName() {
+		List<String> packageNameList = new ArrayList<>(Arrays.asList(project.getGroupId().split("\\.")));
+		Arrays.stream(project.getArtifactId().split("\\.")).forEach(packageNameList::add);
+		return Strings.join(packageNameList, '.');
+	}
+
+	private BuildCache.Fingerprint fingerprintCompile(BuildCache cache) throws IOException {
+		String projectRoot = project.getBasedir().toPath().toString();
+		List<String> cmd = buildCompileCommand();
+		return cache.fingerprint("vrotsc")
+				.param("command", String.join(" ", cmd.subList(1, cmd.size())))
+				.param("version", project.getVersion())
+				.tree("src", new File(projectRoot, "src"))
+				.file("package.json", new File(projectRoot, "package.json"))
+				.file("tsconfig.json", new File(projectRoot, "tsconfig.json"))
+				.dependencies(project)
+				.file("vrotsc", Paths.get(projectRoot, "node_modules", "@vmware-pscoe", "vrotsc", "package.json").toFile());
 	}
 
 	private void printFilesSelected() {
@@ -23,6 +23,8 @@ import com.vmware.pscoe.iac.artifact.configuration.ConfigurationException;
 import com.vmware.pscoe.iac.artifact.model.Package;
 import com.vmware.pscoe.iac.artifact.model.PackageFactory;
 import com.vmware.pscoe.iac.artifact.model.PackageType;
+import com.vmware.pscoe.iac.artifact.model.vrang.VraNgPackageDescriptor;
+import com.vmware.pscoe.iac.artifact.store.vrang.VraNgLocalContent;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -33,6 +35,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 
@@ -50,6 +54,12 @@ public class PullMojo extends AbstractIacMojo {
 	@Parameter(required = false, property = "dryrun", defaultValue = "false")
 	private boolean dryrun;
 
+	/**
+	 * Delete the local files of the items selected by content.yaml which the server no longer has. Default value is false.
+	 */
+	@Parameter(required = false, property = "deleteRemovedFiles", defaultValue = "false")
+	private boolean deleteRemovedFiles;
+
 	/**
 	 * Set the importOldVersions property.
 	 *
@@ -68,9 +78,7 @@ public class PullMojo extends AbstractIacMojo {
 	 * @throws MojoFailureException   If the Mojo (maven plugin) fails.
 	 */
 	@Override
-	public void execute() throws MojoExecutionException, MojoFailureException {
-		super.execute();
-
+	protected void doExecute() throws MojoExecutionException, MojoFailureException {
 		Path tempDir;
 		try {
 			tempDir = Files.createTempDirectory("vra-ng-pull");
@@ -83,8 +91,16 @@ public class PullMojo extends AbstractIacMojo {
 		Package pkg = PackageFactory.getInstance(PackageType.VRANG, pkgFile);
 		try {
 			PackageStore<?> store = PackageStoreFactory.getInstance(getConfigurationForVraNg());
-			store.exportPackage(pkg, new File(project.getBasedir(), "content.yaml"), dryrun);
-			PackageManager.copyContents(new File(pkg.getFilesystemPath()), new File(pkgInfoProvider.getSourceDirectory().getAbsolutePath()));
+			File descriptor = new File(project.getBasedir(), "content.yaml");
+			store.exportPackage(pkg, descriptor, dryrun);
+			File exported = new File(pkg.getFilesystemPath());
+			File sourceDirectory = new File(pkgInfoProvider.getSourceDirectory().getAbsolutePath());
+			// only the added and modified files are written, the unchanged files are not touched. Only the local files of
+			// the items selected by content.yaml are deleted when the server no longer has them.
+			List<File> removable = deleteRemovedFiles && !dryrun
+					? VraNgLocalContent.getSelectedFiles(VraNgPackageDescriptor.getInstance(descriptor), sourceDirectory)
+					: Collections.emptyList();
+			PackageManager.syncContents(exported, sourceDirectory, removable);
 		} catch (ConfigurationException | IOException e) {
 			getLog().error(e);
 			String message = String.format("Error pulling vRA ng package : %s", e.getMessage());
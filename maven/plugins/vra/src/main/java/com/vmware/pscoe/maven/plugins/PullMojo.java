@@ -67,9 +67,7 @@ public class PullMojo extends AbstractIacMojo {
 	 * @throws MojoFailureException   If the Mojo (maven plugin) fails.
 	 */
 	@Override
-	public void execute() throws MojoExecutionException, MojoFailureException {
-		super.execute();
-
+	protected void doExecute() throws MojoExecutionException, MojoFailureException {
 		Path tempDir;
 		try {
 			tempDir = Files.createTempDirectory("vra-pull");
@@ -65,7 +65,7 @@ public class AuthMojo extends AbstractIacMojo {
 
             final RestTemplate restTemplate = getVroRestClient().getRestTemplate();
             final VraSsoAuth vraSsoAuth = new VraSsoAuth(vroConfig, restTemplate);
-            final VraSsoAuth.SsoToken ssoToken = vraSsoAuth.acquireToken();
+            final VraSsoAuth.SsoToken ssoToken = vraSsoAuth.getToken();
 
             Files.createDirectories(tokenFolder);
             Files.deleteIfExists(tokenFilePath);
@@ -16,9 +16,12 @@ package com.vmware.pscoe.maven.plugins;
  */
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import org.apache.commons.lang3.NotImplementedException;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -51,31 +54,31 @@ public class CleanMojo extends AbstractIacMojo {
     @Parameter(required = false, property = "cleanUpOldVersions", defaultValue = "true")
     private boolean cleanUpOldVersions;
 
-    private void deleteArtifact(Artifact a) throws MojoExecutionException {
+    private com.vmware.pscoe.iac.artifact.model.Package toPackage(Artifact a) {
         PackageType pkgType = PackageType.fromExtension(a.getType());
         String artifactFile = String.format("%s.%s-%s.package", a.getGroupId(), a.getArtifactId(), a.getVersion());
-        if (pkgType != null) {
-            getLog().info("Package: " + artifactFile);
-            getLog().info("Package type: " + pkgType.toString());
-            com.vmware.pscoe.iac.artifact.model.Package pkg = PackageFactory.getInstance(pkgType, new File(artifactFile));
-			try {
-				PackageStore store = getConfigurationForType(PackageType.fromExtension(a.getType()))
-					.flatMap(configuration -> Optional.of(PackageStoreFactory.getInstance(configuration)))
-					.orElseThrow(() -> new ConfigurationException("Unable to find PackageStore based on configuration. "
-						+ "Make sure there is configuration for type: " + pkgType.name()));
-				store.deletePackage(pkg, cleanUpLastVersion, cleanUpOldVersions, dryrun);
-			} catch (UnsupportedOperationException e) { // This also catches NotImplementedException since it's a child
-				getLog().warn(String.format("Tried to clean up package of type %s, but that type does not support deletion", pkgType), e);
-			} catch (ConfigurationException e) {
-				getLog().error(e);
-				throw new MojoExecutionException(e, "Error processing configuration", "Error processing configuration");
-			}
+        getLog().info("Package: " + artifactFile);
+        getLog().info("Package type: " + pkgType.toString());
+        return PackageFactory.getInstance(pkgType, new File(artifactFile));
+    }
+
+    private void deletePackages(PackageType pkgType, List<com.vmware.pscoe.iac.artifact.model.Package> packages) throws MojoExecutionException {
+        try {
+            PackageStore store = getConfigurationForType(pkgType)
+                .flatMap(configuration -> Optional.of(PackageStoreFactory.getInstance(configuration)))
+                .orElseThrow(() -> new ConfigurationException("Unable to find PackageStore based on configuration. "
+                    + "Make sure there is configuration for type: " + pkgType.name()));
+            store.deletePackages(packages, cleanUpLastVersion, cleanUpOldVersions, dryrun);
+        } catch (UnsupportedOperationException e) { // This also catches NotImplementedException since it's a child
+            getLog().warn(String.format("Tried to clean up package of type %s, but that type does not support deletion", pkgType), e);
+        } catch (ConfigurationException e) {
+            getLog().error(e);
+            throw new MojoExecutionException(e, "Error processing configuration", "Error processing configuration");
         }
     }
 
     @Override
-    public void execute() throws MojoExecutionException, MojoFailureException {
-        super.execute();
+    protected void doExecute() throws MojoExecutionException, MojoFailureException {
         final String artifactType = project.getArtifact().getType();
         final PackageType packageType = PackageType.fromExtension(artifactType);
         if (packageType == null) {
@@ -83,12 +86,25 @@ public class CleanMojo extends AbstractIacMojo {
             return;
         }
 
+        List<Artifact> artifacts = new ArrayList<>();
         if (includeDependencies) {
             for (Object o : project.getArtifacts()) {
-                deleteArtifact((Artifact) o);
+                artifacts.add((Artifact) o);
+            }
+        }
+        artifacts.add(project.getArtifact());
+
+        // the whole dependency graph of a type is cleaned up at once, with a single listing of the server
+        Map<PackageType, List<com.vmware.pscoe.iac.artifact.model.Package>> packagesByType = new LinkedHashMap<>();
+        for (Artifact a : artifacts) {
+            PackageType pkgType = PackageType.fromExtension(a.getType());
+            if (pkgType != null) {
+                packagesByType.computeIfAbsent(pkgType, type -> new ArrayList<>()).add(toPackage(a));
             }
         }
-        deleteArtifact(project.getArtifact());
+        for (Map.Entry<PackageType, List<com.vmware.pscoe.iac.artifact.model.Package>> entry : packagesByType.entrySet()) {
+            deletePackages(entry.getKey(), entry.getValue());
+        }
     }
 
 }
@@ -40,7 +40,7 @@ import com.vmware.pscoe.iac.artifact.model.PackageFactory;
 import com.vmware.pscoe.iac.artifact.model.PackageType;
 
 @Mojo(name = "push", defaultPhase = LifecyclePhase.PRE_INTEGRATION_TEST, requiresDependencyResolution = ResolutionScope.RUNTIME_PLUS_SYSTEM)
-public class PushMojo extends AbstractIacMojo {
+public class PushMojo extends AbstractJournaledPushMojo {
 
     @Parameter(defaultValue = "${project}")
     private MavenProject project;
@@ -84,9 +84,7 @@ public class PushMojo extends AbstractIacMojo {
     }
 
     @Override
-    public void execute() throws MojoExecutionException, MojoFailureException {
-        super.execute();
-
+    protected void doExecute() throws MojoExecutionException, MojoFailureException {
 		this.printFilesSelected();
         final String artifactType = project.getArtifact().getType();
         final PackageType packageType = PackageType.fromExtension(artifactType);
@@ -106,7 +104,9 @@ public class PushMojo extends AbstractIacMojo {
         }
         artifacts.addLast(project.getArtifact());
 
+        beginImportJournal(artifacts);
         importArtifacts(artifacts);
+        completeImportJournal(dryrun);
     }
 
 	private void printFilesSelected() {
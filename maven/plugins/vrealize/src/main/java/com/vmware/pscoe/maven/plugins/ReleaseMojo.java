@@ -23,6 +23,7 @@ import com.vmware.pscoe.iac.artifact.configuration.ConfigurationException;
 import com.vmware.pscoe.iac.artifact.configuration.ConfigurationVraNg;
 import com.vmware.pscoe.iac.artifact.model.PackageType;
 import com.vmware.pscoe.iac.artifact.rest.RestClientFactory;
+import com.vmware.pscoe.iac.artifact.rest.RestClientRegistry;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVraNg;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -54,9 +55,7 @@ public class ReleaseMojo extends AbstractIacMojo {
     private boolean releaseIfNotUpdated;
 
     @Override
-    public void execute() throws MojoExecutionException, MojoFailureException {
-        super.execute();
-
+    protected void doExecute() throws MojoExecutionException, MojoFailureException {
         final String artifactType = project.getArtifact().getType();
         final PackageType packageType = PackageType.fromExtension(artifactType);
 
@@ -64,13 +63,15 @@ public class ReleaseMojo extends AbstractIacMojo {
 
             if (PackageType.VRANG == packageType) {
 
-                RestClientVraNg restClient = RestClientFactory.getClientVraNg((ConfigurationVraNg) getConfigurationForType(packageType).get());
+                RestClientVraNg restClient = RestClientRegistry.getClient((ConfigurationVraNg) getConfigurationForType(packageType).get(), RestClientVraNg.class,
+                        RestClientFactory::getClientVraNg);
                 VraNgReleaseManager releaseManager = new VraNgReleaseManager(restClient);
                 releaseManager.releaseContent(this.contentType, Arrays.asList(this.contentNames), this.version, this.releaseIfNotUpdated);
 
             } else if (PackageType.ABX == packageType) {
 
-                RestClientVraNg restClient = RestClientFactory.getClientVraNg((ConfigurationVraNg) getConfigurationForType(packageType).get());
+                RestClientVraNg restClient = RestClientRegistry.getClient((ConfigurationVraNg) getConfigurationForType(packageType).get(), RestClientVraNg.class,
+                        RestClientFactory::getClientVraNg);
                 AbxReleaseManager releaseManager = new AbxReleaseManager(restClient);
                 releaseManager.releaseContent(this.version, project.getBasedir());
 
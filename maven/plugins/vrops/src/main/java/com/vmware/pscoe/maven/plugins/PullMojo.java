@@ -47,9 +47,8 @@ public class PullMojo extends AbstractIacMojo {
 	}
 
 	@Override
-	public void execute() throws MojoExecutionException, MojoFailureException {
+	protected void doExecute() throws MojoExecutionException, MojoFailureException {
 		getLog().info("vROps Pull Plugin: Executing in Project Base: \"" + project.getBasedir() + "\"");
-		super.execute();
 
 		MavenProjectPackageInfoProvider pkgInfoProvider = new MavenProjectPackageInfoProvider(project);
 		Package pkg = PackageFactory.getInstance(PackageType.VROPS, pkgInfoProvider.getSourceDirectory());
@@ -39,7 +39,7 @@ import com.vmware.pscoe.iac.artifact.model.PackageFactory;
 import com.vmware.pscoe.iac.artifact.model.PackageType;
 
 @Mojo(name = "push", defaultPhase = LifecyclePhase.PRE_INTEGRATION_TEST, requiresDependencyResolution = ResolutionScope.RUNTIME_PLUS_SYSTEM)
-public class PushMojo extends AbstractIacMojo {
+public class PushMojo extends AbstractJournaledPushMojo {
     @Parameter(defaultValue = "${project}")
     private MavenProject project;
 
@@ -103,9 +103,7 @@ public class PushMojo extends AbstractIacMojo {
      * @throws MojoFailureException In case there is failure in the Mojo (maven plugin).
      */
     @Override
-    public void execute() throws MojoExecutionException, MojoFailureException {
-        super.execute();
-
+    protected void doExecute() throws MojoExecutionException, MojoFailureException {
         final String artifactType = project.getArtifact().getType();
 
         final PackageType packageType = PackageType.fromExtension(artifactType);
@@ -126,7 +124,8 @@ public class PushMojo extends AbstractIacMojo {
             }
         }
         artifacts.addLast(project.getArtifact());
+        beginImportJournal(artifacts);
         importArtifacts(artifacts);
+        completeImportJournal(dryrun);
     }
-
 }
@@ -0,0 +1,240 @@
+package com.vmware.pscoe.iac.installer;
+
+/*-
+ * #%L
+ * package-installer
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.beryx.textio.TextTerminal;
+
+import com.vmware.pscoe.iac.artifact.configuration.ConfigurationException;
+
+/**
+ * Executes the steps of an installation (e.g. the import of the vRO packages) concurrently, honouring the
+ * ordering between products, e.g. the vRO content is imported before the vRA-NG content referencing its workflows.
+ *
+ * A step starts as soon as all the steps it depends on have completed. When a step fails, the steps depending on
+ * it are skipped while the independent steps run to completion. The progress of each step is printed as it happens.
+ */
+final class DeploymentPlan {
+	/**
+	 * Interval of the progress report of the running steps.
+	 */
+	private static final long PROGRESS_INTERVAL_SECONDS = 30;
+
+	/**
+	 * Milliseconds in a second.
+	 */
+	private static final long MILLIS_IN_SECOND = 1000;
+
+	/**
+	 * Action of a step.
+	 */
+	interface Action {
+		/**
+		 * Runs the step.
+		 * @throws ConfigurationException when the configuration of the product is invalid
+		 */
+		void run() throws ConfigurationException;
+	}
+
+	/**
+	 * The steps, in the order they were added.
+	 */
+	private final Map<String, Step> steps = new LinkedHashMap<>();
+
+	/**
+	 * The terminal the progress is printed to.
+	 */
+	private final TextTerminal<?> terminal;
+
+	/**
+	 * @param textTerminal the terminal the progress is printed to
+	 */
+	DeploymentPlan(final TextTerminal<?> textTerminal) {
+		this.terminal = textTerminal;
+	}
+
+	/**
+	 * Adds a step. Dependencies on steps which are not part of the plan are ignored.
+	 * @param name the name of the step, e.g. the product
+	 * @param action the action of the step
+	 * @param after the names of the steps which must complete before this step starts
+	 * @return this
+	 */
+	DeploymentPlan step(final String name, final Action action, final String... after) {
+		List<Step> dependencies = new ArrayList<>();
+		for (String dependency : after) {
+			if (steps.containsKey(dependency)) {
+				dependencies.add(steps.get(dependency));
+			}
+		}
+		steps.put(name, new Step(name, action, dependencies));
+		return this;
+	}
+
+	/**
+	 * Executes all steps and waits for their completion.
+	 * @param threads the maximum number of steps running at the same time, 1 runs the steps in the order they were added
+	 * @throws ConfigurationException the failure of the first failed step
+	 */
+	void execute(final int threads) throws ConfigurationException {
+		if (steps.isEmpty()) {
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, steps.size())));
+		ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+		try {
+			CompletableFuture<?> previous = CompletableFuture.completedFuture(null);
+			for (Step step : steps.values()) {
+				CompletableFuture<?>[] dependencies = step.dependencies.stream().map(dependency -> dependency.future).toArray(CompletableFuture[]::new);
+				CompletableFuture<Void> ready = CompletableFuture.allOf(dependencies);
+				if (threads <= 1) {
+					// sequential, the step also waits for the previous step, whatever its outcome
+					ready = CompletableFuture.allOf(ready, previous.handle((result, e) -> null));
+				}
+				step.future = ready.thenRunAsync(step::run, executor);
+				previous = step.future;
+			}
+			progress.scheduleAtFixedRate(this::printProgress, PROGRESS_INTERVAL_SECONDS, PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+			CompletableFuture.allOf(steps.values().stream().map(step -> step.future).toArray(CompletableFuture[]::new))
+					.exceptionally(e -> null).join();
+		} finally {
+			progress.shutdownNow();
+			executor.shutdown();
+		}
+
+		printSummary();
+		for (Step step : steps.values()) {
+			if (step.failure instanceof ConfigurationException) {
+				throw (ConfigurationException) step.failure;
+			}
+			if (step.failure instanceof RuntimeException) {
+				throw (RuntimeException) step.failure;
+			}
+			if (step.failure instanceof Error) {
+				throw (Error) step.failure;
+			}
+		}
+	}
+
+	private synchronized void print(final String message) {
+		terminal.println(message);
+	}
+
+	private void printProgress() {
+		long now = System.currentTimeMillis();
+		String running = steps.values().stream().filter(step -> step.started > 0 && step.finished == 0)
+				.map(step -> step.name + " (" + (now - step.started) / MILLIS_IN_SECOND + "s)").collect(Collectors.joining(", "));
+		if (!running.isEmpty()) {
+			print("In progress: " + running);
+		}
+	}
+
+	private void printSummary() {
+		print("Deployment summary:");
+		for (Step step : steps.values()) {
+			String status;
+			if (step.started == 0) {
+				status = "SKIPPED";
+			} else if (step.failure != null) {
+				status = "FAILED after " + step.duration() + "s";
+			} else {
+				status = "COMPLETED in " + step.duration() + "s";
+			}
+			print(String.format("  %-16s %s", step.name, status));
+		}
+	}
+
+	/**
+	 * A step of the plan.
+	 */
+	private final class Step {
+		/**
+		 * The name of the step.
+		 */
+		private final String name;
+
+		/**
+		 * The action of the step.
+		 */
+		private final Action action;
+
+		/**
+		 * The steps which must complete before this step starts.
+		 */
+		private final List<Step> dependencies;
+
+		/**
+		 * The completion of the step.
+		 */
+		private CompletableFuture<Void> future;
+
+		/**
+		 * Start time, 0 when not started.
+		 */
+		private volatile long started;
+
+		/**
+		 * End time, 0 when not finished.
+		 */
+		private volatile long finished;
+
+		/**
+		 * The failure of the step.
+		 */
+		private volatile Throwable failure;
+
+		Step(final String stepName, final Action stepAction, final List<Step> stepDependencies) {
+			this.name = stepName;
+			this.action = stepAction;
+			this.dependencies = stepDependencies;
+		}
+
+		void run() {
+			started = System.currentTimeMillis();
+			print("[" + name + "] started");
+			Thread thread = Thread.currentThread();
+			String threadName = thread.getName();
+			thread.setName(name);
+			try {
+				action.run();
+				print("[" + name + "] completed in " + duration() + "s");
+			} catch (Throwable e) {
+				// any failure is recorded, so an error is not reported as a completed step
+				failure = e;
+				print("[" + name + "] failed: " + e.getMessage());
+				throw new CompletionException(e);
+			} finally {
+				finished = System.currentTimeMillis();
+				thread.setName(threadName);
+			}
+		}
+
+		long duration() {
+			return ((finished > 0 ? finished : System.currentTimeMillis()) - started) / MILLIS_IN_SECOND;
+		}
+	}
+}
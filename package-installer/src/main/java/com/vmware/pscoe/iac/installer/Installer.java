@@ -24,6 +24,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Enumeration;
 import java.util.List;
@@ -36,12 +37,14 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.beryx.textio.TextIO;
 import org.beryx.textio.TextIoFactory;
+import org.beryx.textio.TextTerminal;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import com.vmware.pscoe.iac.artifact.ImportJournal;
 import com.vmware.pscoe.iac.artifact.PackageStore;
 import com.vmware.pscoe.iac.artifact.PackageStoreFactory;
 import com.vmware.pscoe.iac.artifact.VroWorkflowExecutor;
@@ -63,7 +66,9 @@ import com.vmware.pscoe.iac.artifact.model.PackageFactory;
 import com.vmware.pscoe.iac.artifact.model.PackageType;
 import com.vmware.pscoe.iac.artifact.model.vro.WorkflowExecution;
 import com.vmware.pscoe.iac.artifact.rest.RestClientFactory;
+import com.vmware.pscoe.iac.artifact.rest.RestClientMetrics;
 import com.vmware.pscoe.iac.artifact.rest.RestClientVro;
+import com.vmware.pscoe.iac.artifact.trace.Tracer;
 
 /**
  * Created by tsimchev on 2/22/18.
@@ -559,6 +564,18 @@ enum Option {
 	VRO_ENABLE_BACKUP(
 		"vro_enable_backup",
 		StringUtils.EMPTY),
+	/**
+	 * VRO number of concurrent package exports during backup.
+	 */
+	VRO_BACKUP_THREADS(
+		"vro_backup_threads",
+		ConfigurationVro.PACKAGE_BACKUP_THREADS),
+	/**
+	 * VRO pack the backup into a single archive.
+	 */
+	VRO_BACKUP_AS_ARCHIVE(
+		"vro_backup_as_archive",
+		ConfigurationVro.PACKAGE_BACKUP_AS_ARCHIVE),
 
 	/**
 	 * VCD import packages.
@@ -691,6 +708,36 @@ enum Option {
 	 */
     ABX_IMPORT(
             "abx_import_packages",
+            StringUtils.EMPTY),
+	/**
+	 * Number of products imported concurrently.
+	 */
+    IMPORT_THREADS(
+            "import_threads",
+            StringUtils.EMPTY),
+	/**
+	 * Directory of the import journals, defaults to the journal directory of the bundle.
+	 */
+    IMPORT_JOURNAL_DIRECTORY(
+            "import_journal_directory",
+            Configuration.IMPORT_JOURNAL_DIRECTORY),
+	/**
+	 * Digest of the bundle, computed by the installer.
+	 */
+    IMPORT_JOURNAL_BUNDLE(
+            "import_journal_bundle",
+            Configuration.IMPORT_JOURNAL_BUNDLE),
+	/**
+	 * Record the imports in the import journal and skip those recorded by a previous run (--resume).
+	 */
+    IMPORT_JOURNAL_RESUME(
+            "import_journal_resume",
+            Configuration.IMPORT_JOURNAL_RESUME),
+	/**
+	 * Directory the REST request metrics and timing spans of the installation are written to, not written when unset.
+	 */
+    RUN_STATISTICS_DIRECTORY(
+            "run_statistics_directory",
             StringUtils.EMPTY);
 
 
@@ -826,7 +873,8 @@ class Input extends Properties {
             String prefix = prefixes[i];
             for (Option option : Option.values()) {
                 boolean doMap = super.get(option.getName()) != null;
-                doMap = doMap && (prefix != null && option.getName().startsWith(prefix) || option.getName().startsWith("ignore_"));
+                doMap = doMap && (prefix != null && option.getName().startsWith(prefix) || option.getName().startsWith("ignore_")
+                        || option.getName().startsWith("import_journal_"));
                 doMap = doMap && option.getMapping() != null && !option.getMapping().trim().equals(StringUtils.EMPTY);
                 if (doMap) {
                     mappings.put(option.getMapping(), super.get(option.getName()));
@@ -868,6 +916,31 @@ public final class Installer {
 	 * Exit workflow exec failed code.
 	 */
     private static final int EXIT_WF_EXEC_FAILED_CODE = -1;
+	/**
+	 * Default number of products imported concurrently.
+	 */
+	private static final int DEFAULT_IMPORT_THREADS = 1;
+	/**
+	 * Command line flag resuming a failed installation.
+	 */
+	private static final String RESUME_FLAG = "--resume";
+	/**
+	 * Default directory of the import journals, relative to the bundle.
+	 */
+	private static final String DEFAULT_IMPORT_JOURNAL_DIRECTORY = "journal";
+	/**
+	 * Deployment step names.
+	 */
+	private static final String STEP_VRO = "vRO";
+	private static final String STEP_VRA = "vRA";
+	private static final String STEP_CS = "Code Stream";
+	private static final String STEP_ABX = "ABX";
+	private static final String STEP_VRANG = "vRA-NG";
+	private static final String STEP_VCD = "vCD";
+	private static final String STEP_CLEANUP = "Cleanup";
+	private static final String STEP_VROPS = "vROps";
+	private static final String STEP_VRLI = "vRLI";
+	private static final String STEP_SSH = "SSH";
 
 	private Installer() {
 	}
@@ -923,51 +996,159 @@ public final class Installer {
  */
 	public static void main(final String[] args) throws ConfigurationException {
         Input input = new Input();
-        if (args.length > 0) {
-            input.load(args[0]);
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        boolean resume = arguments.remove(RESUME_FLAG);
+        if (!arguments.isEmpty()) {
+            input.load(arguments.get(0));
         } else {
             loadInputInteractiveMode(input);
         }
+        if (resume) {
+            input.put(Option.IMPORT_JOURNAL_RESUME, true);
+        }
 
         // set common properties (i.e. ssl certificate check, timeouts, etc)
         setCommonProperties(input);
+        setImportJournalProperties(input);
+        RestClientMetrics metrics = RestClientMetrics.startRecording();
+        Tracer tracer = StringUtils.isBlank(input.get(Option.RUN_STATISTICS_DIRECTORY)) ? null : Tracer.startTracing();
 
+        DeploymentPlan plan = new DeploymentPlan(input.getText().getTextTerminal());
         if (input.allTrue(Option.VRO_IMPORT, Option.VRO_EMBEDDED)) {
-            String[] arr = { ConfigurationPrefix.VRO.getValue(), ConfigurationPrefix.VRANG.getValue() };
-            PackageStoreFactory.getInstance(ConfigurationVroNg.fromProperties(input.getMappings(arr)))
-                    .importAllPackages(getFilesystemPackages(PackageType.VRO), false, input.allTrue(Option.VRO_ENABLE_BACKUP));
+            plan.step(STEP_VRO, () -> {
+                String[] arr = { ConfigurationPrefix.VRO.getValue(), ConfigurationPrefix.VRANG.getValue() };
+                PackageStoreFactory.getInstance(ConfigurationVroNg.fromProperties(input.getMappings(arr)))
+                        .importAllPackages(getFilesystemPackages(PackageType.VRO), false, input.allTrue(Option.VRO_ENABLE_BACKUP));
+            });
         } else if (input.allTrue(Option.VRO_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationVro.fromProperties(input.getMappings(ConfigurationPrefix.VRO.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.VRO), false, input.allTrue(Option.VRO_ENABLE_BACKUP));
+            plan.step(STEP_VRO, () -> PackageStoreFactory.getInstance(ConfigurationVro.fromProperties(input.getMappings(ConfigurationPrefix.VRO.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.VRO), false, input.allTrue(Option.VRO_ENABLE_BACKUP)));
 		}
 
 		boolean vroEnableBackup = false; //the backup will be possible only for vRO packages
 
+        // vRA content references vRO workflows
         if (input.allTrue(Option.VRA_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationVra.fromProperties(input.getMappings(ConfigurationPrefix.VRA.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.VRA), false, vroEnableBackup);
+            plan.step(STEP_VRA, () -> PackageStoreFactory.getInstance(ConfigurationVra.fromProperties(input.getMappings(ConfigurationPrefix.VRA.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.VRA), false, vroEnableBackup), STEP_VRO);
         }
 
         if (input.allTrue(Option.CS_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationCs.fromProperties(input.getMappings(ConfigurationPrefix.VRANG.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.CS), false, vroEnableBackup);
+            plan.step(STEP_CS, () -> PackageStoreFactory.getInstance(ConfigurationCs.fromProperties(input.getMappings(ConfigurationPrefix.VRANG.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.CS), false, vroEnableBackup));
         }
 
         if (input.allTrue(Option.ABX_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationAbx.fromProperties(input.getMappings(ConfigurationPrefix.VRANG.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.ABX), false, vroEnableBackup);
+            plan.step(STEP_ABX, () -> PackageStoreFactory.getInstance(ConfigurationAbx.fromProperties(input.getMappings(ConfigurationPrefix.VRANG.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.ABX), false, vroEnableBackup));
         }
 
+        // vRA-NG subscriptions and resource actions reference vRO workflows and ABX actions
         if (input.allTrue(Option.VRANG_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationVraNg.fromProperties(input.getMappings(ConfigurationPrefix.VRANG.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.VRANG), false, vroEnableBackup);
+            plan.step(STEP_VRANG, () -> PackageStoreFactory.getInstance(ConfigurationVraNg.fromProperties(input.getMappings(ConfigurationPrefix.VRANG.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.VRANG), false, vroEnableBackup), STEP_VRO, STEP_ABX);
         }
 
         if (input.allTrue(Option.VCD_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationVcd.fromProperties(input.getMappings(ConfigurationPrefix.VCD.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.VCDNG), false, vroEnableBackup);
+            plan.step(STEP_VCD, () -> PackageStoreFactory.getInstance(ConfigurationVcd.fromProperties(input.getMappings(ConfigurationPrefix.VCD.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.VCDNG), false, vroEnableBackup));
         }
 
+        // old vRO package versions are removed once all content referencing them is imported
+        if (input.anyTrue(Option.VRO_DELETE_LAST_VERSION, Option.VRO_DELETE_OLD_VERSIONS, Option.VRA_DELETE_LAST_VERSION,
+                Option.VRA_DELETE_OLD_VERSIONS, Option.VRA_DELETE_INCLUDE_DEPENDENCIES)) {
+            plan.step(STEP_CLEANUP, () -> cleanup(input), STEP_VRO, STEP_VRA, STEP_VRANG);
+        }
+
+        if (input.allTrue(Option.VROPS_IMPORT)) {
+            plan.step(STEP_VROPS, () -> PackageStoreFactory.getInstance(ConfigurationVrops.fromProperties(input.getMappings(ConfigurationPrefix.VROPS.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.VROPS), false, vroEnableBackup));
+        }
+
+        if (input.allTrue(Option.VRLI_IMPORT)) {
+            plan.step(STEP_VRLI, () -> PackageStoreFactory.getInstance(ConfigurationVrli.fromProperties(input.getMappings(ConfigurationPrefix.VRLI.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.VRLI), false, vroEnableBackup));
+        }
+
+        if (input.allTrue(Option.VCD_DELETE_OLD_VERSIONS)) {
+            // TODO - add clean up support for vCD
+            input.getText().getTextTerminal().println("vCloud Director clean up is not supported yet.");
+        }
+
+        if (input.allTrue(Option.SSH_IMPORT)) {
+            plan.step(STEP_SSH, () -> PackageStoreFactory.getInstance(ConfigurationSsh.fromProperties(input.getMappings(ConfigurationPrefix.SSH.getValue())))
+                    .importAllPackages(getFilesystemPackages(PackageType.BASIC), false, vroEnableBackup));
+        }
+
+        int importThreads = getImportThreads(input);
+        int exitCode = EXIT_SUCCESS_CODE;
+        try {
+            plan.execute(importThreads);
+            if (input.get(Option.IMPORT_JOURNAL_BUNDLE) != null) {
+                ImportJournal.discard(new File(input.get(Option.IMPORT_JOURNAL_DIRECTORY)), input.get(Option.IMPORT_JOURNAL_BUNDLE));
+            }
+
+            if (input.allTrue(Option.VRO_RUN_WORKFLOW)) {
+                try {
+                    runWorkflow(input);
+                } catch (RuntimeException e) {
+                    input.getText().getTextTerminal().println("Error executing workflow: " + e.getMessage());
+                    exitCode = EXIT_WF_EXEC_FAILED_CODE;
+                }
+            }
+        } finally {
+            reportRunStatistics(input, metrics, tracer);
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * @param input the input
+     * @return the number of products imported concurrently
+     * @throws ConfigurationException when the option is not a whole number of at least 1
+     */
+    private static int getImportThreads(final Input input) throws ConfigurationException {
+        return Configuration.getPositiveIntProperty(input, Option.IMPORT_THREADS.getName(), DEFAULT_IMPORT_THREADS);
+    }
+
+    /**
+     * Prints the REST requests made by the installer. When the run statistics directory is set, writes them to
+     * rest-metrics.json and rest-metrics.prom in that directory, together with the timing spans in trace.trace.json
+     * (or trace.otlp.json).
+     *
+     * @param input the input
+     * @param metrics the REST requests of the installation
+     * @param tracer the timing spans of the installation, null when the run statistics directory is not set
+     */
+    private static void reportRunStatistics(final Input input, final RestClientMetrics metrics, final Tracer tracer) {
+        RestClientMetrics.stopRecording();
+        Tracer.stopTracing();
+        TextTerminal<?> terminal = input.getText().getTextTerminal();
+        if (!metrics.isEmpty()) {
+            terminal.println("REST requests by total time:");
+            metrics.toTable().forEach(terminal::println);
+        }
+        String directory = input.get(Option.RUN_STATISTICS_DIRECTORY);
+        if (StringUtils.isBlank(directory)) {
+            return;
+        }
+        if (!metrics.isEmpty()) {
+            try {
+                metrics.write(new File(directory), "rest-metrics");
+            } catch (IOException e) {
+                terminal.println("Could not write the REST request metrics: " + e.getMessage());
+            }
+        }
+        if (!tracer.isEmpty()) {
+            try {
+                terminal.println("Timing spans written to " + tracer.write(new File(directory), "trace"));
+            } catch (IOException e) {
+                terminal.println("Could not write the timing spans: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void cleanup(final Input input) throws ConfigurationException {
         if (input.allTrue(Option.VRO_DELETE_LAST_VERSION)) {
             PackageStore<?> packageStore = null;
             if (input.allTrue(Option.VRO_EMBEDDED)) {
@@ -1013,36 +1194,6 @@ public final class Installer {
             PackageStoreFactory.getInstance(ConfigurationVra.fromProperties(input.getMappings(prefixes)))
                     .deleteAllPackages(getFilesystemPackages(PackageType.VRO), false, true, false);
         }
-
-        if (input.allTrue(Option.VROPS_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationVrops.fromProperties(input.getMappings(ConfigurationPrefix.VROPS.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.VROPS), false, vroEnableBackup);
-        }
-
-        if (input.allTrue(Option.VRLI_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationVrli.fromProperties(input.getMappings(ConfigurationPrefix.VRLI.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.VRLI), false, vroEnableBackup);
-        }
-
-        if (input.allTrue(Option.VCD_DELETE_OLD_VERSIONS)) {
-            // TODO - add clean up support for vCD
-            input.getText().getTextTerminal().println("vCloud Director clean up is not supported yet.");
-        }
-
-        if (input.allTrue(Option.SSH_IMPORT)) {
-            PackageStoreFactory.getInstance(ConfigurationSsh.fromProperties(input.getMappings(ConfigurationPrefix.SSH.getValue())))
-                    .importAllPackages(getFilesystemPackages(PackageType.BASIC), false, vroEnableBackup);
-        }
-
-        if (input.allTrue(Option.VRO_RUN_WORKFLOW)) {
-            try {
-                runWorkflow(input);
-            } catch (RuntimeException e) {
-               input.getText().getTextTerminal().println("Error executing workflow: " + e.getMessage());
-               System.exit(EXIT_WF_EXEC_FAILED_CODE);
-            }
-        }
-        System.exit(EXIT_SUCCESS_CODE);
     }
 
     private static void userInput(final Input input, final Option param, final String prompt, final boolean defaultValue) {
@@ -1261,6 +1412,26 @@ public final class Installer {
         }
     }
 
+    /**
+     * With --resume, every completed package and content item is recorded in a journal per target host and bundle
+     * digest, so that a failed installation can be resumed without importing again what was already applied.
+     * Without it, the bundle is not hashed and nothing is recorded.
+     */
+    private static void setImportJournalProperties(final Input input) {
+        if (!input.allTrue(Option.IMPORT_JOURNAL_RESUME)) {
+            return;
+        }
+        if (input.get(Option.IMPORT_JOURNAL_DIRECTORY) == null) {
+            input.put(Option.IMPORT_JOURNAL_DIRECTORY, new File(getWorkingDir(), DEFAULT_IMPORT_JOURNAL_DIRECTORY).getAbsolutePath());
+        }
+        List<File> bundle = new ArrayList<>();
+        for (PackageType type : PackageType.values()) {
+            getFilesystemPackages(type).forEach(pkg -> bundle.add(new File(pkg.getFilesystemPath())));
+        }
+        input.put(Option.IMPORT_JOURNAL_BUNDLE, ImportJournal.digest(bundle));
+        input.getText().getTextTerminal().println("Recording the installation in the import journal in " + input.get(Option.IMPORT_JOURNAL_DIRECTORY));
+    }
+
     private static void readVroProperties(final Input input, final boolean hasVraNgPackages) {
         input.getText().getTextTerminal().println("vRealize Orchestrator Configuration:");
         userInput(input, Option.VRO_SERVER, "  vRO FQDN", input.get(Option.VRA_SERVER));
@@ -1428,7 +1599,7 @@ public final class Installer {
         userInput(input, Option.SSH_DIRECTORY, "  SSH Working Directory");
     }
 
-    private static List<Package> getFilesystemPackages(final PackageType type) {
+    private static File getWorkingDir() {
     	// We use app.repo instead of user.dir as result it returns the correct path to application directory
     	// even in the case when we run the installer outside the application directory
     	// https://www.mojohaus.org/appassembler/appassembler-maven-plugin/usage-script.html
@@ -1437,8 +1608,11 @@ public final class Installer {
         if (workingDir.getName().equals("bin")) {
             workingDir = workingDir.getParentFile();
         }
+        return workingDir;
+    }
 
-        File containerDir = new File(workingDir, type.getPackageContainer());
+    private static List<Package> getFilesystemPackages(final PackageType type) {
+        File containerDir = new File(getWorkingDir(), type.getPackageContainer());
         if (!containerDir.exists()) {
             return new ArrayList<>();
         }
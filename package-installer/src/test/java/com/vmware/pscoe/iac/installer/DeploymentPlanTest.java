@@ -0,0 +1,116 @@
+package com.vmware.pscoe.iac.installer;
+
+/*
+ * #%L
+ * installer
+ * %%
+ * Copyright (C) 2023 VMware
+ * %%
+ * Build Tools for VMware Aria
+ * Copyright 2023 VMware, Inc.
+ *
+ * This product is licensed to you under the BSD-2 license (the "License"). You may not use this product except in compliance with the BSD-2 License.
+ *
+ * This product may include a number of subcomponents with separate copyright notices and license terms. Your use of these subcomponents is subject to the terms and conditions of the subcomponent's license, as noted in the LICENSE file.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.beryx.textio.mock.MockTextTerminal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vmware.pscoe.iac.artifact.configuration.ConfigurationException;
+
+public class DeploymentPlanTest {
+
+	private MockTextTerminal terminal;
+	private List<String> completed;
+
+	@BeforeEach
+	void init() {
+		terminal = new MockTextTerminal();
+		completed = Collections.synchronizedList(new ArrayList<>());
+	}
+
+	@Test
+	void testSingleThreadRunsTheStepsInTheOrderTheyWereAdded() throws ConfigurationException {
+		new DeploymentPlan(terminal)
+				.step("vRO", () -> completed.add("vRO"))
+				.step("ABX", () -> completed.add("ABX"))
+				.step("vRA-NG", () -> completed.add("vRA-NG"), "vRO", "ABX")
+				.step("vROps", () -> completed.add("vROps"))
+				.execute(1);
+
+		assertEquals(Arrays.asList("vRO", "ABX", "vRA-NG", "vROps"), completed);
+	}
+
+	@Test
+	void testStepStartsAfterItsDependencies() throws ConfigurationException {
+		CountDownLatch independentStarted = new CountDownLatch(1);
+		new DeploymentPlan(terminal)
+				.step("vRO", () -> {
+					// completes only once the independent step runs concurrently
+					await(independentStarted);
+					completed.add("vRO");
+				})
+				.step("vRA-NG", () -> completed.add("vRA-NG"), "vRO")
+				.step("vROps", () -> {
+					independentStarted.countDown();
+					completed.add("vROps");
+				})
+				.execute(2);
+
+		assertEquals(Arrays.asList("vROps", "vRO", "vRA-NG"), completed);
+	}
+
+	@Test
+	void testFailedStepSkipsItsDependentsOnly() {
+		ConfigurationException failure = new ConfigurationException("invalid vRO configuration");
+		ConfigurationException thrown = assertThrows(ConfigurationException.class, () -> new DeploymentPlan(terminal)
+				.step("vRO", () -> {
+					throw failure;
+				})
+				.step("vRA-NG", () -> completed.add("vRA-NG"), "vRO")
+				.step("vROps", () -> completed.add("vROps"))
+				.execute(2));
+
+		assertSame(failure, thrown);
+		assertEquals(Arrays.asList("vROps"), completed);
+		String output = terminal.getOutput();
+		assertTrue(output.matches("(?s).*vRO +FAILED after.*"), output);
+		assertTrue(output.matches("(?s).*vRA-NG +SKIPPED.*"), output);
+		assertTrue(output.matches("(?s).*vROps +COMPLETED in.*"), output);
+	}
+
+	@Test
+	void testDependencyOnMissingStepIsIgnored() throws ConfigurationException {
+		new DeploymentPlan(terminal)
+				.step("vRA-NG", () -> completed.add("vRA-NG"), "vRO")
+				.execute(1);
+
+		assertEquals(Arrays.asList("vRA-NG"), completed);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("The independent step did not run concurrently");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}